@@ -1,6 +1,7 @@
 plugins {
     java
     `maven-publish`
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "com.github.lukesky19"
@@ -28,6 +29,31 @@ dependencies {
     compileOnly("com.sk89q.worldedit:worldedit-bukkit:7.3.14-SNAPSHOT")
     compileOnly("com.sk89q.worldguard:worldguard-bukkit:7.0.15-SNAPSHOT")
     compileOnly("com.github.lukesky19:SkyLib:1.3.0.0")
+
+    // Benchmarks run outside a server, so the APIs the plugin compiles against are needed at runtime
+    jmh("io.papermc.paper:paper-api:1.21.8-R0.1-SNAPSHOT")
+    jmh("com.github.lukesky19:SkyLib:1.3.0.0")
+    jmh("com.sk89q.worldedit:worldedit-bukkit:7.3.14-SNAPSHOT")
+    jmh("com.sk89q.worldguard:worldguard-bukkit:7.0.15-SNAPSHOT")
+    jmh("org.mockbukkit.mockbukkit:mockbukkit-v1.21:4.72.2")
+    jmh("org.mockito:mockito-core:5.18.0")
+    jmh("org.xerial:sqlite-jdbc:3.50.3.0")
+
+    // Tests run outside a server, so the APIs the plugin compiles against are needed at runtime
+    testImplementation("io.papermc.paper:paper-api:1.21.8-R0.1-SNAPSHOT")
+    testImplementation("com.github.lukesky19:SkyLib:1.3.0.0")
+    testImplementation("com.sk89q.worldedit:worldedit-bukkit:7.3.14-SNAPSHOT")
+    testImplementation("com.sk89q.worldguard:worldguard-bukkit:7.0.15-SNAPSHOT")
+    testImplementation("org.mockito:mockito-core:5.18.0")
+    testImplementation(platform("org.junit:junit-bom:5.13.4"))
+    testImplementation("org.junit.jupiter:junit-jupiter")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+}
+
+jmh {
+    // Results are written as JSON so runs can be compared between releases
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
 }
 
 java {
@@ -35,6 +61,10 @@ java {
 }
 
 tasks {
+    test {
+        useJUnitPlatform()
+    }
+
     processResources {
         val props = mapOf("version" to version)
         inputs.properties(props)
@@ -0,0 +1,118 @@
+/*
+    SkyTrials is a plugin that offers different challenges or trials to tackle. Inspired by the Minecraft Trial Chambers and mob arenas.
+    Copyright (C) 2024 lukeskywlker19
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.github.lukesky19.skytrials.benchmark;
+
+import com.github.lukesky19.skytrials.SkyTrials;
+import com.github.lukesky19.skytrials.database.ConnectionManager;
+import com.github.lukesky19.skytrials.database.DatabaseManager;
+import com.github.lukesky19.skytrials.database.QueueManager;
+import com.github.lukesky19.skytrials.database.table.PlayerCooldownsTable;
+import com.github.lukesky19.skytrials.manager.metrics.MetricsManager;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Benchmarks writing cooldowns with PlayerCooldownsTable#saveCooldowns against a SQLite database in a temporary folder.
+ * Each invocation upserts the cooldowns for N players with M trials each, in a single batch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CooldownSaveBenchmark {
+    @Param({"1", "100", "1000"})
+    private int playerCount;
+
+    @Param({"1", "5"})
+    private int trialCount;
+
+    private Path dataFolder;
+    private DatabaseManager databaseManager;
+    private PlayerCooldownsTable playerCooldownsTable;
+    private final Map<UUID, Map<String, Long>> cooldowns = new HashMap<>();
+
+    /**
+     * Creates the database in a temporary folder and the cooldowns to save.
+     * @throws IOException If the temporary folder could not be created.
+     */
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        dataFolder = Files.createTempDirectory("skytrials-benchmark");
+
+        SkyTrials skyTrials = mock(SkyTrials.class);
+        when(skyTrials.getDataFolder()).thenReturn(dataFolder.toFile());
+
+        ConnectionManager connectionManager = new ConnectionManager(skyTrials);
+        QueueManager queueManager = new QueueManager(connectionManager);
+        databaseManager = new DatabaseManager(connectionManager, queueManager, new MetricsManager(skyTrials));
+        playerCooldownsTable = databaseManager.getPlayerCooldownsTable();
+
+        long expiryMillis = System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1);
+        for(int i = 0; i < playerCount; i++) {
+            Map<String, Long> playerCooldowns = new HashMap<>();
+            for(int j = 0; j < trialCount; j++) {
+                playerCooldowns.put("trial_" + j, expiryMillis);
+            }
+
+            cooldowns.put(UUID.randomUUID(), playerCooldowns);
+        }
+
+        // Writes are queued in order, so this also waits for the table to be created
+        playerCooldownsTable.saveCooldowns(cooldowns).join();
+    }
+
+    /**
+     * Closes the database and deletes the temporary folder.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        databaseManager.handlePluginDisable();
+
+        File[] files = dataFolder.toFile().listFiles();
+        if(files != null) {
+            for(File file : files) {
+                //noinspection ResultOfMethodCallIgnored
+                file.delete();
+            }
+        }
+
+        //noinspection ResultOfMethodCallIgnored
+        dataFolder.toFile().delete();
+    }
+
+    /**
+     * Upserts all cooldowns and waits for the write to finish.
+     * @return The results of the write.
+     */
+    @Benchmark
+    public @NotNull List<Boolean> saveCooldowns() {
+        return playerCooldownsTable.saveCooldowns(cooldowns).join();
+    }
+}
@@ -0,0 +1,112 @@
+/*
+    SkyTrials is a plugin that offers different challenges or trials to tackle. Inspired by the Minecraft Trial Chambers and mob arenas.
+    Copyright (C) 2024 lukeskywlker19
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.github.lukesky19.skytrials.benchmark;
+
+import com.github.lukesky19.skytrials.SkyTrials;
+import com.github.lukesky19.skytrials.database.DatabaseManager;
+import com.github.lukesky19.skytrials.manager.locale.LocaleManager;
+import com.github.lukesky19.skytrials.manager.player.CooldownManager;
+import com.github.lukesky19.skytrials.manager.player.CooldownSaveQueue;
+import com.github.lukesky19.skytrials.manager.player.PlayerDataManager;
+import com.github.lukesky19.skytrials.manager.settings.SettingsManager;
+import com.github.lukesky19.skytrials.manager.task.TaskScheduler;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Benchmarks the once per second cooldown tick with N players that each have M trial cooldowns, none of which expire.
+ * The legacy benchmark is the per-second decrement of every cooldown that was used before cooldowns stored expiry times.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CooldownTickBenchmark {
+    // Long enough that nothing expires during a run
+    private static final long COOLDOWN_SECONDS = 60L * 60 * 24 * 365;
+
+    @Param({"1000", "10000", "100000"})
+    private int playerCount;
+
+    @Param({"1", "5"})
+    private int trialCount;
+
+    private CooldownManager cooldownManager;
+    private final Map<UUID, Map<String, Long>> legacyCooldowns = new HashMap<>();
+
+    /**
+     * Creates the cooldown manager with mocked dependencies and adds the cooldowns.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        SkyTrials skyTrials = mock(SkyTrials.class);
+        LocaleManager localeManager = new LocaleManager(skyTrials, mock(SettingsManager.class));
+        PlayerDataManager playerDataManager = new PlayerDataManager(mock(DatabaseManager.class));
+        cooldownManager = new CooldownManager(skyTrials, localeManager, playerDataManager, mock(CooldownSaveQueue.class), mock(TaskScheduler.class));
+
+        for(int i = 0; i < playerCount; i++) {
+            UUID uuid = UUID.randomUUID();
+            Map<String, Long> playerCooldowns = new HashMap<>();
+
+            for(int j = 0; j < trialCount; j++) {
+                String trialId = "trial_" + j;
+                cooldownManager.addCooldown(uuid, trialId, COOLDOWN_SECONDS);
+                playerCooldowns.put(trialId, COOLDOWN_SECONDS);
+            }
+
+            legacyCooldowns.put(uuid, playerCooldowns);
+        }
+    }
+
+    /**
+     * Runs the current cooldown tick, which only looks at the head of the expiry queue.
+     */
+    @Benchmark
+    public void expiryQueue() {
+        cooldownManager.processExpiredCooldowns();
+    }
+
+    /**
+     * Runs the previous cooldown tick, which decremented every cached cooldown.
+     */
+    @Benchmark
+    public void legacyDecrement() {
+        legacyCooldowns.forEach((uuid, cooldownsMap) -> {
+            Iterator<Map.Entry<String, Long>> iterator = cooldownsMap.entrySet().iterator();
+            while(iterator.hasNext()) {
+                Map.Entry<String, Long> entry = iterator.next();
+                long newCooldownTime = entry.getValue() - 1;
+
+                if(newCooldownTime <= 0) {
+                    iterator.remove();
+                } else {
+                    cooldownsMap.put(entry.getKey(), newCooldownTime);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,130 @@
+/*
+    SkyTrials is a plugin that offers different challenges or trials to tackle. Inspired by the Minecraft Trial Chambers and mob arenas.
+    Copyright (C) 2024 lukeskywlker19
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.github.lukesky19.skytrials.benchmark;
+
+import com.github.lukesky19.skylib.api.configurate.ConfigurationUtility;
+import com.github.lukesky19.skylib.api.registry.RegistryUtil;
+import com.github.lukesky19.skytrials.builder.EntityBuilder;
+import com.github.lukesky19.skytrials.builder.EntityTemplateBuilder;
+import com.github.lukesky19.skytrials.data.config.entity.EntityConfig;
+import com.github.lukesky19.skytrials.data.trial.EntityTemplate;
+import net.kyori.adventure.text.logger.slf4j.ComponentLogger;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.LivingEntity;
+import org.jetbrains.annotations.NotNull;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.mockbukkit.mockbukkit.ServerMock;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares spawning a mob with the legacy builder against applying a precompiled {@link EntityTemplate}.
+ * Both benchmarks run against a MockBukkit server so the numbers show the plugin-side cost of each approach.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EntitySpawnBenchmark {
+    private static final int PLAYER_COUNT = 4;
+
+    private ComponentLogger logger;
+    private World world;
+    private Location location;
+    private EntityConfig entityConfig;
+    private EntityTemplate entityTemplate;
+
+    /**
+     * Starts the mock server and loads the benchmark entity config.
+     * @throws IOException If the entity config could not be loaded.
+     */
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        ServerMock server = MockBukkit.mock();
+        logger = ComponentLogger.logger("SkyTrialsBenchmark");
+        world = server.addSimpleWorld("world");
+        location = new Location(world, 0, 64, 0);
+
+        entityConfig = loadEntityConfig();
+        entityTemplate = new EntityTemplateBuilder(logger, entityConfig).buildEntityTemplate().orElseThrow();
+    }
+
+    /**
+     * Stops the mock server.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    /**
+     * Spawns an entity the way spawns were handled before templates: resolving and building everything per spawn.
+     * @return The spawned {@link LivingEntity}.
+     */
+    @Benchmark
+    public @NotNull LivingEntity legacyBuilder() {
+        EntityType entityType = RegistryUtil.getEntityType(logger, Objects.requireNonNull(entityConfig.entityType())).orElseThrow();
+
+        LivingEntity entity = new LegacyEntityBuilder(
+                logger, entityType, world, location, PLAYER_COUNT, entityConfig.options(),
+                entityConfig.equipment(), entityConfig.effects(), entityConfig.attributes(), entityConfig.lootTable())
+                .createEntity();
+        entity.remove();
+
+        return entity;
+    }
+
+    /**
+     * Spawns an entity by applying the precompiled {@link EntityTemplate}.
+     * @return The spawned {@link LivingEntity}.
+     */
+    @Benchmark
+    public @NotNull LivingEntity templateBuilder() {
+        LivingEntity entity = new EntityBuilder(entityTemplate, world, location, PLAYER_COUNT).createEntity();
+        entity.remove();
+
+        return entity;
+    }
+
+    /**
+     * Copies the bundled entity config to a temporary file and loads it with the plugin's config loader.
+     * @return The loaded {@link EntityConfig}.
+     * @throws IOException If the config could not be copied or loaded.
+     */
+    private @NotNull EntityConfig loadEntityConfig() throws IOException {
+        Path path = Files.createTempFile("skytrials-benchmark-entity", ".yml");
+        path.toFile().deleteOnExit();
+
+        try(InputStream inputStream = Objects.requireNonNull(EntitySpawnBenchmark.class.getResourceAsStream("/benchmark-entity.yml"))) {
+            Files.copy(inputStream, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        return Objects.requireNonNull(ConfigurationUtility.getYamlConfigurationLoader(path).load().get(EntityConfig.class));
+    }
+}
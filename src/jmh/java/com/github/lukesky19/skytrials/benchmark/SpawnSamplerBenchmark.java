@@ -0,0 +1,85 @@
+/*
+    SkyTrials is a plugin that offers different challenges or trials to tackle. Inspired by the Minecraft Trial Chambers and mob arenas.
+    Copyright (C) 2024 lukeskywlker19
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.github.lukesky19.skytrials.benchmark;
+
+import com.github.lukesky19.skytrials.util.AliasTable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks picking a mob and a spawn location for a level trial spawn, as done by EntityManager#spawnEntity.
+ * The alias tables are built once with seeded weights and picks use a seeded generator, so every run makes the same picks.
+ * The legacy benchmark creates a new Random for each spawn and picks uniformly, which is how spawns were picked before the alias tables.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SpawnSamplerBenchmark {
+    private static final long SEED = 19L;
+
+    @Param({"2", "8", "64"})
+    private int mobCount;
+
+    @Param({"4", "32"})
+    private int locationCount;
+
+    private AliasTable mobSpawnTable;
+    private AliasTable spawnLocationTable;
+    private SplittableRandom random;
+
+    /**
+     * Creates the alias tables from seeded random weights and the seeded generator used for picks.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        SplittableRandom weightRandom = new SplittableRandom(SEED);
+
+        mobSpawnTable = new AliasTable(weightRandom.doubles(mobCount, 0.1D, 10D).toArray());
+        spawnLocationTable = new AliasTable(weightRandom.doubles(locationCount, 0.1D, 10D).toArray());
+        random = new SplittableRandom(SEED);
+    }
+
+    /**
+     * Picks a mob and a spawn location by weight with the alias tables.
+     * @return The mob and location indexes combined.
+     */
+    @Benchmark
+    public int aliasTable() {
+        return (mobSpawnTable.sample(random) * locationCount) + spawnLocationTable.sample(random);
+    }
+
+    /**
+     * Picks a mob and a spawn location the way spawns were picked before, with a new Random for each spawn.
+     * @return The mob and location indexes combined.
+     */
+    @Benchmark
+    public int legacyRandom() {
+        Random legacyRandom = new Random();
+
+        int mobIndex = legacyRandom.nextInt(0, mobCount);
+        int locationIndex = legacyRandom.nextInt(0, locationCount - 1);
+
+        return (mobIndex * locationCount) + locationIndex;
+    }
+}
@@ -0,0 +1,62 @@
+/*
+    SkyTrials is a plugin that offers different challenges or trials to tackle. Inspired by the Minecraft Trial Chambers and mob arenas.
+    Copyright (C) 2024 lukeskywlker19
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.github.lukesky19.skytrials.benchmark;
+
+import com.github.lukesky19.skytrials.SkyTrials;
+import com.github.lukesky19.skytrials.manager.locale.LocaleManager;
+import com.github.lukesky19.skytrials.manager.settings.SettingsManager;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Benchmarks formatting a time with LocaleManager#getTimeMessage using the default locale.
+ * This runs for every boss bar update and every cooldown message.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TimeMessageBenchmark {
+    @Param({"59", "3599", "90061"})
+    private long timeSeconds;
+
+    private LocaleManager localeManager;
+
+    /**
+     * Creates the locale manager. The locale is never reloaded so the default locale is used.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        localeManager = new LocaleManager(mock(SkyTrials.class), mock(SettingsManager.class));
+    }
+
+    /**
+     * Formats the time.
+     * @return The formatted time message.
+     */
+    @Benchmark
+    public @NotNull String getTimeMessage() {
+        return localeManager.getTimeMessage(timeSeconds);
+    }
+}
@@ -0,0 +1,151 @@
+/*
+    SkyTrials is a plugin that offers different challenges or trials to tackle. Inspired by the Minecraft Trial Chambers and mob arenas.
+    Copyright (C) 2024 lukeskywlker19
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.github.lukesky19.skytrials.benchmark;
+
+import com.github.lukesky19.skytrials.manager.trial.TrialRegionIndex;
+import com.github.lukesky19.skytrials.trial.AbstractTrial;
+import com.sk89q.worldedit.math.BlockVector3;
+import com.sk89q.worldguard.protection.regions.ProtectedCuboidRegion;
+import com.sk89q.worldguard.protection.regions.ProtectedRegion;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.jetbrains.annotations.Nullable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Benchmarks looking up the trial at a location, as done by TrialManager#getTrialByLocation for every location based event.
+ * The linear scan is how lookups were done before trials were indexed by chunk.
+ * The index still calls the mocked World#getUID and AbstractTrial#getRegion once per lookup, so its results are slightly pessimistic.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TrialLookupBenchmark {
+    // Each trial is a 48x48 region and trials are spaced 64 blocks apart along the x-axis
+    private static final int TRIAL_SIZE = 48;
+    private static final int TRIAL_SPACING = 64;
+
+    @Param({"10", "100", "1000"})
+    private int trialCount;
+
+    private final List<AbstractTrial> trials = new ArrayList<>();
+    private final TrialRegionIndex trialRegionIndex = new TrialRegionIndex();
+    // The linear scan reads these instead of the mocked trials so mock invocations are not measured
+    private AbstractTrial[] trialArray;
+    private World[] trialWorlds;
+    private ProtectedRegion[] trialRegions;
+    private Location insideLastTrial;
+    private Location outsideAllTrials;
+
+    /**
+     * Creates the mocked trials, builds the index and extracts each trial's world and region for the linear scan.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        World world = mock(World.class, withSettings().stubOnly());
+        when(world.getUID()).thenReturn(UUID.randomUUID());
+
+        for(int i = 0; i < trialCount; i++) {
+            int minX = i * TRIAL_SPACING;
+            ProtectedRegion region = new ProtectedCuboidRegion("trial_" + i, BlockVector3.at(minX, 0, 0), BlockVector3.at(minX + TRIAL_SIZE - 1, 255, TRIAL_SIZE - 1));
+
+            AbstractTrial trial = mock(AbstractTrial.class, withSettings().stubOnly());
+            when(trial.getWorld()).thenReturn(world);
+            when(trial.getRegion()).thenReturn(region);
+
+            trials.add(trial);
+        }
+
+        trialRegionIndex.build(trials);
+
+        trialArray = trials.toArray(new AbstractTrial[0]);
+        trialWorlds = new World[trialCount];
+        trialRegions = new ProtectedRegion[trialCount];
+        for(int i = 0; i < trialCount; i++) {
+            trialWorlds[i] = trialArray[i].getWorld();
+            trialRegions[i] = trialArray[i].getRegion();
+        }
+
+        // The worst case for a linear scan is the last trial or no trial at all
+        insideLastTrial = new Location(world, ((trialCount - 1) * TRIAL_SPACING) + 10, 64, 10);
+        outsideAllTrials = new Location(world, -1000, 64, -1000);
+    }
+
+    /**
+     * Looks up a location inside the last trial using the chunk index.
+     * @return The {@link AbstractTrial} found.
+     */
+    @Benchmark
+    public @Nullable AbstractTrial indexedHit() {
+        return trialRegionIndex.getTrial(insideLastTrial);
+    }
+
+    /**
+     * Looks up a location outside every trial using the chunk index.
+     * @return null
+     */
+    @Benchmark
+    public @Nullable AbstractTrial indexedMiss() {
+        return trialRegionIndex.getTrial(outsideAllTrials);
+    }
+
+    /**
+     * Looks up a location inside the last trial by checking every trial.
+     * @return The {@link AbstractTrial} found.
+     */
+    @Benchmark
+    public @Nullable AbstractTrial linearHit() {
+        return linearScan(insideLastTrial);
+    }
+
+    /**
+     * Looks up a location outside every trial by checking every trial.
+     * @return null
+     */
+    @Benchmark
+    public @Nullable AbstractTrial linearMiss() {
+        return linearScan(outsideAllTrials);
+    }
+
+    private @Nullable AbstractTrial linearScan(Location location) {
+        World world = location.getWorld();
+        int x = location.getBlockX();
+        int y = location.getBlockY();
+        int z = location.getBlockZ();
+
+        for(int i = 0; i < trialArray.length; i++) {
+            if(trialWorlds[i].equals(world) && trialRegions[i].contains(x, y, z)) {
+                return trialArray[i];
+            }
+        }
+
+        return null;
+    }
+}
@@ -20,7 +20,11 @@ package com.github.lukesky19.skytrials;
 import com.github.lukesky19.skylib.api.adventure.AdventureUtil;
 import com.github.lukesky19.skylib.api.version.VersionUtil;
 import com.github.lukesky19.skytrials.command.SkyTrialsCommand;
+import com.github.lukesky19.skytrials.manager.broadcast.BroadcastManager;
+import com.github.lukesky19.skytrials.manager.load.LoadController;
 import com.github.lukesky19.skytrials.manager.locale.LocaleManager;
+import com.github.lukesky19.skytrials.manager.matchmaking.MatchmakingManager;
+import com.github.lukesky19.skytrials.manager.metrics.MetricsManager;
 import com.github.lukesky19.skytrials.manager.settings.SettingsManager;
 import com.github.lukesky19.skytrials.manager.trial.TrialConfigManager;
 import com.github.lukesky19.skytrials.database.ConnectionManager;
@@ -30,10 +34,15 @@ import com.github.lukesky19.skytrials.listener.*;
 import com.github.lukesky19.skytrials.manager.blocks.SpawnerManager;
 import com.github.lukesky19.skytrials.manager.blocks.VaultManager;
 import com.github.lukesky19.skytrials.manager.entity.EntityManager;
+import com.github.lukesky19.skytrials.manager.entity.SpawnGovernor;
 import com.github.lukesky19.skytrials.manager.player.CooldownManager;
+import com.github.lukesky19.skytrials.manager.player.CooldownSaveQueue;
 import com.github.lukesky19.skytrials.manager.player.GracePeriodManager;
 import com.github.lukesky19.skytrials.manager.player.PlayerDataManager;
+import com.github.lukesky19.skytrials.manager.task.FoliaTaskScheduler;
+import com.github.lukesky19.skytrials.manager.task.PaperTaskScheduler;
 import com.github.lukesky19.skytrials.manager.task.TaskManager;
+import com.github.lukesky19.skytrials.manager.task.TaskScheduler;
 import com.github.lukesky19.skytrials.manager.trial.TrialDataManager;
 import com.github.lukesky19.skytrials.manager.trial.TrialManager;
 import io.papermc.paper.plugin.lifecycle.event.types.LifecycleEvents;
@@ -42,6 +51,9 @@ import org.bukkit.plugin.PluginManager;
 import org.bukkit.plugin.java.JavaPlugin;
 
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * This class is the entry point to the plugin.
@@ -52,8 +64,11 @@ public final class SkyTrials extends JavaPlugin {
     private TrialConfigManager trialConfigManager;
     private TrialDataManager trialDataManager;
     private TrialManager trialManager;
+    private MatchmakingManager matchmakingManager;
     private DatabaseManager databaseManager;
     private PlayerDataManager playerDataManager;
+    private CooldownSaveQueue cooldownSaveQueue;
+    private MetricsManager metricsManager;
     private TaskManager taskManager;
 
     /**
@@ -69,32 +84,47 @@ public final class SkyTrials extends JavaPlugin {
         if(!versionCheck()) return;
         if(!checkSkyLibVersion()) return;
 
+        TaskScheduler taskScheduler = FoliaTaskScheduler.isFolia() ? new FoliaTaskScheduler(this) : new PaperTaskScheduler(this);
+
         settingsManager = new SettingsManager(this);
         localeManager = new LocaleManager(this, settingsManager);
+        LoadController loadController = new LoadController(this, settingsManager);
 
         EntityManager entityManager = new EntityManager(this);
+        SpawnGovernor spawnGovernor = new SpawnGovernor(settingsManager, taskScheduler);
         SpawnerManager spawnerManager = new SpawnerManager(this);
         VaultManager vaultManager = new VaultManager(this);
 
+        metricsManager = new MetricsManager(this);
+
         ConnectionManager connectionManager = new ConnectionManager(this);
         QueueManager queueManager = new QueueManager(connectionManager);
-        databaseManager = new DatabaseManager(connectionManager, queueManager);
+        databaseManager = new DatabaseManager(connectionManager, queueManager, metricsManager);
 
         playerDataManager = new PlayerDataManager(databaseManager);
 
-        CooldownManager cooldownManager = new CooldownManager(this, localeManager, playerDataManager, databaseManager);
+        cooldownSaveQueue = new CooldownSaveQueue(playerDataManager, databaseManager);
+        CooldownManager cooldownManager = new CooldownManager(this, localeManager, playerDataManager, cooldownSaveQueue, taskScheduler);
         GracePeriodManager gracePeriodManager = new GracePeriodManager(playerDataManager);
+        BroadcastManager broadcastManager = new BroadcastManager(this, settingsManager, localeManager);
 
         trialConfigManager = new TrialConfigManager(this);
         trialDataManager = new TrialDataManager(this, trialConfigManager);
-        trialManager = new TrialManager(this, localeManager, trialDataManager, spawnerManager, entityManager, vaultManager, cooldownManager, gracePeriodManager);
+        trialManager = new TrialManager(this, localeManager, trialDataManager, spawnerManager, entityManager, spawnGovernor, loadController, vaultManager, cooldownManager, gracePeriodManager, metricsManager, broadcastManager, taskScheduler);
+        matchmakingManager = new MatchmakingManager(this, localeManager, trialDataManager, trialManager, cooldownManager, metricsManager);
 
-        taskManager = new TaskManager(this, trialManager, playerDataManager, cooldownManager, gracePeriodManager);
+        taskManager = new TaskManager(taskScheduler, trialManager, playerDataManager, cooldownSaveQueue, cooldownManager, gracePeriodManager, metricsManager, matchmakingManager, spawnGovernor, loadController);
 
         taskManager.startTimerTask();
         taskManager.startPlayerDataSaveTask();
+        taskManager.startPlayerDataEvictionTask();
+        taskManager.startCooldownSweepTask();
+        taskManager.startMetricsExportTask();
+        taskManager.startQueueDispatchTask();
+        taskManager.startSpawnDispatchTask();
+        taskManager.startLoadSampleTask();
 
-        SkyTrialsCommand skyTrialsCommand = new SkyTrialsCommand(this, trialManager, localeManager, cooldownManager);
+        SkyTrialsCommand skyTrialsCommand = new SkyTrialsCommand(this, trialManager, localeManager, cooldownManager, metricsManager, matchmakingManager, loadController);
 
         this.getLifecycleManager().registerEventHandler(LifecycleEvents.COMMANDS,
                 commands ->
@@ -108,10 +138,12 @@ public final class SkyTrials extends JavaPlugin {
         pluginManager.registerEvents(new PlayerDeathListener(trialManager), this);
         pluginManager.registerEvents(new EntityDeathListener(trialManager), this);
         pluginManager.registerEvents(new SpawnerSpawnListener(trialManager), this);
-        pluginManager.registerEvents(new PlayerDeathListener(trialManager), this);
         pluginManager.registerEvents(new EntityPotionEffectListener(trialManager), this);
+        pluginManager.registerEvents(new BlockChangeListener(trialManager), this);
+        pluginManager.registerEvents(new PlayerDataListener(this, playerDataManager, cooldownManager), this);
 
-        playerDataManager.loadPlayerData();
+        // Player data is loaded as players log in, so only players already online (e.g., after a reload) need loading here
+        this.getServer().getOnlinePlayers().forEach(player -> cooldownManager.loadCooldowns(player.getUniqueId()));
 
         reload();
     }
@@ -124,13 +156,28 @@ public final class SkyTrials extends JavaPlugin {
         if(taskManager != null) {
             taskManager.stopTimerTask();
             taskManager.stopPlayerDataSaveTask();
+            taskManager.stopPlayerDataEvictionTask();
+            taskManager.stopCooldownSweepTask();
+            taskManager.stopMetricsExportTask();
+            taskManager.stopQueueDispatchTask();
+            taskManager.stopSpawnDispatchTask();
+            taskManager.stopLoadSampleTask();
         }
 
+        if(matchmakingManager != null) matchmakingManager.clearQueues();
         if(trialManager != null) trialManager.clearTrials();
 
-        if(playerDataManager != null && databaseManager != null) {
-            playerDataManager.savePlayerData().whenComplete((v, t) ->
-                    databaseManager.handlePluginDisable());
+        if(metricsManager != null) metricsManager.writeMetricsFile();
+
+        if(cooldownSaveQueue != null && databaseManager != null) {
+            // Wait a bounded amount of time for pending cooldown changes to be written before closing the database
+            try {
+                cooldownSaveQueue.flush().get(10, TimeUnit.SECONDS);
+            } catch (InterruptedException | ExecutionException | TimeoutException e) {
+                this.getComponentLogger().error(AdventureUtil.serialize("Failed to save all cooldowns before shutdown. Error: " + e.getMessage()));
+            }
+
+            databaseManager.handlePluginDisable();
         }
     }
 
@@ -138,6 +185,7 @@ public final class SkyTrials extends JavaPlugin {
      * Reloads the plugin.
      */
     public void reload() {
+        matchmakingManager.clearQueues();
         trialManager.clearTrials();
 
         settingsManager.reload();
@@ -145,6 +193,7 @@ public final class SkyTrials extends JavaPlugin {
         trialConfigManager.reload();
         trialDataManager.createTrialData();
         trialManager.createTrials();
+        matchmakingManager.createQueues();
     }
 
     /**
@@ -17,84 +17,47 @@
 */
 package com.github.lukesky19.skytrials.builder;
 
-import com.github.lukesky19.skylib.api.adventure.AdventureUtil;
-import com.github.lukesky19.skylib.api.itemstack.ItemStackBuilder;
-import com.github.lukesky19.skylib.api.registry.RegistryUtil;
-import com.github.lukesky19.skytrials.data.config.entity.AttributeConfig;
-import com.github.lukesky19.skytrials.data.config.entity.EffectConfig;
 import com.github.lukesky19.skytrials.data.config.entity.EntityConfig;
-import com.github.lukesky19.skytrials.data.config.entity.EquipmentConfig;
-import net.kyori.adventure.text.logger.slf4j.ComponentLogger;
+import com.github.lukesky19.skytrials.data.trial.EntityTemplate;
 import org.bukkit.Location;
-import org.bukkit.NamespacedKey;
-import org.bukkit.Registry;
 import org.bukkit.World;
 import org.bukkit.attribute.Attribute;
 import org.bukkit.attribute.AttributeInstance;
 import org.bukkit.attribute.AttributeModifier;
 import org.bukkit.entity.*;
 import org.bukkit.inventory.EntityEquipment;
+import org.bukkit.inventory.EquipmentSlot;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.loot.LootTable;
-import org.bukkit.loot.LootTables;
-import org.bukkit.potion.PotionEffect;
-import org.bukkit.potion.PotionEffectType;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
 /**
- * This class is used to create {@link LivingEntity} and {@link EntitySnapshot}.
+ * This class is used to create {@link LivingEntity} and {@link EntitySnapshot} from an {@link EntityTemplate}.
  */
 public class EntityBuilder {
-    private final @NotNull ComponentLogger logger;
-    private final @NotNull EntityType entityType;
+    private final @NotNull EntityTemplate entityTemplate;
     private final @NotNull World world;
     private final @NotNull Location location;
     private final int playerCount;
 
-    private final @NotNull EntityConfig.Options options;
-    private final @NotNull EquipmentConfig equipmentConfig;
-    private final @NotNull List<EffectConfig> effectConfigList;
-    private final @NotNull List<AttributeConfig> attributeConfigList;
-    private final @Nullable String lootTableName;
-
     /**
      * Constructor
-     * @param logger A {@link ComponentLogger}.
-     * @param entityType An {@link EntityType}.
+     * @param entityTemplate The {@link EntityTemplate} to apply to the entity.
      * @param world A {@link World} to spawn the initial entity in.
      * @param location A {@link Location} to spawn the initial entity at.
      * @param playerCount The number of players to scale attributes to.
-     * @param options The {@link EntityConfig.Options} to apply to the entity.
-     * @param equipmentConfig The {@link EquipmentConfig} to apply to the entity.
-     * @param effectConfigList A {@link List} of {@link EffectConfig}s to apply to the entity.
-     * @param attributeConfigList A {@link List} of {@link AttributeConfig}s to apply to the entity.
-     * @param lootTableName The {@link NamespacedKey} as a {@link String} for the loot table to apply to the entity.
      */
     public EntityBuilder(
-            @NotNull ComponentLogger logger,
-            @NotNull EntityType entityType,
+            @NotNull EntityTemplate entityTemplate,
             @NotNull World world,
             @NotNull Location location,
-            int playerCount,
-            @NotNull EntityConfig.Options options,
-            @NotNull EquipmentConfig equipmentConfig,
-            @NotNull List<EffectConfig> effectConfigList,
-            @NotNull List<AttributeConfig> attributeConfigList,
-            @Nullable String lootTableName) {
-        this.logger = logger;
-        this.entityType = entityType;
+            int playerCount) {
+        this.entityTemplate = entityTemplate;
         this.world = world;
         this.location = location;
         this.playerCount = playerCount;
-        this.options = options;
-        this.equipmentConfig = equipmentConfig;
-        this.effectConfigList = effectConfigList;
-        this.attributeConfigList = attributeConfigList;
-        this.lootTableName = lootTableName;
     }
 
     /**
@@ -102,121 +65,49 @@ public class EntityBuilder {
      * @return A {@link LivingEntity}.
      */
     public @NotNull LivingEntity createEntity() {
-        LivingEntity entity = (LivingEntity) world.spawnEntity(location, entityType);
-
-        Optional<ItemStack> optionalHelmet = new ItemStackBuilder(logger).fromItemStackConfig(equipmentConfig.helmet(), null, null, List.of()).buildItemStack();
-        Optional<ItemStack> optionalChestplate = new ItemStackBuilder(logger).fromItemStackConfig(equipmentConfig.chestplate(), null, null, List.of()).buildItemStack();
-        Optional<ItemStack> optionalLeggings = new ItemStackBuilder(logger).fromItemStackConfig(equipmentConfig.leggings(), null, null, List.of()).buildItemStack();
-        Optional<ItemStack> optionalBoots = new ItemStackBuilder(logger).fromItemStackConfig(equipmentConfig.boots(), null, null, List.of()).buildItemStack();
-        Optional<ItemStack> optionalMainHand = new ItemStackBuilder(logger).fromItemStackConfig(equipmentConfig.mainHand(), null, null, List.of()).buildItemStack();
-        Optional<ItemStack> optionalOffHand = new ItemStackBuilder(logger).fromItemStackConfig(equipmentConfig.offHand(), null, null, List.of()).buildItemStack();
+        LivingEntity entity = (LivingEntity) world.spawnEntity(location, entityTemplate.entityType());
 
+        // Apply equipment
         EntityEquipment entityEquipment = entity.getEquipment();
         if(entityEquipment != null) {
-            optionalHelmet.ifPresent(entityEquipment::setHelmet);
-            optionalChestplate.ifPresent(entityEquipment::setChestplate);
-            optionalLeggings.ifPresent(entityEquipment::setLeggings);
-            optionalBoots.ifPresent(entityEquipment::setBoots);
-            optionalMainHand.ifPresent(entityEquipment::setItemInMainHand);
-            optionalOffHand.ifPresent(entityEquipment::setItemInOffHand);
-
-            if(equipmentConfig.helmetDropChance() != null) {
-                entityEquipment.setHelmetDropChance(calculateDropChance(equipmentConfig.helmetDropChance()));
-            }
-            if(equipmentConfig.chestplateDropChance() != null) {
-                entityEquipment.setChestplateDropChance(calculateDropChance(equipmentConfig.chestplateDropChance()));
-            }
-            if(equipmentConfig.leggingsDropChance() != null) {
-                entityEquipment.setLeggingsDropChance(calculateDropChance(equipmentConfig.leggingsDropChance()));
-            }
-            if(equipmentConfig.bootsDropChance() != null) {
-                entityEquipment.setBootsDropChance(calculateDropChance(equipmentConfig.bootsDropChance()));
+            for(Map.Entry<EquipmentSlot, ItemStack> entry : entityTemplate.equipment().entrySet()) {
+                entityEquipment.setItem(entry.getKey(), entry.getValue().clone());
             }
-            if(equipmentConfig.mainHandDropChance() != null) {
-                entityEquipment.setItemInMainHandDropChance(calculateDropChance(equipmentConfig.mainHandDropChance()));
-            }
-            if(equipmentConfig.offHandDropChance() != null) {
-                entityEquipment.setItemInOffHandDropChance(calculateDropChance(equipmentConfig.offHandDropChance()));
+
+            for(Map.Entry<EquipmentSlot, Float> entry : entityTemplate.dropChances().entrySet()) {
+                entityEquipment.setDropChance(entry.getKey(), entry.getValue());
             }
         }
 
         // Apply potion effects
-        effectConfigList.stream()
-                .filter(effectConfig ->
-                        effectConfig.effectName() != null
-                                && effectConfig.durationInSeconds() != null
-                                && effectConfig.durationInSeconds() > 0
-                                && effectConfig.amplifier() != null
-                                && effectConfig.amplifier() >= 0)
-                .forEach(effectConfig -> {
-                    Optional<PotionEffectType> optionalPotionEffectType = RegistryUtil.getPotionEffectType(logger, effectConfig.effectName());
-                    if(optionalPotionEffectType.isPresent()) {
-                        PotionEffect potionEffect = optionalPotionEffectType.get().createEffect(effectConfig.durationInSeconds(), effectConfig.amplifier());
-                        entity.addPotionEffect(potionEffect);
-                    }
-                });
+        entity.addPotionEffects(entityTemplate.effects());
 
         // Apply attributes
-        for(AttributeConfig attributeConfig : attributeConfigList) {
-            if(attributeConfig.name() == null) {
-                logger.warn(AdventureUtil.serialize("Unable to apply attribute due to an invalid attribute name."));
-                continue;
-            }
-
-            if(attributeConfig.baseValue() == null) {
-                logger.warn(AdventureUtil.serialize("Unable to apply attribute due to an invalid base value."));
-                continue;
-            }
-
-            if(attributeConfig.additionalValuePerPlayer() == null) {
-                logger.warn(AdventureUtil.serialize("Unable to apply attribute due to an invalid additional value per player."));
-                continue;
-            }
-
-            Optional<Attribute> optionalAttribute = RegistryUtil.getAttribute(logger, attributeConfig.name());
-            if(optionalAttribute.isEmpty()) {
-                logger.warn(AdventureUtil.serialize("Unable to apply attribute due to an invalid attribute for " + attributeConfig.name()));
-                continue;
-            }
-            Attribute attribute = optionalAttribute.get();
+        for(EntityTemplate.AttributeData attributeData : entityTemplate.attributes()) {
+            Attribute attribute = attributeData.attribute();
             AttributeInstance attributeInstance = entity.getAttribute(attribute);
 
-            // Either modify the existing attribute or register a new one
-            if(attributeInstance != null) {
-                attributeInstance.setBaseValue(attributeConfig.baseValue());
-
-                double modifier = attributeConfig.additionalValuePerPlayer() * playerCount;
-                AttributeModifier attributeModifier = new AttributeModifier(attribute.getKey(), modifier, AttributeModifier.Operation.ADD_NUMBER);
-                attributeInstance.addModifier(attributeModifier);
-            } else {
+            // Register the attribute if the entity doesn't have it
+            if(attributeInstance == null) {
                 entity.registerAttribute(attribute);
-                AttributeInstance newInstance = entity.getAttribute(attribute);
+                attributeInstance = entity.getAttribute(attribute);
+                if(attributeInstance == null) continue;
+            }
 
-                if(newInstance != null) {
-                    newInstance.setBaseValue(attributeConfig.baseValue());
+            attributeInstance.setBaseValue(attributeData.baseValue());
 
-                    double modifier = attributeConfig.additionalValuePerPlayer() * playerCount;
-                    AttributeModifier attributeModifier = new AttributeModifier(attribute.getKey(), modifier, AttributeModifier.Operation.ADD_NUMBER);
-                    newInstance.addModifier(attributeModifier);
-                }
-            }
+            double modifier = attributeData.additionalValuePerPlayer() * playerCount;
+            AttributeModifier attributeModifier = new AttributeModifier(attribute.getKey(), modifier, AttributeModifier.Operation.ADD_NUMBER);
+            attributeInstance.addModifier(attributeModifier);
         }
 
         // Apply loot table
-        if(lootTableName != null) {
-            Registry<@NotNull LootTables> lootTablesRegistry = Registry.LOOT_TABLES;
-
-            NamespacedKey key = NamespacedKey.fromString(lootTableName);
-            if(key != null) {
-                LootTables lootTables = lootTablesRegistry.get(key);
-                if(lootTables != null) {
-                    LootTable lootTable = lootTables.getLootTable();
-                    Mob mob = (Mob) entity;
-                    mob.setLootTable(lootTable);
-                }
-            }
+        if(entityTemplate.lootTable() != null && entity instanceof Mob mob) {
+            mob.setLootTable(entityTemplate.lootTable());
         }
 
+        // Apply options
+        EntityConfig.Options options = entityTemplate.options();
         if(options.isBaby() != null) {
             if(entity instanceof Ageable ageable) {
                 ageable.setBaby();
@@ -261,14 +152,4 @@ public class EntityBuilder {
 
         return entitySnapshot;
     }
-
-    private float calculateDropChance(double dropChance) {
-        if (dropChance < 0) {
-            dropChance = 0;
-        } else if (dropChance > 100) {
-            dropChance = 100;
-        }
-
-        return (float) (dropChance / 100);
-    }
 }
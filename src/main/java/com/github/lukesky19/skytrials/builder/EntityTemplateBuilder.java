@@ -0,0 +1,206 @@
+/*
+    SkyTrials is a plugin that offers different challenges or trials to tackle. Inspired by the Minecraft Trial Chambers and mob arenas.
+    Copyright (C) 2024 lukeskywlker19
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.github.lukesky19.skytrials.builder;
+
+import com.github.lukesky19.skylib.api.adventure.AdventureUtil;
+import com.github.lukesky19.skylib.api.itemstack.ItemStackBuilder;
+import com.github.lukesky19.skylib.api.itemstack.ItemStackConfig;
+import com.github.lukesky19.skylib.api.registry.RegistryUtil;
+import com.github.lukesky19.skytrials.data.config.entity.AttributeConfig;
+import com.github.lukesky19.skytrials.data.config.entity.EffectConfig;
+import com.github.lukesky19.skytrials.data.config.entity.EntityConfig;
+import com.github.lukesky19.skytrials.data.config.entity.EquipmentConfig;
+import com.github.lukesky19.skytrials.data.trial.EntityTemplate;
+import net.kyori.adventure.text.logger.slf4j.ComponentLogger;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Registry;
+import org.bukkit.attribute.Attribute;
+import org.bukkit.entity.EntityType;
+import org.bukkit.inventory.EquipmentSlot;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.loot.LootTable;
+import org.bukkit.loot.LootTables;
+import org.bukkit.potion.PotionEffect;
+import org.bukkit.potion.PotionEffectType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * This class is used to compile an {@link EntityConfig} into an {@link EntityTemplate}.
+ */
+public class EntityTemplateBuilder {
+    private final @NotNull ComponentLogger logger;
+    private final @NotNull EntityConfig entityConfig;
+
+    /**
+     * Constructor
+     * @param logger A {@link ComponentLogger}.
+     * @param entityConfig The {@link EntityConfig} to compile.
+     */
+    public EntityTemplateBuilder(@NotNull ComponentLogger logger, @NotNull EntityConfig entityConfig) {
+        this.logger = logger;
+        this.entityConfig = entityConfig;
+    }
+
+    /**
+     * Validates and resolves the {@link EntityConfig} into an {@link EntityTemplate}.
+     * Invalid effects and attributes are skipped with a warning.
+     * @return An {@link Optional} containing the {@link EntityTemplate}. Empty if the entity type is invalid.
+     */
+    public @NotNull Optional<EntityTemplate> buildEntityTemplate() {
+        if(entityConfig.entityType() == null) {
+            logger.warn(AdventureUtil.serialize("Unable to create entity template due to an invalid EntityType name."));
+            return Optional.empty();
+        }
+
+        Optional<EntityType> optionalEntityType = RegistryUtil.getEntityType(logger, entityConfig.entityType());
+        if(optionalEntityType.isEmpty()) {
+            logger.warn(AdventureUtil.serialize("Unable to create entity template due to an invalid EntityType for key " + entityConfig.entityType()));
+            return Optional.empty();
+        }
+
+        EquipmentConfig equipmentConfig = entityConfig.equipment();
+        Map<EquipmentSlot, ItemStack> equipment = new EnumMap<>(EquipmentSlot.class);
+        Map<EquipmentSlot, Float> dropChances = new EnumMap<>(EquipmentSlot.class);
+
+        addEquipment(equipment, dropChances, EquipmentSlot.HEAD, equipmentConfig.helmet(), equipmentConfig.helmetDropChance());
+        addEquipment(equipment, dropChances, EquipmentSlot.CHEST, equipmentConfig.chestplate(), equipmentConfig.chestplateDropChance());
+        addEquipment(equipment, dropChances, EquipmentSlot.LEGS, equipmentConfig.leggings(), equipmentConfig.leggingsDropChance());
+        addEquipment(equipment, dropChances, EquipmentSlot.FEET, equipmentConfig.boots(), equipmentConfig.bootsDropChance());
+        addEquipment(equipment, dropChances, EquipmentSlot.HAND, equipmentConfig.mainHand(), equipmentConfig.mainHandDropChance());
+        addEquipment(equipment, dropChances, EquipmentSlot.OFF_HAND, equipmentConfig.offHand(), equipmentConfig.offHandDropChance());
+
+        return Optional.of(new EntityTemplate(
+                optionalEntityType.get(),
+                Collections.unmodifiableMap(equipment),
+                Collections.unmodifiableMap(dropChances),
+                createEffects(),
+                createAttributes(),
+                getLootTable(),
+                entityConfig.options()));
+    }
+
+    /**
+     * Builds the prototype {@link ItemStack} and drop chance for an {@link EquipmentSlot}.
+     * @param equipment The {@link Map} of equipment prototypes to add to.
+     * @param dropChances The {@link Map} of drop chances to add to.
+     * @param slot The {@link EquipmentSlot}.
+     * @param itemStackConfig The {@link ItemStackConfig} for the slot.
+     * @param dropChance The configured drop chance for the slot. May be null.
+     */
+    private void addEquipment(
+            @NotNull Map<EquipmentSlot, ItemStack> equipment,
+            @NotNull Map<EquipmentSlot, Float> dropChances,
+            @NotNull EquipmentSlot slot,
+            @NotNull ItemStackConfig itemStackConfig,
+            @Nullable Double dropChance) {
+        new ItemStackBuilder(logger).fromItemStackConfig(itemStackConfig, null, null, List.of()).buildItemStack()
+                .ifPresent(itemStack -> equipment.put(slot, itemStack));
+
+        if(dropChance != null) {
+            dropChances.put(slot, calculateDropChance(dropChance));
+        }
+    }
+
+    /**
+     * Resolves the configured {@link EffectConfig}s into {@link PotionEffect}s.
+     * @return An unmodifiable {@link List} of {@link PotionEffect}s.
+     */
+    private @NotNull List<PotionEffect> createEffects() {
+        List<PotionEffect> effects = new ArrayList<>();
+
+        for(EffectConfig effectConfig : entityConfig.effects()) {
+            if(effectConfig.effectName() == null
+                    || effectConfig.durationInSeconds() == null
+                    || effectConfig.durationInSeconds() <= 0
+                    || effectConfig.amplifier() == null
+                    || effectConfig.amplifier() < 0) continue;
+
+            Optional<PotionEffectType> optionalPotionEffectType = RegistryUtil.getPotionEffectType(logger, effectConfig.effectName());
+            optionalPotionEffectType.ifPresent(potionEffectType ->
+                    effects.add(potionEffectType.createEffect(effectConfig.durationInSeconds(), effectConfig.amplifier())));
+        }
+
+        return List.copyOf(effects);
+    }
+
+    /**
+     * Resolves the configured {@link AttributeConfig}s into {@link EntityTemplate.AttributeData}.
+     * @return An unmodifiable {@link List} of {@link EntityTemplate.AttributeData}.
+     */
+    private @NotNull List<EntityTemplate.AttributeData> createAttributes() {
+        List<EntityTemplate.AttributeData> attributes = new ArrayList<>();
+
+        for(AttributeConfig attributeConfig : entityConfig.attributes()) {
+            if(attributeConfig.name() == null) {
+                logger.warn(AdventureUtil.serialize("Unable to apply attribute due to an invalid attribute name."));
+                continue;
+            }
+
+            if(attributeConfig.baseValue() == null) {
+                logger.warn(AdventureUtil.serialize("Unable to apply attribute due to an invalid base value."));
+                continue;
+            }
+
+            if(attributeConfig.additionalValuePerPlayer() == null) {
+                logger.warn(AdventureUtil.serialize("Unable to apply attribute due to an invalid additional value per player."));
+                continue;
+            }
+
+            Optional<Attribute> optionalAttribute = RegistryUtil.getAttribute(logger, attributeConfig.name());
+            if(optionalAttribute.isEmpty()) {
+                logger.warn(AdventureUtil.serialize("Unable to apply attribute due to an invalid attribute for " + attributeConfig.name()));
+                continue;
+            }
+
+            attributes.add(new EntityTemplate.AttributeData(optionalAttribute.get(), attributeConfig.baseValue(), attributeConfig.additionalValuePerPlayer()));
+        }
+
+        return List.copyOf(attributes);
+    }
+
+    /**
+     * Resolves the configured loot table name into a {@link LootTable}.
+     * @return A {@link LootTable} or null if none is configured or the name is invalid.
+     */
+    private @Nullable LootTable getLootTable() {
+        String lootTableName = entityConfig.lootTable();
+        if(lootTableName == null) return null;
+
+        NamespacedKey key = NamespacedKey.fromString(lootTableName);
+        if(key == null) return null;
+
+        Registry<@NotNull LootTables> lootTablesRegistry = Registry.LOOT_TABLES;
+        LootTables lootTables = lootTablesRegistry.get(key);
+        if(lootTables == null) return null;
+
+        return lootTables.getLootTable();
+    }
+
+    private float calculateDropChance(double dropChance) {
+        if (dropChance < 0) {
+            dropChance = 0;
+        } else if (dropChance > 100) {
+            dropChance = 100;
+        }
+
+        return (float) (dropChance / 100);
+    }
+}
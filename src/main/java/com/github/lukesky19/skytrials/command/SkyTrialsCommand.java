@@ -19,7 +19,10 @@ package com.github.lukesky19.skytrials.command;
 
 import com.github.lukesky19.skytrials.SkyTrials;
 import com.github.lukesky19.skytrials.command.arguments.*;
+import com.github.lukesky19.skytrials.manager.load.LoadController;
 import com.github.lukesky19.skytrials.manager.locale.LocaleManager;
+import com.github.lukesky19.skytrials.manager.matchmaking.MatchmakingManager;
+import com.github.lukesky19.skytrials.manager.metrics.MetricsManager;
 import com.github.lukesky19.skytrials.manager.player.CooldownManager;
 import com.github.lukesky19.skytrials.manager.trial.TrialManager;
 import com.mojang.brigadier.builder.LiteralArgumentBuilder;
@@ -36,6 +39,9 @@ public class SkyTrialsCommand{
     private final @NotNull LocaleManager localeManager;
     private final @NotNull TrialManager trialManager;
     private final @NotNull CooldownManager cooldownManager;
+    private final @NotNull MetricsManager metricsManager;
+    private final @NotNull MatchmakingManager matchmakingManager;
+    private final @NotNull LoadController loadController;
 
     /**
      * Constructor
@@ -43,16 +49,25 @@ public class SkyTrialsCommand{
      * @param trialManager A {@link TrialManager} instance.
      * @param localeManager A {@link LocaleManager} instance.
      * @param cooldownManager A {@link CooldownManager} instance.
+     * @param metricsManager A {@link MetricsManager} instance.
+     * @param matchmakingManager A {@link MatchmakingManager} instance.
+     * @param loadController A {@link LoadController} instance.
      */
     public SkyTrialsCommand(
             @NotNull SkyTrials skyTrials,
             @NotNull TrialManager trialManager,
             @NotNull LocaleManager localeManager,
-            @NotNull CooldownManager cooldownManager) {
+            @NotNull CooldownManager cooldownManager,
+            @NotNull MetricsManager metricsManager,
+            @NotNull MatchmakingManager matchmakingManager,
+            @NotNull LoadController loadController) {
         this.skyTrials = skyTrials;
         this.trialManager = trialManager;
         this.localeManager = localeManager;
         this.cooldownManager = cooldownManager;
+        this.metricsManager = metricsManager;
+        this.matchmakingManager = matchmakingManager;
+        this.loadController = loadController;
     }
 
     /**
@@ -63,12 +78,14 @@ public class SkyTrialsCommand{
         LiteralArgumentBuilder<CommandSourceStack> builder = Commands.literal("skytrials")
                 .requires(ctx -> ctx.getSender().hasPermission("skytrials.commands.skytrials"));
 
-        JoinCommand joinCommand = new JoinCommand(localeManager, trialManager);
+        JoinCommand joinCommand = new JoinCommand(localeManager, trialManager, matchmakingManager);
         StartCommand startCommand = new StartCommand(localeManager, trialManager);
-        LeaveCommand leaveCommand = new LeaveCommand(localeManager, trialManager);
+        LeaveCommand leaveCommand = new LeaveCommand(localeManager, trialManager, matchmakingManager);
         CooldownCommand cooldownCommand = new CooldownCommand(localeManager, trialManager, cooldownManager);
         HelpCommand helpCommand = new HelpCommand(localeManager);
         ReloadCommand reloadCommand = new ReloadCommand(skyTrials, localeManager);
+        StatsCommand statsCommand = new StatsCommand(localeManager, trialManager, metricsManager);
+        LoadCommand loadCommand = new LoadCommand(localeManager, loadController);
 
         builder.then(joinCommand.createCommand());
         builder.then(startCommand.createCommand());
@@ -76,6 +93,8 @@ public class SkyTrialsCommand{
         builder.then(cooldownCommand.createCommand());
         builder.then(helpCommand.createCommand());
         builder.then(reloadCommand.createCommand());
+        builder.then(statsCommand.createCommand());
+        builder.then(loadCommand.createCommand());
 
         return builder.build();
     }
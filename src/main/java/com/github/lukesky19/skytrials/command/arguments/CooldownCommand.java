@@ -21,6 +21,7 @@ import com.github.lukesky19.skylib.api.adventure.AdventureUtil;
 import com.github.lukesky19.skylib.api.time.TimeUtil;
 import com.github.lukesky19.skytrials.data.config.locale.Locale;
 import com.github.lukesky19.skytrials.manager.locale.LocaleManager;
+import com.github.lukesky19.skytrials.manager.locale.LocaleMessage;
 import com.github.lukesky19.skytrials.manager.player.CooldownManager;
 import com.github.lukesky19.skytrials.manager.trial.TrialManager;
 import com.mojang.brigadier.arguments.StringArgumentType;
@@ -32,6 +33,7 @@ import io.papermc.paper.command.brigadier.argument.ArgumentTypes;
 import io.papermc.paper.command.brigadier.argument.resolvers.selector.PlayerSelectorArgumentResolver;
 import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
 import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import org.bukkit.OfflinePlayer;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
@@ -79,33 +81,54 @@ public class CooldownCommand {
                     return suggestionsBuilder.buildFuture();
                 })
 
-                .then(Commands.argument("player", ArgumentTypes.player())
+                .then(Commands.argument("player_name", StringArgumentType.word())
+                        .suggests((context, suggestionsBuilder) -> {
+                            for(Player onlinePlayer : context.getSource().getSender().getServer().getOnlinePlayers()) {
+                                suggestionsBuilder.suggest(onlinePlayer.getName());
+                            }
+
+                            return suggestionsBuilder.buildFuture();
+                        })
                         .executes(ctx -> {
-                            Locale locale = localeManager.getLocale();
                             Player senderPlayer = (Player) ctx.getSource().getSender();
-                            Player targetPlayer = ctx.getArgument("player", PlayerSelectorArgumentResolver.class).resolve(ctx.getSource()).getFirst();
-                            UUID targetPlayerId = targetPlayer.getUniqueId();
+                            String playerName = ctx.getArgument("player_name", String.class);
+
+                            // Offline players are looked up too, so only players that have joined before can be found
+                            OfflinePlayer targetPlayer = senderPlayer.getServer().getOfflinePlayerIfCached(playerName);
+                            if(targetPlayer == null) {
+                                senderPlayer.sendMessage(localeManager.getMessage(LocaleMessage.PLAYER_NOT_FOUND, List.of(Placeholder.parsed("player_name", playerName))));
+                                return 0;
+                            }
 
+                            UUID targetPlayerId = targetPlayer.getUniqueId();
                             String trialId = ctx.getArgument("trial_id", String.class);
 
                             List< TagResolver.Single> placeholders = new ArrayList<>();
                             placeholders.add(Placeholder.parsed("trial_id", trialId));
-                            placeholders.add(Placeholder.parsed("player_name", targetPlayer.getName()));
-
-                            @Nullable Long cooldownTime = cooldownManager.getTrialCooldown(targetPlayerId, trialId);
-                            if(cooldownTime != null) {
-                                placeholders.add(Placeholder.parsed("time", localeManager.getTimeMessage(cooldownTime)));
-
-                                senderPlayer.sendMessage(AdventureUtil.serialize(targetPlayer, locale.prefix() + locale.playerCooldownTime(), placeholders));
-                            } else {
-                                senderPlayer.sendMessage(AdventureUtil.serialize(targetPlayer, locale.prefix() + locale.playerNoCooldown(), placeholders));
-                            }
+                            placeholders.add(Placeholder.parsed("player_name", playerName));
+
+                            // The player's data may not be cached if they are offline, so this may read from the database
+                            cooldownManager.getTrialCooldownAsync(targetPlayerId, trialId).thenAccept(cooldownTime -> {
+                                LocaleMessage localeMessage;
+                                if(cooldownTime != null) {
+                                    placeholders.add(Placeholder.parsed("time", localeManager.getTimeMessage(cooldownTime)));
+                                    localeMessage = LocaleMessage.PLAYER_COOLDOWN_TIME;
+                                } else {
+                                    localeMessage = LocaleMessage.PLAYER_NO_COOLDOWN;
+                                }
+
+                                Player onlineTarget = targetPlayer.getPlayer();
+                                if(onlineTarget != null) {
+                                    senderPlayer.sendMessage(localeManager.getMessage(localeMessage, onlineTarget, placeholders));
+                                } else {
+                                    senderPlayer.sendMessage(localeManager.getMessage(localeMessage, placeholders));
+                                }
+                            });
 
                             return 1;
                         }))
 
                 .executes(ctx -> {
-                    Locale locale = localeManager.getLocale();
                     Player player = (Player) ctx.getSource().getSender();
                     UUID uuid = player.getUniqueId();
                     String trialId = ctx.getArgument("trial_id", String.class);
@@ -117,9 +140,9 @@ public class CooldownCommand {
                     if(cooldownTime != null) {
                         placeholders.add(Placeholder.parsed("time", localeManager.getTimeMessage(cooldownTime)));
 
-                        player.sendMessage(AdventureUtil.serialize(player, locale.prefix() + locale.cooldownTime(), placeholders));
+                        player.sendMessage(localeManager.getMessage(LocaleMessage.COOLDOWN_TIME, player, placeholders));
                     } else {
-                        player.sendMessage(AdventureUtil.serialize(player, locale.prefix() + locale.noCooldown(), placeholders));
+                        player.sendMessage(localeManager.getMessage(LocaleMessage.NO_COOLDOWN, player, placeholders));
                     }
 
                     return 1;
@@ -156,10 +179,10 @@ public class CooldownCommand {
                                                     Placeholder.parsed("player_name", target.getName()),
                                                     Placeholder.parsed("time", localeManager.getTimeMessage(cooldownSeconds)));
 
-                                            target.sendMessage(AdventureUtil.serialize(target, locale.prefix() + locale.cooldownApplied(), placeholders));
+                                            target.sendMessage(localeManager.getMessage(LocaleMessage.COOLDOWN_APPLIED, target, placeholders));
 
                                             if(sender instanceof Player) {
-                                                sender.sendMessage(AdventureUtil.serialize(target, locale.prefix() + locale.playerCooldownApplied(), placeholders));
+                                                sender.sendMessage(localeManager.getMessage(LocaleMessage.PLAYER_COOLDOWN_APPLIED, target, placeholders));
                                             } else {
                                                 sender.sendMessage(AdventureUtil.serialize(target, locale.playerCooldownApplied(), placeholders));
                                             }
@@ -196,10 +219,10 @@ public class CooldownCommand {
 
                                     boolean result = cooldownManager.removeCooldown(uuid, trialId);
                                     if(result) {
-                                        target.sendMessage(AdventureUtil.serialize(target, locale.prefix() + locale.cooldownRemoved(), placeholders));
+                                        target.sendMessage(localeManager.getMessage(LocaleMessage.COOLDOWN_REMOVED, target, placeholders));
 
                                         if(sender instanceof Player) {
-                                            sender.sendMessage(AdventureUtil.serialize(target, locale.prefix() + locale.playerCooldownRemoved(), placeholders));
+                                            sender.sendMessage(localeManager.getMessage(LocaleMessage.PLAYER_COOLDOWN_REMOVED, target, placeholders));
                                         } else {
                                             sender.sendMessage(AdventureUtil.serialize(target, locale.playerCooldownRemoved(), placeholders));
                                         }
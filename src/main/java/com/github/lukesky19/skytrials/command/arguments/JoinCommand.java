@@ -17,19 +17,23 @@
 */
 package com.github.lukesky19.skytrials.command.arguments;
 
-import com.github.lukesky19.skylib.api.adventure.AdventureUtil;
 import com.github.lukesky19.skytrials.manager.locale.LocaleManager;
-import com.github.lukesky19.skytrials.data.config.locale.Locale;
+import com.github.lukesky19.skytrials.manager.locale.LocaleMessage;
+import com.github.lukesky19.skytrials.manager.matchmaking.MatchmakingManager;
+import com.github.lukesky19.skytrials.manager.matchmaking.TrialQueue;
 import com.github.lukesky19.skytrials.manager.trial.TrialManager;
 import com.github.lukesky19.skytrials.trial.AbstractTrial;
+import com.github.lukesky19.skytrials.util.TrialOperation;
 import com.mojang.brigadier.arguments.StringArgumentType;
 import com.mojang.brigadier.builder.LiteralArgumentBuilder;
 import com.mojang.brigadier.tree.LiteralCommandNode;
 import io.papermc.paper.command.brigadier.CommandSourceStack;
 import io.papermc.paper.command.brigadier.Commands;
+import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -38,15 +42,18 @@ import java.util.UUID;
 public class JoinCommand {
     private final @NotNull LocaleManager localeManager;
     private final @NotNull TrialManager trialManager;
+    private final @NotNull MatchmakingManager matchmakingManager;
 
     /**
      * Constructor
      * @param localeManager A {@link LocaleManager} instance.
      * @param trialManager A {@link TrialManager} instance.
+     * @param matchmakingManager A {@link MatchmakingManager} instance.
      */
-    public JoinCommand(@NotNull LocaleManager localeManager, @NotNull TrialManager trialManager) {
+    public JoinCommand(@NotNull LocaleManager localeManager, @NotNull TrialManager trialManager, @NotNull MatchmakingManager matchmakingManager) {
         this.localeManager = localeManager;
         this.trialManager = trialManager;
+        this.matchmakingManager = matchmakingManager;
     }
 
     /**
@@ -68,20 +75,30 @@ public class JoinCommand {
                 })
 
                 .executes(ctx -> {
-                    Locale locale = localeManager.getLocale();
                     Player player = (Player) ctx.getSource().getSender();
                     UUID uuid = player.getUniqueId();
                     String trialId = ctx.getArgument("trial_id", String.class);
 
                     if(trialManager.isPlayerInTrial(uuid)) {
-                        player.sendMessage(AdventureUtil.serialize(locale.prefix() + locale.joinTrialInTrial()));
+                        player.sendMessage(localeManager.getMessage(LocaleMessage.JOIN_TRIAL_IN_TRIAL));
                         return 0;
                     }
 
-                    AbstractTrial trial = trialManager.getTrialById(trialId);
+                    TrialQueue trialQueue = matchmakingManager.getQueueByPlayerUUID(uuid);
+                    if(trialQueue != null) {
+                        player.sendMessage(localeManager.getMessage(LocaleMessage.JOIN_QUEUE_IN_QUEUE, List.of(Placeholder.parsed("trial_id", trialQueue.getTrialId()))));
+                        return 0;
+                    }
+
+                    if(matchmakingManager.hasQueue(trialId)) {
+                        matchmakingManager.joinQueue(player, trialId);
+                        return 1;
+                    }
+
+                    AbstractTrial trial = trialManager.acquireTrial(trialId);
                     if(trial == null) return 0;
 
-                    trial.join(player, uuid);
+                    trialManager.runTrialOperation(trial, TrialOperation.JOIN, () -> trial.join(player, uuid));
                     return 1;
                 })
         );
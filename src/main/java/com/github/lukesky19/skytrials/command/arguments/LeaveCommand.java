@@ -17,11 +17,12 @@
 */
 package com.github.lukesky19.skytrials.command.arguments;
 
-import com.github.lukesky19.skylib.api.adventure.AdventureUtil;
 import com.github.lukesky19.skytrials.manager.locale.LocaleManager;
-import com.github.lukesky19.skytrials.data.config.locale.Locale;
+import com.github.lukesky19.skytrials.manager.locale.LocaleMessage;
+import com.github.lukesky19.skytrials.manager.matchmaking.MatchmakingManager;
 import com.github.lukesky19.skytrials.manager.trial.TrialManager;
 import com.github.lukesky19.skytrials.trial.AbstractTrial;
+import com.github.lukesky19.skytrials.util.TrialOperation;
 import com.mojang.brigadier.builder.LiteralArgumentBuilder;
 import com.mojang.brigadier.tree.LiteralCommandNode;
 import io.papermc.paper.command.brigadier.CommandSourceStack;
@@ -29,6 +30,7 @@ import io.papermc.paper.command.brigadier.Commands;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -37,15 +39,18 @@ import java.util.UUID;
 public class LeaveCommand {
     private final @NotNull LocaleManager localeManager;
     private final @NotNull TrialManager trialManager;
+    private final @NotNull MatchmakingManager matchmakingManager;
 
     /**
      * Constructor
      * @param localeManager A {@link LocaleManager} instance.
      * @param trialManager A {@link TrialManager} instance.
+     * @param matchmakingManager A {@link MatchmakingManager} instance.
      */
-    public LeaveCommand(@NotNull LocaleManager localeManager, @NotNull TrialManager trialManager) {
+    public LeaveCommand(@NotNull LocaleManager localeManager, @NotNull TrialManager trialManager, @NotNull MatchmakingManager matchmakingManager) {
         this.localeManager = localeManager;
         this.trialManager = trialManager;
+        this.matchmakingManager = matchmakingManager;
     }
 
     /**
@@ -58,17 +63,18 @@ public class LeaveCommand {
         builder.requires(ctx -> ctx.getSender().hasPermission("skytrials.commands.skytrials.leave") && ctx.getSender() instanceof Player);
 
         builder.executes(ctx -> {
-            Locale locale = localeManager.getLocale();
             Player player = (Player) ctx.getSource().getSender();
             UUID uuid = player.getUniqueId();
 
+            if(matchmakingManager.leaveQueue(player)) return 1;
+
             AbstractTrial trial = trialManager.getTrialByPlayerUUID(uuid);
             if(trial == null) {
-                player.sendMessage(AdventureUtil.serialize(player, locale.prefix() + locale.leaveTrialNotInTrial()));
+                player.sendMessage(localeManager.getMessage(LocaleMessage.LEAVE_TRIAL_NOT_IN_TRIAL, player, List.of()));
                 return 0;
             }
 
-            trial.leave(player, uuid);
+            trialManager.runTrialOperation(trial, TrialOperation.LEAVE, () -> trial.leave(player, uuid));
             return 1;
         });
 
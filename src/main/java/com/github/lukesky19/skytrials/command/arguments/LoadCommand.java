@@ -0,0 +1,116 @@
+/*
+    SkyTrials is a plugin that offers different challenges or trials to tackle. Inspired by the Minecraft Trial Chambers and mob arenas.
+    Copyright (C) 2024 lukeskywlker19
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.github.lukesky19.skytrials.command.arguments;
+
+import com.github.lukesky19.skytrials.manager.load.LoadController;
+import com.github.lukesky19.skytrials.manager.locale.LocaleManager;
+import com.github.lukesky19.skytrials.manager.locale.LocaleMessage;
+import com.github.lukesky19.skytrials.util.LoadLevel;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.tree.LiteralCommandNode;
+import io.papermc.paper.command.brigadier.CommandSourceStack;
+import io.papermc.paper.command.brigadier.Commands;
+import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
+import org.bukkit.command.CommandSender;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * This class creates the load command argument to view the server load and how far trials are being scaled back.
+ */
+public class LoadCommand {
+    private final @NotNull LocaleManager localeManager;
+    private final @NotNull LoadController loadController;
+
+    /**
+     * Constructor
+     * @param localeManager A {@link LocaleManager} instance.
+     * @param loadController A {@link LoadController} instance.
+     */
+    public LoadCommand(@NotNull LocaleManager localeManager, @NotNull LoadController loadController) {
+        this.localeManager = localeManager;
+        this.loadController = loadController;
+    }
+
+    /**
+     * Creates the load command argument to view the server load and how far trials are being scaled back.
+     * @return A {@link LiteralCommandNode} of type {@link CommandSourceStack} for the load command argument.
+     */
+    public @NotNull LiteralCommandNode<CommandSourceStack> createCommand() {
+        LiteralArgumentBuilder<CommandSourceStack> builder = Commands.literal("load");
+
+        builder.requires(ctx -> ctx.getSender().hasPermission("skytrials.commands.skytrials.load"));
+
+        builder.executes(ctx -> {
+            CommandSender sender = ctx.getSource().getSender();
+            LoadLevel loadLevel = loadController.getLoadLevel();
+
+            LocaleMessage loadLevelMessage = loadController.isEnabled() ? LocaleMessage.LOAD_LEVEL : LocaleMessage.LOAD_LEVEL_DISABLED;
+            sender.sendMessage(localeManager.getMessage(loadLevelMessage, List.of(Placeholder.parsed("load_level", loadLevel.name()))));
+
+            if(loadController.getLastMspt() == -1) {
+                sender.sendMessage(localeManager.getMessage(LocaleMessage.LOAD_NOT_SAMPLED));
+            } else {
+                sender.sendMessage(localeManager.getMessage(LocaleMessage.LOAD_MSPT, List.of(
+                        Placeholder.parsed("smoothed_mspt", formatNumber(loadController.getSmoothedMspt())),
+                        Placeholder.parsed("last_mspt", formatNumber(loadController.getLastMspt())),
+                        Placeholder.parsed("tps", formatNumber(loadController.getLastTps())))));
+            }
+
+            sender.sendMessage(localeManager.getMessage(LocaleMessage.LOAD_THRESHOLDS, List.of(
+                    Placeholder.parsed("elevated", formatNumber(loadController.getThreshold(LoadLevel.ELEVATED))),
+                    Placeholder.parsed("high", formatNumber(loadController.getThreshold(LoadLevel.HIGH))),
+                    Placeholder.parsed("critical", formatNumber(loadController.getThreshold(LoadLevel.CRITICAL))),
+                    Placeholder.parsed("recovery_margin", formatNumber(loadController.getRecoveryMargin())))));
+            sender.sendMessage(localeManager.getMessage(LocaleMessage.LOAD_SCALING, List.of(
+                    Placeholder.parsed("spawn_frequency", String.valueOf(Math.round(loadLevel.getSpawnFrequencyScale() * 100))),
+                    Placeholder.parsed("spawn_batch_size", String.valueOf(Math.round(loadLevel.getSpawnBatchScale() * 100))),
+                    Placeholder.parsed("boss_bar_refresh_ticks", String.valueOf(loadLevel.getBossBarRefreshTicks())))));
+
+            List<LoadController.Adjustment> adjustments = loadController.getAdjustments();
+            if(adjustments.isEmpty()) {
+                sender.sendMessage(localeManager.getMessage(LocaleMessage.LOAD_NO_ADJUSTMENTS));
+            } else {
+                long now = System.currentTimeMillis();
+                for(LoadController.Adjustment adjustment : adjustments) {
+                    long secondsAgo = Math.max(0L, (now - adjustment.timeMillis()) / 1000L);
+
+                    sender.sendMessage(localeManager.getMessage(LocaleMessage.LOAD_ADJUSTMENT, List.of(
+                            Placeholder.parsed("time", localeManager.getTimeMessage(secondsAgo)),
+                            Placeholder.parsed("from", adjustment.from().name()),
+                            Placeholder.parsed("to", adjustment.to().name()),
+                            Placeholder.parsed("mspt", formatNumber(adjustment.mspt())))));
+                }
+            }
+
+            return 1;
+        });
+
+        return builder.build();
+    }
+
+    /**
+     * Formats a number with two decimal places.
+     * @param number The number.
+     * @return The formatted number.
+     */
+    private @NotNull String formatNumber(double number) {
+        return String.format(java.util.Locale.ROOT, "%.2f", number);
+    }
+}
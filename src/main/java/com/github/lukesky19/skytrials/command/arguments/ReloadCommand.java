@@ -17,10 +17,9 @@
 */
 package com.github.lukesky19.skytrials.command.arguments;
 
-import com.github.lukesky19.skylib.api.adventure.AdventureUtil;
 import com.github.lukesky19.skytrials.SkyTrials;
 import com.github.lukesky19.skytrials.manager.locale.LocaleManager;
-import com.github.lukesky19.skytrials.data.config.locale.Locale;
+import com.github.lukesky19.skytrials.manager.locale.LocaleMessage;
 import com.mojang.brigadier.builder.LiteralArgumentBuilder;
 import com.mojang.brigadier.tree.LiteralCommandNode;
 import io.papermc.paper.command.brigadier.CommandSourceStack;
@@ -54,11 +53,9 @@ public class ReloadCommand {
         builder.requires(ctx -> ctx.getSender().hasPermission("skytrials.commands.skytrials.reload"));
 
         builder.executes(ctx -> {
-            Locale locale = localeManager.getLocale();
-
             skyTrials.reload();
 
-            ctx.getSource().getSender().sendMessage(AdventureUtil.serialize(locale.prefix() + locale.reload()));
+            ctx.getSource().getSender().sendMessage(localeManager.getMessage(LocaleMessage.RELOAD));
 
             return 1;
         });
@@ -17,11 +17,11 @@
 */
 package com.github.lukesky19.skytrials.command.arguments;
 
-import com.github.lukesky19.skylib.api.adventure.AdventureUtil;
 import com.github.lukesky19.skytrials.manager.locale.LocaleManager;
-import com.github.lukesky19.skytrials.data.config.locale.Locale;
+import com.github.lukesky19.skytrials.manager.locale.LocaleMessage;
 import com.github.lukesky19.skytrials.manager.trial.TrialManager;
 import com.github.lukesky19.skytrials.trial.AbstractTrial;
+import com.github.lukesky19.skytrials.util.TrialOperation;
 import com.mojang.brigadier.builder.LiteralArgumentBuilder;
 import com.mojang.brigadier.tree.LiteralCommandNode;
 import io.papermc.paper.command.brigadier.CommandSourceStack;
@@ -58,17 +58,16 @@ public class StartCommand {
         builder.requires(ctx -> ctx.getSender().hasPermission("skytrials.commands.skytrials.start") && ctx.getSender() instanceof Player);
 
         builder.executes(ctx -> {
-            Locale locale = localeManager.getLocale();
             Player player = (Player) ctx.getSource().getSender();
             UUID uuid = player.getUniqueId();
 
             AbstractTrial trial = trialManager.getTrialByPlayerUUID(uuid);
             if(trial == null) {
-                player.sendMessage(AdventureUtil.serialize(locale.prefix() + locale.startTrialNotInTrial()));
+                player.sendMessage(localeManager.getMessage(LocaleMessage.START_TRIAL_NOT_IN_TRIAL));
                 return 0;
             }
 
-            trial.togglePlayerStatus(player, uuid);
+            trialManager.runTrialOperation(trial, TrialOperation.TOGGLE_PLAYER_STATUS, () -> trial.togglePlayerStatus(player, uuid));
             return 1;
         });
 
@@ -0,0 +1,183 @@
+/*
+    SkyTrials is a plugin that offers different challenges or trials to tackle. Inspired by the Minecraft Trial Chambers and mob arenas.
+    Copyright (C) 2024 lukeskywlker19
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.github.lukesky19.skytrials.command.arguments;
+
+import com.github.lukesky19.skytrials.manager.locale.LocaleManager;
+import com.github.lukesky19.skytrials.manager.locale.LocaleMessage;
+import com.github.lukesky19.skytrials.manager.metrics.LatencyHistogram;
+import com.github.lukesky19.skytrials.manager.metrics.MetricsManager;
+import com.github.lukesky19.skytrials.manager.metrics.TrialMetrics;
+import com.github.lukesky19.skytrials.manager.trial.TrialManager;
+import com.github.lukesky19.skytrials.util.TrialEndReason;
+import com.github.lukesky19.skytrials.util.TrialOperation;
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.tree.LiteralCommandNode;
+import io.papermc.paper.command.brigadier.CommandSourceStack;
+import io.papermc.paper.command.brigadier.Commands;
+import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import org.bukkit.command.CommandSender;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * This class creates the stats command argument to view the metrics recorded for trials.
+ */
+public class StatsCommand {
+    private final @NotNull LocaleManager localeManager;
+    private final @NotNull TrialManager trialManager;
+    private final @NotNull MetricsManager metricsManager;
+
+    /**
+     * Constructor
+     * @param localeManager A {@link LocaleManager} instance.
+     * @param trialManager A {@link TrialManager} instance.
+     * @param metricsManager A {@link MetricsManager} instance.
+     */
+    public StatsCommand(@NotNull LocaleManager localeManager, @NotNull TrialManager trialManager, @NotNull MetricsManager metricsManager) {
+        this.localeManager = localeManager;
+        this.trialManager = trialManager;
+        this.metricsManager = metricsManager;
+    }
+
+    /**
+     * Creates the stats command argument to view the metrics recorded for trials.
+     * @return A {@link LiteralCommandNode} of type {@link CommandSourceStack} for the stats command argument.
+     */
+    public @NotNull LiteralCommandNode<CommandSourceStack> createCommand() {
+        LiteralArgumentBuilder<CommandSourceStack> builder = Commands.literal("stats");
+
+        builder.requires(ctx -> ctx.getSender().hasPermission("skytrials.commands.skytrials.stats"));
+
+        builder.then(Commands.argument("trial_id", StringArgumentType.string())
+                .suggests((context, suggestionsBuilder) -> {
+                    for(String id : trialManager.getTrialIds()) {
+                        suggestionsBuilder.suggest(id);
+                    }
+
+                    return suggestionsBuilder.buildFuture();
+                })
+                .executes(ctx -> {
+                    CommandSender sender = ctx.getSource().getSender();
+                    String trialId = ctx.getArgument("trial_id", String.class);
+
+                    List<TagResolver.Single> placeholders = List.of(Placeholder.parsed("trial_id", trialId));
+
+                    if(trialManager.getTrialById(trialId) == null) {
+                        sender.sendMessage(localeManager.getMessage(LocaleMessage.TRIAL_NOT_FOUND, placeholders));
+                        return 0;
+                    }
+
+                    TrialMetrics trialMetrics = metricsManager.getTrialMetrics(trialId);
+
+                    sender.sendMessage(localeManager.getMessage(LocaleMessage.STATS_TRIAL_HEADER, placeholders));
+                    sendTrialSummary(sender, trialMetrics);
+
+                    boolean anyRecorded = false;
+                    for(TrialOperation trialOperation : TrialOperation.values()) {
+                        LatencyHistogram latencyHistogram = trialMetrics.getOperationTimes(trialOperation);
+                        if(latencyHistogram.getCount() == 0) continue;
+
+                        anyRecorded = true;
+                        sender.sendMessage(localeManager.getMessage(LocaleMessage.STATS_TIMINGS, getTimingsPlaceholders(trialOperation.name().toLowerCase(java.util.Locale.ROOT), latencyHistogram)));
+                    }
+
+                    if(!anyRecorded) {
+                        sender.sendMessage(localeManager.getMessage(LocaleMessage.STATS_NO_TIMINGS));
+                    }
+
+                    return 1;
+                }));
+
+        builder.executes(ctx -> {
+            CommandSender sender = ctx.getSource().getSender();
+
+            sender.sendMessage(localeManager.getMessage(LocaleMessage.STATS_HEADER));
+
+            for(String trialId : trialManager.getTrialIds().stream().sorted().toList()) {
+                sender.sendMessage(localeManager.getMessage(LocaleMessage.STATS_TRIAL_NAME, List.of(Placeholder.parsed("trial_id", trialId))));
+                sendTrialSummary(sender, metricsManager.getTrialMetrics(trialId));
+            }
+
+            sender.sendMessage(localeManager.getMessage(LocaleMessage.STATS_TIMINGS, getTimingsPlaceholders("database", metricsManager.getDatabaseLatency())));
+
+            return 1;
+        });
+
+        return builder.build();
+    }
+
+    /**
+     * Sends the run and mob counters for a trial.
+     * @param sender The {@link CommandSender} to send the messages to.
+     * @param trialMetrics The {@link TrialMetrics} for the trial.
+     */
+    private void sendTrialSummary(@NotNull CommandSender sender, @NotNull TrialMetrics trialMetrics) {
+        long timeout = trialMetrics.getRunsEnded(TrialEndReason.TIMEOUT);
+        long death = trialMetrics.getRunsEnded(TrialEndReason.DEATH);
+        long empty = trialMetrics.getRunsEnded(TrialEndReason.EMPTY);
+
+        sender.sendMessage(localeManager.getMessage(LocaleMessage.STATS_RUNS, List.of(
+                Placeholder.parsed("started", String.valueOf(trialMetrics.getRunsStarted())),
+                Placeholder.parsed("completed", String.valueOf(trialMetrics.getRunsEnded(TrialEndReason.COMPLETED))),
+                Placeholder.parsed("failed", String.valueOf(timeout + death + empty)),
+                Placeholder.parsed("timeout", String.valueOf(timeout)),
+                Placeholder.parsed("death", String.valueOf(death)),
+                Placeholder.parsed("empty", String.valueOf(empty)),
+                Placeholder.parsed("reload", String.valueOf(trialMetrics.getRunsEnded(TrialEndReason.RELOAD))))));
+        sender.sendMessage(localeManager.getMessage(LocaleMessage.STATS_MOBS, List.of(
+                Placeholder.parsed("spawned", String.valueOf(trialMetrics.getMobsSpawned())),
+                Placeholder.parsed("killed", String.valueOf(trialMetrics.getMobsKilled())))));
+
+        LatencyHistogram queueWaitTimes = trialMetrics.getQueueWaitTimes();
+        if(trialMetrics.getQueueDepth() > 0 || queueWaitTimes.getCount() > 0) {
+            sender.sendMessage(localeManager.getMessage(LocaleMessage.STATS_QUEUE, List.of(
+                    Placeholder.parsed("waiting", String.valueOf(trialMetrics.getQueueDepth())),
+                    Placeholder.parsed("p50", formatMillis(queueWaitTimes.getValueAtPercentile(50))),
+                    Placeholder.parsed("p99", formatMillis(queueWaitTimes.getValueAtPercentile(99))),
+                    Placeholder.parsed("max", formatMillis(queueWaitTimes.getMax())))));
+        }
+    }
+
+    /**
+     * Get the placeholders for the count and latency percentiles of a {@link LatencyHistogram} in milliseconds.
+     * @param operation The name of the operation the timings are for.
+     * @param latencyHistogram The {@link LatencyHistogram}.
+     * @return A {@link List} of {@link TagResolver.Single} placeholders.
+     */
+    private @NotNull List<TagResolver.Single> getTimingsPlaceholders(@NotNull String operation, @NotNull LatencyHistogram latencyHistogram) {
+        return List.of(
+                Placeholder.parsed("operation", operation),
+                Placeholder.parsed("count", String.valueOf(latencyHistogram.getCount())),
+                Placeholder.parsed("mean", formatMillis(latencyHistogram.getMean())),
+                Placeholder.parsed("p50", formatMillis(latencyHistogram.getValueAtPercentile(50))),
+                Placeholder.parsed("p99", formatMillis(latencyHistogram.getValueAtPercentile(99))),
+                Placeholder.parsed("max", formatMillis(latencyHistogram.getMax())));
+    }
+
+    /**
+     * Formats nanoseconds as milliseconds.
+     * @param nanos The time in nanoseconds.
+     * @return The formatted time in milliseconds.
+     */
+    private @NotNull String formatMillis(double nanos) {
+        return String.format(java.util.Locale.ROOT, "%.3fms", nanos / 1_000_000D);
+    }
+}
@@ -59,6 +59,28 @@ import java.util.List;
  * @param playerCooldownTime The message to view a player's trial cooldown.
  * @param noCooldown The message sent when a player doesn't have a cooldown.
  * @param playerNoCooldown The message sent when another player doesn't have a cooldown.
+ * @param joinQueue The message sent to the player when they join a trial's queue.
+ * @param joinQueueInQueue The message sent when a player can't join a trial or queue because they are already in a queue.
+ * @param leaveQueue The message sent to the player when they leave a trial's queue.
+ * @param readyQueuedTrial The message sent when a player tries to ready up in a trial that starts automatically from its queue.
+ * @param playerNotFound The message sent when a player name given to a command doesn't match a player that has joined before.
+ * @param trialNotFound The message sent when a trial id given to a command doesn't match a trial.
+ * @param statsHeader The first line of the stats command for all trials.
+ * @param statsTrialHeader The first line of the stats command for a single trial.
+ * @param statsTrialName The line naming each trial in the stats command for all trials. Sent without the prefix.
+ * @param statsRuns The line showing a trial's run counts in the stats command. Sent without the prefix.
+ * @param statsMobs The line showing a trial's mob counts in the stats command. Sent without the prefix.
+ * @param statsQueue The line showing a trial's queue in the stats command. Sent without the prefix.
+ * @param statsTimings The line showing the timings of an operation or the database in the stats command. Sent without the prefix.
+ * @param statsNoTimings The line sent when no timings have been recorded for a trial in the stats command. Sent without the prefix.
+ * @param loadLevel The first line of the load command showing the current load level.
+ * @param loadLevelDisabled The first line of the load command showing the current load level when load shedding is disabled.
+ * @param loadNotSampled The line sent by the load command before the server load has been sampled. Sent without the prefix.
+ * @param loadMspt The line showing the server's MSPT and TPS in the load command. Sent without the prefix.
+ * @param loadThresholds The line showing the MSPT thresholds for each load level in the load command. Sent without the prefix.
+ * @param loadScaling The line showing how far trials are scaled back at the current load level in the load command. Sent without the prefix.
+ * @param loadNoAdjustments The line sent by the load command when the load level has not changed. Sent without the prefix.
+ * @param loadAdjustment The line showing a recent load level change in the load command. Sent without the prefix.
  * @param timeMessage The {@link TimeMessage} config for the time placeholder.
  */
 @ConfigSerializable
@@ -99,6 +121,28 @@ public record Locale(
         String playerCooldownTime,
         String noCooldown,
         String playerNoCooldown,
+        String joinQueue,
+        String joinQueueInQueue,
+        String leaveQueue,
+        String readyQueuedTrial,
+        String playerNotFound,
+        String trialNotFound,
+        String statsHeader,
+        String statsTrialHeader,
+        String statsTrialName,
+        String statsRuns,
+        String statsMobs,
+        String statsQueue,
+        String statsTimings,
+        String statsNoTimings,
+        String loadLevel,
+        String loadLevelDisabled,
+        String loadNotSampled,
+        String loadMspt,
+        String loadThresholds,
+        String loadScaling,
+        String loadNoAdjustments,
+        String loadAdjustment,
         TimeMessage timeMessage) {
     /**
      * Configuration for the time placeholder.
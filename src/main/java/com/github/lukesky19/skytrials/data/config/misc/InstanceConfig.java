@@ -0,0 +1,38 @@
+/*
+    SkyTrials is a plugin that offers different challenges or trials to tackle. Inspired by the Minecraft Trial Chambers and mob arenas.
+    Copyright (C) 2024 lukeskywlker19
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.github.lukesky19.skytrials.data.config.misc;
+
+import com.github.lukesky19.skylib.libs.configurate.objectmapping.ConfigSerializable;
+
+import javax.annotation.Nullable;
+
+/**
+ * This record contains the configuration for running multiple instances of a trial at once.
+ * Each instance is a copy of the trial's arena, offset from the previous instance by the offset provided.
+ * The copies of the arena must already be built in the world.
+ * @param maxInstances The maximum number of instances that can run at once. Defaults to 1.
+ * @param offsetX The number of blocks along the x-axis between each instance.
+ * @param offsetY The number of blocks along the y-axis between each instance.
+ * @param offsetZ The number of blocks along the z-axis between each instance.
+ */
+@ConfigSerializable
+public record InstanceConfig(
+        @Nullable Integer maxInstances,
+        @Nullable Integer offsetX,
+        @Nullable Integer offsetY,
+        @Nullable Integer offsetZ) {}
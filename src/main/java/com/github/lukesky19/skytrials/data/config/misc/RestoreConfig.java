@@ -0,0 +1,33 @@
+/*
+    SkyTrials is a plugin that offers different challenges or trials to tackle. Inspired by the Minecraft Trial Chambers and mob arenas.
+    Copyright (C) 2024 lukeskywlker19
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.github.lukesky19.skytrials.data.config.misc;
+
+import com.github.lukesky19.skylib.libs.configurate.objectmapping.ConfigSerializable;
+import com.github.lukesky19.skytrials.util.RestoreMode;
+
+import javax.annotation.Nullable;
+
+/**
+ * This record contains the configuration for restoring a trial's arena after each run.
+ * @param mode The {@link RestoreMode} to use. Defaults to {@link RestoreMode#JOURNAL} if not set.
+ * @param blocksPerTick The number of blocks to restore per tick when using {@link RestoreMode#SNAPSHOT}. Lower values spread the restore of large arenas over more ticks.
+ */
+@ConfigSerializable
+public record RestoreConfig(
+        @Nullable RestoreMode mode,
+        @Nullable Integer blocksPerTick) {}
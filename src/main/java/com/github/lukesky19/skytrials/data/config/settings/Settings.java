@@ -18,6 +18,7 @@
 package com.github.lukesky19.skytrials.data.config.settings;
 
 import com.github.lukesky19.skylib.libs.configurate.objectmapping.ConfigSerializable;
+import com.github.lukesky19.skytrials.util.BroadcastScope;
 
 import javax.annotation.Nullable;
 
@@ -25,8 +26,33 @@ import javax.annotation.Nullable;
  * This record contains the plugin's settings.
  * @param configVersion The config version of the file.
  * @param locale The locale to use. Refers to a file name in SkyTrials/locale without the file extension.
+ * @param broadcastScope The {@link BroadcastScope} for trial broadcasts. Defaults to {@link BroadcastScope#SERVER} if not set.
+ * @param spawnsPerTick The number of mobs spawned per tick across all level trials. Defaults to 10 if not set.
+ * @param maxLiveMobs The maximum number of live mobs across all level trials. No limit if not set.
+ * @param loadShedding The {@link LoadShedding} settings.
  */
 @ConfigSerializable
 public record Settings(
         @Nullable String configVersion,
-        @Nullable String locale) {}
+        @Nullable String locale,
+        @Nullable BroadcastScope broadcastScope,
+        @Nullable Integer spawnsPerTick,
+        @Nullable Integer maxLiveMobs,
+        @Nullable LoadShedding loadShedding) {
+    /**
+     * This record contains the settings used to scale back spawning and boss bar updates while the server is behind.
+     * The thresholds are the average milliseconds per tick at which each load level is entered.
+     * @param enabled Whether load shedding is enabled. Defaults to true if not set.
+     * @param elevatedMspt The milliseconds per tick at which the elevated level is entered. Defaults to 40 if not set.
+     * @param highMspt The milliseconds per tick at which the high level is entered. Defaults to 47 if not set.
+     * @param criticalMspt The milliseconds per tick at which the critical level is entered. Defaults to 55 if not set.
+     * @param recoveryMargin How far in milliseconds below a level's threshold the server must be to leave that level. Defaults to 5 if not set.
+     */
+    @ConfigSerializable
+    public record LoadShedding(
+            @Nullable Boolean enabled,
+            @Nullable Double elevatedMspt,
+            @Nullable Double highMspt,
+            @Nullable Double criticalMspt,
+            @Nullable Double recoveryMargin) {}
+}
@@ -20,8 +20,11 @@ package com.github.lukesky19.skytrials.data.config.trial;
 import com.github.lukesky19.skylib.libs.configurate.objectmapping.ConfigSerializable;
 import com.github.lukesky19.skytrials.data.config.block.TrialSpawnerConfig;
 import com.github.lukesky19.skytrials.data.config.block.VaultConfig;
+import com.github.lukesky19.skytrials.data.config.misc.InstanceConfig;
 import com.github.lukesky19.skytrials.data.config.misc.LocationConfig;
+import com.github.lukesky19.skytrials.data.config.misc.QueueConfig;
 import com.github.lukesky19.skytrials.data.config.misc.RegionConfig;
+import com.github.lukesky19.skytrials.data.config.misc.RestoreConfig;
 import com.github.lukesky19.skytrials.data.trial.ChamberTrialData;
 import com.github.lukesky19.skytrials.trial.impl.ChamberTrial;
 import net.kyori.adventure.bossbar.BossBar;
@@ -38,6 +41,9 @@ import java.util.List;
  * @param cooldownSeconds The trial's cooldown in seconds to apply to players when the trial ends.
  * @param gracePeriodSeconds The trial's grace period in seconds to apply to players that log out within a trial.
  * @param region The {@link RegionConfig} for the trial.
+ * @param instances The {@link InstanceConfig} for running multiple instances of the trial at once. May be null for a single instance.
+ * @param queue The {@link QueueConfig} for the trial's matchmaking queue. May be null to join and ready up manually.
+ * @param restore The {@link RestoreConfig} for restoring the trial's arena after each run. May be null to not restore the arena.
  * @param joinLocation The {@link LocationConfig} for the join or lobby area.
  * @param startLocation The {@link LocationConfig} for the start area.
  * @param endLocation The {@link LocationConfig} for the end area. This is where the player is teleported when a trial ends.
@@ -54,6 +60,9 @@ public record ChamberTrialConfig(
         @Nullable Integer cooldownSeconds,
         @Nullable Integer gracePeriodSeconds,
         @NotNull RegionConfig region,
+        @Nullable InstanceConfig instances,
+        @Nullable QueueConfig queue,
+        @Nullable RestoreConfig restore,
         @NotNull LocationConfig joinLocation,
         @NotNull LocationConfig startLocation,
         @NotNull LocationConfig endLocation,
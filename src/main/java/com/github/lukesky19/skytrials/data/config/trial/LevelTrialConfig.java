@@ -21,10 +21,14 @@ import com.github.lukesky19.skylib.api.itemstack.ItemStackConfig;
 import com.github.lukesky19.skylib.libs.configurate.objectmapping.ConfigSerializable;
 import com.github.lukesky19.skytrials.data.config.entity.EffectConfig;
 import com.github.lukesky19.skytrials.data.config.entity.EntityConfig;
+import com.github.lukesky19.skytrials.data.config.misc.InstanceConfig;
 import com.github.lukesky19.skytrials.data.config.misc.LocationConfig;
+import com.github.lukesky19.skytrials.data.config.misc.QueueConfig;
 import com.github.lukesky19.skytrials.data.config.misc.RegionConfig;
+import com.github.lukesky19.skytrials.data.config.misc.RestoreConfig;
 import com.github.lukesky19.skytrials.data.trial.LevelTrialData;
 import com.github.lukesky19.skytrials.trial.impl.LevelTrial;
+import com.github.lukesky19.skytrials.util.MobSpawnMode;
 import net.kyori.adventure.bossbar.BossBar;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
@@ -40,6 +44,10 @@ import java.util.List;
  * @param cooldownSeconds The trial's cooldown in seconds to apply to players when the trial ends.
  * @param gracePeriodSeconds The trial's grace period in seconds to apply to players that log out within a trial.
  * @param region The {@link RegionConfig} for the trial.
+ * @param instances The {@link InstanceConfig} for running multiple instances of the trial at once. May be null for a single instance.
+ * @param queue The {@link QueueConfig} for the trial's matchmaking queue. May be null to join and ready up manually.
+ * @param restore The {@link RestoreConfig} for restoring the trial's arena after each run. May be null to not restore the arena.
+ * @param spawnSeed The seed used to pick the mobs and spawn locations, so every run spawns the same way. May be null to use a new seed for each run.
  * @param joinLocation The {@link LocationConfig} for the join or lobby area.
  * @param endLocation The {@link LocationConfig} for the end area. This is where the player is teleported when a trial ends.
  * @param lobbyBossBar The {@link BossBarConfig} for the boss bar to show when in the lobby.
@@ -59,6 +67,10 @@ public record LevelTrialConfig(
         @Nullable Integer cooldownSeconds,
         @Nullable Integer gracePeriodSeconds,
         @NotNull RegionConfig region,
+        @Nullable InstanceConfig instances,
+        @Nullable QueueConfig queue,
+        @Nullable RestoreConfig restore,
+        @Nullable Long spawnSeed,
         @NotNull LocationConfig joinLocation,
         @NotNull LocationConfig endLocation,
         @NotNull BossBarConfig lobbyBossBar,
@@ -82,7 +94,9 @@ public record LevelTrialConfig(
      * @param spawnCount The base spawn count. -1 to disable.
      * @param additionalSpawnCountPerPlayer The additional spawn count per player. -1 to disable.
      * @param mobSpawnStartDelay The initial mob spawn start delay in seconds. -1 to disable.
-     * @param mobSpawnFrequencySeconds How frequent to spawn mobs in seconds. -1 to disable.
+     * @param mobSpawnFrequencySeconds How frequent to spawn mobs in seconds. -1 to disable. Only used by {@link MobSpawnMode#TIMER}.
+     * @param mobSpawnMode The {@link MobSpawnMode} for the level. Defaults to {@link MobSpawnMode#TIMER} if not set.
+     * @param minRefillIntervalTicks The minimum number of ticks between refills. Only used by {@link MobSpawnMode#REFILL}. -1 to disable.
      * @param playerEffects A {@link List} of {@link EffectConfig}s to apply to the player.
      * @param rewardItems A {@link List} of {@link ItemStackConfig}s for the {@link ItemStack}s to reward.
      * @param rewardCommands A {@link List} of commands as a {@link String} to execute on trial end.
@@ -102,6 +116,8 @@ public record LevelTrialConfig(
             @Nullable Integer additionalSpawnCountPerPlayer, // - 1 to disable
             @Nullable Long mobSpawnStartDelay,
             @Nullable Long mobSpawnFrequencySeconds,
+            @Nullable MobSpawnMode mobSpawnMode,
+            @Nullable Long minRefillIntervalTicks, // -1 to disable
             @NotNull List<EffectConfig> playerEffects,
             @NotNull List<ItemStackConfig> rewardItems,
             @NotNull List<String> rewardCommands,
@@ -120,10 +136,14 @@ public record LevelTrialConfig(
     /**
      * The {@link EntityConfig} for the mob and the {@link List} of {@link LocationConfig} that it can spawn at.
      * @param entityConfig The {@link EntityConfig}  for the mob.
+     * @param weight How likely the mob is to be picked compared to the level's other mobs. Defaults to 1 if not set.
      * @param spawnLocations The {@link List} of {@link LocationConfig}s that it can spawn at.
+     * @param spawnLocationWeights How likely each spawn location is to be picked, in the same order as the spawn locations. Every location is equally likely if not set.
      */
     @ConfigSerializable
     public record MobSpawn(
             @NotNull EntityConfig entityConfig,
-            @NotNull List<LocationConfig> spawnLocations) {}
+            @Nullable Double weight,
+            @NotNull List<LocationConfig> spawnLocations,
+            @Nullable List<Double> spawnLocationWeights) {}
 }
\ No newline at end of file
@@ -2,32 +2,36 @@ package com.github.lukesky19.skytrials.data.player;
 
 import org.jetbrains.annotations.NotNull;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This class contains player cooldowns and grace periods for trial ids.
+ * The maps are concurrent so they can be read and changed from any thread, such as a trial's region thread on Folia.
  */
 public class PlayerData {
-    private @NotNull Map<String, Long> cooldowns = new HashMap<>();
-    private final @NotNull Map<String, Long> gracePeriods = new HashMap<>();
+    private final @NotNull Map<String, Long> cooldowns;
+    private final @NotNull Map<String, Long> gracePeriods = new ConcurrentHashMap<>();
+    private volatile boolean loaded = false;
 
     /**
      * Constructor
      */
-    public PlayerData() {}
+    public PlayerData() {
+        this.cooldowns = new ConcurrentHashMap<>();
+    }
 
     /**
      * Constructor
-     * @param cooldowns A {@link Map} mapping trial ids to cooldown time.
+     * @param cooldowns A {@link Map} mapping trial ids to cooldown expiry times in epoch milliseconds.
      */
     public PlayerData(@NotNull Map<String, Long> cooldowns) {
-        this.cooldowns = cooldowns;
+        this.cooldowns = new ConcurrentHashMap<>(cooldowns);
     }
 
     /**
-     * Get the {@link Map} of trial ids to cooldown time in seconds.
-     * @return A {@link Map} mapping trial ids to cooldown time in seconds.
+     * Get the {@link Map} of trial ids to cooldown expiry times in epoch milliseconds.
+     * @return A {@link Map} mapping trial ids to cooldown expiry times in epoch milliseconds.
      */
     public @NotNull Map<String, Long> getCooldownsMap() {
         return cooldowns;
@@ -40,4 +44,20 @@ public class PlayerData {
     public @NotNull Map<String, Long> getGracePeriodsMap() {
         return gracePeriods;
     }
+
+    /**
+     * Checks if the player's stored cooldowns have been loaded from the database into this data.
+     * @return true if loaded, otherwise false.
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Sets whether the player's stored cooldowns have been loaded from the database into this data.
+     * @param loaded true if loaded, otherwise false.
+     */
+    public void setLoaded(boolean loaded) {
+        this.loaded = loaded;
+    }
 }
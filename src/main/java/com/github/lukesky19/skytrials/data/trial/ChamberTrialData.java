@@ -18,7 +18,6 @@
 package com.github.lukesky19.skytrials.data.trial;
 
 import com.github.lukesky19.skylib.libs.configurate.objectmapping.ConfigSerializable;
-import com.github.lukesky19.skytrials.data.config.block.TrialSpawnerConfig;
 import com.github.lukesky19.skytrials.data.config.block.VaultConfig;
 import com.github.lukesky19.skytrials.trial.impl.ChamberTrial;
 import com.sk89q.worldguard.protection.regions.ProtectedRegion;
@@ -26,6 +25,7 @@ import net.kyori.adventure.bossbar.BossBar;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 
@@ -37,12 +37,15 @@ import java.util.List;
  * @param gracePeriodSeconds The trial's grace period in seconds to apply to players that log out within a trial. -1 to disable.
  * @param trialWorld The trial's {@link World}.
  * @param trialRegion The trial's {@link ProtectedRegion}.
+ * @param instanceData The {@link InstanceData} for creating instances of the trial.
+ * @param queueData The {@link QueueData} for the trial's matchmaking queue or null if players join and ready up manually.
+ * @param restoreData The {@link RestoreData} for restoring the trial's arena after each run or null if the arena is not restored.
  * @param joinLocation The trial's join or lobby {@link Location}.
  * @param startLocation The trial's start {@link Location}.
  * @param endLocation The trial's end {@link Location}. This is where the player is teleported when a trial ends.
  * @param lobbyBossBar THe {@link LobbyBossBarData} for the boss bar to show while players are in the lobby.
  * @param trialBossBar The {@link TrialBossBarData} for the boss bar to show while the trial is active.
- * @param trialSpawnerConfigList A {@link List} of {@link TrialSpawnerConfig}s for the trial.
+ * @param trialSpawnerTemplateList A {@link List} of {@link TrialSpawnerTemplate}s for the trial.
  * @param vaultConfigList A {@link List} of {@link VaultConfig}s for the trial.
  */
 public record ChamberTrialData(
@@ -52,12 +55,15 @@ public record ChamberTrialData(
         int gracePeriodSeconds,
         @NotNull World trialWorld,
         @NotNull ProtectedRegion trialRegion,
+        @NotNull InstanceData instanceData,
+        @Nullable QueueData queueData,
+        @Nullable RestoreData restoreData,
         @NotNull Location joinLocation,
         @NotNull Location startLocation,
         @NotNull Location endLocation,
         @NotNull LobbyBossBarData lobbyBossBar,
         @NotNull TrialBossBarData trialBossBar,
-        @NotNull List<TrialSpawnerConfig> trialSpawnerConfigList,
+        @NotNull List<TrialSpawnerTemplate> trialSpawnerTemplateList,
         @NotNull List<VaultConfig> vaultConfigList) {
     /**
      * The data for the boss bar shown to the player during the trial.
@@ -0,0 +1,62 @@
+/*
+    SkyTrials is a plugin that offers different challenges or trials to tackle. Inspired by the Minecraft Trial Chambers and mob arenas.
+    Copyright (C) 2024 lukeskywlker19
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.github.lukesky19.skytrials.data.trial;
+
+import com.github.lukesky19.skytrials.data.config.entity.EntityConfig;
+import org.bukkit.attribute.Attribute;
+import org.bukkit.entity.EntityType;
+import org.bukkit.inventory.EquipmentSlot;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.loot.LootTable;
+import org.bukkit.potion.PotionEffect;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This record contains an {@link EntityConfig} that has been resolved and validated once so that spawning only needs to apply it.
+ * The equipment {@link ItemStack}s are prototypes and must be cloned before being given to an entity.
+ * @param entityType The {@link EntityType} to spawn.
+ * @param equipment A {@link Map} mapping {@link EquipmentSlot}s to the prototype {@link ItemStack} for that slot.
+ * @param dropChances A {@link Map} mapping {@link EquipmentSlot}s to the drop chance (0 to 1) for that slot.
+ * @param effects A {@link List} of {@link PotionEffect}s to apply.
+ * @param attributes A {@link List} of {@link AttributeData} to apply.
+ * @param lootTable The {@link LootTable} to apply. May be null.
+ * @param options The {@link EntityConfig.Options} to apply.
+ */
+public record EntityTemplate(
+        @NotNull EntityType entityType,
+        @NotNull Map<EquipmentSlot, ItemStack> equipment,
+        @NotNull Map<EquipmentSlot, Float> dropChances,
+        @NotNull List<PotionEffect> effects,
+        @NotNull List<AttributeData> attributes,
+        @Nullable LootTable lootTable,
+        @NotNull EntityConfig.Options options) {
+    /**
+     * This record contains a resolved {@link Attribute} and the values to apply to it.
+     * @param attribute The {@link Attribute}.
+     * @param baseValue The base value of the attribute.
+     * @param additionalValuePerPlayer The additional value to add per player.
+     */
+    public record AttributeData(
+            @NotNull Attribute attribute,
+            double baseValue,
+            double additionalValuePerPlayer) {}
+}
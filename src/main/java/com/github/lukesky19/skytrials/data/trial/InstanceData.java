@@ -0,0 +1,30 @@
+/*
+    SkyTrials is a plugin that offers different challenges or trials to tackle. Inspired by the Minecraft Trial Chambers and mob arenas.
+    Copyright (C) 2024 lukeskywlker19
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.github.lukesky19.skytrials.data.trial;
+
+import com.sk89q.worldedit.math.BlockVector3;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * This record contains the data used to create the instances of a trial.
+ * @param maxInstances The maximum number of instances that can run at once. Always at least 1.
+ * @param offset The {@link BlockVector3} offset between each instance's arena.
+ */
+public record InstanceData(
+        int maxInstances,
+        @NotNull BlockVector3 offset) {}
@@ -18,9 +18,10 @@
 package com.github.lukesky19.skytrials.data.trial;
 
 import com.github.lukesky19.skylib.libs.configurate.objectmapping.ConfigSerializable;
-import com.github.lukesky19.skytrials.data.config.entity.EntityConfig;
 import com.github.lukesky19.skytrials.data.config.trial.LevelTrialConfig;
 import com.github.lukesky19.skytrials.trial.impl.LevelTrial;
+import com.github.lukesky19.skytrials.util.AliasTable;
+import com.github.lukesky19.skytrials.util.MobSpawnMode;
 import com.sk89q.worldguard.protection.regions.ProtectedRegion;
 import net.kyori.adventure.bossbar.BossBar;
 import org.bukkit.Location;
@@ -28,6 +29,7 @@ import org.bukkit.World;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.potion.PotionEffect;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 
@@ -39,6 +41,10 @@ import java.util.List;
  * @param gracePeriodSeconds The trial's grace period in seconds to apply to players that log out within a trial. -1 to disable.
  * @param trialWorld The trial's {@link World}.
  * @param trialRegion The trial's {@link ProtectedRegion}.
+ * @param instanceData The {@link InstanceData} for creating instances of the trial.
+ * @param queueData The {@link QueueData} for the trial's matchmaking queue or null if players join and ready up manually.
+ * @param restoreData The {@link RestoreData} for restoring the trial's arena after each run or null if the arena is not restored.
+ * @param spawnSeed The seed used to pick the mobs and spawn locations or null to use a new seed for each run.
  * @param joinLocation The trial's join or lobby {@link Location}.
  * @param endLocation The trial's end {@link Location}. This is where the player is teleported when a trial ends.
  * @param lobbyBossBar The {@link BossBarData} for the boss bar when in a trial's lobby.
@@ -58,6 +64,10 @@ public record LevelTrialData(
         int gracePeriodSeconds,
         @NotNull World trialWorld,
         @NotNull ProtectedRegion trialRegion,
+        @NotNull InstanceData instanceData,
+        @Nullable QueueData queueData,
+        @Nullable RestoreData restoreData,
+        @Nullable Long spawnSeed,
         @NotNull Location joinLocation,
         @NotNull Location endLocation,
         @NotNull BossBarData lobbyBossBar,
@@ -81,11 +91,14 @@ public record LevelTrialData(
      * @param spawnCount The base spawn count. -1 to disable.
      * @param additionalSpawnCountPerPlayer The additional spawn count per player. -1 to disable.
      * @param mobSpawnStartDelay The initial mob spawn start delay in seconds. -1 to disable.
-     * @param mobSpawnFrequencySeconds How frequent to spawn mobs in seconds. -1 to disable.
+     * @param mobSpawnFrequencySeconds How frequent to spawn mobs in seconds. -1 to disable. Only used by {@link MobSpawnMode#TIMER}.
+     * @param mobSpawnMode The {@link MobSpawnMode} for the level.
+     * @param minRefillIntervalTicks The minimum number of ticks between refills. Only used by {@link MobSpawnMode#REFILL}. -1 to disable.
      * @param playerEffects A {@link List} of {@link PotionEffect}s to apply to the player.
      * @param rewardItemStacks A {@link List} {@link ItemStack}s to reward.
      * @param rewardCommands A {@link List} of commands as a {@link String} to execute on trial end.
      * @param mobSpawnList A {@link List} of {@link MobSpawn} for the level.
+     * @param mobSpawnTable The {@link AliasTable} used to pick a {@link MobSpawn} from the mob spawn list by weight or null if the list is empty.
      */
     @ConfigSerializable
     public record LevelData(
@@ -101,10 +114,13 @@ public record LevelTrialData(
             int additionalSpawnCountPerPlayer,
             long mobSpawnStartDelay,
             long mobSpawnFrequencySeconds,
+            @NotNull MobSpawnMode mobSpawnMode,
+            long minRefillIntervalTicks,
             @NotNull List<PotionEffect> playerEffects,
             @NotNull List<ItemStack> rewardItemStacks,
             @NotNull List<String> rewardCommands,
-            @NotNull List<MobSpawn> mobSpawnList) {}
+            @NotNull List<MobSpawn> mobSpawnList,
+            @Nullable AliasTable mobSpawnTable) {}
     /**
      * The data for the boss bar shown to the player.
      * @param bossBarText The boss bar text to show when in the trial.
@@ -117,12 +133,14 @@ public record LevelTrialData(
             @NotNull BossBar.Color color,
             @NotNull BossBar.Overlay overlay) {}
     /**
-     * The {@link EntityConfig} for the mob and the {@link List} of {@link Location} that it can spawn at.
-     * @param entityConfig The {@link EntityConfig} for the mob.
-     * @param spawnLocations The {@link List} of {@link Location}s that it can spawn at.
+     * The {@link EntityTemplate} for the mob and the {@link List} of {@link Location} that it can spawn at.
+     * @param entityTemplate The {@link EntityTemplate} for the mob.
+     * @param spawnLocations The {@link List} of {@link Location}s that it can spawn at. Never empty.
+     * @param spawnLocationTable The {@link AliasTable} used to pick a spawn location by weight.
      */
     @ConfigSerializable
     public record MobSpawn(
-            @NotNull EntityConfig entityConfig,
-            @NotNull List<Location> spawnLocations) {}
+            @NotNull EntityTemplate entityTemplate,
+            @NotNull List<Location> spawnLocations,
+            @NotNull AliasTable spawnLocationTable) {}
 }
@@ -0,0 +1,54 @@
+/*
+    SkyTrials is a plugin that offers different challenges or trials to tackle. Inspired by the Minecraft Trial Chambers and mob arenas.
+    Copyright (C) 2024 lukeskywlker19
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.github.lukesky19.skytrials.data.trial;
+
+import com.github.lukesky19.skytrials.data.config.block.TrialSpawnerConfig;
+import com.github.lukesky19.skytrials.data.config.misc.LocationConfig;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * This record contains a {@link TrialSpawnerConfig} whose spawn potentials have been compiled once when the trial data loads,
+ * so placing the trial spawner only needs to create the entity snapshots.
+ * @param location The {@link LocationConfig} for where the trial spawner should be placed.
+ * @param normal The {@link SpawnerTemplate} for the normal spawner config.
+ * @param ominous The {@link SpawnerTemplate} for the ominous spawner config.
+ */
+public record TrialSpawnerTemplate(
+        @NotNull LocationConfig location,
+        @NotNull SpawnerTemplate normal,
+        @NotNull SpawnerTemplate ominous) {
+    /**
+     * The compiled configuration for the trial spawner.
+     * @param config The {@link TrialSpawnerConfig.SpawnerConfig} with the spawner's settings.
+     * @param spawnPotentials A {@link List} of valid {@link SpawnPotential}s.
+     */
+    public record SpawnerTemplate(
+            @NotNull TrialSpawnerConfig.SpawnerConfig config,
+            @NotNull List<SpawnPotential> spawnPotentials) {}
+
+    /**
+     * An entity the trial spawner may spawn.
+     * @param entityTemplate The {@link EntityTemplate} for the entity.
+     * @param weight The weight. Determines the chance this entity can spawn.
+     */
+    public record SpawnPotential(
+            @NotNull EntityTemplate entityTemplate,
+            int weight) {}
+}
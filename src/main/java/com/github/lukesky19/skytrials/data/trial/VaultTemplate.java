@@ -0,0 +1,40 @@
+/*
+    SkyTrials is a plugin that offers different challenges or trials to tackle. Inspired by the Minecraft Trial Chambers and mob arenas.
+    Copyright (C) 2024 lukeskywlker19
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.github.lukesky19.skytrials.data.trial;
+
+import com.github.lukesky19.skytrials.data.config.block.VaultConfig;
+import org.bukkit.block.data.type.Vault;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.loot.LootTable;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * This record contains a {@link VaultConfig} that has been resolved and validated once so that placing the vault only needs to apply it.
+ * @param blockData The {@link Vault} block data to place.
+ * @param lootTable The {@link LootTable} for the loot dropped by the vault. May be null.
+ * @param keyItem The {@link ItemStack} that unlocks the vault. May be null.
+ * @param activationRange The activation range for the vault. May be null.
+ * @param deactivationRange The deactivation range for the vault. May be null.
+ */
+public record VaultTemplate(
+        @NotNull Vault blockData,
+        @Nullable LootTable lootTable,
+        @Nullable ItemStack keyItem,
+        @Nullable Double activationRange,
+        @Nullable Double deactivationRange) {}
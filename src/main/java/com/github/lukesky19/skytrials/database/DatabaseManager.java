@@ -2,6 +2,7 @@ package com.github.lukesky19.skytrials.database;
 
 import com.github.lukesky19.skylib.api.database.AbstractDatabaseManager;
 import com.github.lukesky19.skytrials.database.table.PlayerCooldownsTable;
+import com.github.lukesky19.skytrials.manager.metrics.MetricsManager;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -14,11 +15,12 @@ public class DatabaseManager extends AbstractDatabaseManager {
      * Constructor
      * @param connectionManager Α {@link ConnectionManager} instance.
      * @param queueManager A {@link QueueManager} instance.
+     * @param metricsManager A {@link MetricsManager} instance.
      */
-    public DatabaseManager(@NotNull ConnectionManager connectionManager, @NotNull QueueManager queueManager) {
+    public DatabaseManager(@NotNull ConnectionManager connectionManager, @NotNull QueueManager queueManager, @NotNull MetricsManager metricsManager) {
         super(connectionManager, queueManager);
 
-        playerCooldownsTable = new PlayerCooldownsTable(queueManager);
+        playerCooldownsTable = new PlayerCooldownsTable(queueManager, metricsManager);
         playerCooldownsTable.createTable();
     }
 
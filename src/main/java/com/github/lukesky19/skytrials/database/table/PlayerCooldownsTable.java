@@ -22,6 +22,7 @@ import com.github.lukesky19.skylib.api.database.parameter.impl.LongParameter;
 import com.github.lukesky19.skylib.api.database.parameter.impl.StringParameter;
 import com.github.lukesky19.skylib.api.database.parameter.impl.UUIDParameter;
 import com.github.lukesky19.skytrials.database.QueueManager;
+import com.github.lukesky19.skytrials.manager.metrics.MetricsManager;
 import org.jetbrains.annotations.NotNull;
 
 import java.sql.SQLException;
@@ -30,15 +31,20 @@ import java.util.concurrent.CompletableFuture;
 
 /**
  * This class is used to create and interface with the cooldowns table in the database.
+ * The cooldown column stores the time the cooldown expires in epoch milliseconds.
  */
 public class PlayerCooldownsTable {
+    // Older versions stored the remaining seconds instead of an expiry time. Any value below this is treated as remaining seconds.
+    private static final long LEGACY_COOLDOWN_THRESHOLD = 1_000_000_000_000L;
+
     private final @NotNull QueueManager queueManager;
+    private final @NotNull MetricsManager metricsManager;
     private final @NotNull String tableName = "skytrials_cooldowns";
 
     /**
      * Default Constructor.
-     * You should use {@link #PlayerCooldownsTable(QueueManager)} instead.
-     * @deprecated You should use {@link #PlayerCooldownsTable(QueueManager)} instead.
+     * You should use {@link #PlayerCooldownsTable(QueueManager, MetricsManager)} instead.
+     * @deprecated You should use {@link #PlayerCooldownsTable(QueueManager, MetricsManager)} instead.
      */
     @Deprecated
     public PlayerCooldownsTable() {
@@ -48,9 +54,11 @@ public class PlayerCooldownsTable {
     /**
      * Constructor
      * @param queueManager A {@link QueueManager} instance.
+     * @param metricsManager A {@link MetricsManager} instance.
      */
-    public PlayerCooldownsTable(@NotNull QueueManager queueManager) {
+    public PlayerCooldownsTable(@NotNull QueueManager queueManager, @NotNull MetricsManager metricsManager) {
         this.queueManager = queueManager;
+        this.metricsManager = metricsManager;
     }
 
     /**
@@ -64,67 +72,72 @@ public class PlayerCooldownsTable {
                 "cooldown LONG NOT NULL DEFAULT 0, " +
                 "last_updated LONG NOT NULL DEFAULT 0, " +
                 "UNIQUE (trial_id, player_id))";
-        String mineIdsIndexSql = "CREATE INDEX IF NOT EXISTS idx_" + tableName + "_trial_ids ON " + tableName + "(mine_id)";
+        String trialIdsIndexSql = "CREATE INDEX IF NOT EXISTS idx_" + tableName + "_trial_ids ON " + tableName + "(trial_id)";
         String playerIdsIndexSql = "CREATE INDEX IF NOT EXISTS idx_" + tableName + "_player_ids ON " + tableName + "(player_id)";
+        // Convert cooldowns stored as remaining seconds into expiry times
+        String migrateCooldownsSql = "UPDATE " + tableName + " SET cooldown = last_updated + (cooldown * 1000) WHERE cooldown < " + LEGACY_COOLDOWN_THRESHOLD;
 
-        queueManager.queueBulkWriteTransaction(List.of(tableCreationSql, mineIdsIndexSql, playerIdsIndexSql)).thenAccept(result -> {});
+        recordLatency(queueManager.queueBulkWriteTransaction(List.of(tableCreationSql, trialIdsIndexSql, playerIdsIndexSql, migrateCooldownsSql))).thenAccept(result -> {});
     }
 
     /**
-     * Get a {@link CompletableFuture} containing a {@link Map} mapping player {@link UUID}s to a {@link Map} mapping trials ids to cooldowns as a {@link Long}.
-     * @return A {@link CompletableFuture} containing a {@link Map} mapping player {@link UUID}s to a {@link Map} mapping trials ids to cooldowns as a {@link Long}.
+     * Get a {@link CompletableFuture} containing a {@link Map} mapping trial ids to cooldown expiry times in epoch milliseconds for a single player.
+     * @param playerId The {@link UUID} of the player.
+     * @return A {@link CompletableFuture} containing a {@link Map} mapping trial ids to cooldown expiry times in epoch milliseconds.
      */
-    public @NotNull CompletableFuture<@NotNull Map<UUID, Map<String, Long>>> loadPlayerCooldowns() {
-        String selectSql = "SELECT trial_id, player_id, cooldown FROM " + tableName;
+    public @NotNull CompletableFuture<@NotNull Map<String, Long>> loadPlayerCooldowns(@NotNull UUID playerId) {
+        String selectSql = "SELECT trial_id, cooldown, last_updated FROM " + tableName + " WHERE player_id = ?";
 
-        return queueManager.queueReadTransaction(selectSql, resultSet -> {
-            Map<UUID, Map<String, Long>> cooldownsMap = new HashMap<>();
+        return recordLatency(queueManager.queueReadTransaction(selectSql, List.of(new UUIDParameter(playerId)), resultSet -> {
+            Map<String, Long> playerCooldowns = new HashMap<>();
 
             try {
                 while(resultSet.next()) {
-                    UUID playerId = UUID.fromString(resultSet.getString("player_id"));
                     String trialId = resultSet.getString("trial_id");
                     long cooldownTime = resultSet.getLong("cooldown");
+                    // Handle rows that haven't been migrated yet
+                    if(cooldownTime < LEGACY_COOLDOWN_THRESHOLD) {
+                        cooldownTime = resultSet.getLong("last_updated") + (cooldownTime * 1000L);
+                    }
 
-                    Map<String, Long> playerCooldowns = cooldownsMap.getOrDefault(playerId, new HashMap<>());
                     playerCooldowns.put(trialId, cooldownTime);
-
-                    cooldownsMap.put(playerId, playerCooldowns);
                 }
             } catch (SQLException e) {
                 throw new RuntimeException(e);
             }
 
-            return cooldownsMap;
-        });
+            return playerCooldowns;
+        }));
     }
 
     /**
-     * Saves all cooldowns for the player to the database.
-     * @param playerId The {@link UUID} of the player.
-     * @param data A {@link Map} mapping trial ids to cooldown times as a {@link Long}.
+     * Saves the cooldowns for multiple players to the database in a single transaction.
+     * @param data A {@link Map} mapping player {@link UUID}s to a {@link Map} mapping trial ids to cooldown expiry times in epoch milliseconds.
      * @return A {@link CompletableFuture} containing a {@link List} of {@link Boolean} with the results.
      * The list will contain false if an operation failed.
      */
-    public @NotNull CompletableFuture<List<Boolean>> saveCooldowns(@NotNull UUID playerId, @NotNull Map<String, Long> data) {
+    public @NotNull CompletableFuture<List<Boolean>> saveCooldowns(@NotNull Map<UUID, Map<String, Long>> data) {
         List<List<Parameter<?>>> listOfParameterLists = new ArrayList<>();
         String insertOrUpdateSql = "INSERT INTO " + tableName + " (trial_id, player_id, cooldown, last_updated) " +
                 "VALUES (?, ?, ?, ?) " +
                 "ON CONFLICT (trial_id, player_id) DO UPDATE SET " +
                 "cooldown = ?, last_updated = ? WHERE last_updated < ?";
 
-        data.forEach((trialId, time) -> {
-            StringParameter mineIdParameter = new StringParameter(trialId);
+        LongParameter lastUpdatedParameter = new LongParameter(System.currentTimeMillis());
+        data.forEach((playerId, cooldowns) -> {
             UUIDParameter playerIdParameter = new UUIDParameter(playerId);
-            LongParameter cooldownTimeParameter = new LongParameter(time);
-            LongParameter lastUpdatedParameter = new LongParameter(System.currentTimeMillis());
 
-            List<Parameter<?>> parameterList = List.of(mineIdParameter, playerIdParameter, cooldownTimeParameter, lastUpdatedParameter, cooldownTimeParameter, lastUpdatedParameter, lastUpdatedParameter);
+            cooldowns.forEach((trialId, time) -> {
+                StringParameter trialIdParameter = new StringParameter(trialId);
+                LongParameter cooldownTimeParameter = new LongParameter(time);
 
-            listOfParameterLists.add(parameterList);
+                List<Parameter<?>> parameterList = List.of(trialIdParameter, playerIdParameter, cooldownTimeParameter, lastUpdatedParameter, cooldownTimeParameter, lastUpdatedParameter, lastUpdatedParameter);
+
+                listOfParameterLists.add(parameterList);
+            });
         });
 
-        return queueManager.queueBulkWriteTransaction(insertOrUpdateSql, listOfParameterLists).thenApply(list -> {
+        return recordLatency(queueManager.queueBulkWriteTransaction(insertOrUpdateSql, listOfParameterLists)).thenApply(list -> {
                     List<Boolean> results = new ArrayList<>();
 
                     list.forEach(rowsUpdated -> {
@@ -151,6 +164,66 @@ public class PlayerCooldownsTable {
         StringParameter trialIdParameter = new StringParameter(trialId);
         UUIDParameter playerIdParameter = new UUIDParameter(playerId);
 
-        queueManager.queueWriteTransaction(deleteSql, List.of(trialIdParameter, playerIdParameter));
+        recordLatency(queueManager.queueWriteTransaction(deleteSql, List.of(trialIdParameter, playerIdParameter)));
+    }
+
+    /**
+     * Removes multiple cooldowns stored in the database in a single transaction.
+     * @param data A {@link Map} mapping player {@link UUID}s to a {@link List} of trial ids to remove cooldowns for.
+     * @return A {@link CompletableFuture} that completes when the cooldowns are removed.
+     */
+    public @NotNull CompletableFuture<Void> removeCooldowns(@NotNull Map<UUID, List<String>> data) {
+        List<List<Parameter<?>>> listOfParameterLists = new ArrayList<>();
+        String deleteSql = "DELETE FROM " + tableName + " WHERE trial_id = ? AND player_id = ?";
+
+        data.forEach((playerId, trialIds) -> {
+            UUIDParameter playerIdParameter = new UUIDParameter(playerId);
+
+            trialIds.forEach(trialId -> listOfParameterLists.add(List.of(new StringParameter(trialId), playerIdParameter)));
+        });
+
+        return recordLatency(queueManager.queueBulkWriteTransaction(deleteSql, listOfParameterLists)).thenAccept(result -> {});
+    }
+
+    /**
+     * Removes the cooldowns stored for a single player that expired at or before the time provided.
+     * Rows that still store the remaining seconds are left for the migration.
+     * @param playerId The {@link UUID} of the player.
+     * @param nowMillis The current time in epoch milliseconds.
+     * @return A {@link CompletableFuture} that completes when the cooldowns are removed.
+     */
+    public @NotNull CompletableFuture<Void> removeExpiredCooldowns(@NotNull UUID playerId, long nowMillis) {
+        String deleteSql = "DELETE FROM " + tableName + " WHERE player_id = ? AND cooldown >= ? AND cooldown <= ?";
+
+        List<Parameter<?>> parameterList = List.of(new UUIDParameter(playerId), new LongParameter(LEGACY_COOLDOWN_THRESHOLD), new LongParameter(nowMillis));
+
+        return recordLatency(queueManager.queueWriteTransaction(deleteSql, parameterList)).thenAccept(result -> {});
+    }
+
+    /**
+     * Removes the cooldowns stored for every player that expired at or before the time provided.
+     * Rows that still store the remaining seconds are left for the migration.
+     * @param nowMillis The current time in epoch milliseconds.
+     * @return A {@link CompletableFuture} that completes when the cooldowns are removed.
+     */
+    public @NotNull CompletableFuture<Void> removeExpiredCooldowns(long nowMillis) {
+        String deleteSql = "DELETE FROM " + tableName + " WHERE cooldown >= ? AND cooldown <= ?";
+
+        List<Parameter<?>> parameterList = List.of(new LongParameter(LEGACY_COOLDOWN_THRESHOLD), new LongParameter(nowMillis));
+
+        return recordLatency(queueManager.queueWriteTransaction(deleteSql, parameterList)).thenAccept(result -> {});
+    }
+
+    /**
+     * Records the time from a transaction being queued to it completing, whether it succeeded or not.
+     * This must be called right after the transaction is queued.
+     * @param future The {@link CompletableFuture} for the queued transaction.
+     * @return The same {@link CompletableFuture}.
+     * @param <T> The type of the result.
+     */
+    private <T> @NotNull CompletableFuture<T> recordLatency(@NotNull CompletableFuture<T> future) {
+        long startTime = System.nanoTime();
+        future.whenComplete((result, throwable) -> metricsManager.recordDatabaseLatency(System.nanoTime() - startTime));
+        return future;
     }
 }
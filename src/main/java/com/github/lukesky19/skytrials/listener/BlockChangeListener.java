@@ -0,0 +1,185 @@
+/*
+    SkyTrials is a plugin that offers different challenges or trials to tackle. Inspired by the Minecraft Trial Chambers and mob arenas.
+    Copyright (C) 2024 lukeskywlker19
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.github.lukesky19.skytrials.listener;
+
+import com.github.lukesky19.skytrials.manager.trial.TrialManager;
+import com.github.lukesky19.skytrials.trial.AbstractTrial;
+import com.github.lukesky19.skytrials.util.TrialOperation;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockState;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockExplodeEvent;
+import org.bukkit.event.block.BlockFromToEvent;
+import org.bukkit.event.block.BlockMultiPlaceEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
+import org.bukkit.event.player.PlayerBucketEmptyEvent;
+import org.bukkit.event.player.PlayerBucketFillEvent;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class listens to blocks being changed by players, explosions, and fluids, and passes the changes inside a trial to the trial.
+ * Changes are passed with the {@link BlockData} from before the change so trials can journal and later revert them.
+ * Every event is first checked against the trial region index, so changes outside trials only cost a chunk lookup.
+ */
+public class BlockChangeListener implements Listener {
+    private final @NotNull TrialManager trialManager;
+
+    /**
+     * Constructor
+     * @param trialManager A {@link TrialManager} instance.
+     */
+    public BlockChangeListener(@NotNull TrialManager trialManager) {
+        this.trialManager = trialManager;
+    }
+
+    /**
+     * Listens to a {@link BlockPlaceEvent} and passes the replaced blocks to the trial if placed inside a trial.
+     * @param blockPlaceEvent A {@link BlockPlaceEvent}.
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockPlace(BlockPlaceEvent blockPlaceEvent) {
+        if(blockPlaceEvent instanceof BlockMultiPlaceEvent blockMultiPlaceEvent) {
+            handleBlockStates(blockMultiPlaceEvent.getReplacedBlockStates());
+        } else {
+            handleBlockChange(blockPlaceEvent.getBlockPlaced(), blockPlaceEvent.getBlockReplacedState().getBlockData());
+        }
+    }
+
+    /**
+     * Listens to a {@link BlockBreakEvent} and passes the broken block to the trial if broken inside a trial.
+     * @param blockBreakEvent A {@link BlockBreakEvent}.
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBreak(BlockBreakEvent blockBreakEvent) {
+        Block block = blockBreakEvent.getBlock();
+        handleBlockChange(block, block.getBlockData());
+    }
+
+    /**
+     * Listens to a {@link BlockExplodeEvent} and passes the exploded blocks to the trials they are inside.
+     * @param blockExplodeEvent A {@link BlockExplodeEvent}.
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockExplode(BlockExplodeEvent blockExplodeEvent) {
+        BlockState explodedBlockState = blockExplodeEvent.getExplodedBlockState();
+        handleBlockChange(explodedBlockState.getBlock(), explodedBlockState.getBlockData());
+        handleBlocks(blockExplodeEvent.blockList());
+    }
+
+    /**
+     * Listens to an {@link EntityExplodeEvent} and passes the exploded blocks to the trials they are inside.
+     * @param entityExplodeEvent An {@link EntityExplodeEvent}.
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityExplode(EntityExplodeEvent entityExplodeEvent) {
+        handleBlocks(entityExplodeEvent.blockList());
+    }
+
+    /**
+     * Listens to a {@link BlockFromToEvent} and passes the block a fluid flows into to the trial if inside a trial.
+     * @param blockFromToEvent A {@link BlockFromToEvent}.
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockFromTo(BlockFromToEvent blockFromToEvent) {
+        Block block = blockFromToEvent.getToBlock();
+        handleBlockChange(block, block.getBlockData());
+    }
+
+    /**
+     * Listens to a {@link PlayerBucketEmptyEvent} and passes the block the fluid is placed in to the trial if inside a trial.
+     * @param playerBucketEmptyEvent A {@link PlayerBucketEmptyEvent}.
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerBucketEmpty(PlayerBucketEmptyEvent playerBucketEmptyEvent) {
+        Block block = playerBucketEmptyEvent.getBlock();
+        handleBlockChange(block, block.getBlockData());
+    }
+
+    /**
+     * Listens to a {@link PlayerBucketFillEvent} and passes the block the fluid is taken from to the trial if inside a trial.
+     * @param playerBucketFillEvent A {@link PlayerBucketFillEvent}.
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerBucketFill(PlayerBucketFillEvent playerBucketFillEvent) {
+        Block block = playerBucketFillEvent.getBlock();
+        handleBlockChange(block, block.getBlockData());
+    }
+
+    /**
+     * Passes a single block change to the trial the block is inside, if any.
+     * @param block The {@link Block} that changed.
+     * @param originalBlockData The {@link BlockData} of the block before the change.
+     */
+    private void handleBlockChange(@NotNull Block block, @NotNull BlockData originalBlockData) {
+        AbstractTrial trial = trialManager.getTrialByLocation(block.getLocation());
+        if(trial != null) {
+            Map<Block, BlockData> blockChanges = Map.of(block, originalBlockData);
+            trialManager.runTrialOperation(trial, TrialOperation.BLOCK_CHANGE, () -> trial.handleBlockChanges(blockChanges));
+        }
+    }
+
+    /**
+     * Passes blocks that are about to change to the trials they are inside, one operation per trial.
+     * @param blocks A {@link List} of {@link Block}s that haven't changed yet.
+     */
+    private void handleBlocks(@NotNull List<Block> blocks) {
+        Map<AbstractTrial, Map<Block, BlockData>> blockChangesByTrial = new HashMap<>();
+        for(Block block : blocks) {
+            AbstractTrial trial = trialManager.getTrialByLocation(block.getLocation());
+            if(trial != null) {
+                blockChangesByTrial.computeIfAbsent(trial, key -> new HashMap<>()).put(block, block.getBlockData());
+            }
+        }
+
+        runBlockChanges(blockChangesByTrial);
+    }
+
+    /**
+     * Passes the replaced blocks of a multi-block placement to the trials they are inside, one operation per trial.
+     * @param blockStates A {@link List} of {@link BlockState}s from before the blocks were replaced.
+     */
+    private void handleBlockStates(@NotNull List<BlockState> blockStates) {
+        Map<AbstractTrial, Map<Block, BlockData>> blockChangesByTrial = new HashMap<>();
+        for(BlockState blockState : blockStates) {
+            AbstractTrial trial = trialManager.getTrialByLocation(blockState.getLocation());
+            if(trial != null) {
+                blockChangesByTrial.computeIfAbsent(trial, key -> new HashMap<>()).put(blockState.getBlock(), blockState.getBlockData());
+            }
+        }
+
+        runBlockChanges(blockChangesByTrial);
+    }
+
+    /**
+     * Runs the block changes for each trial on the thread that owns the trial's region.
+     * @param blockChangesByTrial A {@link Map} of each {@link AbstractTrial} to its block changes.
+     */
+    private void runBlockChanges(@NotNull Map<AbstractTrial, Map<Block, BlockData>> blockChangesByTrial) {
+        blockChangesByTrial.forEach((trial, blockChanges) ->
+                trialManager.runTrialOperation(trial, TrialOperation.BLOCK_CHANGE, () -> trial.handleBlockChanges(blockChanges)));
+    }
+}
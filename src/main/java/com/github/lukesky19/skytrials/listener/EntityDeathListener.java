@@ -19,6 +19,7 @@ package com.github.lukesky19.skytrials.listener;
 
 import com.github.lukesky19.skytrials.trial.AbstractTrial;
 import com.github.lukesky19.skytrials.manager.trial.TrialManager;
+import com.github.lukesky19.skytrials.util.TrialOperation;
 import org.bukkit.entity.Entity;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
@@ -50,7 +51,7 @@ public class EntityDeathListener implements Listener {
 
         AbstractTrial trial = trialManager.getTrialByLocation(killedEntity.getLocation());
         if(trial != null) {
-            trial.handleEntityDeath(entityDeathEvent);
+            trialManager.runTrialOperation(trial, TrialOperation.ENTITY_DEATH, () -> trial.handleEntityDeath(entityDeathEvent));
         }
     }
 }
\ No newline at end of file
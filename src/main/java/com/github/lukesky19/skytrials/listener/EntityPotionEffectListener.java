@@ -19,6 +19,7 @@ package com.github.lukesky19.skytrials.listener;
 
 import com.github.lukesky19.skytrials.manager.trial.TrialManager;
 import com.github.lukesky19.skytrials.trial.AbstractTrial;
+import com.github.lukesky19.skytrials.util.TrialOperation;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
@@ -46,8 +47,13 @@ public class EntityPotionEffectListener implements Listener {
     @EventHandler(priority = EventPriority.NORMAL, ignoreCancelled = true)
     public void onEntityPotionEffect(EntityPotionEffectEvent entityPotionEffectEvent) {
         AbstractTrial trial = trialManager.getTrialByPlayerUUID(entityPotionEffectEvent.getEntity().getUniqueId());
-        if(trial != null)  {
-            trial.handleEntityPotionEffect(entityPotionEffectEvent);
+        if(trial == null) return;
+
+        // Checked on this thread, as the event must be cancelled before it finishes
+        long startTime = System.nanoTime();
+        if(trial.shouldCancelEntityPotionEffect(entityPotionEffectEvent)) {
+            entityPotionEffectEvent.setCancelled(true);
         }
+        trial.getTrialMetrics().recordTime(TrialOperation.ENTITY_POTION_EFFECT, System.nanoTime() - startTime);
     }
 }
\ No newline at end of file
@@ -19,6 +19,7 @@ package com.github.lukesky19.skytrials.listener;
 
 import com.github.lukesky19.skytrials.manager.trial.TrialManager;
 import com.github.lukesky19.skytrials.trial.AbstractTrial;
+import com.github.lukesky19.skytrials.util.TrialOperation;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
@@ -50,7 +51,7 @@ public class LoginListener implements Listener {
 
         AbstractTrial trial = trialManager.getTrialByLocation(player.getLocation());
         if(trial != null) {
-            trial.handlePlayerJoinEvent(playerJoinEvent);
+            trialManager.runTrialOperation(trial, TrialOperation.PLAYER_JOIN, () -> trial.handlePlayerJoinEvent(playerJoinEvent));
         }
     }
 }
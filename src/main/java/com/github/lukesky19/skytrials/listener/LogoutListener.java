@@ -19,6 +19,7 @@ package com.github.lukesky19.skytrials.listener;
 
 import com.github.lukesky19.skytrials.manager.trial.TrialManager;
 import com.github.lukesky19.skytrials.trial.AbstractTrial;
+import com.github.lukesky19.skytrials.util.TrialOperation;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
@@ -51,7 +52,7 @@ public class LogoutListener implements Listener {
 
         AbstractTrial trial = trialManager.getTrialByPlayerUUID(uuid);
         if(trial != null) {
-            trial.handlePlayerQuitEvent(playerQuitEvent);
+            trialManager.runTrialOperation(trial, TrialOperation.PLAYER_QUIT, () -> trial.handlePlayerQuitEvent(playerQuitEvent));
         }
     }
 }
@@ -0,0 +1,107 @@
+/*
+    SkyTrials is a plugin that offers different challenges or trials to tackle. Inspired by the Minecraft Trial Chambers and mob arenas.
+    Copyright (C) 2024 lukeskywlker19
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.github.lukesky19.skytrials.listener;
+
+import com.github.lukesky19.skylib.api.adventure.AdventureUtil;
+import com.github.lukesky19.skytrials.SkyTrials;
+import com.github.lukesky19.skytrials.data.player.PlayerData;
+import com.github.lukesky19.skytrials.manager.player.CooldownManager;
+import com.github.lukesky19.skytrials.manager.player.PlayerDataManager;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * This class listens for players connecting and disconnecting to load their data and mark it for eviction.
+ */
+public class PlayerDataListener implements Listener {
+    private final @NotNull SkyTrials skyTrials;
+    private final @NotNull PlayerDataManager playerDataManager;
+    private final @NotNull CooldownManager cooldownManager;
+
+    /**
+     * Constructor
+     * @param skyTrials A {@link SkyTrials} instance.
+     * @param playerDataManager A {@link PlayerDataManager} instance.
+     * @param cooldownManager A {@link CooldownManager} instance.
+     */
+    public PlayerDataListener(@NotNull SkyTrials skyTrials, @NotNull PlayerDataManager playerDataManager, @NotNull CooldownManager cooldownManager) {
+        this.skyTrials = skyTrials;
+        this.playerDataManager = playerDataManager;
+        this.cooldownManager = cooldownManager;
+    }
+
+    /**
+     * Loads the player's cooldowns while they log in. This runs off the main thread,
+     * so it waits a bounded amount of time for the data to be ready before the player joins.
+     * The data is marked as offline until the player joins, so it is still evicted if the login is denied later.
+     * @param asyncPlayerPreLoginEvent An {@link AsyncPlayerPreLoginEvent}.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPreLogin(AsyncPlayerPreLoginEvent asyncPlayerPreLoginEvent) {
+        if(asyncPlayerPreLoginEvent.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) return;
+
+        UUID uuid = asyncPlayerPreLoginEvent.getUniqueId();
+
+        // Players rejoining before their data was evicted don't need to be loaded again
+        PlayerData playerData = playerDataManager.getCachedPlayerData(uuid);
+        if(playerData != null && playerData.isLoaded()) return;
+
+        try {
+            cooldownManager.loadCooldowns(uuid).get(5, TimeUnit.SECONDS);
+        } catch (InterruptedException | ExecutionException | TimeoutException e) {
+            skyTrials.getComponentLogger().warn(AdventureUtil.serialize("Cooldowns for player " + uuid + " were not loaded before they joined. Error: " + e.getMessage()));
+        }
+
+        playerDataManager.markOffline(uuid);
+    }
+
+    /**
+     * Marks the player's data as online so it is not evicted.
+     * If the player's cooldowns are not cached, because the load during login timed out or the data was evicted before the player joined, they are loaded again.
+     * @param playerJoinEvent A {@link PlayerJoinEvent}.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent playerJoinEvent) {
+        UUID uuid = playerJoinEvent.getPlayer().getUniqueId();
+        playerDataManager.markOnline(uuid);
+
+        PlayerData playerData = playerDataManager.getCachedPlayerData(uuid);
+        if(playerData == null || !playerData.isLoaded()) {
+            cooldownManager.loadCooldowns(uuid);
+        }
+    }
+
+    /**
+     * Marks the player's data as offline so it can be evicted later.
+     * @param playerQuitEvent A {@link PlayerQuitEvent}.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent playerQuitEvent) {
+        playerDataManager.markOffline(playerQuitEvent.getPlayer().getUniqueId());
+    }
+}
@@ -19,6 +19,7 @@ package com.github.lukesky19.skytrials.listener;
 
 import com.github.lukesky19.skytrials.manager.trial.TrialManager;
 import com.github.lukesky19.skytrials.trial.AbstractTrial;
+import com.github.lukesky19.skytrials.util.TrialOperation;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
@@ -53,7 +54,13 @@ public class PlayerDeathListener implements Listener {
 
         AbstractTrial trial = trialManager.getTrialByPlayerUUID(uuid);
         if(trial != null) {
-            trial.handlePlayerDeath(playerDeathEvent);
+            // The event must be changed before it finishes, but the trial may handle it later on the thread that owns its region
+            playerDeathEvent.setKeepInventory(true);
+            playerDeathEvent.setKeepLevel(true);
+            playerDeathEvent.getDrops().clear();
+            playerDeathEvent.setCancelled(true);
+
+            trialManager.runTrialOperation(trial, TrialOperation.PLAYER_DEATH, () -> trial.handlePlayerDeath(playerDeathEvent));
         }
     }
 }
@@ -19,14 +19,16 @@ package com.github.lukesky19.skytrials.listener;
 
 import com.github.lukesky19.skytrials.manager.trial.TrialManager;
 import com.github.lukesky19.skytrials.trial.AbstractTrial;
+import com.github.lukesky19.skytrials.util.TrialOperation;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.SpawnerSpawnEvent;
+import org.bukkit.event.entity.TrialSpawnerSpawnEvent;
 import org.jetbrains.annotations.NotNull;
 
 /**
- * This class listens to when a spawner spawns an entity.
+ * This class listens to when a spawner or trial spawner spawns an entity.
  */
 public class SpawnerSpawnListener implements Listener {
     private final @NotNull TrialManager trialManager;
@@ -46,8 +48,30 @@ public class SpawnerSpawnListener implements Listener {
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
     public void onSpawnerSpawn(SpawnerSpawnEvent spawnerSpawnEvent) {
         AbstractTrial trial = trialManager.getTrialByLocation(spawnerSpawnEvent.getLocation());
-        if(trial != null) {
-            trial.handleEntitySpawn(spawnerSpawnEvent);
+        if(trial == null) return;
+
+        // The event must be cancelled before it finishes, but the trial may handle it later on the thread that owns its region
+        if(trial.shouldCancelEntitySpawn(spawnerSpawnEvent)) {
+            spawnerSpawnEvent.setCancelled(true);
+        } else {
+            trialManager.runTrialOperation(trial, TrialOperation.ENTITY_SPAWN, () -> trial.handleEntitySpawn(spawnerSpawnEvent));
+        }
+    }
+
+    /**
+     * Listens to a {@link TrialSpawnerSpawnEvent} and if it occurred inside a trial, pass the event to the trial as necessary.
+     * Trial spawners do not fire a {@link SpawnerSpawnEvent}, so chamber mobs are only seen through this event.
+     * @param trialSpawnerSpawnEvent A {@link TrialSpawnerSpawnEvent}.
+     */
+    @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
+    public void onTrialSpawnerSpawn(TrialSpawnerSpawnEvent trialSpawnerSpawnEvent) {
+        AbstractTrial trial = trialManager.getTrialByLocation(trialSpawnerSpawnEvent.getLocation());
+        if(trial == null) return;
+
+        if(trial.shouldCancelEntitySpawn(trialSpawnerSpawnEvent)) {
+            trialSpawnerSpawnEvent.setCancelled(true);
+        } else {
+            trialManager.runTrialOperation(trial, TrialOperation.ENTITY_SPAWN, () -> trial.handleEntitySpawn(trialSpawnerSpawnEvent));
         }
     }
 }
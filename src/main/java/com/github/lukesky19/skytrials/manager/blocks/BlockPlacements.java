@@ -0,0 +1,106 @@
+/*
+    SkyTrials is a plugin that offers different challenges or trials to tackle. Inspired by the Minecraft Trial Chambers and mob arenas.
+    Copyright (C) 2024 lukeskywlker19
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.github.lukesky19.skytrials.manager.blocks;
+
+import org.bukkit.Chunk;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * This class holds the block positions for a trial, resolved once when the trial is created, and the data to place at each position.
+ * Positions are sorted by world and chunk, so placing or removing the blocks looks up each chunk once.
+ * @param <T> The type of data to place at each position.
+ */
+public class BlockPlacements<T> {
+    private final @NotNull List<Placement<T>> placements;
+
+    /**
+     * Constructor
+     * @param placements A {@link List} of {@link Placement}s in any order.
+     */
+    public BlockPlacements(@NotNull List<Placement<T>> placements) {
+        List<Placement<T>> sortedPlacements = new ArrayList<>(placements);
+        sortedPlacements.sort(Comparator.comparing((Placement<T> placement) -> placement.world().getUID())
+                .thenComparingLong(placement -> Chunk.getChunkKey(placement.x() >> 4, placement.z() >> 4)));
+
+        this.placements = List.copyOf(sortedPlacements);
+    }
+
+    /**
+     * Get the number of positions.
+     * @return The number of positions.
+     */
+    public int size() {
+        return placements.size();
+    }
+
+    /**
+     * Runs an action for the {@link Block} at each position and the data to place there, one chunk at a time.
+     * @param action The action to run.
+     */
+    public void forEach(@NotNull BiConsumer<Block, T> action) {
+        World chunkWorld = null;
+        long chunkKey = 0;
+        Chunk chunk = null;
+
+        for(Placement<T> placement : placements) {
+            long placementChunkKey = Chunk.getChunkKey(placement.x() >> 4, placement.z() >> 4);
+            if(chunk == null || chunkWorld != placement.world() || chunkKey != placementChunkKey) {
+                chunkWorld = placement.world();
+                chunkKey = placementChunkKey;
+                chunk = chunkWorld.getChunkAt(placement.x() >> 4, placement.z() >> 4);
+            }
+
+            action.accept(chunk.getBlock(placement.x() & 15, placement.y(), placement.z() & 15), placement.data());
+        }
+    }
+
+    /**
+     * Sets every position to air without physics updates. Positions that are already air are skipped.
+     */
+    public void removeBlocks() {
+        forEach((block, data) -> {
+            if(!block.getType().isAir()) {
+                block.setType(Material.AIR, false);
+            }
+        });
+    }
+
+    /**
+     * A block position and the data to place there.
+     * @param world The {@link World} of the position.
+     * @param x The x coordinate.
+     * @param y The y coordinate.
+     * @param z The z coordinate.
+     * @param data The data to place at the position.
+     * @param <T> The type of data.
+     */
+    public record Placement<T>(
+            @NotNull World world,
+            int x,
+            int y,
+            int z,
+            @NotNull T data) {}
+}
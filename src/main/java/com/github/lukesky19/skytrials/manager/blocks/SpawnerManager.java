@@ -18,15 +18,13 @@
 package com.github.lukesky19.skytrials.manager.blocks;
 
 import com.github.lukesky19.skylib.api.adventure.AdventureUtil;
-import com.github.lukesky19.skylib.api.registry.RegistryUtil;
 import com.github.lukesky19.skytrials.SkyTrials;
 import com.github.lukesky19.skytrials.builder.EntityBuilder;
 import com.github.lukesky19.skytrials.data.config.block.TrialSpawnerConfig;
-import com.github.lukesky19.skytrials.data.config.entity.EntityConfig;
 import com.github.lukesky19.skytrials.data.config.misc.LocationConfig;
+import com.github.lukesky19.skytrials.data.trial.TrialSpawnerTemplate;
 import net.kyori.adventure.text.logger.slf4j.ComponentLogger;
 import org.bukkit.*;
-import org.bukkit.block.Block;
 import org.bukkit.block.BlockState;
 import org.bukkit.block.TrialSpawner;
 import org.bukkit.block.spawner.SpawnRule;
@@ -36,8 +34,8 @@ import org.bukkit.spawner.TrialSpawnerConfiguration;
 import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 /**
  * This class manages the placing and removal of trial spawners.
@@ -56,24 +54,27 @@ public class SpawnerManager {
     }
 
     /**
-     * Spawns the trial spawners for the {@link List} of {@link TrialSpawnerConfig} provided.
-     * @param trialSpawnerConfigList A {@link List} of {@link TrialSpawnerConfig}s.
-     * @param playerCount The number of players in the trial.
+     * Resolves the world and position of each trial spawner for the {@link List} of {@link TrialSpawnerTemplate} provided.
+     * Is used when a trial is created, so placing and removing the trial spawners doesn't resolve them on every run.
+     * @param trialSpawnerTemplateList A {@link List} of {@link TrialSpawnerTemplate}s.
+     * @return The {@link BlockPlacements} for the trial spawners. Trial spawners with an invalid location are skipped.
      */
-    public void placeTrialSpawners(@NotNull List<TrialSpawnerConfig> trialSpawnerConfigList, int playerCount) {
-        for(TrialSpawnerConfig trialSpawnerConfig : trialSpawnerConfigList) {
-            if(trialSpawnerConfig.location().world() == null) {
+    public @NotNull BlockPlacements<TrialSpawnerTemplate> createTrialSpawnerPlacements(@NotNull List<TrialSpawnerTemplate> trialSpawnerTemplateList) {
+        List<BlockPlacements.Placement<TrialSpawnerTemplate>> placements = new ArrayList<>();
+
+        for(TrialSpawnerTemplate trialSpawnerTemplate : trialSpawnerTemplateList) {
+            if(trialSpawnerTemplate.location().world() == null) {
                 logger.warn(AdventureUtil.serialize("The world name for a trial spawner config is invalid."));
                 continue;
             }
 
-            World spawnerWorld = skyTrials.getServer().getWorld(trialSpawnerConfig.location().world());
+            World spawnerWorld = skyTrials.getServer().getWorld(trialSpawnerTemplate.location().world());
             if(spawnerWorld == null) {
                 logger.warn(AdventureUtil.serialize("A world for a trial spawner config is invalid."));
                 continue;
             }
 
-            LocationConfig locationConfig = trialSpawnerConfig.location();
+            LocationConfig locationConfig = trialSpawnerTemplate.location();
             if(locationConfig.x() == null) {
                 logger.warn(AdventureUtil.serialize("The x coordinate for a trial spawner config is invalid."));
                 continue;
@@ -89,70 +90,56 @@ public class SpawnerManager {
                 continue;
             }
 
-            // Create the Location for the trial spawner
-            Location spawnerLocation = new Location(spawnerWorld, trialSpawnerConfig.location().x(), trialSpawnerConfig.location().y(), trialSpawnerConfig.location().z());
+            placements.add(new BlockPlacements.Placement<>(
+                    spawnerWorld,
+                    Location.locToBlock(locationConfig.x()),
+                    Location.locToBlock(locationConfig.y()),
+                    Location.locToBlock(locationConfig.z()),
+                    trialSpawnerTemplate));
+        }
+
+        return new BlockPlacements<>(placements);
+    }
+
+    /**
+     * Places the trial spawners for the {@link BlockPlacements} provided, one chunk at a time.
+     * Blocks are placed without physics updates, and blocks that are already trial spawners are only reconfigured.
+     * @param trialSpawnerPlacements The {@link BlockPlacements} for the trial spawners.
+     * @param playerCount The number of players in the trial.
+     */
+    public void placeTrialSpawners(@NotNull BlockPlacements<TrialSpawnerTemplate> trialSpawnerPlacements, int playerCount) {
+        trialSpawnerPlacements.forEach((block, trialSpawnerTemplate) -> {
+            // Set the Block to a trial spawner if it isn't one already
+            if(block.getType() != Material.TRIAL_SPAWNER) {
+                block.setType(Material.TRIAL_SPAWNER, false);
+            }
 
-            // Get the Block to place the trial spawner at.
-            Block block = spawnerWorld.getBlockAt(spawnerLocation);
-            // Set the Block to a trial spawner
-            block.setType(Material.TRIAL_SPAWNER);
             // Get the BlockState for the Block.
             BlockState state = block.getState(false);
 
             // Apply Trial Spawner settings
             if(state instanceof TrialSpawner trialSpawner) {
-                TrialSpawnerConfig.SpawnerConfig normalData = trialSpawnerConfig.normal();
+                World spawnerWorld = block.getWorld();
+                Location spawnerLocation = block.getLocation();
+
+                TrialSpawnerTemplate.SpawnerTemplate normalData = trialSpawnerTemplate.normal();
                 applyTrialSpawnerConfigurationSettings(spawnerWorld, spawnerLocation, trialSpawner.getNormalConfiguration(), normalData, playerCount);
 
-                TrialSpawnerConfig.SpawnerConfig ominousData = trialSpawnerConfig.ominous();
+                TrialSpawnerTemplate.SpawnerTemplate ominousData = trialSpawnerTemplate.ominous();
                 applyTrialSpawnerConfigurationSettings(spawnerWorld, spawnerLocation, trialSpawner.getOminousConfiguration(), ominousData, playerCount);
 
-                // Update block state
-                state.update();
+                // Update block state once without physics updates
+                state.update(true, false);
             }
-        }
+        });
     }
 
     /**
-     * Removes the trial spawners that were placed for the {@link List} of {@link TrialSpawnerConfig} provided.
-     * @param trialSpawnerConfigList A {@link List} of {@link TrialSpawnerConfig}s.
+     * Removes the trial spawners that were placed for the {@link BlockPlacements} provided.
+     * @param trialSpawnerPlacements The {@link BlockPlacements} for the trial spawners.
      */
-    public void removeTrialSpawners(@NotNull List<TrialSpawnerConfig> trialSpawnerConfigList) {
-        for(TrialSpawnerConfig trialSpawnerConfig : trialSpawnerConfigList) {
-            if(trialSpawnerConfig.location().world() == null) {
-                logger.warn(AdventureUtil.serialize("The world name for a trial spawner config is invalid."));
-                continue;
-            }
-
-            World spawnerWorld = skyTrials.getServer().getWorld(trialSpawnerConfig.location().world());
-            if(spawnerWorld == null) {
-                logger.warn(AdventureUtil.serialize("A world for a trial spawner config is invalid."));
-                continue;
-            }
-
-            LocationConfig locationConfig = trialSpawnerConfig.location();
-            if(locationConfig.x() == null) {
-                logger.warn(AdventureUtil.serialize("The x coordinate for a trial spawner config is invalid."));
-                continue;
-            }
-
-            if(locationConfig.y() == null) {
-                logger.warn(AdventureUtil.serialize("The y coordinate for a trial spawner config is invalid."));
-                continue;
-            }
-
-            if(locationConfig.z() == null) {
-                logger.warn(AdventureUtil.serialize("The z coordinate for a trial spawner config is invalid."));
-                continue;
-            }
-
-            // Create the Location for the trial spawner
-            Location spawnerLocation = new Location(spawnerWorld, trialSpawnerConfig.location().x(), trialSpawnerConfig.location().y(), trialSpawnerConfig.location().z());
-
-            // Set the block to air
-            Block block = spawnerWorld.getBlockAt(spawnerLocation);
-            block.setType(Material.AIR);
-        }
+    public void removeTrialSpawners(@NotNull BlockPlacements<TrialSpawnerTemplate> trialSpawnerPlacements) {
+        trialSpawnerPlacements.removeBlocks();
     }
 
     /**
@@ -160,15 +147,16 @@ public class SpawnerManager {
      * @param spawnerWorld The {@link World} the spawner will be placed in.
      * @param spawnerLocation The {@link Location} the spawner will be placed at.
      * @param configuration The {@link TrialSpawnerConfiguration} to apply configuration to.
-     * @param spawnerConfig The {@link TrialSpawnerConfig.SpawnerConfig} to apply to the {@link TrialSpawnerConfiguration}.
+     * @param spawnerTemplate The {@link TrialSpawnerTemplate.SpawnerTemplate} to apply to the {@link TrialSpawnerConfiguration}.
      * @param playerCount The number of players in the trial.
      */
     private void applyTrialSpawnerConfigurationSettings(
             @NotNull World spawnerWorld,
             @NotNull Location spawnerLocation,
             @NotNull TrialSpawnerConfiguration configuration,
-            @NotNull TrialSpawnerConfig.SpawnerConfig spawnerConfig,
+            @NotNull TrialSpawnerTemplate.SpawnerTemplate spawnerTemplate,
             int playerCount) {
+        TrialSpawnerConfig.SpawnerConfig spawnerConfig = spawnerTemplate.config();
         if(spawnerConfig.simultaneousMobs() != null) {
             configuration.setBaseSimultaneousEntities(spawnerConfig.simultaneousMobs());
         }
@@ -193,45 +181,28 @@ public class SpawnerManager {
             configuration.setAdditionalSpawnsBeforeCooldown(spawnerConfig.additionalSpawnsBeforeCooldown());
         }
 
-        for(TrialSpawnerConfig.SpawnPotential spawnPotential : spawnerConfig.spawnPotentials()) {
+        // Replace the potential spawns, as a trial spawner kept from the last run still has the last run's spawns
+        List<SpawnerEntry> spawnerEntries = new ArrayList<>();
+        for(TrialSpawnerTemplate.SpawnPotential spawnPotential : spawnerTemplate.spawnPotentials()) {
             SpawnerEntry spawnerEntry = createSpawnerEntry(spawnerWorld, spawnerLocation, spawnPotential, playerCount);
             if(spawnerEntry != null) {
-                configuration.addPotentialSpawn(spawnerEntry);
+                spawnerEntries.add(spawnerEntry);
             }
         }
+
+        configuration.setPotentialSpawns(spawnerEntries);
     }
 
     /**
      * Attempt to create a {@link SpawnerEntry} for a trial spawner.
      * @param world The {@link World} the spawner will be placed in.
      * @param location The {@link Location} the spawner will be placed at.
-     * @param spawnPotential The {@link TrialSpawnerConfig.SpawnPotential} config.
+     * @param spawnPotential The {@link TrialSpawnerTemplate.SpawnPotential} compiled when the trial data loaded.
      * @param playerCount The number of players in the trial.
      * @return The created {@link SpawnerEntry} or null if creation failed.
      */
-    private @Nullable SpawnerEntry createSpawnerEntry(@NotNull World world, @NotNull Location location, @NotNull TrialSpawnerConfig.SpawnPotential spawnPotential, int playerCount) {
-        EntityConfig entityConfig = spawnPotential.entityConfig();
-
-        if(entityConfig.entityType() == null) {
-            logger.warn(AdventureUtil.serialize("Unable to create SpawnerEntry due to an invalid EntityType name."));
-            return null;
-        }
-
-        if(spawnPotential.weight() == null) {
-            logger.warn(AdventureUtil.serialize("Unable to create SpawnerEntry due to an invalid weight for entity Type: " + entityConfig.entityType()));
-            return null;
-        }
-
-        Optional<EntityType> optionalEntityType = RegistryUtil.getEntityType(logger, entityConfig.entityType());
-        if(optionalEntityType.isEmpty()) {
-            logger.warn(AdventureUtil.serialize("Unable to create SpawnerEntry due to an invalid EntityType for key " + entityConfig.entityType()));
-            return null;
-        }
-
-        EntitySnapshot entitySnapshot = new EntityBuilder(
-                    logger, optionalEntityType.get(), world, location, playerCount, entityConfig.options(),
-                    entityConfig.equipment(), entityConfig.effects(), entityConfig.attributes(), entityConfig.lootTable())
-                .createEntitySnapshot();
+    private @Nullable SpawnerEntry createSpawnerEntry(@NotNull World world, @NotNull Location location, @NotNull TrialSpawnerTemplate.SpawnPotential spawnPotential, int playerCount) {
+        EntitySnapshot entitySnapshot = new EntityBuilder(spawnPotential.entityTemplate(), world, location, playerCount).createEntitySnapshot();
 
         if(entitySnapshot != null) {
             SpawnRule spawnRule = new SpawnRule(0, 15, 0, 15);
@@ -22,9 +22,9 @@ import com.github.lukesky19.skylib.api.itemstack.ItemStackBuilder;
 import com.github.lukesky19.skytrials.SkyTrials;
 import com.github.lukesky19.skytrials.data.config.block.VaultConfig;
 import com.github.lukesky19.skytrials.data.config.misc.LocationConfig;
+import com.github.lukesky19.skytrials.data.trial.VaultTemplate;
 import net.kyori.adventure.text.logger.slf4j.ComponentLogger;
 import org.bukkit.*;
-import org.bukkit.block.Block;
 import org.bukkit.block.BlockState;
 import org.bukkit.block.Vault;
 import org.bukkit.inventory.ItemStack;
@@ -32,6 +32,7 @@ import org.bukkit.loot.LootTable;
 import org.bukkit.loot.LootTables;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -52,11 +53,14 @@ public class VaultManager {
     }
 
     /**
-     * Spawns the vault blocks for the {@link List} of {@link VaultConfig} provided.
+     * Resolves the world, position, and settings of each vault for the {@link List} of {@link VaultConfig} provided.
+     * Is used when a trial is created, so placing and removing the vaults doesn't resolve them on every run.
      * @param vaultConfigList A {@link List} of {@link VaultConfig}s.
+     * @return The {@link BlockPlacements} for the vaults. Vaults with an invalid location are skipped.
      */
-    public void placeVaultBlocks(@NotNull List<VaultConfig> vaultConfigList) {
+    public @NotNull BlockPlacements<VaultTemplate> createVaultPlacements(@NotNull List<VaultConfig> vaultConfigList) {
         Registry<@NotNull LootTables> lootTablesRegistry = Registry.LOOT_TABLES;
+        List<BlockPlacements.Placement<VaultTemplate>> placements = new ArrayList<>();
 
         for(VaultConfig vaultConfig : vaultConfigList) {
             if(vaultConfig.location().world() == null) {
@@ -86,93 +90,85 @@ public class VaultManager {
                 continue;
             }
 
-            // Create the Location for the vault
-            Location vaultLocation = new Location(vaultWorld, vaultConfig.location().x(), vaultConfig.location().y(), vaultConfig.location().z());
+            // Create the Vault block data
+            org.bukkit.block.data.type.Vault vaultBlockData = (org.bukkit.block.data.type.Vault) Material.VAULT.createBlockData();
+            if(vaultConfig.ominous() != null) {
+                vaultBlockData.setOminous(vaultConfig.ominous());
+            }
+
+            LootTable lootTable = null;
+            if(vaultConfig.lootTable() != null) {
+                NamespacedKey key = NamespacedKey.fromString(vaultConfig.lootTable());
+                if(key != null) {
+                    LootTables lootTables = lootTablesRegistry.get(key);
+                    if(lootTables != null) {
+                        lootTable = lootTables.getLootTable();
+                    }
+                }
+            }
+
+            // Extra null check to avoid the ItemStackBuilder spamming errors for non-configured keys
+            ItemStack keyItem = null;
+            if(vaultConfig.keyItem().itemType() != null) {
+                Optional<ItemStack> optionalKeyItem = new ItemStackBuilder(logger).fromItemStackConfig(vaultConfig.keyItem(), null, null, List.of()).buildItemStack();
+                keyItem = optionalKeyItem.orElse(null);
+            }
+
+            VaultTemplate vaultTemplate = new VaultTemplate(vaultBlockData, lootTable, keyItem, vaultConfig.activationRange(), vaultConfig.deactivationRange());
+            placements.add(new BlockPlacements.Placement<>(
+                    vaultWorld,
+                    Location.locToBlock(locationConfig.x()),
+                    Location.locToBlock(locationConfig.y()),
+                    Location.locToBlock(locationConfig.z()),
+                    vaultTemplate));
+        }
+
+        return new BlockPlacements<>(placements);
+    }
+
+    /**
+     * Places the vault blocks for the {@link BlockPlacements} provided, one chunk at a time.
+     * Blocks are placed without physics updates, and blocks that already match the vault's block data are only reconfigured.
+     * @param vaultPlacements The {@link BlockPlacements} for the vaults.
+     */
+    public void placeVaultBlocks(@NotNull BlockPlacements<VaultTemplate> vaultPlacements) {
+        vaultPlacements.forEach((block, vaultTemplate) -> {
+            // Set the Block to the Vault if it isn't one already
+            if(!block.getBlockData().matches(vaultTemplate.blockData())) {
+                block.setBlockData(vaultTemplate.blockData(), false);
+            }
 
-            // Get the Block to place the trial spawner at.
-            Block block = vaultWorld.getBlockAt(vaultLocation);
-            // Set the Block to a Vault
-            block.setType(Material.VAULT);
             // Get the BlockState for the Block.
             BlockState state = block.getState(false);
 
             if(state instanceof Vault vaultState) {
-                if(vaultState.getBlockData() instanceof org.bukkit.block.data.type.Vault vaultBlockData) {
-                    if(vaultConfig.ominous() != null) {
-                        vaultBlockData.setOminous(vaultConfig.ominous());
-                        state.update();
-                    }
+                if(vaultTemplate.lootTable() != null) {
+                    vaultState.setLootTable(vaultTemplate.lootTable());
                 }
 
-                if(vaultConfig.lootTable() != null) {
-                    NamespacedKey key = NamespacedKey.fromString(vaultConfig.lootTable());
-                    if(key != null) {
-                        LootTables lootTables = lootTablesRegistry.get(key);
-                        if(lootTables != null) {
-                            LootTable lootTable = lootTables.getLootTable();
-                            vaultState.setLootTable(lootTable);
-                        }
-                    }
+                if(vaultTemplate.activationRange() != null) {
+                    vaultState.setActivationRange(vaultTemplate.activationRange());
                 }
 
-                if(vaultConfig.activationRange() != null) {
-                    vaultState.setActivationRange(vaultConfig.activationRange());
+                if(vaultTemplate.deactivationRange() != null) {
+                    vaultState.setDeactivationRange(vaultTemplate.deactivationRange());
                 }
 
-                if(vaultConfig.deactivationRange() != null) {
-                    vaultState.setDeactivationRange(vaultConfig.deactivationRange());
+                if(vaultTemplate.keyItem() != null) {
+                    vaultState.setKeyItem(vaultTemplate.keyItem());
                 }
 
-                // Extra null check to avoid the ItemStackBuilder spamming errors for non-configured keys
-                if(vaultConfig.keyItem().itemType() != null) {
-                    Optional<ItemStack> optionalKeyItem = new ItemStackBuilder(logger).fromItemStackConfig(vaultConfig.keyItem(), null, null, List.of()).buildItemStack();
-                    optionalKeyItem.ifPresent(vaultState::setKeyItem);
-                }
-
-                state.update();
+                // Update block state once without physics updates
+                state.update(true, false);
             }
-        }
+        });
     }
 
     /**
-     * Removes the vault blocks that were placed for the {@link List} of {@link VaultConfig} provided.
-     * @param vaultConfigList A {@link List} of {@link VaultConfig}s.
+     * Removes the vault blocks that were placed for the {@link BlockPlacements} provided.
+     * @param vaultPlacements The {@link BlockPlacements} for the vaults.
      */
-    public void removeVaultBlocks(@NotNull List<VaultConfig> vaultConfigList) {
-        for(VaultConfig vaultConfig : vaultConfigList) {
-            if(vaultConfig.location().world() == null) {
-                logger.warn(AdventureUtil.serialize("The world name for a vault config is invalid."));
-                continue;
-            }
-
-            World vaultWorld = skyTrials.getServer().getWorld(vaultConfig.location().world());
-            if(vaultWorld == null) {
-                logger.warn(AdventureUtil.serialize("A world for a vault config is invalid."));
-                continue;
-            }
-
-            LocationConfig locationConfig = vaultConfig.location();
-            if(locationConfig.x() == null) {
-                logger.warn(AdventureUtil.serialize("The x coordinate for a vault config is invalid."));
-                continue;
-            }
-
-            if(locationConfig.y() == null) {
-                logger.warn(AdventureUtil.serialize("The y coordinate for a vault config is invalid."));
-                continue;
-            }
-
-            if(locationConfig.z() == null) {
-                logger.warn(AdventureUtil.serialize("The z coordinate for a vault config is invalid."));
-                continue;
-            }
-
-            // Create the Location for the vault
-            Location vaultLocation = new Location(vaultWorld, vaultConfig.location().x(), vaultConfig.location().y(), vaultConfig.location().z());
-
-            // Set the block to air
-            Block block = vaultWorld.getBlockAt(vaultLocation);
-            block.setType(Material.AIR);
-        }
+    public void removeVaultBlocks(@NotNull BlockPlacements<VaultTemplate> vaultPlacements) {
+        vaultPlacements.removeBlocks();
     }
 }
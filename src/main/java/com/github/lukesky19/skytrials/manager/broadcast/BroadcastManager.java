@@ -0,0 +1,141 @@
+/*
+    SkyTrials is a plugin that offers different challenges or trials to tackle. Inspired by the Minecraft Trial Chambers and mob arenas.
+    Copyright (C) 2024 lukeskywlker19
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.github.lukesky19.skytrials.manager.broadcast;
+
+import com.github.lukesky19.skytrials.SkyTrials;
+import com.github.lukesky19.skytrials.data.config.settings.Settings;
+import com.github.lukesky19.skytrials.manager.locale.LocaleManager;
+import com.github.lukesky19.skytrials.manager.locale.LocaleMessage;
+import com.github.lukesky19.skytrials.manager.locale.MessageTemplate;
+import com.github.lukesky19.skytrials.manager.settings.SettingsManager;
+import com.github.lukesky19.skytrials.trial.AbstractTrial;
+import com.github.lukesky19.skytrials.util.BroadcastScope;
+import com.google.common.collect.Iterables;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * This class manages sending trial announcements to other players.
+ * Messages are rendered once and sent to every recipient through a single {@link Audience}, unless the message uses
+ * PlaceholderAPI placeholders, which have to be parsed for each recipient.
+ * Which players receive broadcasts is controlled by the {@link BroadcastScope} in the plugin's settings.
+ */
+public class BroadcastManager {
+    private final @NotNull SkyTrials skyTrials;
+    private final @NotNull SettingsManager settingsManager;
+    private final @NotNull LocaleManager localeManager;
+
+    /**
+     * Constructor
+     * @param skyTrials A {@link SkyTrials} instance.
+     * @param settingsManager A {@link SettingsManager} instance.
+     * @param localeManager A {@link LocaleManager} instance.
+     */
+    public BroadcastManager(@NotNull SkyTrials skyTrials, @NotNull SettingsManager settingsManager, @NotNull LocaleManager localeManager) {
+        this.skyTrials = skyTrials;
+        this.settingsManager = settingsManager;
+        this.localeManager = localeManager;
+    }
+
+    /**
+     * Get the {@link BroadcastScope} configured in the plugin's settings.
+     * @return The {@link BroadcastScope}. Defaults to {@link BroadcastScope#SERVER} if not configured.
+     */
+    public @NotNull BroadcastScope getBroadcastScope() {
+        Settings settings = settingsManager.getSettings();
+        if(settings == null || settings.broadcastScope() == null) return BroadcastScope.SERVER;
+
+        return settings.broadcastScope();
+    }
+
+    /**
+     * Get an {@link Audience} for the players that receive broadcasts for a trial.
+     * The recipients are filtered as the {@link Audience} is used, so the online players are never copied.
+     * @param trial The {@link AbstractTrial} the broadcast is for.
+     * @param filter A {@link Predicate} that returns true for the players that should receive the broadcast.
+     * @return An {@link Audience} for the recipients.
+     */
+    public @NotNull Audience getAudience(@NotNull AbstractTrial trial, @NotNull Predicate<Player> filter) {
+        return Audience.audience(getRecipients(trial, filter));
+    }
+
+    /**
+     * Sends an already rendered message to the players that receive broadcasts for a trial.
+     * @param trial The {@link AbstractTrial} the broadcast is for.
+     * @param message The {@link Component} to send.
+     * @param filter A {@link Predicate} that returns true for the players that should receive the broadcast.
+     */
+    public void broadcast(@NotNull AbstractTrial trial, @NotNull Component message, @NotNull Predicate<Player> filter) {
+        getAudience(trial, filter).sendMessage(message);
+    }
+
+    /**
+     * Sends a {@link LocaleMessage} about a player to the players that receive broadcasts for a trial.
+     * PlaceholderAPI placeholders are parsed for the player the message is about, so the message is only rendered once.
+     * @param trial The {@link AbstractTrial} the broadcast is for.
+     * @param localeMessage The {@link LocaleMessage} to send.
+     * @param subject The {@link Player} the message is about.
+     * @param placeholders A {@link List} of {@link TagResolver.Single} placeholders.
+     * @param filter A {@link Predicate} that returns true for the players that should receive the broadcast.
+     */
+    public void broadcast(@NotNull AbstractTrial trial, @NotNull LocaleMessage localeMessage, @NotNull Player subject, @NotNull List<TagResolver.Single> placeholders, @NotNull Predicate<Player> filter) {
+        broadcast(trial, localeManager.getMessage(localeMessage, subject, placeholders), filter);
+    }
+
+    /**
+     * Sends a {@link LocaleMessage} to the players that receive broadcasts for a trial.
+     * PlaceholderAPI placeholders are parsed for each recipient. If the message doesn't use any, it is only rendered once.
+     * @param trial The {@link AbstractTrial} the broadcast is for.
+     * @param localeMessage The {@link LocaleMessage} to send.
+     * @param placeholders A {@link List} of {@link TagResolver.Single} placeholders.
+     * @param filter A {@link Predicate} that returns true for the players that should receive the broadcast.
+     */
+    public void broadcast(@NotNull AbstractTrial trial, @NotNull LocaleMessage localeMessage, @NotNull List<TagResolver.Single> placeholders, @NotNull Predicate<Player> filter) {
+        MessageTemplate messageTemplate = localeManager.getMessageTemplate(localeMessage);
+
+        if(messageTemplate.usesPlaceholderApi()) {
+            for(Player recipient : getRecipients(trial, filter)) {
+                recipient.sendMessage(messageTemplate.render(recipient, placeholders));
+            }
+        } else {
+            broadcast(trial, messageTemplate.render(placeholders), filter);
+        }
+    }
+
+    /**
+     * Get the players that receive broadcasts for a trial.
+     * @param trial The {@link AbstractTrial} the broadcast is for.
+     * @param filter A {@link Predicate} that returns true for the players that should receive the broadcast.
+     * @return An {@link Iterable} of the recipients.
+     */
+    private @NotNull Iterable<? extends Player> getRecipients(@NotNull AbstractTrial trial, @NotNull Predicate<Player> filter) {
+        Iterable<? extends Player> players = switch(getBroadcastScope()) {
+            case SERVER -> skyTrials.getServer().getOnlinePlayers();
+            case WORLD -> trial.getWorld().getPlayers();
+            case TRIAL -> trial.getPlayers();
+        };
+
+        return Iterables.filter(players, filter::test);
+    }
+}
@@ -18,20 +18,17 @@
 package com.github.lukesky19.skytrials.manager.entity;
 
 import com.github.lukesky19.skylib.api.adventure.AdventureUtil;
-import com.github.lukesky19.skylib.api.registry.RegistryUtil;
 import com.github.lukesky19.skytrials.SkyTrials;
 import com.github.lukesky19.skytrials.builder.EntityBuilder;
-import com.github.lukesky19.skytrials.data.config.entity.EntityConfig;
 import com.github.lukesky19.skytrials.data.trial.LevelTrialData;
 import com.github.lukesky19.skytrials.trial.impl.LevelTrial;
 import net.kyori.adventure.text.logger.slf4j.ComponentLogger;
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.entity.*;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.List;
-import java.util.Optional;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * This class handles spawning of entities created by the {@link EntityBuilder}.
@@ -48,50 +45,28 @@ public class EntityManager {
     }
 
     /**
-     * Spawns a random entity from the mob spawn list and at a random location configured for the randomly selected mob.
+     * Spawns an entity from the level's mob spawn list and at one of the locations configured for it, both picked by their weights.
      * @param levelTrial The {@link LevelTrial} to spawn the entity in.
-     * @param mobSpawnList The {@link List} of {@link LevelTrialData.MobSpawn}s.
+     * @param levelData The {@link LevelTrialData.LevelData} for the current level.
      * @param playerCount The number of players in the trial.
+     * @param random The {@link RandomGenerator} used to pick the entity and location.
      */
-    public void spawnEntity(@NotNull LevelTrial levelTrial, @NotNull List<LevelTrialData.MobSpawn> mobSpawnList, int playerCount) {
-        if(mobSpawnList.isEmpty()) return;
-        Random random = new Random();
+    public void spawnEntity(@NotNull LevelTrial levelTrial, @NotNull LevelTrialData.LevelData levelData, int playerCount, @NotNull RandomGenerator random) {
+        if(levelData.mobSpawnTable() == null) return;
 
-        int randomEntityKey;
-        if(mobSpawnList.size() > 1) {
-            randomEntityKey = random.nextInt(0, mobSpawnList.size());
-        } else {
-            randomEntityKey = 0;
-        }
-
-        LevelTrialData.MobSpawn mobSpawnConfig = mobSpawnList.get(randomEntityKey);
-        List<Location> mobSpawnLocationList = mobSpawnConfig.spawnLocations();
-
-        int randomLocationKey;
-        if(mobSpawnLocationList.size() > 1) {
-            randomLocationKey = random.nextInt(0, (mobSpawnLocationList.size() - 1));
-        } else {
-            randomLocationKey = 0;
-        }
-
-        Location location = mobSpawnLocationList.get(randomLocationKey);
-
-        EntityConfig entityConfig = mobSpawnConfig.entityConfig();
-
-        if(entityConfig.entityType() == null) {
-            logger.warn(AdventureUtil.serialize("Unable to create Entity due to an invalid EntityType name."));
-            return;
-        }
+        LevelTrialData.MobSpawn mobSpawnConfig = levelData.mobSpawnList().get(levelData.mobSpawnTable().sample(random));
+        Location location = mobSpawnConfig.spawnLocations().get(mobSpawnConfig.spawnLocationTable().sample(random));
 
-        Optional<EntityType> optionalEntityType = RegistryUtil.getEntityType(logger, entityConfig.entityType());
-        if(optionalEntityType.isEmpty()) {
-            logger.warn(AdventureUtil.serialize("Unable to create SpawnerEntry due to an invalid EntityType for key " + entityConfig.entityType()));
+        World world = location.getWorld();
+        if(world == null) {
+            logger.warn(AdventureUtil.serialize("Unable to spawn entity as the spawn location's world is not loaded."));
             return;
         }
 
-        EntityBuilder entityBuilder = new EntityBuilder(logger, optionalEntityType.get(), location.getWorld(), location, playerCount, entityConfig.options(), entityConfig.equipment(), entityConfig.effects(), entityConfig.attributes(), entityConfig.lootTable());
-        entityBuilder.createEntity();
+        EntityBuilder entityBuilder = new EntityBuilder(mobSpawnConfig.entityTemplate(), world, location, playerCount);
+        LivingEntity entity = entityBuilder.createEntity();
 
+        levelTrial.trackEntity(entity);
         levelTrial.incrementMobCount();
     }
 }
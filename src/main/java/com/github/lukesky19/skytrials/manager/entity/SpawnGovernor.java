@@ -0,0 +1,177 @@
+/*
+    SkyTrials is a plugin that offers different challenges or trials to tackle. Inspired by the Minecraft Trial Chambers and mob arenas.
+    Copyright (C) 2024 lukeskywlker19
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.github.lukesky19.skytrials.manager.entity;
+
+import com.github.lukesky19.skytrials.data.config.settings.Settings;
+import com.github.lukesky19.skytrials.manager.settings.SettingsManager;
+import com.github.lukesky19.skytrials.manager.task.TaskScheduler;
+import com.github.lukesky19.skytrials.trial.impl.LevelTrial;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This class schedules mob spawns for every {@link LevelTrial}, so trials that spawn on the same tick don't cause a spike together.
+ * Trials request spawns, and once per tick the requests are granted within a per-tick spawn budget and a cap on live mobs across all trials.
+ * Spawns are granted one at a time in round-robin order between trials, so a trial with a large burst can't starve the others,
+ * and any spawns left over are granted on the following ticks. Granted spawns run on the thread that owns each trial's region.
+ */
+public class SpawnGovernor {
+    private static final int DEFAULT_SPAWNS_PER_TICK = 10;
+
+    private final @NotNull SettingsManager settingsManager;
+    private final @NotNull TaskScheduler taskScheduler;
+
+    // The trials that are running, used to count live mobs
+    private final @NotNull Set<LevelTrial> activeTrials = new HashSet<>();
+    // The number of spawns requested and not yet granted for each trial
+    private final @NotNull Map<LevelTrial, Integer> pendingSpawns = new HashMap<>();
+    // The trials with pending spawns in the order they are granted a spawn
+    private final @NotNull ArrayDeque<LevelTrial> spawnOrder = new ArrayDeque<>();
+
+    /**
+     * Constructor
+     * @param settingsManager A {@link SettingsManager} instance.
+     * @param taskScheduler A {@link TaskScheduler} instance.
+     */
+    public SpawnGovernor(@NotNull SettingsManager settingsManager, @NotNull TaskScheduler taskScheduler) {
+        this.settingsManager = settingsManager;
+        this.taskScheduler = taskScheduler;
+    }
+
+    /**
+     * Get the number of spawns granted per tick across all trials configured in the plugin's settings.
+     * @return The number of spawns per tick. Defaults to 10 if not configured.
+     */
+    public int getSpawnsPerTick() {
+        Settings settings = settingsManager.getSettings();
+        if(settings == null || settings.spawnsPerTick() == null || settings.spawnsPerTick() <= 0) return DEFAULT_SPAWNS_PER_TICK;
+
+        return settings.spawnsPerTick();
+    }
+
+    /**
+     * Get the maximum number of live mobs across all trials configured in the plugin's settings.
+     * @return The maximum number of live mobs. Defaults to -1 (no limit) if not configured.
+     */
+    public int getMaxLiveMobs() {
+        Settings settings = settingsManager.getSettings();
+        if(settings == null || settings.maxLiveMobs() == null || settings.maxLiveMobs() <= 0) return -1;
+
+        return settings.maxLiveMobs();
+    }
+
+    /**
+     * Registers a trial that started, so its mobs count towards the live mob cap.
+     * @param levelTrial The {@link LevelTrial} that started.
+     */
+    public synchronized void register(@NotNull LevelTrial levelTrial) {
+        activeTrials.add(levelTrial);
+    }
+
+    /**
+     * Unregisters a trial that ended and drops any spawns it requested that were not granted yet.
+     * @param levelTrial The {@link LevelTrial} that ended.
+     */
+    public synchronized void unregister(@NotNull LevelTrial levelTrial) {
+        activeTrials.remove(levelTrial);
+        cancelSpawns(levelTrial);
+    }
+
+    /**
+     * Requests spawns for a trial. A trial has at most one burst pending,
+     * so a request while spawns are still pending only raises the pending count to the count requested.
+     * @param levelTrial The {@link LevelTrial} to spawn mobs for.
+     * @param count The number of mobs to spawn.
+     */
+    public synchronized void requestSpawns(@NotNull LevelTrial levelTrial, int count) {
+        if(count <= 0) return;
+
+        Integer pending = pendingSpawns.get(levelTrial);
+        if(pending == null) {
+            pendingSpawns.put(levelTrial, count);
+            spawnOrder.add(levelTrial);
+        } else if(count > pending) {
+            pendingSpawns.put(levelTrial, count);
+        }
+    }
+
+    /**
+     * Checks if a trial has spawns requested that were not granted yet.
+     * @param levelTrial The {@link LevelTrial} to check.
+     * @return true if the trial has pending spawns, otherwise false.
+     */
+    public synchronized boolean hasPendingSpawns(@NotNull LevelTrial levelTrial) {
+        return pendingSpawns.containsKey(levelTrial);
+    }
+
+    /**
+     * Drops any spawns requested for a trial that were not granted yet.
+     * @param levelTrial The {@link LevelTrial} to drop spawns for.
+     */
+    public synchronized void cancelSpawns(@NotNull LevelTrial levelTrial) {
+        if(pendingSpawns.remove(levelTrial) != null) {
+            spawnOrder.remove(levelTrial);
+        }
+    }
+
+    /**
+     * Grants pending spawns within the per-tick budget and the live mob cap. Is run once per tick on the global region thread.
+     */
+    public void dispatchSpawns() {
+        Map<LevelTrial, Integer> grantedSpawns = new LinkedHashMap<>();
+
+        synchronized(this) {
+            if(spawnOrder.isEmpty()) return;
+
+            int budget = getSpawnsPerTick();
+            int maxLiveMobs = getMaxLiveMobs();
+            int liveMobs = 0;
+            if(maxLiveMobs != -1) {
+                for(LevelTrial levelTrial : activeTrials) {
+                    liveMobs += levelTrial.getLiveMobCount();
+                }
+            }
+
+            while(budget > 0 && !spawnOrder.isEmpty() && (maxLiveMobs == -1 || liveMobs < maxLiveMobs)) {
+                LevelTrial levelTrial = spawnOrder.poll();
+                int pending = pendingSpawns.get(levelTrial) - 1;
+
+                grantedSpawns.merge(levelTrial, 1, Integer::sum);
+                budget--;
+                liveMobs++;
+
+                // Move the trial to the back of the order, so the next spawn goes to the next trial
+                if(pending > 0) {
+                    pendingSpawns.put(levelTrial, pending);
+                    spawnOrder.add(levelTrial);
+                } else {
+                    pendingSpawns.remove(levelTrial);
+                }
+            }
+        }
+
+        grantedSpawns.forEach((levelTrial, count) ->
+                taskScheduler.execute(levelTrial.getAnchorLocation(), () -> levelTrial.spawnMobs(count)));
+    }
+}
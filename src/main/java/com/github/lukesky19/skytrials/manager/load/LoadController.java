@@ -0,0 +1,252 @@
+/*
+    SkyTrials is a plugin that offers different challenges or trials to tackle. Inspired by the Minecraft Trial Chambers and mob arenas.
+    Copyright (C) 2024 lukeskywlker19
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.github.lukesky19.skytrials.manager.load;
+
+import com.github.lukesky19.skylib.api.adventure.AdventureUtil;
+import com.github.lukesky19.skytrials.SkyTrials;
+import com.github.lukesky19.skytrials.data.config.settings.Settings;
+import com.github.lukesky19.skytrials.manager.settings.SettingsManager;
+import com.github.lukesky19.skytrials.util.LoadLevel;
+import net.kyori.adventure.text.logger.slf4j.ComponentLogger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class samples the server's average milliseconds per tick (MSPT) and sets the {@link LoadLevel} used by all trials.
+ * The level only moves one step at a time, and only after the MSPT stays past a threshold for several samples.
+ * A level is entered at its threshold but is only left once the MSPT drops the recovery margin below it,
+ * so an MSPT that hovers around a threshold doesn't flip the level back and forth.
+ */
+public class LoadController {
+    private static final double DEFAULT_ELEVATED_MSPT = 40D;
+    private static final double DEFAULT_HIGH_MSPT = 47D;
+    private static final double DEFAULT_CRITICAL_MSPT = 55D;
+    private static final double DEFAULT_RECOVERY_MARGIN = 5D;
+    // The weight of each new sample in the smoothed MSPT
+    private static final double SMOOTHING_FACTOR = 0.3D;
+    // The number of samples in a row needed to raise or lower the level
+    private static final int SAMPLES_TO_RAISE = 2;
+    private static final int SAMPLES_TO_LOWER = 5;
+    private static final int MAX_ADJUSTMENTS = 10;
+
+    private final @NotNull SkyTrials skyTrials;
+    private final @NotNull SettingsManager settingsManager;
+    private final @NotNull ComponentLogger logger;
+
+    private volatile @NotNull LoadLevel loadLevel = LoadLevel.NORMAL;
+    private volatile double smoothedMspt = -1;
+    private volatile double lastMspt = -1;
+    private volatile double lastTps = -1;
+    private int samplesAbove = 0;
+    private int samplesBelow = 0;
+    private boolean supported = true;
+    private final @NotNull ArrayDeque<Adjustment> adjustments = new ArrayDeque<>();
+
+    /**
+     * Constructor
+     * @param skyTrials A {@link SkyTrials} instance.
+     * @param settingsManager A {@link SettingsManager} instance.
+     */
+    public LoadController(@NotNull SkyTrials skyTrials, @NotNull SettingsManager settingsManager) {
+        this.skyTrials = skyTrials;
+        this.settingsManager = settingsManager;
+        this.logger = skyTrials.getComponentLogger();
+    }
+
+    /**
+     * Get the current {@link LoadLevel}.
+     * @return The current {@link LoadLevel}.
+     */
+    public @NotNull LoadLevel getLoadLevel() {
+        return loadLevel;
+    }
+
+    /**
+     * Get the smoothed MSPT that the level is based on.
+     * @return The smoothed MSPT or -1 if nothing was sampled yet.
+     */
+    public double getSmoothedMspt() {
+        return smoothedMspt;
+    }
+
+    /**
+     * Get the MSPT reported by the server at the last sample.
+     * @return The MSPT or -1 if nothing was sampled yet.
+     */
+    public double getLastMspt() {
+        return lastMspt;
+    }
+
+    /**
+     * Get the TPS over the last minute reported by the server at the last sample.
+     * @return The TPS or -1 if nothing was sampled yet.
+     */
+    public double getLastTps() {
+        return lastTps;
+    }
+
+    /**
+     * Is load shedding enabled in the plugin's settings?
+     * @return true if enabled, otherwise false.
+     */
+    public boolean isEnabled() {
+        Settings.LoadShedding loadShedding = getLoadSheddingSettings();
+        return supported && (loadShedding == null || loadShedding.enabled() == null || loadShedding.enabled());
+    }
+
+    /**
+     * Get the MSPT at which a {@link LoadLevel} is entered.
+     * @param level The {@link LoadLevel}.
+     * @return The MSPT threshold or 0 for {@link LoadLevel#NORMAL}.
+     */
+    public double getThreshold(@NotNull LoadLevel level) {
+        Settings.LoadShedding loadShedding = getLoadSheddingSettings();
+
+        return switch(level) {
+            case NORMAL -> 0D;
+            case ELEVATED -> getPositiveOrDefault(loadShedding != null ? loadShedding.elevatedMspt() : null, DEFAULT_ELEVATED_MSPT);
+            case HIGH -> getPositiveOrDefault(loadShedding != null ? loadShedding.highMspt() : null, DEFAULT_HIGH_MSPT);
+            case CRITICAL -> getPositiveOrDefault(loadShedding != null ? loadShedding.criticalMspt() : null, DEFAULT_CRITICAL_MSPT);
+        };
+    }
+
+    /**
+     * Get how far below a level's threshold the MSPT must be to leave that level.
+     * @return The recovery margin in milliseconds.
+     */
+    public double getRecoveryMargin() {
+        Settings.LoadShedding loadShedding = getLoadSheddingSettings();
+        Double recoveryMargin = loadShedding != null ? loadShedding.recoveryMargin() : null;
+        if(recoveryMargin == null || recoveryMargin < 0) return DEFAULT_RECOVERY_MARGIN;
+
+        return recoveryMargin;
+    }
+
+    /**
+     * Get the most recent level changes, oldest first.
+     * @return A {@link List} of {@link Adjustment}s.
+     */
+    public synchronized @NotNull List<Adjustment> getAdjustments() {
+        return new ArrayList<>(adjustments);
+    }
+
+    /**
+     * Samples the server's MSPT and raises or lowers the {@link LoadLevel} if needed. Is run once per second on the global region thread.
+     */
+    public void sample() {
+        if(!supported) return;
+
+        try {
+            lastMspt = skyTrials.getServer().getAverageTickTime();
+            lastTps = skyTrials.getServer().getTPS()[0];
+        } catch (UnsupportedOperationException e) {
+            // Servers that tick regions separately don't report a single tick time
+            supported = false;
+            logger.warn(AdventureUtil.serialize("The server does not report its tick time, so load shedding is disabled."));
+            setLoadLevel(LoadLevel.NORMAL);
+            return;
+        }
+
+        smoothedMspt = smoothedMspt == -1 ? lastMspt : (SMOOTHING_FACTOR * lastMspt) + ((1D - SMOOTHING_FACTOR) * smoothedMspt);
+
+        if(!isEnabled()) {
+            samplesAbove = 0;
+            samplesBelow = 0;
+            if(loadLevel != LoadLevel.NORMAL) setLoadLevel(LoadLevel.NORMAL);
+            return;
+        }
+
+        LoadLevel[] levels = LoadLevel.values();
+        int ordinal = loadLevel.ordinal();
+
+        boolean above = ordinal < levels.length - 1 && smoothedMspt >= getThreshold(levels[ordinal + 1]);
+        boolean below = ordinal > 0 && smoothedMspt < getThreshold(loadLevel) - getRecoveryMargin();
+
+        samplesAbove = above ? samplesAbove + 1 : 0;
+        samplesBelow = below ? samplesBelow + 1 : 0;
+
+        if(samplesAbove >= SAMPLES_TO_RAISE) {
+            setLoadLevel(levels[ordinal + 1]);
+        } else if(samplesBelow >= SAMPLES_TO_LOWER) {
+            setLoadLevel(levels[ordinal - 1]);
+        }
+    }
+
+    /**
+     * Sets the {@link LoadLevel}, records the change and logs it.
+     * @param newLevel The new {@link LoadLevel}.
+     */
+    private void setLoadLevel(@NotNull LoadLevel newLevel) {
+        LoadLevel oldLevel = loadLevel;
+        if(oldLevel == newLevel) return;
+
+        loadLevel = newLevel;
+        samplesAbove = 0;
+        samplesBelow = 0;
+
+        synchronized(this) {
+            adjustments.addLast(new Adjustment(System.currentTimeMillis(), oldLevel, newLevel, smoothedMspt));
+            if(adjustments.size() > MAX_ADJUSTMENTS) adjustments.removeFirst();
+        }
+
+        String message = String.format(java.util.Locale.ROOT,
+                "Load level changed from %s to %s at %.1f MSPT. Spawn frequency %d%%, spawn batch size %d%%, boss bars refresh every %d tick(s).",
+                oldLevel.name(), newLevel.name(), smoothedMspt,
+                Math.round(newLevel.getSpawnFrequencyScale() * 100), Math.round(newLevel.getSpawnBatchScale() * 100), newLevel.getBossBarRefreshTicks());
+
+        if(newLevel.ordinal() > oldLevel.ordinal()) {
+            logger.warn(AdventureUtil.serialize(message));
+        } else {
+            logger.info(AdventureUtil.serialize(message));
+        }
+    }
+
+    /**
+     * Get the load shedding settings from the plugin's settings.
+     * @return The {@link Settings.LoadShedding} or null if not configured.
+     */
+    private @Nullable Settings.LoadShedding getLoadSheddingSettings() {
+        Settings settings = settingsManager.getSettings();
+        return settings != null ? settings.loadShedding() : null;
+    }
+
+    /**
+     * Get a configured value if it is positive, otherwise the default.
+     * @param value The configured value.
+     * @param defaultValue The default value.
+     * @return The value to use.
+     */
+    private double getPositiveOrDefault(@Nullable Double value, double defaultValue) {
+        if(value == null || value <= 0) return defaultValue;
+
+        return value;
+    }
+
+    /**
+     * A change of the {@link LoadLevel}.
+     * @param timeMillis The time of the change in milliseconds since the epoch.
+     * @param from The previous {@link LoadLevel}.
+     * @param to The new {@link LoadLevel}.
+     * @param mspt The smoothed MSPT that caused the change.
+     */
+    public record Adjustment(long timeMillis, @NotNull LoadLevel from, @NotNull LoadLevel to, double mspt) {}
+}
@@ -19,32 +19,68 @@ package com.github.lukesky19.skytrials.manager.locale;
 
 import com.github.lukesky19.skylib.api.adventure.AdventureUtil;
 import com.github.lukesky19.skylib.api.configurate.ConfigurationUtility;
-import com.github.lukesky19.skylib.api.time.Time;
-import com.github.lukesky19.skylib.api.time.TimeUtil;
+import com.github.lukesky19.skylib.libs.configurate.BasicConfigurationNode;
 import com.github.lukesky19.skylib.libs.configurate.ConfigurateException;
+import com.github.lukesky19.skylib.libs.configurate.ConfigurationNode;
+import com.github.lukesky19.skylib.libs.configurate.serialize.SerializationException;
 import com.github.lukesky19.skylib.libs.configurate.yaml.YamlConfigurationLoader;
 import com.github.lukesky19.skytrials.SkyTrials;
 import com.github.lukesky19.skytrials.manager.settings.SettingsManager;
 import com.github.lukesky19.skytrials.data.config.locale.Locale;
 import com.github.lukesky19.skytrials.data.config.settings.Settings;
+import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.logger.slf4j.ComponentLogger;
-import net.kyori.adventure.text.minimessage.MiniMessage;
-import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
 import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
 import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * This class manages the plugin's locale.
  */
 public class LocaleManager {
+    // The placeholders the plugin provides when sending locale messages
+    private static final @NotNull Set<String> MESSAGE_PLACEHOLDERS = Set.of("trial_id", "player_name", "time", "current_level", "max_level", "load_level");
+    // Keys added to the locale since version 2.0.0.0. Locale files from before they were added fall back to the default message for each missing key.
+    private static final @NotNull List<String> ADDED_KEYS = List.of(
+            "join-queue",
+            "join-queue-in-queue",
+            "leave-queue",
+            "ready-queued-trial",
+            "player-not-found",
+            "trial-not-found",
+            "stats-header",
+            "stats-trial-header",
+            "stats-trial-name",
+            "stats-runs",
+            "stats-mobs",
+            "stats-queue",
+            "stats-timings",
+            "stats-no-timings",
+            "load-level",
+            "load-level-disabled",
+            "load-not-sampled",
+            "load-mspt",
+            "load-thresholds",
+            "load-scaling",
+            "load-no-adjustments",
+            "load-adjustment");
+
     private final @NotNull SkyTrials skyTrials;
     private final @NotNull SettingsManager settingsManager;
     private @Nullable Locale locale;
+    // Replaced as a whole on reload so it can be read from any thread
+    private volatile @NotNull Map<LocaleMessage, MessageTemplate> messageTemplates = Map.of();
+    // Created lazily for the default locale and replaced on reload
+    private volatile @Nullable TimeMessageFormatter timeMessageFormatter;
     private final @NotNull Locale defaultLocale = new Locale(
             "2.0.0.0",
             "<gray>[</gray><gold>SkyTrials</gold><gray>]</gray> ",
@@ -59,7 +95,9 @@ public class LocaleManager {
                     "<white>/</white><aqua>skytrials</aqua> <yellow>join</yellow> <red><trial_name></red>",
                     "<white>/</white><aqua>skytrials</aqua> <yellow>start</yellow>",
                     "<white>/</white><aqua>skytrials</aqua> <yellow>leave</yellow>",
-                    "<white>/</white><aqua>skytrials</aqua> <yellow>cooldown</yellow> <red><trial_name></red>"),
+                    "<white>/</white><aqua>skytrials</aqua> <yellow>cooldown</yellow> <red><trial_name></red>",
+                    "<white>/</white><aqua>skytrials</aqua> <yellow>stats</yellow> <red>[trial_name]</red>",
+                    "<white>/</white><aqua>skytrials</aqua> <yellow>load</yellow>"),
             "<yellow>You have joined the trial <white><trial_id></white>.</yellow>",
             "<yellow>Player <white><player_name></white> has joined the trial <white><trial_id></white>.</yellow>",
             "<red>You cannot join trial <white><trial_id></white> because you have a cooldown.</red>",
@@ -92,6 +130,28 @@ public class LocaleManager {
             "<yellow>Player <white><player_name></white> is on cooldown for trial <white><trial_id></white>. Remaining cooldown: <white><time></white>.</yellow>",
             "<yellow>You have no cooldown for trial <white><trial_id></white>.</yellow>",
             "<yellow>Player <white><player_name></white> has no cooldown for trial <white><trial_id></white>.</yellow>",
+            "<yellow>You have joined the queue for trial <white><trial_id></white>. The trial will start once a party has been found.</yellow>",
+            "<red>You cannot join a trial while in the queue for trial <white><trial_id></white>.</red>",
+            "<yellow>You have left the queue for trial <white><trial_id></white>.</yellow>",
+            "<red>This trial starts automatically, so there is no need to ready up.</red>",
+            "<red>Unable to find a player named <white><player_name></white>.</red>",
+            "<red>Unable to find a trial with the id <white><trial_id></white>.</red>",
+            "<yellow>Trial stats since the plugin was enabled:</yellow>",
+            "<yellow>Stats for trial <white><trial_id></white>:</yellow>",
+            "<white><trial_id></white>",
+            "<gray>Runs:</gray> <yellow><started></yellow> started, <green><completed></green> completed, <red><failed></red> failed <gray>(<timeout> timeout, <death> death, <empty> empty, <reload> reload)</gray>",
+            "<gray>Mobs:</gray> <yellow><spawned></yellow> spawned, <yellow><killed></yellow> killed",
+            "<gray>Queue:</gray> <yellow><waiting></yellow> waiting, wait p50 <yellow><p50></yellow>, p99 <yellow><p99></yellow>, max <yellow><max></yellow>",
+            "<gray><operation>:</gray> <yellow><count></yellow> calls, mean <yellow><mean></yellow>, p50 <yellow><p50></yellow>, p99 <yellow><p99></yellow>, max <yellow><max></yellow>",
+            "<gray>No timings have been recorded for this trial.</gray>",
+            "<yellow>Load level: <white><load_level></white></yellow>",
+            "<yellow>Load level: <white><load_level></white> <gray>(load shedding is disabled)</gray></yellow>",
+            "<gray>The server load has not been sampled yet.</gray>",
+            "<gray>MSPT:</gray> <yellow><smoothed_mspt></yellow> smoothed, <yellow><last_mspt></yellow> last sample, <gray>TPS:</gray> <yellow><tps></yellow>",
+            "<gray>Thresholds:</gray> elevated <yellow><elevated></yellow>, high <yellow><high></yellow>, critical <yellow><critical></yellow>, recovery margin <yellow><recovery_margin></yellow>",
+            "<gray>Spawn frequency:</gray> <yellow><spawn_frequency>%</yellow>, <gray>spawn batch size:</gray> <yellow><spawn_batch_size>%</yellow>, <gray>boss bar refresh:</gray> every <yellow><boss_bar_refresh_ticks></yellow> tick(s)",
+            "<gray>The load level has not changed since the plugin was enabled.</gray>",
+            "<gray><time> ago:</gray> <white><from></white> to <white><to></white> at <yellow><mspt></yellow> MSPT",
             new Locale.TimeMessage(
                     "",
                     "<yellow><years></yellow> year(s)",
@@ -139,7 +199,9 @@ public class LocaleManager {
                 @NotNull YamlConfigurationLoader loader = ConfigurationUtility.getYamlConfigurationLoader(path);
 
                 try {
-                    locale = loader.load().get(Locale.class);
+                    ConfigurationNode node = loader.load();
+                    addMissingKeys(node);
+                    locale = node.get(Locale.class);
 
                     validateLocale();
                 } catch (ConfigurateException e) {
@@ -147,6 +209,95 @@ public class LocaleManager {
                 }
             }
         }
+
+        compileMessageTemplates();
+        timeMessageFormatter = new TimeMessageFormatter(getLocale().timeMessage());
+    }
+
+    /**
+     * Get the {@link MessageTemplate} for a {@link LocaleMessage}. The plugin's prefix is already part of the template for prefixed messages.
+     * @param localeMessage The {@link LocaleMessage}.
+     * @return The {@link MessageTemplate}.
+     */
+    public @NotNull MessageTemplate getMessageTemplate(@NotNull LocaleMessage localeMessage) {
+        MessageTemplate messageTemplate = messageTemplates.get(localeMessage);
+        if(messageTemplate == null) {
+            compileMessageTemplates();
+            messageTemplate = messageTemplates.get(localeMessage);
+        }
+
+        return messageTemplate;
+    }
+
+    /**
+     * Renders a {@link LocaleMessage} with the plugin's prefix if the message is prefixed.
+     * @param localeMessage The {@link LocaleMessage}.
+     * @return The rendered {@link Component}.
+     */
+    public @NotNull Component getMessage(@NotNull LocaleMessage localeMessage) {
+        return getMessageTemplate(localeMessage).render();
+    }
+
+    /**
+     * Renders a {@link LocaleMessage} with the placeholders provided and the plugin's prefix if the message is prefixed.
+     * @param localeMessage The {@link LocaleMessage}.
+     * @param placeholders A {@link List} of {@link TagResolver.Single} placeholders.
+     * @return The rendered {@link Component}.
+     */
+    public @NotNull Component getMessage(@NotNull LocaleMessage localeMessage, @NotNull List<TagResolver.Single> placeholders) {
+        return getMessageTemplate(localeMessage).render(placeholders);
+    }
+
+    /**
+     * Renders a {@link LocaleMessage} with the plugin's prefix if the message is prefixed, the placeholders provided, and PlaceholderAPI placeholders for the player provided.
+     * @param localeMessage The {@link LocaleMessage}.
+     * @param player The {@link Player} to parse PlaceholderAPI placeholders for.
+     * @param placeholders A {@link List} of {@link TagResolver.Single} placeholders.
+     * @return The rendered {@link Component}.
+     */
+    public @NotNull Component getMessage(@NotNull LocaleMessage localeMessage, @NotNull Player player, @NotNull List<TagResolver.Single> placeholders) {
+        return getMessageTemplate(localeMessage).render(player, placeholders);
+    }
+
+    /**
+     * Compiles every {@link LocaleMessage} of the current locale, with the prefix merged in for prefixed messages, into a {@link MessageTemplate}.
+     */
+    private void compileMessageTemplates() {
+        Locale currentLocale = getLocale();
+        Map<LocaleMessage, MessageTemplate> compiledTemplates = new EnumMap<>(LocaleMessage.class);
+
+        for(LocaleMessage localeMessage : LocaleMessage.values()) {
+            String source = (localeMessage.isPrefixed() ? currentLocale.prefix() : "") + localeMessage.getMessage(currentLocale);
+
+            Set<String> knownPlaceholders = MESSAGE_PLACEHOLDERS;
+            if(!localeMessage.getPlaceholderNames().isEmpty()) {
+                knownPlaceholders = new HashSet<>(MESSAGE_PLACEHOLDERS);
+                knownPlaceholders.addAll(localeMessage.getPlaceholderNames());
+            }
+
+            compiledTemplates.put(localeMessage, new MessageTemplate(source, knownPlaceholders));
+        }
+
+        messageTemplates = compiledTemplates;
+    }
+
+    /**
+     * Adds any keys added to the locale since version 2.0.0.0 that are missing from the locale file, using the default message for each one.
+     * The locale file itself is not changed.
+     * @param node The root {@link ConfigurationNode} of the locale file.
+     * @throws SerializationException If the default locale can't be serialized.
+     */
+    private void addMissingKeys(@NotNull ConfigurationNode node) throws SerializationException {
+        ConfigurationNode defaults = BasicConfigurationNode.root(node.options());
+        defaults.set(Locale.class, defaultLocale);
+
+        for(String key : ADDED_KEYS) {
+            ConfigurationNode keyNode = node.node(key);
+            if(!keyNode.virtual() && !keyNode.isNull()) continue;
+
+            keyNode.from(defaults.node(key));
+            skyTrials.getComponentLogger().warn(AdventureUtil.serialize("The " + key + " message is missing from the locale. The default message will be used until it is added."));
+        }
     }
 
     /**
@@ -366,6 +517,138 @@ public class LocaleManager {
             return;
         }
 
+        if(locale.joinQueue() == null) {
+            logger.warn(AdventureUtil.serialize("The join queue message in the locale is invalid. The default locale will be used."));
+            locale = null;
+            return;
+        }
+
+        if(locale.joinQueueInQueue() == null) {
+            logger.warn(AdventureUtil.serialize("The join queue in queue message in the locale is invalid. The default locale will be used."));
+            locale = null;
+            return;
+        }
+
+        if(locale.leaveQueue() == null) {
+            logger.warn(AdventureUtil.serialize("The leave queue message in the locale is invalid. The default locale will be used."));
+            locale = null;
+            return;
+        }
+
+        if(locale.readyQueuedTrial() == null) {
+            logger.warn(AdventureUtil.serialize("The ready queued trial message in the locale is invalid. The default locale will be used."));
+            locale = null;
+            return;
+        }
+
+        if(locale.playerNotFound() == null) {
+            logger.warn(AdventureUtil.serialize("The player not found message in the locale is invalid. The default locale will be used."));
+            locale = null;
+            return;
+        }
+
+        if(locale.trialNotFound() == null) {
+            logger.warn(AdventureUtil.serialize("The trial not found message in the locale is invalid. The default locale will be used."));
+            locale = null;
+            return;
+        }
+
+        if(locale.statsHeader() == null) {
+            logger.warn(AdventureUtil.serialize("The stats header message in the locale is invalid. The default locale will be used."));
+            locale = null;
+            return;
+        }
+
+        if(locale.statsTrialHeader() == null) {
+            logger.warn(AdventureUtil.serialize("The stats trial header message in the locale is invalid. The default locale will be used."));
+            locale = null;
+            return;
+        }
+
+        if(locale.statsTrialName() == null) {
+            logger.warn(AdventureUtil.serialize("The stats trial name message in the locale is invalid. The default locale will be used."));
+            locale = null;
+            return;
+        }
+
+        if(locale.statsRuns() == null) {
+            logger.warn(AdventureUtil.serialize("The stats runs message in the locale is invalid. The default locale will be used."));
+            locale = null;
+            return;
+        }
+
+        if(locale.statsMobs() == null) {
+            logger.warn(AdventureUtil.serialize("The stats mobs message in the locale is invalid. The default locale will be used."));
+            locale = null;
+            return;
+        }
+
+        if(locale.statsQueue() == null) {
+            logger.warn(AdventureUtil.serialize("The stats queue message in the locale is invalid. The default locale will be used."));
+            locale = null;
+            return;
+        }
+
+        if(locale.statsTimings() == null) {
+            logger.warn(AdventureUtil.serialize("The stats timings message in the locale is invalid. The default locale will be used."));
+            locale = null;
+            return;
+        }
+
+        if(locale.statsNoTimings() == null) {
+            logger.warn(AdventureUtil.serialize("The stats no timings message in the locale is invalid. The default locale will be used."));
+            locale = null;
+            return;
+        }
+
+        if(locale.loadLevel() == null) {
+            logger.warn(AdventureUtil.serialize("The load level message in the locale is invalid. The default locale will be used."));
+            locale = null;
+            return;
+        }
+
+        if(locale.loadLevelDisabled() == null) {
+            logger.warn(AdventureUtil.serialize("The load level disabled message in the locale is invalid. The default locale will be used."));
+            locale = null;
+            return;
+        }
+
+        if(locale.loadNotSampled() == null) {
+            logger.warn(AdventureUtil.serialize("The load not sampled message in the locale is invalid. The default locale will be used."));
+            locale = null;
+            return;
+        }
+
+        if(locale.loadMspt() == null) {
+            logger.warn(AdventureUtil.serialize("The load MSPT message in the locale is invalid. The default locale will be used."));
+            locale = null;
+            return;
+        }
+
+        if(locale.loadThresholds() == null) {
+            logger.warn(AdventureUtil.serialize("The load thresholds message in the locale is invalid. The default locale will be used."));
+            locale = null;
+            return;
+        }
+
+        if(locale.loadScaling() == null) {
+            logger.warn(AdventureUtil.serialize("The load scaling message in the locale is invalid. The default locale will be used."));
+            locale = null;
+            return;
+        }
+
+        if(locale.loadNoAdjustments() == null) {
+            logger.warn(AdventureUtil.serialize("The load no adjustments message in the locale is invalid. The default locale will be used."));
+            locale = null;
+            return;
+        }
+
+        if(locale.loadAdjustment() == null) {
+            logger.warn(AdventureUtil.serialize("The load adjustment message in the locale is invalid. The default locale will be used."));
+            locale = null;
+            return;
+        }
+
         Locale.TimeMessage timeMessage = locale.timeMessage();
         if(timeMessage.prefix() == null
                 || timeMessage.years() == null
@@ -398,95 +681,12 @@ public class LocaleManager {
      */
     @NotNull
     public String getTimeMessage(long timeSeconds) {
-        Locale locale = this.getLocale();
-        Time timeRecord = TimeUtil.millisToTime(timeSeconds * 1000L);
-
-        List<TagResolver.Single> placeholders = List.of(
-                Placeholder.parsed("years", String.valueOf(timeRecord.years())),
-                Placeholder.parsed("months", String.valueOf(timeRecord.months())),
-                Placeholder.parsed("weeks", String.valueOf(timeRecord.weeks())),
-                Placeholder.parsed("days", String.valueOf(timeRecord.days())),
-                Placeholder.parsed("hours", String.valueOf(timeRecord.hours())),
-                Placeholder.parsed("minutes", String.valueOf(timeRecord.minutes())),
-                Placeholder.parsed("seconds", String.valueOf(timeRecord.seconds())));
-
-        StringBuilder stringBuilder = getStringBuilder(locale, timeRecord);
-
-        return MiniMessage.miniMessage().serialize(AdventureUtil.serialize(stringBuilder.toString(), placeholders));
-    }
-
-    /**
-     * Builds the string by populating any non-zero individual time units.
-     * @param locale The plugin's locale
-     * @param timeRecord The record containing the individual time units to display.
-     * @return A populated StringBuilder. May be empty if all time units were 0 and no suffix was configured.
-     */
-    private @NotNull StringBuilder getStringBuilder(Locale locale, Time timeRecord) {
-        Locale.TimeMessage timeMessage = locale.timeMessage();
-        StringBuilder stringBuilder = new StringBuilder();
-
-        stringBuilder.append(timeMessage.prefix());
-
-        boolean isFirstUnit = true;
-
-        if(timeRecord.years() > 0) {
-            stringBuilder.append(timeMessage.years());
-            isFirstUnit = false;
-        }
-
-        if (timeRecord.months() > 0) {
-            if (!isFirstUnit) {
-                stringBuilder.append(" ");
-            }
-            stringBuilder.append(timeMessage.months());
-            isFirstUnit = false;
-        }
-
-        if (timeRecord.weeks() > 0) {
-            if (!isFirstUnit) {
-                stringBuilder.append(" ");
-            }
-            stringBuilder.append(timeMessage.weeks());
-            isFirstUnit = false;
-        }
-
-        if (timeRecord.days() > 0) {
-            if (!isFirstUnit) {
-                stringBuilder.append(" ");
-            }
-            stringBuilder.append(timeMessage.days());
-            isFirstUnit = false;
-        }
-
-        if (timeRecord.hours() > 0) {
-            if (!isFirstUnit) {
-                stringBuilder.append(" ");
-            }
-            stringBuilder.append(timeMessage.hours());
-            isFirstUnit = false;
-        }
-
-        if (timeRecord.minutes() > 0) {
-            if (!isFirstUnit) {
-                stringBuilder.append(" ");
-            }
-            stringBuilder.append(timeMessage.minutes());
-            isFirstUnit = false;
-        }
-
-        if (timeRecord.seconds() > 0) {
-            if (!isFirstUnit) {
-                stringBuilder.append(" ");
-            }
-            stringBuilder.append(timeMessage.seconds());
-            isFirstUnit = false;
-        }
-
-        if(isFirstUnit) {
-            stringBuilder.append(timeMessage.seconds());
+        TimeMessageFormatter formatter = timeMessageFormatter;
+        if(formatter == null) {
+            formatter = new TimeMessageFormatter(getLocale().timeMessage());
+            timeMessageFormatter = formatter;
         }
 
-        stringBuilder.append(timeMessage.suffix());
-        return stringBuilder;
+        return formatter.format(timeSeconds);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,299 @@
+/*
+    SkyTrials is a plugin that offers different challenges or trials to tackle. Inspired by the Minecraft Trial Chambers and mob arenas.
+    Copyright (C) 2024 lukeskywlker19
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.github.lukesky19.skytrials.manager.locale;
+
+import com.github.lukesky19.skytrials.data.config.locale.Locale;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * This enum is used to identify the {@link Locale} messages that are compiled into {@link MessageTemplate}s.
+ */
+public enum LocaleMessage {
+    /**
+     * The reload message.
+     */
+    RELOAD(Locale::reload),
+    /**
+     * The message sent to the player when they join a trial.
+     */
+    JOIN_TRIAL(Locale::joinTrial),
+    /**
+     * The message sent to other players when another player joins the trial.
+     */
+    PLAYER_JOINED_TRIAL(Locale::playerJoinedTrial),
+    /**
+     * The message sent when a player can't join a trial due to a cooldown.
+     */
+    TRIAL_ON_COOLDOWN(Locale::trialOnCooldown),
+    /**
+     * The message sent when a player can't join a trial due to it being active.
+     */
+    JOIN_TRIAL_ACTIVE(Locale::joinTrialActive),
+    /**
+     * The player sent when a player can't join a trial because they are in a trial.
+     */
+    JOIN_TRIAL_IN_TRIAL(Locale::joinTrialInTrial),
+    /**
+     * The message sent to the player when they indicate they are ready to start the trial.
+     */
+    READY(Locale::ready),
+    /**
+     * The message sent to the player when they indicate they are no longer ready to start the trial.
+     */
+    NOT_READY(Locale::notReady),
+    /**
+     * The message sent to other players when a player is ready to start the trial.
+     */
+    PLAYER_IS_READY(Locale::playerIsReady),
+    /**
+     * The message sent to other players when a player is no longer ready to start the trial.
+     */
+    PLAYER_IS_NOT_READY(Locale::playerIsNotReady),
+    /**
+     * The message sent to the players in the trial when a trial starts.
+     */
+    START_TRIAL(Locale::startTrial),
+    /**
+     * The message sent to all other players when a trial starts.
+     */
+    BROADCAST_TRIAL_START(Locale::broadcastTrialStart),
+    /**
+     * The message sent to a player who attempts to start the trial when the trial is active.
+     */
+    START_TRIAL_ACTIVE(Locale::startTrialActive),
+    /**
+     * The message sent to a player who attempts to start a trial when not in a trial.
+     */
+    START_TRIAL_NOT_IN_TRIAL(Locale::startTrialNotInTrial),
+    /**
+     * The message sent to the player that leaves a trial.
+     */
+    LEAVE_TRIAL(Locale::leaveTrial),
+    /**
+     * The message sent to all other players that leaves a trial.
+     */
+    PLAYER_LEAVE_TRIAL(Locale::playerLeaveTrial),
+    /**
+     * The message sent to the player that attempts to leave a trial while not in one.
+     */
+    LEAVE_TRIAL_NOT_IN_TRIAL(Locale::leaveTrialNotInTrial),
+    /**
+     * The message sent to all players in the trial when a trial ends.
+     */
+    TRIAL_END(Locale::trialEnd),
+    /**
+     * The message sent to all players in the trial when a trial ends due to a plugin reload.
+     */
+    TRIAL_END_RELOAD(Locale::trialEndReload),
+    /**
+     * The message sent to a player when a trial they were in ended while they were offline.
+     */
+    TRIAL_ENDED_WHILE_OFFLINE(Locale::trialEndedWhileOffline),
+    /**
+     * The message sent to all other players when a trial ends.
+     */
+    BROADCAST_TRIAL_END(Locale::broadcastTrialEnd),
+    /**
+     * The message sent to the player who dies in a trial.
+     */
+    DIED_IN_TRIAL(Locale::diedInTrial),
+    /**
+     * The message sent to all other players when a player dies in the trial.
+     */
+    PLAYER_DIED_IN_TRIAL(Locale::playerDiedInTrial),
+    /**
+     * The message sent to all players in the trial when a level up occurs.
+     */
+    LEVEL_UP(Locale::levelUp),
+    /**
+     * The message sent when a cooldown is applied for a trial.
+     */
+    COOLDOWN_APPLIED(Locale::cooldownApplied),
+    /**
+     * The message sent to the player who added a cooldown for another player.
+     */
+    PLAYER_COOLDOWN_APPLIED(Locale::playerCooldownApplied),
+    /**
+     * The message sent when a cooldown is removed for a trial.
+     */
+    COOLDOWN_REMOVED(Locale::cooldownRemoved),
+    /**
+     * The message sent to the player who removed a cooldown for another player.
+     */
+    PLAYER_COOLDOWN_REMOVED(Locale::playerCooldownRemoved),
+    /**
+     * The message sent when a trial cooldown ends.
+     */
+    COOLDOWN_ENDED(Locale::cooldownEnded),
+    /**
+     * The message sent to display a trial's cooldown.
+     */
+    COOLDOWN_TIME(Locale::cooldownTime),
+    /**
+     * The message to view a player's trial cooldown.
+     */
+    PLAYER_COOLDOWN_TIME(Locale::playerCooldownTime),
+    /**
+     * The message sent when a player doesn't have a cooldown.
+     */
+    NO_COOLDOWN(Locale::noCooldown),
+    /**
+     * The message sent when another player doesn't have a cooldown.
+     */
+    PLAYER_NO_COOLDOWN(Locale::playerNoCooldown),
+    /**
+     * The message sent to the player when they join a trial's queue.
+     */
+    JOIN_QUEUE(Locale::joinQueue),
+    /**
+     * The message sent when a player can't join a trial or queue because they are already in a queue.
+     */
+    JOIN_QUEUE_IN_QUEUE(Locale::joinQueueInQueue),
+    /**
+     * The message sent to the player when they leave a trial's queue.
+     */
+    LEAVE_QUEUE(Locale::leaveQueue),
+    /**
+     * The message sent when a player tries to ready up in a trial that starts automatically from its queue.
+     */
+    READY_QUEUED_TRIAL(Locale::readyQueuedTrial),
+    /**
+     * The message sent when a player name given to a command doesn't match a player that has joined before.
+     */
+    PLAYER_NOT_FOUND(Locale::playerNotFound),
+    /**
+     * The message sent when a trial id given to a command doesn't match a trial.
+     */
+    TRIAL_NOT_FOUND(Locale::trialNotFound),
+    /**
+     * The first line of the stats command for all trials.
+     */
+    STATS_HEADER(Locale::statsHeader),
+    /**
+     * The first line of the stats command for a single trial.
+     */
+    STATS_TRIAL_HEADER(Locale::statsTrialHeader),
+    /**
+     * The line naming a trial in the stats command for all trials. Sent without the prefix.
+     */
+    STATS_TRIAL_NAME(Locale::statsTrialName, false),
+    /**
+     * The line showing a trial's run counters in the stats command. Sent without the prefix.
+     */
+    STATS_RUNS(Locale::statsRuns, false, "started", "completed", "failed", "timeout", "death", "empty", "reload"),
+    /**
+     * The line showing a trial's mob counters in the stats command. Sent without the prefix.
+     */
+    STATS_MOBS(Locale::statsMobs, false, "spawned", "killed"),
+    /**
+     * The line showing a trial's queue depth and wait times in the stats command. Sent without the prefix.
+     */
+    STATS_QUEUE(Locale::statsQueue, false, "waiting", "p50", "p99", "max"),
+    /**
+     * The line showing the timings of an operation in the stats command. Sent without the prefix.
+     */
+    STATS_TIMINGS(Locale::statsTimings, false, "operation", "count", "mean", "p50", "p99", "max"),
+    /**
+     * The line sent by the stats command when no timings were recorded for a trial. Sent without the prefix.
+     */
+    STATS_NO_TIMINGS(Locale::statsNoTimings, false),
+    /**
+     * The first line of the load command showing the current load level.
+     */
+    LOAD_LEVEL(Locale::loadLevel),
+    /**
+     * The first line of the load command showing the current load level when load shedding is disabled.
+     */
+    LOAD_LEVEL_DISABLED(Locale::loadLevelDisabled),
+    /**
+     * The line sent by the load command before the server load has been sampled. Sent without the prefix.
+     */
+    LOAD_NOT_SAMPLED(Locale::loadNotSampled, false),
+    /**
+     * The line showing the server's MSPT and TPS in the load command. Sent without the prefix.
+     */
+    LOAD_MSPT(Locale::loadMspt, false, "smoothed_mspt", "last_mspt", "tps"),
+    /**
+     * The line showing the MSPT thresholds for each load level in the load command. Sent without the prefix.
+     */
+    LOAD_THRESHOLDS(Locale::loadThresholds, false, "elevated", "high", "critical", "recovery_margin"),
+    /**
+     * The line showing how far trials are scaled back at the current load level in the load command. Sent without the prefix.
+     */
+    LOAD_SCALING(Locale::loadScaling, false, "spawn_frequency", "spawn_batch_size", "boss_bar_refresh_ticks"),
+    /**
+     * The line sent by the load command when the load level has not changed. Sent without the prefix.
+     */
+    LOAD_NO_ADJUSTMENTS(Locale::loadNoAdjustments, false),
+    /**
+     * The line showing a recent load level change in the load command. Sent without the prefix.
+     */
+    LOAD_ADJUSTMENT(Locale::loadAdjustment, false, "from", "to", "mspt");
+
+    private final @NotNull Function<Locale, String> getter;
+    private final boolean prefixed;
+    private final @NotNull Set<String> placeholderNames;
+
+    /**
+     * Constructor for a message sent with the plugin's prefix.
+     * @param getter The {@link Function} to get the message from a {@link Locale}.
+     */
+    LocaleMessage(@NotNull Function<Locale, String> getter) {
+        this(getter, true);
+    }
+
+    /**
+     * Constructor
+     * @param getter The {@link Function} to get the message from a {@link Locale}.
+     * @param prefixed Whether the message is sent with the plugin's prefix.
+     * @param placeholderNames The names of the placeholders only this message uses, on top of the ones every message may use.
+     */
+    LocaleMessage(@NotNull Function<Locale, String> getter, boolean prefixed, @NotNull String... placeholderNames) {
+        this.getter = getter;
+        this.prefixed = prefixed;
+        this.placeholderNames = Set.of(placeholderNames);
+    }
+
+    /**
+     * Get the message from the {@link Locale} provided.
+     * @param locale The {@link Locale}.
+     * @return The message.
+     */
+    public @NotNull String getMessage(@NotNull Locale locale) {
+        return getter.apply(locale);
+    }
+
+    /**
+     * Checks if the message is sent with the plugin's prefix.
+     * @return true if the message is prefixed, otherwise false.
+     */
+    public boolean isPrefixed() {
+        return prefixed;
+    }
+
+    /**
+     * Get the names of the placeholders only this message uses.
+     * @return A {@link Set} of placeholder names.
+     */
+    public @NotNull Set<String> getPlaceholderNames() {
+        return placeholderNames;
+    }
+}
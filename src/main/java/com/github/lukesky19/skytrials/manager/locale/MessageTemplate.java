@@ -0,0 +1,203 @@
+/*
+    SkyTrials is a plugin that offers different challenges or trials to tackle. Inspired by the Minecraft Trial Chambers and mob arenas.
+    Copyright (C) 2024 lukeskywlker19
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.github.lukesky19.skytrials.manager.locale;
+
+import com.github.lukesky19.skylib.api.adventure.AdventureUtil;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextReplacementConfig;
+import net.kyori.adventure.text.minimessage.Context;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.tag.Tag;
+import net.kyori.adventure.text.minimessage.tag.resolver.ArgumentQueue;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * This class is a locale message that is parsed once when the locale is loaded.
+ * Placeholders are parsed as marker text, so sending the message only swaps the markers for the placeholder values
+ * instead of parsing the whole message again.
+ */
+public class MessageTemplate {
+    // Private use characters so a marker can never match text from the locale
+    private static final @NotNull String MARKER_START = "\uE000";
+    private static final @NotNull String MARKER_END = "\uE001";
+    // The same pattern PlaceholderAPI uses to find placeholders, so a literal % doesn't force the slow path
+    private static final @NotNull Pattern PLACEHOLDER_API_PATTERN = Pattern.compile("%[^%\\s]+_[^%\\s]+%");
+
+    private final @NotNull String source;
+    private final @NotNull Component compiled;
+    private final @NotNull Set<String> placeholderNames;
+    private final boolean usesPlaceholderApi;
+
+    /**
+     * Constructor
+     * @param source The MiniMessage source of the message.
+     * @param knownPlaceholders The names of the placeholders that may be provided when the message is sent.
+     */
+    public MessageTemplate(@NotNull String source, @NotNull Set<String> knownPlaceholders) {
+        this.source = source;
+
+        Set<String> foundPlaceholders = new HashSet<>();
+        this.compiled = MiniMessage.miniMessage().deserialize(source, new MarkerResolver(knownPlaceholders, foundPlaceholders));
+        this.placeholderNames = Set.copyOf(foundPlaceholders);
+
+        // PlaceholderAPI placeholders are parsed from the text for a specific player, so those messages can't be pre-parsed
+        this.usesPlaceholderApi = PLACEHOLDER_API_PATTERN.matcher(source).find();
+    }
+
+    /**
+     * Get the MiniMessage source of the message.
+     * @return The MiniMessage source.
+     */
+    public @NotNull String getSource() {
+        return source;
+    }
+
+    /**
+     * Checks if the message uses PlaceholderAPI placeholders, which are parsed for a specific player.
+     * @return true if the message uses PlaceholderAPI placeholders, otherwise false.
+     */
+    public boolean usesPlaceholderApi() {
+        return usesPlaceholderApi;
+    }
+
+    /**
+     * Renders the message without placeholders.
+     * @return The rendered {@link Component}.
+     */
+    public @NotNull Component render() {
+        return render(List.of());
+    }
+
+    /**
+     * Renders the message with the placeholders provided.
+     * @param placeholders A {@link List} of {@link TagResolver.Single} placeholders.
+     * @return The rendered {@link Component}.
+     */
+    public @NotNull Component render(@NotNull List<TagResolver.Single> placeholders) {
+        if(placeholderNames.isEmpty()) return compiled;
+
+        Component rendered = compiled;
+        Set<String> remainingNames = new HashSet<>(placeholderNames);
+        for(TagResolver.Single placeholder : placeholders) {
+            if(!remainingNames.remove(placeholder.key())) continue;
+
+            Component value = getPlaceholderValue(placeholder);
+            if(value == null) {
+                // Any other kind of tag depends on where it is used in the message, so parse the message normally
+                return AdventureUtil.serialize(source, placeholders);
+            }
+
+            rendered = replaceMarker(rendered, placeholder.key(), value);
+        }
+
+        // Placeholders that weren't provided are shown as written, like MiniMessage does for unknown tags
+        for(String name : remainingNames) {
+            rendered = replaceMarker(rendered, name, Component.text("<" + name + ">"));
+        }
+
+        return rendered;
+    }
+
+    /**
+     * Renders the message with the placeholders provided and any PlaceholderAPI placeholders for the player provided.
+     * @param player The {@link Player} to parse PlaceholderAPI placeholders for.
+     * @param placeholders A {@link List} of {@link TagResolver.Single} placeholders.
+     * @return The rendered {@link Component}.
+     */
+    public @NotNull Component render(@NotNull Player player, @NotNull List<TagResolver.Single> placeholders) {
+        // Without PlaceholderAPI the placeholders would be left as written anyway, so skip parsing the message again
+        if(usesPlaceholderApi && Bukkit.getPluginManager().isPluginEnabled("PlaceholderAPI")) {
+            return AdventureUtil.serialize(player, source, placeholders);
+        }
+
+        return render(placeholders);
+    }
+
+    /**
+     * Replaces a placeholder's marker with its value.
+     * @param component The {@link Component} containing the marker.
+     * @param name The name of the placeholder.
+     * @param value The {@link Component} to replace the marker with.
+     * @return The {@link Component} with the marker replaced.
+     */
+    private @NotNull Component replaceMarker(@NotNull Component component, @NotNull String name, @NotNull Component value) {
+        return component.replaceText(TextReplacementConfig.builder()
+                .matchLiteral(MARKER_START + name + MARKER_END)
+                .replacement(value)
+                .build());
+    }
+
+    /**
+     * Get the {@link Component} a placeholder inserts.
+     * @param placeholder The {@link TagResolver.Single} placeholder.
+     * @return The {@link Component} or null if the placeholder isn't a parsed or component placeholder.
+     */
+    private @Nullable Component getPlaceholderValue(@NotNull TagResolver.Single placeholder) {
+        Tag tag = placeholder.tag();
+
+        if(tag instanceof Tag.PreProcess preProcess) {
+            return MiniMessage.miniMessage().deserialize(preProcess.value());
+        }
+
+        if(tag instanceof Tag.Inserting inserting) {
+            return inserting.value();
+        }
+
+        return null;
+    }
+
+    /**
+     * This {@link TagResolver} inserts a marker for each known placeholder and records which ones the message uses.
+     */
+    private static class MarkerResolver implements TagResolver {
+        private final @NotNull Set<String> knownPlaceholders;
+        private final @NotNull Set<String> foundPlaceholders;
+
+        /**
+         * Constructor
+         * @param knownPlaceholders The names of the placeholders to insert markers for.
+         * @param foundPlaceholders The {@link Set} to add the names of the placeholders found to.
+         */
+        private MarkerResolver(@NotNull Set<String> knownPlaceholders, @NotNull Set<String> foundPlaceholders) {
+            this.knownPlaceholders = knownPlaceholders;
+            this.foundPlaceholders = foundPlaceholders;
+        }
+
+        @Override
+        public @Nullable Tag resolve(@NotNull String name, @NotNull ArgumentQueue arguments, @NotNull Context ctx) {
+            if(!has(name)) return null;
+
+            foundPlaceholders.add(name);
+            return Tag.selfClosingInserting(Component.text(MARKER_START + name + MARKER_END));
+        }
+
+        @Override
+        public boolean has(@NotNull String name) {
+            return knownPlaceholders.contains(name);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+    SkyTrials is a plugin that offers different challenges or trials to tackle. Inspired by the Minecraft Trial Chambers and mob arenas.
+    Copyright (C) 2024 lukeskywlker19
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.github.lukesky19.skytrials.manager.locale;
+
+import com.github.lukesky19.skylib.api.time.Time;
+import com.github.lukesky19.skylib.api.time.TimeUtil;
+import com.github.lukesky19.skytrials.data.config.locale.Locale;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * This class formats times using the {@link Locale.TimeMessage} config.
+ * Each unit's text is split around its placeholders when the locale is loaded, so formatting only appends strings
+ * instead of parsing and serializing MiniMessage. The result is a MiniMessage {@link String} that can be used as a placeholder value.
+ */
+public class TimeMessageFormatter {
+    // Times under an hour are cached, which covers trial countdowns and most cooldown messages
+    private static final int CACHE_SIZE = 3600;
+    private static final @NotNull String[] UNIT_NAMES = {"years", "months", "weeks", "days", "hours", "minutes", "seconds"};
+    private static final int SECONDS_INDEX = UNIT_NAMES.length - 1;
+
+    private final @NotNull Fragment prefix;
+    private final @NotNull Fragment[] units = new Fragment[UNIT_NAMES.length];
+    private final @NotNull Fragment suffix;
+    private final @NotNull AtomicReferenceArray<String> cache = new AtomicReferenceArray<>(CACHE_SIZE);
+
+    /**
+     * Constructor
+     * @param timeMessage The {@link Locale.TimeMessage} config to format times with.
+     */
+    public TimeMessageFormatter(@NotNull Locale.TimeMessage timeMessage) {
+        prefix = Fragment.compile(timeMessage.prefix());
+        units[0] = Fragment.compile(timeMessage.years());
+        units[1] = Fragment.compile(timeMessage.months());
+        units[2] = Fragment.compile(timeMessage.weeks());
+        units[3] = Fragment.compile(timeMessage.days());
+        units[4] = Fragment.compile(timeMessage.hours());
+        units[5] = Fragment.compile(timeMessage.minutes());
+        units[6] = Fragment.compile(timeMessage.seconds());
+        suffix = Fragment.compile(timeMessage.suffix());
+    }
+
+    /**
+     * Formats a time. Only non-zero units are included, and the seconds text is used if every unit is zero.
+     * This can be called from any thread.
+     * @param timeSeconds The time in seconds.
+     * @return The formatted time as a MiniMessage {@link String}.
+     */
+    public @NotNull String format(long timeSeconds) {
+        if(timeSeconds < 0 || timeSeconds >= CACHE_SIZE) return createMessage(timeSeconds);
+
+        int index = (int) timeSeconds;
+        String message = cache.get(index);
+        if(message == null) {
+            message = createMessage(timeSeconds);
+            cache.set(index, message);
+        }
+
+        return message;
+    }
+
+    /**
+     * Creates the formatted time.
+     * @param timeSeconds The time in seconds.
+     * @return The formatted time as a MiniMessage {@link String}.
+     */
+    private @NotNull String createMessage(long timeSeconds) {
+        Time time = TimeUtil.millisToTime(timeSeconds * 1000L);
+        long[] values = {time.years(), time.months(), time.weeks(), time.days(), time.hours(), time.minutes(), time.seconds()};
+
+        StringBuilder stringBuilder = new StringBuilder();
+        prefix.appendTo(stringBuilder, values);
+
+        boolean isFirstUnit = true;
+        for(int i = 0; i < units.length; i++) {
+            if(values[i] > 0) {
+                if(!isFirstUnit) stringBuilder.append(' ');
+
+                units[i].appendTo(stringBuilder, values);
+                isFirstUnit = false;
+            }
+        }
+
+        if(isFirstUnit) {
+            units[SECONDS_INDEX].appendTo(stringBuilder, values);
+        }
+
+        suffix.appendTo(stringBuilder, values);
+
+        return stringBuilder.toString();
+    }
+
+    /**
+     * The text for part of the time message, split around the unit placeholders it contains.
+     * @param literals The text between placeholders. There is always one more literal than unit indexes.
+     * @param unitIndexes The index of the unit for each placeholder.
+     */
+    private record Fragment(@NotNull String[] literals, int[] unitIndexes) {
+        /**
+         * Splits the text provided around any unit placeholders, such as {@code <minutes>}.
+         * @param text The text to compile.
+         * @return The compiled {@link Fragment}.
+         */
+        private static @NotNull Fragment compile(@NotNull String text) {
+            List<String> literals = new ArrayList<>();
+            List<Integer> unitIndexes = new ArrayList<>();
+
+            int literalStart = 0;
+            int tagStart = text.indexOf('<');
+            while(tagStart != -1) {
+                int unitIndex = getUnitIndexAt(text, tagStart);
+                if(unitIndex != -1) {
+                    literals.add(text.substring(literalStart, tagStart));
+                    unitIndexes.add(unitIndex);
+                    literalStart = tagStart + UNIT_NAMES[unitIndex].length() + 2;
+                    tagStart = text.indexOf('<', literalStart);
+                } else {
+                    tagStart = text.indexOf('<', tagStart + 1);
+                }
+            }
+
+            literals.add(text.substring(literalStart));
+
+            return new Fragment(literals.toArray(String[]::new), unitIndexes.stream().mapToInt(Integer::intValue).toArray());
+        }
+
+        /**
+         * Get the unit whose placeholder starts at the index provided.
+         * @param text The text.
+         * @param index The index of a '<' character.
+         * @return The index of the unit or -1 if there isn't a unit placeholder at the index.
+         */
+        private static int getUnitIndexAt(@NotNull String text, int index) {
+            for(int i = 0; i < UNIT_NAMES.length; i++) {
+                String unitName = UNIT_NAMES[i];
+                int end = index + unitName.length() + 1;
+
+                if(text.startsWith(unitName, index + 1) && end < text.length() && text.charAt(end) == '>') {
+                    return i;
+                }
+            }
+
+            return -1;
+        }
+
+        /**
+         * Appends the fragment with the unit values provided.
+         * @param stringBuilder The {@link StringBuilder} to append to.
+         * @param values The value of every unit.
+         */
+        private void appendTo(@NotNull StringBuilder stringBuilder, long[] values) {
+            for(int i = 0; i < unitIndexes.length; i++) {
+                stringBuilder.append(literals[i]).append(values[unitIndexes[i]]);
+            }
+
+            stringBuilder.append(literals[literals.length - 1]);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+/*
+    SkyTrials is a plugin that offers different challenges or trials to tackle. Inspired by the Minecraft Trial Chambers and mob arenas.
+    Copyright (C) 2024 lukeskywlker19
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.github.lukesky19.skytrials.manager.matchmaking;
+
+import com.github.lukesky19.skytrials.SkyTrials;
+import com.github.lukesky19.skytrials.data.trial.ChamberTrialData;
+import com.github.lukesky19.skytrials.data.trial.LevelTrialData;
+import com.github.lukesky19.skytrials.manager.locale.LocaleManager;
+import com.github.lukesky19.skytrials.manager.locale.LocaleMessage;
+import com.github.lukesky19.skytrials.manager.metrics.MetricsManager;
+import com.github.lukesky19.skytrials.manager.metrics.TrialMetrics;
+import com.github.lukesky19.skytrials.manager.player.CooldownManager;
+import com.github.lukesky19.skytrials.manager.trial.TrialDataManager;
+import com.github.lukesky19.skytrials.manager.trial.TrialManager;
+import com.github.lukesky19.skytrials.trial.AbstractTrial;
+import com.github.lukesky19.skytrials.util.TrialOperation;
+import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import org.bukkit.Server;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This class manages the matchmaking queues for trials that are configured with one.
+ * Players join a queue instead of a trial, and a single dispatcher places waiting parties into empty trial instances and starts them.
+ */
+public class MatchmakingManager {
+    private final @NotNull SkyTrials skyTrials;
+    private final @NotNull LocaleManager localeManager;
+    private final @NotNull TrialDataManager trialDataManager;
+    private final @NotNull TrialManager trialManager;
+    private final @NotNull CooldownManager cooldownManager;
+    private final @NotNull MetricsManager metricsManager;
+
+    private final @NotNull Map<String, TrialQueue> trialQueueMap = new ConcurrentHashMap<>();
+    private final @NotNull Map<UUID, TrialQueue> playerQueueMap = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor
+     * @param skyTrials A {@link SkyTrials} instance.
+     * @param localeManager A {@link LocaleManager} instance.
+     * @param trialDataManager A {@link TrialDataManager} instance.
+     * @param trialManager A {@link TrialManager} instance.
+     * @param cooldownManager A {@link CooldownManager} instance.
+     * @param metricsManager A {@link MetricsManager} instance.
+     */
+    public MatchmakingManager(
+            @NotNull SkyTrials skyTrials,
+            @NotNull LocaleManager localeManager,
+            @NotNull TrialDataManager trialDataManager,
+            @NotNull TrialManager trialManager,
+            @NotNull CooldownManager cooldownManager,
+            @NotNull MetricsManager metricsManager) {
+        this.skyTrials = skyTrials;
+        this.localeManager = localeManager;
+        this.trialDataManager = trialDataManager;
+        this.trialManager = trialManager;
+        this.cooldownManager = cooldownManager;
+        this.metricsManager = metricsManager;
+    }
+
+    /**
+     * Creates a queue for each trial that is configured with one.
+     */
+    public void createQueues() {
+        for(ChamberTrialData trialData : trialDataManager.getChamberTrialDataList()) {
+            if(trialData.queueData() != null) trialQueueMap.put(trialData.trialId(), new TrialQueue(trialData.trialId(), trialData.queueData()));
+        }
+
+        for(LevelTrialData trialData : trialDataManager.getLevelTrialDataList()) {
+            if(trialData.queueData() != null) trialQueueMap.put(trialData.trialId(), new TrialQueue(trialData.trialId(), trialData.queueData()));
+        }
+    }
+
+    /**
+     * Removes all players from every queue and clears the queues. Is used on reloads.
+     */
+    public void clearQueues() {
+        for(TrialQueue trialQueue : trialQueueMap.values()) {
+            metricsManager.getTrialMetrics(trialQueue.getTrialId()).setQueueDepth(0);
+        }
+
+        trialQueueMap.clear();
+        playerQueueMap.clear();
+    }
+
+    /**
+     * Checks if a trial uses a matchmaking queue.
+     * @param trialId The id of the trial.
+     * @return true if the trial has a queue, otherwise false.
+     */
+    public boolean hasQueue(@NotNull String trialId) {
+        return trialQueueMap.containsKey(trialId);
+    }
+
+    /**
+     * Get the {@link TrialQueue} a player is waiting in if any.
+     * @param uuid The {@link UUID} of the player.
+     * @return A {@link TrialQueue} or null.
+     */
+    public @Nullable TrialQueue getQueueByPlayerUUID(@NotNull UUID uuid) {
+        return playerQueueMap.get(uuid);
+    }
+
+    /**
+     * Adds a player to a trial's queue if they do not have a cooldown for the trial.
+     * @param player The {@link Player} joining the queue.
+     * @param trialId The id of the trial.
+     */
+    public void joinQueue(@NotNull Player player, @NotNull String trialId) {
+        TrialQueue trialQueue = trialQueueMap.get(trialId);
+        if(trialQueue == null) return;
+
+        UUID uuid = player.getUniqueId();
+
+        @Nullable Long playerCooldown = cooldownManager.getTrialCooldown(uuid, trialId);
+        if(playerCooldown != null) {
+            List<TagResolver.Single> placeholders = List.of(Placeholder.parsed("trial_id", trialId), Placeholder.parsed("time", localeManager.getTimeMessage(playerCooldown)));
+
+            player.sendMessage(localeManager.getMessage(LocaleMessage.TRIAL_ON_COOLDOWN, placeholders));
+            player.sendMessage(localeManager.getMessage(LocaleMessage.COOLDOWN_TIME, player, placeholders));
+
+            return;
+        }
+
+        if(playerQueueMap.putIfAbsent(uuid, trialQueue) != null || !trialQueue.add(uuid)) {
+            player.sendMessage(localeManager.getMessage(LocaleMessage.JOIN_QUEUE_IN_QUEUE, List.of(Placeholder.parsed("trial_id", trialId))));
+            return;
+        }
+
+        player.sendMessage(localeManager.getMessage(LocaleMessage.JOIN_QUEUE, List.of(Placeholder.parsed("trial_id", trialId))));
+    }
+
+    /**
+     * Removes a player from the queue they are waiting in.
+     * @param player The {@link Player} leaving the queue.
+     * @return true if the player was in a queue, otherwise false.
+     */
+    public boolean leaveQueue(@NotNull Player player) {
+        UUID uuid = player.getUniqueId();
+
+        TrialQueue trialQueue = playerQueueMap.remove(uuid);
+        if(trialQueue == null) return false;
+
+        trialQueue.remove(uuid);
+        player.sendMessage(localeManager.getMessage(LocaleMessage.LEAVE_QUEUE, List.of(Placeholder.parsed("trial_id", trialQueue.getTrialId()))));
+
+        return true;
+    }
+
+    /**
+     * Places every ready party into an empty instance of its trial and starts the instance.
+     * Players that went offline are removed from the queues first.
+     * A party stays queued while every instance of its trial is in use.
+     */
+    public void dispatchQueues() {
+        Server server = skyTrials.getServer();
+
+        for(TrialQueue trialQueue : trialQueueMap.values()) {
+            String trialId = trialQueue.getTrialId();
+            TrialMetrics trialMetrics = metricsManager.getTrialMetrics(trialId);
+
+            trialQueue.removeIf(uuid -> server.getPlayer(uuid) == null).forEach(playerQueueMap::remove);
+
+            long nanoTime = System.nanoTime();
+            while(trialQueue.isPartyReady(nanoTime)) {
+                AbstractTrial trial = trialManager.acquireEmptyTrial(trialId);
+                if(trial == null) break;
+
+                List<Player> party = new ArrayList<>();
+                for(TrialQueue.QueuedPlayer queuedPlayer : trialQueue.pollParty(nanoTime)) {
+                    playerQueueMap.remove(queuedPlayer.uuid());
+                    trialMetrics.recordQueueWait(queuedPlayer.waitNanos());
+
+                    Player player = server.getPlayer(queuedPlayer.uuid());
+                    if(player != null && !trialManager.isPlayerInTrial(queuedPlayer.uuid())) party.add(player);
+                }
+
+                for(Player player : party) {
+                    trialManager.runTrialOperation(trial, TrialOperation.JOIN, () -> trial.join(player, player.getUniqueId()));
+                }
+
+                // Operations on the same trial run in order, so this runs after the party has joined
+                trialManager.runTrialOperation(trial, TrialOperation.START, () -> {
+                    if(!trial.isStarted() && !trial.isEmpty()) trial.start();
+                });
+            }
+
+            trialMetrics.setQueueDepth(trialQueue.size());
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+    SkyTrials is a plugin that offers different challenges or trials to tackle. Inspired by the Minecraft Trial Chambers and mob arenas.
+    Copyright (C) 2024 lukeskywlker19
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.github.lukesky19.skytrials.manager.matchmaking;
+
+import com.github.lukesky19.skytrials.data.trial.QueueData;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * This class contains the players waiting to be placed into an instance of a single trial, in the order they joined.
+ * Methods are synchronized as players join and leave from their own region threads on Folia.
+ */
+public class TrialQueue {
+    private final @NotNull String trialId;
+    private final int partySize;
+    private final long maxWaitNanos;
+    // Player UUIDs mapped to the System#nanoTime they joined the queue at
+    private final @NotNull LinkedHashMap<UUID, Long> waitingPlayers = new LinkedHashMap<>();
+
+    /**
+     * Constructor
+     * @param trialId The id of the trial.
+     * @param queueData The {@link QueueData} for the trial.
+     */
+    public TrialQueue(@NotNull String trialId, @NotNull QueueData queueData) {
+        this.trialId = trialId;
+        this.partySize = queueData.partySize();
+        this.maxWaitNanos = queueData.maxWaitSeconds() != -1 ? TimeUnit.SECONDS.toNanos(queueData.maxWaitSeconds()) : -1;
+    }
+
+    /**
+     * Get the id of the trial.
+     * @return The id of the trial.
+     */
+    public @NotNull String getTrialId() {
+        return trialId;
+    }
+
+    /**
+     * Adds a player to the end of the queue.
+     * @param uuid The {@link UUID} of the player.
+     * @return true if added, false if the player was already in the queue.
+     */
+    public synchronized boolean add(@NotNull UUID uuid) {
+        return waitingPlayers.putIfAbsent(uuid, System.nanoTime()) == null;
+    }
+
+    /**
+     * Removes a player from the queue.
+     * @param uuid The {@link UUID} of the player.
+     * @return true if removed, false if the player was not in the queue.
+     */
+    public synchronized boolean remove(@NotNull UUID uuid) {
+        return waitingPlayers.remove(uuid) != null;
+    }
+
+    /**
+     * Removes every player that matches the {@link Predicate} provided.
+     * @param filter The {@link Predicate} for the {@link UUID}s of players to remove.
+     * @return A {@link List} of the {@link UUID}s removed.
+     */
+    public synchronized @NotNull List<UUID> removeIf(@NotNull Predicate<UUID> filter) {
+        List<UUID> removed = new ArrayList<>();
+
+        Iterator<UUID> iterator = waitingPlayers.keySet().iterator();
+        while(iterator.hasNext()) {
+            UUID uuid = iterator.next();
+            if(filter.test(uuid)) {
+                iterator.remove();
+                removed.add(uuid);
+            }
+        }
+
+        return removed;
+    }
+
+    /**
+     * Get the number of players waiting.
+     * @return The number of players waiting.
+     */
+    public synchronized int size() {
+        return waitingPlayers.size();
+    }
+
+    /**
+     * Checks if a party is ready to be placed into an instance.
+     * A party is ready once enough players are waiting, or once the longest waiting player has waited the max wait time.
+     * @param nanoTime The current {@link System#nanoTime()}.
+     * @return true if a party is ready, otherwise false.
+     */
+    public synchronized boolean isPartyReady(long nanoTime) {
+        if(waitingPlayers.isEmpty()) return false;
+        if(waitingPlayers.size() >= partySize) return true;
+        if(maxWaitNanos == -1) return false;
+
+        long oldestJoinTime = waitingPlayers.values().iterator().next();
+        return nanoTime - oldestJoinTime >= maxWaitNanos;
+    }
+
+    /**
+     * Removes up to a party's worth of players from the front of the queue.
+     * @param nanoTime The current {@link System#nanoTime()}.
+     * @return A {@link List} of the {@link QueuedPlayer}s removed.
+     */
+    public synchronized @NotNull List<QueuedPlayer> pollParty(long nanoTime) {
+        List<QueuedPlayer> party = new ArrayList<>(Math.min(partySize, waitingPlayers.size()));
+
+        Iterator<Map.Entry<UUID, Long>> iterator = waitingPlayers.entrySet().iterator();
+        while(iterator.hasNext() && party.size() < partySize) {
+            Map.Entry<UUID, Long> entry = iterator.next();
+            party.add(new QueuedPlayer(entry.getKey(), nanoTime - entry.getValue()));
+            iterator.remove();
+        }
+
+        return party;
+    }
+
+    /**
+     * A player removed from the queue to be placed into a trial.
+     * @param uuid The {@link UUID} of the player.
+     * @param waitNanos How long the player waited in nanoseconds.
+     */
+    public record QueuedPlayer(@NotNull UUID uuid, long waitNanos) {}
+}
@@ -0,0 +1,166 @@
+/*
+    SkyTrials is a plugin that offers different challenges or trials to tackle. Inspired by the Minecraft Trial Chambers and mob arenas.
+    Copyright (C) 2024 lukeskywlker19
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.github.lukesky19.skytrials.manager.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class records durations in nanoseconds into log-linear buckets, in the style of an HDR histogram.
+ * Every power of two is split into 32 sub-buckets, so any recorded value is reported within about 3% of its actual value.
+ * Recording is lock-free and allocation free, and the histogram can be read from any thread while it is being recorded to.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final @NotNull AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final @NotNull LongAdder count = new LongAdder();
+    private final @NotNull LongAdder sum = new LongAdder();
+    private final @NotNull LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * Constructor
+     */
+    public LatencyHistogram() {}
+
+    /**
+     * Records a duration.
+     * @param nanos The duration in nanoseconds. Negative values are recorded as 0.
+     */
+    public void record(long nanos) {
+        long value = Math.max(0L, nanos);
+
+        buckets.incrementAndGet(getBucketIndex(value));
+        count.increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    /**
+     * Get the number of recorded durations.
+     * @return The number of recorded durations.
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Get the sum of all recorded durations.
+     * @return The sum in nanoseconds.
+     */
+    public long getSum() {
+        return sum.sum();
+    }
+
+    /**
+     * Get the largest recorded duration.
+     * @return The largest duration in nanoseconds or 0 if nothing was recorded.
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Get the mean of all recorded durations.
+     * @return The mean in nanoseconds or 0 if nothing was recorded.
+     */
+    public double getMean() {
+        long currentCount = getCount();
+        if(currentCount == 0) return 0;
+
+        return (double) getSum() / currentCount;
+    }
+
+    /**
+     * Get the duration that the percentage of recorded durations provided are less than or equal to.
+     * @param percentile The percentile between 0 and 100.
+     * @return The duration in nanoseconds or 0 if nothing was recorded.
+     */
+    public long getValueAtPercentile(double percentile) {
+        // Read the buckets once so the total matches the counts being walked
+        long[] snapshot = new long[BUCKET_COUNT];
+        long total = 0;
+        for(int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = buckets.get(i);
+            total += snapshot[i];
+        }
+
+        if(total == 0) return 0;
+
+        double clampedPercentile = Math.min(100D, Math.max(0D, percentile));
+        long targetCount = Math.max(1L, (long) Math.ceil((clampedPercentile / 100D) * total));
+
+        long runningCount = 0;
+        for(int i = 0; i < BUCKET_COUNT; i++) {
+            runningCount += snapshot[i];
+
+            if(runningCount >= targetCount) {
+                return Math.min(getHighestValueInBucket(i), getMax());
+            }
+        }
+
+        return getMax();
+    }
+
+    /**
+     * Clears all recorded durations.
+     */
+    public void reset() {
+        for(int i = 0; i < BUCKET_COUNT; i++) {
+            buckets.set(i, 0L);
+        }
+
+        count.reset();
+        sum.reset();
+        max.reset();
+    }
+
+    /**
+     * Get the index of the bucket that a value is recorded in.
+     * @param value The value, which must not be negative.
+     * @return The bucket index.
+     */
+    private static int getBucketIndex(long value) {
+        if(value < SUB_BUCKET_COUNT) return (int) value;
+
+        int magnitude = (Long.SIZE - 1) - Long.numberOfLeadingZeros(value);
+        int shift = magnitude - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+
+        return ((shift + 1) * SUB_BUCKET_COUNT) + subBucket;
+    }
+
+    /**
+     * Get the highest value that would be recorded in a bucket.
+     * @param index The bucket index.
+     * @return The highest value in the bucket.
+     */
+    private static long getHighestValueInBucket(int index) {
+        if(index < SUB_BUCKET_COUNT) return index;
+
+        int shift = (index / SUB_BUCKET_COUNT) - 1;
+        long subBucket = (index % SUB_BUCKET_COUNT) + SUB_BUCKET_COUNT;
+
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,243 @@
+/*
+    SkyTrials is a plugin that offers different challenges or trials to tackle. Inspired by the Minecraft Trial Chambers and mob arenas.
+    Copyright (C) 2024 lukeskywlker19
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.github.lukesky19.skytrials.manager.metrics;
+
+import com.github.lukesky19.skylib.api.adventure.AdventureUtil;
+import com.github.lukesky19.skytrials.SkyTrials;
+import com.github.lukesky19.skytrials.util.TrialEndReason;
+import com.github.lukesky19.skytrials.util.TrialOperation;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This class manages the metrics recorded for trials and the database, and exports them in the Prometheus text format.
+ * Everything recorded is cumulative since the plugin was enabled and can be recorded to and read from any thread.
+ */
+public class MetricsManager {
+    private static final @NotNull String METRICS_FILE_NAME = "metrics.prom";
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private final @NotNull SkyTrials skyTrials;
+    private final @NotNull Map<String, TrialMetrics> trialMetricsMap = new ConcurrentHashMap<>();
+    private final @NotNull LatencyHistogram databaseLatency = new LatencyHistogram();
+
+    /**
+     * Constructor
+     * @param skyTrials A {@link SkyTrials} instance.
+     */
+    public MetricsManager(@NotNull SkyTrials skyTrials) {
+        this.skyTrials = skyTrials;
+    }
+
+    /**
+     * Get the {@link TrialMetrics} for a trial, creating them if they don't exist.
+     * @param trialId The id of the trial.
+     * @return The {@link TrialMetrics} for the trial.
+     */
+    public @NotNull TrialMetrics getTrialMetrics(@NotNull String trialId) {
+        return trialMetricsMap.computeIfAbsent(trialId, TrialMetrics::new);
+    }
+
+    /**
+     * Get the {@link TrialMetrics} for all trials, sorted by trial id.
+     * @return A {@link List} of {@link TrialMetrics}.
+     */
+    public @NotNull List<TrialMetrics> getAllTrialMetrics() {
+        List<TrialMetrics> trialMetricsList = new ArrayList<>(trialMetricsMap.values());
+        trialMetricsList.sort(Comparator.comparing(TrialMetrics::getTrialId));
+        return trialMetricsList;
+    }
+
+    /**
+     * Records the time between a database transaction being queued and it completing.
+     * @param nanos The time in nanoseconds.
+     */
+    public void recordDatabaseLatency(long nanos) {
+        databaseLatency.record(nanos);
+    }
+
+    /**
+     * Get the {@link LatencyHistogram} for database transactions.
+     * @return The {@link LatencyHistogram}.
+     */
+    public @NotNull LatencyHistogram getDatabaseLatency() {
+        return databaseLatency;
+    }
+
+    /**
+     * Writes all metrics to the metrics file in the plugin's data folder.
+     * The file is replaced in one step so a scraper never reads a partially written file.
+     * This does file I/O and should be run off the main thread.
+     */
+    public void writeMetricsFile() {
+        Path dataFolder = skyTrials.getDataFolder().toPath();
+        Path metricsFile = dataFolder.resolve(METRICS_FILE_NAME);
+        Path tempFile = dataFolder.resolve(METRICS_FILE_NAME + ".tmp");
+
+        try {
+            Files.writeString(tempFile, createPrometheusText(), StandardCharsets.UTF_8);
+            Files.move(tempFile, metricsFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            skyTrials.getComponentLogger().warn(AdventureUtil.serialize("Unable to write the metrics file. Error: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Creates the Prometheus text exposition of all metrics.
+     * @return The metrics in the Prometheus text format.
+     */
+    public @NotNull String createPrometheusText() {
+        List<TrialMetrics> trialMetricsList = getAllTrialMetrics();
+        StringBuilder stringBuilder = new StringBuilder();
+
+        appendHeader(stringBuilder, "skytrials_trial_runs_started_total", "counter", "Trial runs started.");
+        for(TrialMetrics trialMetrics : trialMetricsList) {
+            appendSample(stringBuilder, "skytrials_trial_runs_started_total", createLabels(trialMetrics.getTrialId()), trialMetrics.getRunsStarted());
+        }
+
+        appendHeader(stringBuilder, "skytrials_trial_runs_ended_total", "counter", "Trial runs ended by reason.");
+        for(TrialMetrics trialMetrics : trialMetricsList) {
+            for(TrialEndReason trialEndReason : TrialEndReason.values()) {
+                String labels = createLabels(trialMetrics.getTrialId(), "reason", trialEndReason.name().toLowerCase(Locale.ROOT));
+                appendSample(stringBuilder, "skytrials_trial_runs_ended_total", labels, trialMetrics.getRunsEnded(trialEndReason));
+            }
+        }
+
+        appendHeader(stringBuilder, "skytrials_trial_mobs_spawned_total", "counter", "Mobs spawned for trials.");
+        for(TrialMetrics trialMetrics : trialMetricsList) {
+            appendSample(stringBuilder, "skytrials_trial_mobs_spawned_total", createLabels(trialMetrics.getTrialId()), trialMetrics.getMobsSpawned());
+        }
+
+        appendHeader(stringBuilder, "skytrials_trial_mobs_killed_total", "counter", "Mobs killed in trials.");
+        for(TrialMetrics trialMetrics : trialMetricsList) {
+            appendSample(stringBuilder, "skytrials_trial_mobs_killed_total", createLabels(trialMetrics.getTrialId()), trialMetrics.getMobsKilled());
+        }
+
+        appendHeader(stringBuilder, "skytrials_trial_operation_seconds", "summary", "Time spent in trial handlers and block and entity operations.");
+        for(TrialMetrics trialMetrics : trialMetricsList) {
+            for(TrialOperation trialOperation : TrialOperation.values()) {
+                String labels = createLabels(trialMetrics.getTrialId(), "operation", trialOperation.name().toLowerCase(Locale.ROOT));
+                appendSummary(stringBuilder, "skytrials_trial_operation_seconds", labels, trialMetrics.getOperationTimes(trialOperation));
+            }
+        }
+
+        appendHeader(stringBuilder, "skytrials_trial_queue_depth", "gauge", "Players waiting in trial queues.");
+        for(TrialMetrics trialMetrics : trialMetricsList) {
+            appendSample(stringBuilder, "skytrials_trial_queue_depth", createLabels(trialMetrics.getTrialId()), trialMetrics.getQueueDepth());
+        }
+
+        appendHeader(stringBuilder, "skytrials_trial_queue_wait_seconds", "summary", "Time players waited in trial queues before being placed into a trial.");
+        for(TrialMetrics trialMetrics : trialMetricsList) {
+            appendSummary(stringBuilder, "skytrials_trial_queue_wait_seconds", createLabels(trialMetrics.getTrialId()), trialMetrics.getQueueWaitTimes());
+        }
+
+        appendHeader(stringBuilder, "skytrials_database_transaction_seconds", "summary", "Time from a database transaction being queued to it completing.");
+        appendSummary(stringBuilder, "skytrials_database_transaction_seconds", "", databaseLatency);
+
+        return stringBuilder.toString();
+    }
+
+    /**
+     * Appends the HELP and TYPE lines for a metric.
+     * @param stringBuilder The {@link StringBuilder} to append to.
+     * @param name The metric name.
+     * @param type The metric type.
+     * @param help The help text.
+     */
+    private void appendHeader(@NotNull StringBuilder stringBuilder, @NotNull String name, @NotNull String type, @NotNull String help) {
+        stringBuilder.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        stringBuilder.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    /**
+     * Appends a single sample.
+     * @param stringBuilder The {@link StringBuilder} to append to.
+     * @param name The metric name.
+     * @param labels The labels without braces, or an empty {@link String} for none.
+     * @param value The value.
+     */
+    private void appendSample(@NotNull StringBuilder stringBuilder, @NotNull String name, @NotNull String labels, @NotNull Object value) {
+        stringBuilder.append(name);
+        if(!labels.isEmpty()) stringBuilder.append('{').append(labels).append('}');
+        stringBuilder.append(' ').append(value).append('\n');
+    }
+
+    /**
+     * Appends the quantiles, sum and count of a {@link LatencyHistogram} in seconds.
+     * @param stringBuilder The {@link StringBuilder} to append to.
+     * @param name The metric name.
+     * @param labels The labels without braces, or an empty {@link String} for none.
+     * @param latencyHistogram The {@link LatencyHistogram}.
+     */
+    private void appendSummary(@NotNull StringBuilder stringBuilder, @NotNull String name, @NotNull String labels, @NotNull LatencyHistogram latencyHistogram) {
+        String separator = labels.isEmpty() ? "" : ",";
+
+        for(double quantile : QUANTILES) {
+            String quantileLabels = labels + separator + "quantile=\"" + quantile + "\"";
+            appendSample(stringBuilder, name, quantileLabels, toSeconds(latencyHistogram.getValueAtPercentile(quantile * 100D)));
+        }
+
+        appendSample(stringBuilder, name + "_sum", labels, toSeconds(latencyHistogram.getSum()));
+        appendSample(stringBuilder, name + "_count", labels, latencyHistogram.getCount());
+    }
+
+    /**
+     * Creates the trial label.
+     * @param trialId The id of the trial.
+     * @return The labels without braces.
+     */
+    private @NotNull String createLabels(@NotNull String trialId) {
+        return "trial=\"" + escapeLabelValue(trialId) + "\"";
+    }
+
+    /**
+     * Creates the trial label and one additional label.
+     * @param trialId The id of the trial.
+     * @param labelName The additional label's name.
+     * @param labelValue The additional label's value.
+     * @return The labels without braces.
+     */
+    private @NotNull String createLabels(@NotNull String trialId, @NotNull String labelName, @NotNull String labelValue) {
+        return createLabels(trialId) + "," + labelName + "=\"" + escapeLabelValue(labelValue) + "\"";
+    }
+
+    /**
+     * Escapes a label value as required by the Prometheus text format.
+     * @param value The label value.
+     * @return The escaped label value.
+     */
+    private @NotNull String escapeLabelValue(@NotNull String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    /**
+     * Converts nanoseconds to seconds.
+     * @param nanos The time in nanoseconds.
+     * @return The time in seconds.
+     */
+    private double toSeconds(long nanos) {
+        return nanos / 1_000_000_000D;
+    }
+}
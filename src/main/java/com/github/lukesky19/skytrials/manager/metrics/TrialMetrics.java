@@ -0,0 +1,178 @@
+/*
+    SkyTrials is a plugin that offers different challenges or trials to tackle. Inspired by the Minecraft Trial Chambers and mob arenas.
+    Copyright (C) 2024 lukeskywlker19
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.github.lukesky19.skytrials.manager.metrics;
+
+import com.github.lukesky19.skytrials.util.TrialEndReason;
+import com.github.lukesky19.skytrials.util.TrialOperation;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class contains the counters and durations recorded for a single trial.
+ * The maps are filled when created and never modified after, so they can be read from any thread.
+ */
+public class TrialMetrics {
+    private final @NotNull String trialId;
+    private final @NotNull LongAdder runsStarted = new LongAdder();
+    private final @NotNull Map<TrialEndReason, LongAdder> runsEnded = new EnumMap<>(TrialEndReason.class);
+    private final @NotNull LongAdder mobsSpawned = new LongAdder();
+    private final @NotNull LongAdder mobsKilled = new LongAdder();
+    private final @NotNull Map<TrialOperation, LatencyHistogram> operationTimes = new EnumMap<>(TrialOperation.class);
+    private final @NotNull AtomicInteger queueDepth = new AtomicInteger();
+    private final @NotNull LatencyHistogram queueWaitTimes = new LatencyHistogram();
+
+    /**
+     * Constructor
+     * @param trialId The id of the trial.
+     */
+    public TrialMetrics(@NotNull String trialId) {
+        this.trialId = trialId;
+
+        for(TrialEndReason trialEndReason : TrialEndReason.values()) {
+            runsEnded.put(trialEndReason, new LongAdder());
+        }
+
+        for(TrialOperation trialOperation : TrialOperation.values()) {
+            operationTimes.put(trialOperation, new LatencyHistogram());
+        }
+    }
+
+    /**
+     * Get the id of the trial.
+     * @return The id of the trial.
+     */
+    public @NotNull String getTrialId() {
+        return trialId;
+    }
+
+    /**
+     * Increments the number of runs started.
+     */
+    public void incrementRunsStarted() {
+        runsStarted.increment();
+    }
+
+    /**
+     * Increments the number of runs ended for the {@link TrialEndReason} provided.
+     * @param trialEndReason The {@link TrialEndReason} the run ended for.
+     */
+    public void incrementRunsEnded(@NotNull TrialEndReason trialEndReason) {
+        runsEnded.get(trialEndReason).increment();
+    }
+
+    /**
+     * Increments the number of mobs spawned.
+     */
+    public void incrementMobsSpawned() {
+        mobsSpawned.increment();
+    }
+
+    /**
+     * Increments the number of mobs killed.
+     */
+    public void incrementMobsKilled() {
+        mobsKilled.increment();
+    }
+
+    /**
+     * Records the time spent in a {@link TrialOperation}.
+     * @param trialOperation The {@link TrialOperation}.
+     * @param nanos The time spent in nanoseconds.
+     */
+    public void recordTime(@NotNull TrialOperation trialOperation, long nanos) {
+        operationTimes.get(trialOperation).record(nanos);
+    }
+
+    /**
+     * Sets the number of players waiting in the trial's queue.
+     * @param depth The number of players waiting.
+     */
+    public void setQueueDepth(int depth) {
+        queueDepth.set(depth);
+    }
+
+    /**
+     * Records how long a player waited in the trial's queue before being placed into the trial.
+     * @param nanos The time waited in nanoseconds.
+     */
+    public void recordQueueWait(long nanos) {
+        queueWaitTimes.record(nanos);
+    }
+
+    /**
+     * Get the number of runs started.
+     * @return The number of runs started.
+     */
+    public long getRunsStarted() {
+        return runsStarted.sum();
+    }
+
+    /**
+     * Get the number of runs ended for the {@link TrialEndReason} provided.
+     * @param trialEndReason The {@link TrialEndReason}.
+     * @return The number of runs ended.
+     */
+    public long getRunsEnded(@NotNull TrialEndReason trialEndReason) {
+        return runsEnded.get(trialEndReason).sum();
+    }
+
+    /**
+     * Get the number of mobs spawned.
+     * @return The number of mobs spawned.
+     */
+    public long getMobsSpawned() {
+        return mobsSpawned.sum();
+    }
+
+    /**
+     * Get the number of mobs killed.
+     * @return The number of mobs killed.
+     */
+    public long getMobsKilled() {
+        return mobsKilled.sum();
+    }
+
+    /**
+     * Get the {@link LatencyHistogram} for a {@link TrialOperation}.
+     * @param trialOperation The {@link TrialOperation}.
+     * @return The {@link LatencyHistogram}.
+     */
+    public @NotNull LatencyHistogram getOperationTimes(@NotNull TrialOperation trialOperation) {
+        return operationTimes.get(trialOperation);
+    }
+
+    /**
+     * Get the number of players waiting in the trial's queue, as of the last queue dispatch.
+     * @return The number of players waiting.
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * Get the {@link LatencyHistogram} of how long players waited in the trial's queue.
+     * @return The {@link LatencyHistogram}.
+     */
+    public @NotNull LatencyHistogram getQueueWaitTimes() {
+        return queueWaitTimes;
+    }
+}
@@ -19,47 +19,54 @@ package com.github.lukesky19.skytrials.manager.player;
 
 import com.github.lukesky19.skylib.api.adventure.AdventureUtil;
 import com.github.lukesky19.skytrials.SkyTrials;
-import com.github.lukesky19.skytrials.data.config.locale.Locale;
 import com.github.lukesky19.skytrials.data.player.PlayerData;
-import com.github.lukesky19.skytrials.database.DatabaseManager;
-import com.github.lukesky19.skytrials.database.table.PlayerCooldownsTable;
 import com.github.lukesky19.skytrials.manager.locale.LocaleManager;
+import com.github.lukesky19.skytrials.manager.locale.LocaleMessage;
+import com.github.lukesky19.skytrials.manager.task.TaskScheduler;
 import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
 import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Iterator;
-import java.util.List;
-import java.util.Map;
-import java.util.UUID;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.PriorityBlockingQueue;
 
 /**
  * This class manages player cooldowns for trials.
+ * Cooldowns are stored as absolute expiry times in epoch milliseconds and a queue ordered by expiry is used
+ * so that each tick only touches cooldowns that have actually expired.
+ * Cooldowns may be added or removed from any thread, such as a trial's region thread on Folia.
+ * Expired cooldowns are processed and loaded cooldowns are merged on the global region thread.
  */
 public class CooldownManager {
     private final @NotNull SkyTrials skyTrials;
     private final @NotNull LocaleManager localeManager;
     private final @NotNull PlayerDataManager playerDataManager;
-    private final @NotNull DatabaseManager databaseManager;
+    private final @NotNull CooldownSaveQueue cooldownSaveQueue;
+    private final @NotNull TaskScheduler taskScheduler;
+    // Entries are never removed early. Stale entries are skipped when they reach the head of the queue.
+    private final @NotNull PriorityBlockingQueue<CooldownExpiry> expiryQueue = new PriorityBlockingQueue<>(11, Comparator.comparingLong(CooldownExpiry::expiryMillis));
 
     /**
      * Constructor
      * @param skyTrials A {@link SkyTrials} instance.
      * @param localeManager A {@link LocaleManager} instance.
      * @param playerDataManager A {@link PlayerDataManager} instance.
-     * @param databaseManager A {@link DatabaseManager} instance.
+     * @param cooldownSaveQueue A {@link CooldownSaveQueue} instance.
+     * @param taskScheduler A {@link TaskScheduler} instance.
      */
-    public CooldownManager(@NotNull SkyTrials skyTrials, @NotNull LocaleManager localeManager, @NotNull PlayerDataManager playerDataManager, @NotNull DatabaseManager databaseManager) {
+    public CooldownManager(@NotNull SkyTrials skyTrials, @NotNull LocaleManager localeManager, @NotNull PlayerDataManager playerDataManager, @NotNull CooldownSaveQueue cooldownSaveQueue, @NotNull TaskScheduler taskScheduler) {
         this.skyTrials = skyTrials;
         this.localeManager = localeManager;
         this.playerDataManager = playerDataManager;
-        this.databaseManager = databaseManager;
+        this.cooldownSaveQueue = cooldownSaveQueue;
+        this.taskScheduler = taskScheduler;
     }
 
     /**
-     * Adds the cooldown time in seconds for the player id and the trial id provided.
+     * Adds a cooldown that expires after the time in seconds provided for the player id and the trial id provided.
      * @param playerId The {@link UUID} of the player.
      * @param trialId The id of the trial.
      * @param cooldownTimeSeconds The cooldown time in seconds to add.
@@ -69,9 +76,11 @@ public class CooldownManager {
 
         Map<String, Long> cooldownMap = playerData.getCooldownsMap();
 
-        cooldownMap.put(trialId, cooldownTimeSeconds);
+        long expiryMillis = System.currentTimeMillis() + (cooldownTimeSeconds * 1000L);
+        cooldownMap.put(trialId, expiryMillis);
+        expiryQueue.add(new CooldownExpiry(playerId, trialId, expiryMillis));
 
-        playerDataManager.savePlayerData(playerId);
+        cooldownSaveQueue.markChanged(playerId, trialId);
     }
 
     /**
@@ -88,7 +97,7 @@ public class CooldownManager {
         if(cooldownMap.containsKey(trialId)) {
             cooldownMap.remove(trialId);
 
-            playerDataManager.savePlayerData(playerId);
+            cooldownSaveQueue.markChanged(playerId, trialId);
 
             return true;
         }
@@ -97,46 +106,123 @@ public class CooldownManager {
     }
 
     /**
-     * Get the cooldown time in seconds for the player id and trial id provided.
+     * Get the remaining cooldown time in seconds for the player id and trial id provided.
      * @param playerId The {@link UUID} of the player.
      * @param trialId The id of the trial.
-     * @return The cooldown time in seconds as a {@link Long} or null.
+     * @return The remaining cooldown time in seconds as a {@link Long} or null if there is no active cooldown.
      */
     public @Nullable Long getTrialCooldown(@NotNull UUID playerId, @NotNull String trialId) {
         PlayerData playerData = playerDataManager.getPlayerData(playerId);
 
-        return playerData.getCooldownsMap().get(trialId);
+        Long expiryMillis = playerData.getCooldownsMap().get(trialId);
+        if(expiryMillis == null) return null;
+
+        long remainingMillis = expiryMillis - System.currentTimeMillis();
+        if(remainingMillis <= 0) return null;
+
+        // Round up so a cooldown with less than a second left doesn't show as 0 seconds
+        return (remainingMillis + 999) / 1000;
     }
 
     /**
-     * Decrement all cooldowns.
+     * Get the remaining cooldown time in seconds for the player id and trial id provided.
+     * If the player's data is not cached, it is read from the database first. Used for players that may be offline.
+     * @param playerId The {@link UUID} of the player.
+     * @param trialId The id of the trial.
+     * @return A {@link CompletableFuture} containing the remaining cooldown time in seconds or null if there is no active cooldown.
+     * The future completes on the global region thread.
      */
-    public void decrementCooldowns() {
-        Locale locale = localeManager.getLocale();
+    public @NotNull CompletableFuture<@Nullable Long> getTrialCooldownAsync(@NotNull UUID playerId, @NotNull String trialId) {
+        PlayerData playerData = playerDataManager.getCachedPlayerData(playerId);
+        if(playerData != null && playerData.isLoaded()) {
+            return CompletableFuture.completedFuture(getTrialCooldown(playerId, trialId));
+        }
 
-        playerDataManager.getPlayerDataMap().forEach((uuid, playerData) -> {
-            Map<String, Long> cooldownsMap = playerData.getCooldownsMap();
+        return loadCooldowns(playerId).thenApply(v -> {
+            // Data read for an offline player is cached like any other offline player so it will be evicted later
+            if(skyTrials.getServer().getPlayer(playerId) == null) {
+                playerDataManager.markOffline(playerId);
+            }
 
-            Iterator<Map.Entry<String, Long>> iterator = cooldownsMap.entrySet().iterator();
-            while(iterator.hasNext()) {
-                Map.Entry<String, Long> entry = iterator.next();
-                long newCooldownTime = entry.getValue() - 1;
+            return getTrialCooldown(playerId, trialId);
+        });
+    }
 
-                if(newCooldownTime <= 0) {
-                    iterator.remove();
+    /**
+     * Loads the stored cooldowns for the player from the database and merges them into the player's cached data on the global region thread.
+     * @param playerId The {@link UUID} of the player.
+     * @return A {@link CompletableFuture} that completes on the global region thread once the cooldowns are merged.
+     */
+    public @NotNull CompletableFuture<Void> loadCooldowns(@NotNull UUID playerId) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+
+        playerDataManager.loadPlayerCooldowns(playerId).whenComplete((cooldowns, throwable) ->
+                taskScheduler.executeGlobal(() -> {
+                    if(throwable != null) {
+                        skyTrials.getComponentLogger().error(AdventureUtil.serialize("Failed to load cooldowns for player " + playerId + ". Error: " + throwable.getMessage()));
+                        future.completeExceptionally(throwable);
+                        return;
+                    }
 
-                    PlayerCooldownsTable playerCooldownsTable = databaseManager.getPlayerCooldownsTable();
-                    playerCooldownsTable.removeCooldown(uuid, entry.getKey());
+                    mergeLoadedCooldowns(playerId, cooldowns);
+                    future.complete(null);
+                }));
 
-                    Player player = skyTrials.getServer().getPlayer(uuid);
-                    if(player != null && player.isOnline() && player.isConnected()) {
-                        List<TagResolver.Single> placeholders = List.of(Placeholder.parsed("trial_id", entry.getKey()));
-                        player.sendMessage(AdventureUtil.serialize(locale.prefix() + locale.cooldownEnded(), placeholders));
-                    }
-                } else {
-                    cooldownsMap.put(entry.getKey(), newCooldownTime);
-                }
+        return future;
+    }
+
+    /**
+     * Merges cooldowns loaded from the database into the player's cached data.
+     * Cooldowns added before the load finished are kept. Nothing is merged if the data was already loaded.
+     * @param playerId The {@link UUID} of the player.
+     * @param loadedCooldowns A {@link Map} mapping trial ids to cooldown expiry times in epoch milliseconds.
+     */
+    private void mergeLoadedCooldowns(@NotNull UUID playerId, @NotNull Map<String, Long> loadedCooldowns) {
+        PlayerData playerData = playerDataManager.getPlayerData(playerId);
+        if(playerData.isLoaded()) return;
+
+        Map<String, Long> cooldownMap = playerData.getCooldownsMap();
+        loadedCooldowns.forEach((trialId, expiryMillis) -> {
+            if(cooldownMap.putIfAbsent(trialId, expiryMillis) == null) {
+                expiryQueue.add(new CooldownExpiry(playerId, trialId, expiryMillis));
             }
         });
+
+        playerData.setLoaded(true);
     }
+
+    /**
+     * Removes all cooldowns that have expired and notifies online players that their cooldown ended.
+     */
+    public void processExpiredCooldowns() {
+        long now = System.currentTimeMillis();
+
+        while(!expiryQueue.isEmpty() && expiryQueue.peek().expiryMillis() <= now) {
+            CooldownExpiry cooldownExpiry = expiryQueue.poll();
+            UUID uuid = cooldownExpiry.playerId();
+            String trialId = cooldownExpiry.trialId();
+
+            PlayerData playerData = playerDataManager.getCachedPlayerData(uuid);
+            if(playerData == null) continue;
+
+            // Skip entries for cooldowns that were removed or replaced since this entry was queued
+            if(!playerData.getCooldownsMap().remove(trialId, cooldownExpiry.expiryMillis())) continue;
+
+            cooldownSaveQueue.markChanged(uuid, trialId);
+
+            Player player = skyTrials.getServer().getPlayer(uuid);
+            if(player != null && player.isOnline() && player.isConnected()) {
+                List<TagResolver.Single> placeholders = List.of(Placeholder.parsed("trial_id", trialId));
+                player.sendMessage(localeManager.getMessage(LocaleMessage.COOLDOWN_ENDED, placeholders));
+            }
+        }
+    }
+
+    /**
+     * An entry in the expiry queue.
+     * @param playerId The {@link UUID} of the player.
+     * @param trialId The id of the trial.
+     * @param expiryMillis The time the cooldown expires in epoch milliseconds.
+     */
+    private record CooldownExpiry(@NotNull UUID playerId, @NotNull String trialId, long expiryMillis) {}
 }
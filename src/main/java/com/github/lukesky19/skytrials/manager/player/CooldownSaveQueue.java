@@ -0,0 +1,109 @@
+/*
+    SkyTrials is a plugin that offers different challenges or trials to tackle. Inspired by the Minecraft Trial Chambers and mob arenas.
+    Copyright (C) 2024 lukeskywlker19
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.github.lukesky19.skytrials.manager.player;
+
+import com.github.lukesky19.skytrials.data.player.PlayerData;
+import com.github.lukesky19.skytrials.database.DatabaseManager;
+import com.github.lukesky19.skytrials.database.table.PlayerCooldownsTable;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * This class buffers cooldown changes and writes them to the database in batches.
+ * Only the player and trial id of a change is recorded. The current value is read when the queue is flushed,
+ * so many changes to the same cooldown are written once. A cooldown that no longer exists at flush time is deleted.
+ * This class is synchronized so changes can be marked from any thread, such as a trial's region thread on Folia.
+ */
+public class CooldownSaveQueue {
+    // Flush early once this many changes are waiting
+    private static final int MAX_PENDING_CHANGES = 500;
+
+    private final @NotNull PlayerDataManager playerDataManager;
+    private final @NotNull DatabaseManager databaseManager;
+    private @NotNull Map<UUID, Set<String>> pendingChanges = new HashMap<>();
+    private int pendingChangeCount = 0;
+
+    /**
+     * Constructor
+     * @param playerDataManager A {@link PlayerDataManager} instance.
+     * @param databaseManager A {@link DatabaseManager} instance.
+     */
+    public CooldownSaveQueue(@NotNull PlayerDataManager playerDataManager, @NotNull DatabaseManager databaseManager) {
+        this.playerDataManager = playerDataManager;
+        this.databaseManager = databaseManager;
+    }
+
+    /**
+     * Marks the cooldown for the player id and trial id provided as changed.
+     * @param playerId The {@link UUID} of the player.
+     * @param trialId The id of the trial.
+     */
+    public synchronized void markChanged(@NotNull UUID playerId, @NotNull String trialId) {
+        if(pendingChanges.computeIfAbsent(playerId, uuid -> new HashSet<>()).add(trialId)) {
+            pendingChangeCount++;
+        }
+
+        if(pendingChangeCount >= MAX_PENDING_CHANGES) flush();
+    }
+
+    /**
+     * Get the number of changes waiting to be written.
+     * @return The number of changes waiting to be written.
+     */
+    public synchronized int getPendingChangeCount() {
+        return pendingChangeCount;
+    }
+
+    /**
+     * Writes all pending changes to the database. Upserts and deletes are each sent as a single batch.
+     * @return A {@link CompletableFuture} that completes when all changes are written.
+     */
+    public synchronized @NotNull CompletableFuture<Void> flush() {
+        if(pendingChanges.isEmpty()) return CompletableFuture.completedFuture(null);
+
+        Map<UUID, Set<String>> changes = pendingChanges;
+        pendingChanges = new HashMap<>();
+        pendingChangeCount = 0;
+
+        Map<UUID, Map<String, Long>> cooldownsToSave = new HashMap<>();
+        Map<UUID, List<String>> cooldownsToRemove = new HashMap<>();
+
+        changes.forEach((uuid, trialIds) -> {
+            PlayerData playerData = playerDataManager.getCachedPlayerData(uuid);
+            Map<String, Long> cooldownsMap = playerData != null ? playerData.getCooldownsMap() : Map.of();
+
+            for(String trialId : trialIds) {
+                Long expiryMillis = cooldownsMap.get(trialId);
+                if(expiryMillis != null) {
+                    cooldownsToSave.computeIfAbsent(uuid, key -> new HashMap<>()).put(trialId, expiryMillis);
+                } else {
+                    cooldownsToRemove.computeIfAbsent(uuid, key -> new ArrayList<>()).add(trialId);
+                }
+            }
+        });
+
+        PlayerCooldownsTable playerCooldownsTable = databaseManager.getPlayerCooldownsTable();
+        List<CompletableFuture<?>> futures = new ArrayList<>();
+        if(!cooldownsToSave.isEmpty()) futures.add(playerCooldownsTable.saveCooldowns(cooldownsToSave));
+        if(!cooldownsToRemove.isEmpty()) futures.add(playerCooldownsTable.removeCooldowns(cooldownsToRemove));
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+    }
+}
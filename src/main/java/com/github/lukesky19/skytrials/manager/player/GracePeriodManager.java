@@ -74,9 +74,9 @@ public class GracePeriodManager {
         playerDataManager.getPlayerDataMap().forEach((uuid, playerData) -> {
             Map<String, Long> gracePeriodMap = playerData.getGracePeriodsMap();
 
-            gracePeriodMap.remove(trialId);
-
-            playersWithGracePeriods.add(uuid);
+            if(gracePeriodMap.remove(trialId) != null) {
+                playersWithGracePeriods.add(uuid);
+            }
         });
 
         return playersWithGracePeriods;
@@ -4,20 +4,33 @@ import com.github.lukesky19.skytrials.data.player.PlayerData;
 import com.github.lukesky19.skytrials.database.DatabaseManager;
 import com.github.lukesky19.skytrials.database.table.PlayerCooldownsTable;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.UUID;
+import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
  * This class manages the storage, loading, and saving of {@link PlayerData}.
+ * Player data is loaded per player when they log in and is kept while they are online.
+ * Once offline, data is evicted after a time-to-live or when too many offline players are cached, oldest first.
+ * <p>
+ * Threading: the player data store is a {@link ConcurrentHashMap}, so reads are lock-free and may happen on any thread,
+ * and creating an entry is atomic. Player data may be changed from any thread, but merging data loaded from the database
+ * must happen on the global region thread (the main thread on Paper). Tracking online/offline players for eviction is synchronized,
+ * as players join and quit on their own region threads on Folia.
  */
 public class PlayerDataManager {
+    // How long player data is kept after a player goes offline
+    private static final long OFFLINE_TTL_MILLIS = 10 * 60 * 1000L;
+    // The maximum number of offline players to keep data for
+    private static final int MAX_OFFLINE_ENTRIES = 1000;
+
     private final @NotNull DatabaseManager databaseManager;
-    private final @NotNull Map<UUID, PlayerData> playerDataMap = new HashMap<>();
+    private final @NotNull Map<UUID, PlayerData> playerDataMap = new ConcurrentHashMap<>();
+    // Offline players in the order they went offline or were last looked up. Guarded by this manager's lock.
+    private final @NotNull LinkedHashMap<UUID, Long> offlineSinceMap = new LinkedHashMap<>();
 
     /**
      * Default Constructor.
@@ -38,11 +51,11 @@ public class PlayerDataManager {
     }
 
     /**
-     * Get the {@link Map} mapping {@link UUID} to {@link PlayerData}.
+     * Get an unmodifiable view of the {@link Map} mapping {@link UUID} to {@link PlayerData}. Safe to read from any thread.
      * @return A {@link Map} mapping {@link UUID} to {@link PlayerData}.
      */
     public @NotNull Map<UUID, PlayerData> getPlayerDataMap() {
-        return playerDataMap;
+        return Collections.unmodifiableMap(playerDataMap);
     }
 
     /**
@@ -51,61 +64,89 @@ public class PlayerDataManager {
      * @return The {@link PlayerData} for the player.
      */
     public @NotNull PlayerData getPlayerData(@NotNull UUID uuid) {
-        if(playerDataMap.containsKey(uuid)) return playerDataMap.get(uuid);
-
-        PlayerData playerData = new PlayerData();
-        playerDataMap.put(uuid, playerData);
+        return playerDataMap.computeIfAbsent(uuid, key -> new PlayerData());
+    }
 
-        return playerData;
+    /**
+     * Get the cached {@link PlayerData} for the {@link UUID} provided without creating it. Safe to call from any thread.
+     * @param uuid The {@link UUID} of the player.
+     * @return The {@link PlayerData} for the player or null if none is cached.
+     */
+    public @Nullable PlayerData getCachedPlayerData(@NotNull UUID uuid) {
+        return playerDataMap.get(uuid);
     }
 
     /**
-     * Loads player data for all data stored in the database.
+     * Loads the stored cooldowns for the player from the database. Expired cooldowns are skipped and removed from the database.
+     * The result is not added to the cache. The caller is responsible for merging it on the global region thread.
+     * @param uuid The {@link UUID} of the player.
+     * @return A {@link CompletableFuture} containing a {@link Map} mapping trial ids to cooldown expiry times in epoch milliseconds.
      */
-    public void loadPlayerData() {
+    public @NotNull CompletableFuture<Map<String, Long>> loadPlayerCooldowns(@NotNull UUID uuid) {
         PlayerCooldownsTable playerCooldownsTable = databaseManager.getPlayerCooldownsTable();
 
-        playerCooldownsTable.loadPlayerCooldowns().thenAccept(cooldownsMap ->
-                cooldownsMap.forEach((uuid, playerCooldowns) -> {
-                    Map<String, Long> updatedPlayerCooldowns = playerCooldowns.entrySet().stream()
-                            .filter(entry -> entry.getValue() > 0)
-                            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        return playerCooldownsTable.loadPlayerCooldowns(uuid).thenApply(playerCooldowns -> {
+            long now = System.currentTimeMillis();
+
+            Map<String, Long> activeCooldowns = playerCooldowns.entrySet().stream()
+                    .filter(entry -> entry.getValue() > now)
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+
+            // Only rows that expired by the time they were read are removed, so a cooldown saved since then is kept
+            if(activeCooldowns.size() != playerCooldowns.size()) {
+                playerCooldownsTable.removeExpiredCooldowns(uuid, now);
+            }
 
-                    PlayerData playerData = new PlayerData(updatedPlayerCooldowns);
-                    playerDataMap.put(uuid, playerData);
-                }));
+            return activeCooldowns;
+        });
     }
 
     /**
-     * Saves player data for the {@link UUID} provided.
-     * @param uuid The {@link UUID} of the player.
+     * Removes every expired cooldown from the database, including those of players that haven't joined since their cooldown expired.
      */
-    public void savePlayerData(@NotNull UUID uuid) {
-        PlayerData playerData = playerDataMap.get(uuid);
-        if(playerData == null) return;
-
-        savePlayerData(uuid, playerData);
+    public void removeExpiredCooldowns() {
+        databaseManager.getPlayerCooldownsTable().removeExpiredCooldowns(System.currentTimeMillis());
     }
 
     /**
-     * Saves player data for the {@link UUID} and {@link PlayerData} provided.
+     * Marks the player as online so their data is not evicted.
      * @param uuid The {@link UUID} of the player.
-     * @param playerData The {@link PlayerData} to save.
-     * @return A {@link CompletableFuture} that completes when all data is saved.
      */
-    public @NotNull CompletableFuture<Void> savePlayerData(@NotNull UUID uuid, @NotNull PlayerData playerData) {
-        PlayerCooldownsTable playerCooldownsTable = databaseManager.getPlayerCooldownsTable();
-
-        return playerCooldownsTable.saveCooldowns(uuid, playerData.getCooldownsMap()).thenAccept(result -> {});
+    public synchronized void markOnline(@NotNull UUID uuid) {
+        offlineSinceMap.remove(uuid);
     }
 
     /**
-     * Saves all player data to the database.
-     * @return A {@link CompletableFuture} that completes when all data is saved.
+     * Marks the player as offline so their data can be evicted once the time-to-live passes.
+     * @param uuid The {@link UUID} of the player.
      */
-    public @NotNull CompletableFuture<Void> savePlayerData() {
-        List<CompletableFuture<Void>> completableFutureList = playerDataMap.entrySet().stream().map(entry -> savePlayerData(entry.getKey(), entry.getValue())).toList();
+    public synchronized void markOffline(@NotNull UUID uuid) {
+        // Re-insert so the player moves to the end of the eviction order
+        offlineSinceMap.remove(uuid);
+        offlineSinceMap.put(uuid, System.currentTimeMillis());
+    }
 
-        return CompletableFuture.allOf(completableFutureList.toArray(new CompletableFuture[0]));
+    /**
+     * Evicts data for offline players whose time-to-live has passed or that exceed the offline cache limit.
+     * Players with active grace periods are kept as grace periods are not stored in the database.
+     * Any pending cooldown changes must be flushed before calling this.
+     */
+    public synchronized void evictPlayerData() {
+        long now = System.currentTimeMillis();
+
+        Iterator<Map.Entry<UUID, Long>> iterator = offlineSinceMap.entrySet().iterator();
+        while(iterator.hasNext()) {
+            Map.Entry<UUID, Long> entry = iterator.next();
+            boolean expired = now - entry.getValue() >= OFFLINE_TTL_MILLIS;
+            boolean overCapacity = offlineSinceMap.size() > MAX_OFFLINE_ENTRIES;
+            // Entries are ordered oldest first, so nothing after this can be evicted either
+            if(!expired && !overCapacity) break;
+
+            PlayerData playerData = playerDataMap.get(entry.getKey());
+            if(playerData != null && !playerData.getGracePeriodsMap().isEmpty()) continue;
+
+            playerDataMap.remove(entry.getKey());
+            iterator.remove();
+        }
     }
 }
@@ -0,0 +1,126 @@
+/*
+    SkyTrials is a plugin that offers different challenges or trials to tackle. Inspired by the Minecraft Trial Chambers and mob arenas.
+    Copyright (C) 2024 lukeskywlker19
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.github.lukesky19.skytrials.manager.task;
+
+import com.github.lukesky19.skytrials.SkyTrials;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.Location;
+import org.bukkit.Server;
+import org.bukkit.entity.Entity;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class is the {@link TaskScheduler} for Folia, which uses the region, entity, global region, and async schedulers.
+ */
+public class FoliaTaskScheduler implements TaskScheduler {
+    private final @NotNull SkyTrials skyTrials;
+    private final @NotNull Server server;
+
+    /**
+     * Constructor
+     * @param skyTrials A {@link SkyTrials} instance.
+     */
+    public FoliaTaskScheduler(@NotNull SkyTrials skyTrials) {
+        this.skyTrials = skyTrials;
+        this.server = skyTrials.getServer();
+    }
+
+    /**
+     * Checks if the server is running Folia.
+     * @return true if running Folia, otherwise false.
+     */
+    public static boolean isFolia() {
+        try {
+            Class.forName("io.papermc.paper.threadedregions.RegionizedServer");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void executeGlobal(@NotNull Runnable task) {
+        if(!skyTrials.isEnabled() || server.isGlobalTickThread()) {
+            task.run();
+        } else {
+            server.getGlobalRegionScheduler().execute(skyTrials, task);
+        }
+    }
+
+    @Override
+    public @NotNull SchedulerTask runGlobalTimer(@NotNull Runnable task, long delayTicks, long periodTicks) {
+        // Folia requires delays of at least one tick
+        return new FoliaSchedulerTask(server.getGlobalRegionScheduler().runAtFixedRate(skyTrials, scheduledTask -> task.run(), Math.max(1L, delayTicks), Math.max(1L, periodTicks)));
+    }
+
+    @Override
+    public @NotNull SchedulerTask runAsyncTimer(@NotNull Runnable task, long delayTicks, long periodTicks) {
+        return new FoliaSchedulerTask(server.getAsyncScheduler().runAtFixedRate(skyTrials, scheduledTask -> task.run(), Math.max(1L, delayTicks) * 50L, Math.max(1L, periodTicks) * 50L, TimeUnit.MILLISECONDS));
+    }
+
+    @Override
+    public void execute(@NotNull Location location, @NotNull Runnable task) {
+        if(!skyTrials.isEnabled() || server.isOwnedByCurrentRegion(location)) {
+            task.run();
+        } else {
+            server.getRegionScheduler().execute(skyTrials, location, task);
+        }
+    }
+
+    @Override
+    public void runAtLocation(@NotNull Location location, @NotNull Runnable task) {
+        server.getRegionScheduler().execute(skyTrials, location, task);
+    }
+
+    @Override
+    public @NotNull SchedulerTask runAtLocationLater(@NotNull Location location, @NotNull Runnable task, long delayTicks) {
+        return new FoliaSchedulerTask(server.getRegionScheduler().runDelayed(skyTrials, location, scheduledTask -> task.run(), Math.max(1L, delayTicks)));
+    }
+
+    @Override
+    public @NotNull SchedulerTask runAtLocationTimer(@NotNull Location location, @NotNull Runnable task, long delayTicks, long periodTicks) {
+        return new FoliaSchedulerTask(server.getRegionScheduler().runAtFixedRate(skyTrials, location, scheduledTask -> task.run(), Math.max(1L, delayTicks), Math.max(1L, periodTicks)));
+    }
+
+    @Override
+    public void executeForEntity(@NotNull Entity entity, @NotNull Runnable task) {
+        if(!skyTrials.isEnabled() || server.isOwnedByCurrentRegion(entity)) {
+            task.run();
+        } else {
+            entity.getScheduler().execute(skyTrials, task, null, 1L);
+        }
+    }
+
+    /**
+     * A {@link SchedulerTask} for a Folia {@link ScheduledTask}.
+     * @param scheduledTask The {@link ScheduledTask}.
+     */
+    private record FoliaSchedulerTask(@NotNull ScheduledTask scheduledTask) implements SchedulerTask {
+        @Override
+        public void cancel() {
+            scheduledTask.cancel();
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return scheduledTask.isCancelled();
+        }
+    }
+}
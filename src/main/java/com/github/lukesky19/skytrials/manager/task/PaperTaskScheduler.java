@@ -0,0 +1,110 @@
+/*
+    SkyTrials is a plugin that offers different challenges or trials to tackle. Inspired by the Minecraft Trial Chambers and mob arenas.
+    Copyright (C) 2024 lukeskywlker19
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.github.lukesky19.skytrials.manager.task;
+
+import com.github.lukesky19.skytrials.SkyTrials;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * This class is the {@link TaskScheduler} for Paper, where every tick-thread task runs on the main thread.
+ */
+public class PaperTaskScheduler implements TaskScheduler {
+    private final @NotNull SkyTrials skyTrials;
+    private final @NotNull BukkitScheduler scheduler;
+
+    /**
+     * Constructor
+     * @param skyTrials A {@link SkyTrials} instance.
+     */
+    public PaperTaskScheduler(@NotNull SkyTrials skyTrials) {
+        this.skyTrials = skyTrials;
+        this.scheduler = skyTrials.getServer().getScheduler();
+    }
+
+    @Override
+    public void executeGlobal(@NotNull Runnable task) {
+        executeOnMainThread(task);
+    }
+
+    @Override
+    public @NotNull SchedulerTask runGlobalTimer(@NotNull Runnable task, long delayTicks, long periodTicks) {
+        return new PaperSchedulerTask(scheduler.runTaskTimer(skyTrials, task, delayTicks, periodTicks));
+    }
+
+    @Override
+    public @NotNull SchedulerTask runAsyncTimer(@NotNull Runnable task, long delayTicks, long periodTicks) {
+        return new PaperSchedulerTask(scheduler.runTaskTimerAsynchronously(skyTrials, task, delayTicks, periodTicks));
+    }
+
+    @Override
+    public void execute(@NotNull Location location, @NotNull Runnable task) {
+        executeOnMainThread(task);
+    }
+
+    @Override
+    public void runAtLocation(@NotNull Location location, @NotNull Runnable task) {
+        scheduler.runTask(skyTrials, task);
+    }
+
+    @Override
+    public @NotNull SchedulerTask runAtLocationLater(@NotNull Location location, @NotNull Runnable task, long delayTicks) {
+        return new PaperSchedulerTask(scheduler.runTaskLater(skyTrials, task, delayTicks));
+    }
+
+    @Override
+    public @NotNull SchedulerTask runAtLocationTimer(@NotNull Location location, @NotNull Runnable task, long delayTicks, long periodTicks) {
+        return new PaperSchedulerTask(scheduler.runTaskTimer(skyTrials, task, delayTicks, periodTicks));
+    }
+
+    @Override
+    public void executeForEntity(@NotNull Entity entity, @NotNull Runnable task) {
+        executeOnMainThread(task);
+    }
+
+    /**
+     * Runs the task now if on the main thread or if the plugin is disabled, otherwise on the next tick.
+     * @param task The {@link Runnable} to run.
+     */
+    private void executeOnMainThread(@NotNull Runnable task) {
+        if(!skyTrials.isEnabled() || skyTrials.getServer().isPrimaryThread()) {
+            task.run();
+        } else {
+            scheduler.runTask(skyTrials, task);
+        }
+    }
+
+    /**
+     * A {@link SchedulerTask} for a {@link BukkitTask}.
+     * @param bukkitTask The {@link BukkitTask}.
+     */
+    private record PaperSchedulerTask(@NotNull BukkitTask bukkitTask) implements SchedulerTask {
+        @Override
+        public void cancel() {
+            bukkitTask.cancel();
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return bukkitTask.isCancelled();
+        }
+    }
+}
@@ -17,74 +17,158 @@
 */
 package com.github.lukesky19.skytrials.manager.task;
 
-import com.github.lukesky19.skytrials.SkyTrials;
+import com.github.lukesky19.skytrials.manager.entity.SpawnGovernor;
+import com.github.lukesky19.skytrials.manager.load.LoadController;
+import com.github.lukesky19.skytrials.manager.matchmaking.MatchmakingManager;
+import com.github.lukesky19.skytrials.manager.metrics.MetricsManager;
 import com.github.lukesky19.skytrials.manager.player.CooldownManager;
+import com.github.lukesky19.skytrials.manager.player.CooldownSaveQueue;
 import com.github.lukesky19.skytrials.manager.player.GracePeriodManager;
 import com.github.lukesky19.skytrials.manager.player.PlayerDataManager;
 import com.github.lukesky19.skytrials.manager.trial.TrialManager;
 import com.github.lukesky19.skytrials.trial.AbstractTrial;
-import org.bukkit.scheduler.BukkitTask;
+import com.github.lukesky19.skytrials.util.TrialOperation;
 import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nullable;
 
 /**
- * This class manages {@link BukkitTask}s for the plugin.
+ * This class manages the plugin's repeating {@link SchedulerTask}s.
  */
 public class TaskManager {
-    private final @NotNull SkyTrials skyTrials;
+    private final @NotNull TaskScheduler taskScheduler;
     private final @NotNull TrialManager trialManager;
     private final @NotNull PlayerDataManager playerDataManager;
+    private final @NotNull CooldownSaveQueue cooldownSaveQueue;
     private final @NotNull CooldownManager cooldownManager;
     private final @NotNull GracePeriodManager gracePeriodManager;
+    private final @NotNull MetricsManager metricsManager;
+    private final @NotNull MatchmakingManager matchmakingManager;
+    private final @NotNull SpawnGovernor spawnGovernor;
+    private final @NotNull LoadController loadController;
 
-    private @Nullable BukkitTask timerTask;
-    private @Nullable BukkitTask playerDataSaveTask;
+    private @Nullable SchedulerTask timerTask;
+    private @Nullable SchedulerTask playerDataSaveTask;
+    private @Nullable SchedulerTask playerDataEvictionTask;
+    private @Nullable SchedulerTask cooldownSweepTask;
+    private @Nullable SchedulerTask metricsExportTask;
+    private @Nullable SchedulerTask queueDispatchTask;
+    private @Nullable SchedulerTask spawnDispatchTask;
+    private @Nullable SchedulerTask loadSampleTask;
 
     /**
      * Constructor
-     * @param skyTrials A {@link SkyTrials} instance.
+     * @param taskScheduler A {@link TaskScheduler} instance.
      * @param trialManager A {@link TrialManager} instance.
      * @param playerDataManager A {@link PlayerDataManager} instance.
+     * @param cooldownSaveQueue A {@link CooldownSaveQueue} instance.
      * @param cooldownManager A {@link CooldownManager} instance.
      * @param gracePeriodManager A {@link GracePeriodManager} instance.
+     * @param metricsManager A {@link MetricsManager} instance.
+     * @param matchmakingManager A {@link MatchmakingManager} instance.
+     * @param spawnGovernor A {@link SpawnGovernor} instance.
+     * @param loadController A {@link LoadController} instance.
      */
     public TaskManager(
-            @NotNull SkyTrials skyTrials,
+            @NotNull TaskScheduler taskScheduler,
             @NotNull TrialManager trialManager,
             @NotNull PlayerDataManager playerDataManager,
+            @NotNull CooldownSaveQueue cooldownSaveQueue,
             @NotNull CooldownManager cooldownManager,
-            @NotNull GracePeriodManager gracePeriodManager) {
-        this.skyTrials = skyTrials;
+            @NotNull GracePeriodManager gracePeriodManager,
+            @NotNull MetricsManager metricsManager,
+            @NotNull MatchmakingManager matchmakingManager,
+            @NotNull SpawnGovernor spawnGovernor,
+            @NotNull LoadController loadController) {
+        this.taskScheduler = taskScheduler;
         this.trialManager = trialManager;
         this.playerDataManager = playerDataManager;
+        this.cooldownSaveQueue = cooldownSaveQueue;
         this.cooldownManager = cooldownManager;
         this.gracePeriodManager = gracePeriodManager;
+        this.metricsManager = metricsManager;
+        this.matchmakingManager = matchmakingManager;
+        this.spawnGovernor = spawnGovernor;
+        this.loadController = loadController;
     }
 
     /**
-     * Start the task that runs every second to decrement trial timers, cooldowns, and grace periods.
+     * Start the task that runs every second to decrement trial timers and grace periods and expire cooldowns.
+     * Each trial's timer is decremented on the thread that owns the trial's region.
      */
     public void startTimerTask() {
-        timerTask = skyTrials.getServer().getScheduler().runTaskTimer(skyTrials, () -> {
-            trialManager.getTrials().forEach(AbstractTrial::decrementTime);
+        timerTask = taskScheduler.runGlobalTimer(() -> {
+            for(AbstractTrial trial : trialManager.getTrials()) {
+                trialManager.runTrialOperation(trial, TrialOperation.DECREMENT_TIME, trial::decrementTime);
+            }
 
-            cooldownManager.decrementCooldowns();
+            cooldownManager.processExpiredCooldowns();
 
             gracePeriodManager.decrementGracePeriods();
         }, 20L, 20L);
     }
 
     /**
-     * Start the task that saves player data every 15 minutes.
+     * Start the task that writes changed cooldowns to the database every 5 seconds.
      */
     public void startPlayerDataSaveTask() {
-        playerDataSaveTask = skyTrials.getServer().getScheduler().runTaskTimer(skyTrials, () ->
-                playerDataManager.savePlayerData(), 20L * 60 * 15, 20L * 60 * 15);
+        playerDataSaveTask = taskScheduler.runGlobalTimer(() ->
+                cooldownSaveQueue.flush(), 20L * 5, 20L * 5);
     }
 
     /**
-     * Stop the task that runs every second to decrement trial timers, cooldowns, and grace periods.
+     * Start the task that evicts data for offline players and releases idle trial instances every minute.
+     */
+    public void startPlayerDataEvictionTask() {
+        playerDataEvictionTask = taskScheduler.runGlobalTimer(() -> {
+            // Pending changes read from the cached data, so they must be flushed before it is evicted
+            cooldownSaveQueue.flush();
+
+            playerDataManager.evictPlayerData();
+
+            trialManager.releaseIdleTrials();
+        }, 20L * 60, 20L * 60);
+    }
+
+    /**
+     * Start the task that removes expired cooldowns from the database shortly after the plugin loads and every 30 minutes after.
+     * Cooldowns of players that never rejoin would otherwise stay in the database forever.
+     */
+    public void startCooldownSweepTask() {
+        cooldownSweepTask = taskScheduler.runGlobalTimer(playerDataManager::removeExpiredCooldowns, 20L, 20L * 60 * 30);
+    }
+
+    /**
+     * Start the task that writes the metrics file every minute. The file is written off the main thread.
+     */
+    public void startMetricsExportTask() {
+        metricsExportTask = taskScheduler.runAsyncTimer(metricsManager::writeMetricsFile, 20L * 60, 20L * 60);
+    }
+
+    /**
+     * Start the task that places waiting parties from every trial's queue into trial instances every second.
+     * A single task dispatches all queues, the trial operations it starts run on each trial's region thread.
+     */
+    public void startQueueDispatchTask() {
+        queueDispatchTask = taskScheduler.runGlobalTimer(matchmakingManager::dispatchQueues, 20L, 20L);
+    }
+
+    /**
+     * Start the task that grants pending mob spawns for level trials every tick.
+     */
+    public void startSpawnDispatchTask() {
+        spawnDispatchTask = taskScheduler.runGlobalTimer(spawnGovernor::dispatchSpawns, 1L, 1L);
+    }
+
+    /**
+     * Start the task that samples the server's tick time every second and adjusts the load level used by all trials.
+     */
+    public void startLoadSampleTask() {
+        loadSampleTask = taskScheduler.runGlobalTimer(loadController::sample, 20L, 20L);
+    }
+
+    /**
+     * Stop the task that runs every second to decrement trial timers and grace periods and expire cooldowns.
      */
     public void stopTimerTask() {
         if(timerTask != null && !timerTask.isCancelled()) {
@@ -94,7 +178,7 @@ public class TaskManager {
     }
 
     /**
-     * Stop the task that saves player data every 15 minutes.
+     * Stop the task that writes changed cooldowns to the database.
      */
     public void stopPlayerDataSaveTask() {
         if(playerDataSaveTask != null && !playerDataSaveTask.isCancelled()) {
@@ -102,4 +186,64 @@ public class TaskManager {
             playerDataSaveTask = null;
         }
     }
+
+    /**
+     * Stop the task that evicts data for offline players.
+     */
+    public void stopPlayerDataEvictionTask() {
+        if(playerDataEvictionTask != null && !playerDataEvictionTask.isCancelled()) {
+            playerDataEvictionTask.cancel();
+            playerDataEvictionTask = null;
+        }
+    }
+
+    /**
+     * Stop the task that removes expired cooldowns from the database.
+     */
+    public void stopCooldownSweepTask() {
+        if(cooldownSweepTask != null && !cooldownSweepTask.isCancelled()) {
+            cooldownSweepTask.cancel();
+            cooldownSweepTask = null;
+        }
+    }
+
+    /**
+     * Stop the task that writes the metrics file.
+     */
+    public void stopMetricsExportTask() {
+        if(metricsExportTask != null && !metricsExportTask.isCancelled()) {
+            metricsExportTask.cancel();
+            metricsExportTask = null;
+        }
+    }
+
+    /**
+     * Stop the task that dispatches trial queues.
+     */
+    public void stopQueueDispatchTask() {
+        if(queueDispatchTask != null && !queueDispatchTask.isCancelled()) {
+            queueDispatchTask.cancel();
+            queueDispatchTask = null;
+        }
+    }
+
+    /**
+     * Stop the task that grants pending mob spawns.
+     */
+    public void stopSpawnDispatchTask() {
+        if(spawnDispatchTask != null && !spawnDispatchTask.isCancelled()) {
+            spawnDispatchTask.cancel();
+            spawnDispatchTask = null;
+        }
+    }
+
+    /**
+     * Stop the task that samples the server's tick time.
+     */
+    public void stopLoadSampleTask() {
+        if(loadSampleTask != null && !loadSampleTask.isCancelled()) {
+            loadSampleTask.cancel();
+            loadSampleTask = null;
+        }
+    }
 }
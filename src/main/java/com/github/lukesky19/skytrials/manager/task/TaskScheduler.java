@@ -0,0 +1,98 @@
+/*
+    SkyTrials is a plugin that offers different challenges or trials to tackle. Inspired by the Minecraft Trial Chambers and mob arenas.
+    Copyright (C) 2024 lukeskywlker19
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.github.lukesky19.skytrials.manager.task;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * This interface schedules tasks on the thread that owns the data the task uses.
+ * On Paper every task except async tasks runs on the main thread. On Folia, the server is split into regions that tick in parallel,
+ * so tasks for a location run on the thread that owns the location's region, tasks for an entity follow the entity,
+ * and tasks that aren't tied to a location run on the global region thread.
+ * Trials run on the thread that owns their region, so separate trials can tick in parallel on Folia.
+ */
+public interface TaskScheduler {
+    /**
+     * Runs a task on the global region thread. On Paper, this is the main thread.
+     * The task runs immediately if called from the global region thread or if the plugin is disabled, otherwise it runs on the next tick.
+     * @param task The {@link Runnable} to run.
+     */
+    void executeGlobal(@NotNull Runnable task);
+
+    /**
+     * Runs a repeating task on the global region thread. On Paper, this is the main thread.
+     * @param task The {@link Runnable} to run.
+     * @param delayTicks The delay in ticks before the first run.
+     * @param periodTicks The period in ticks between runs.
+     * @return The {@link SchedulerTask}.
+     */
+    @NotNull SchedulerTask runGlobalTimer(@NotNull Runnable task, long delayTicks, long periodTicks);
+
+    /**
+     * Runs a repeating task off the server's tick threads.
+     * @param task The {@link Runnable} to run.
+     * @param delayTicks The delay in ticks before the first run.
+     * @param periodTicks The period in ticks between runs.
+     * @return The {@link SchedulerTask}.
+     */
+    @NotNull SchedulerTask runAsyncTimer(@NotNull Runnable task, long delayTicks, long periodTicks);
+
+    /**
+     * Runs a task on the thread that owns the region of the {@link Location} provided.
+     * The task runs immediately if called from that thread or if the plugin is disabled, otherwise it runs on the next tick.
+     * @param location The {@link Location} the task uses.
+     * @param task The {@link Runnable} to run.
+     */
+    void execute(@NotNull Location location, @NotNull Runnable task);
+
+    /**
+     * Runs a task on the next tick on the thread that owns the region of the {@link Location} provided.
+     * @param location The {@link Location} the task uses.
+     * @param task The {@link Runnable} to run.
+     */
+    void runAtLocation(@NotNull Location location, @NotNull Runnable task);
+
+    /**
+     * Runs a task after a delay on the thread that owns the region of the {@link Location} provided.
+     * @param location The {@link Location} the task uses.
+     * @param task The {@link Runnable} to run.
+     * @param delayTicks The delay in ticks before the task runs.
+     * @return The {@link SchedulerTask}.
+     */
+    @NotNull SchedulerTask runAtLocationLater(@NotNull Location location, @NotNull Runnable task, long delayTicks);
+
+    /**
+     * Runs a repeating task on the thread that owns the region of the {@link Location} provided.
+     * @param location The {@link Location} the task uses.
+     * @param task The {@link Runnable} to run.
+     * @param delayTicks The delay in ticks before the first run.
+     * @param periodTicks The period in ticks between runs.
+     * @return The {@link SchedulerTask}.
+     */
+    @NotNull SchedulerTask runAtLocationTimer(@NotNull Location location, @NotNull Runnable task, long delayTicks, long periodTicks);
+
+    /**
+     * Runs a task on the thread that owns the {@link Entity} provided. The task doesn't run if the entity is removed first.
+     * The task runs immediately if called from that thread or if the plugin is disabled, otherwise it runs on the next tick.
+     * @param entity The {@link Entity} the task uses.
+     * @param task The {@link Runnable} to run.
+     */
+    void executeForEntity(@NotNull Entity entity, @NotNull Runnable task);
+}
@@ -0,0 +1,97 @@
+/*
+    SkyTrials is a plugin that offers different challenges or trials to tackle. Inspired by the Minecraft Trial Chambers and mob arenas.
+    Copyright (C) 2024 lukeskywlker19
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.github.lukesky19.skytrials.manager.trial;
+
+import com.github.lukesky19.skytrials.SkyTrials;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * This class counts how many trials hold each chunk loaded.
+ * Plugin chunk tickets are shared by the whole plugin, so a chunk used by more than one trial only holds one ticket.
+ * The ticket is added when the first trial acquires the chunk and removed when the last trial releases it.
+ */
+public class ChunkTicketRegistry {
+    private final @NotNull SkyTrials skyTrials;
+    private final @NotNull Map<TicketKey, Integer> referenceCounts = new HashMap<>();
+
+    /**
+     * Constructor
+     * @param skyTrials A {@link SkyTrials} instance.
+     */
+    public ChunkTicketRegistry(@NotNull SkyTrials skyTrials) {
+        this.skyTrials = skyTrials;
+    }
+
+    /**
+     * Acquires a chunk for a trial. Adds the plugin chunk ticket if no other trial holds the chunk.
+     * @param world The {@link World} the chunk is in.
+     * @param chunkKey The chunk key from {@link Chunk#getChunkKey(int, int)}.
+     */
+    public synchronized void acquire(@NotNull World world, long chunkKey) {
+        TicketKey ticketKey = new TicketKey(world.getUID(), chunkKey);
+
+        int referenceCount = referenceCounts.getOrDefault(ticketKey, 0);
+        if(referenceCount == 0) {
+            world.addPluginChunkTicket((int) chunkKey, (int) (chunkKey >> 32), skyTrials);
+        }
+
+        referenceCounts.put(ticketKey, referenceCount + 1);
+    }
+
+    /**
+     * Releases a chunk acquired by a trial. Removes the plugin chunk ticket once no trial holds the chunk.
+     * @param world The {@link World} the chunk is in.
+     * @param chunkKey The chunk key from {@link Chunk#getChunkKey(int, int)}.
+     */
+    public synchronized void release(@NotNull World world, long chunkKey) {
+        TicketKey ticketKey = new TicketKey(world.getUID(), chunkKey);
+
+        Integer referenceCount = referenceCounts.get(ticketKey);
+        if(referenceCount == null) return;
+
+        if(referenceCount <= 1) {
+            referenceCounts.remove(ticketKey);
+            world.removePluginChunkTicket((int) chunkKey, (int) (chunkKey >> 32), skyTrials);
+        } else {
+            referenceCounts.put(ticketKey, referenceCount - 1);
+        }
+    }
+
+    /**
+     * Get the number of trials holding a chunk.
+     * @param world The {@link World} the chunk is in.
+     * @param chunkKey The chunk key from {@link Chunk#getChunkKey(int, int)}.
+     * @return The number of trials holding the chunk.
+     */
+    public synchronized int getReferenceCount(@NotNull World world, long chunkKey) {
+        return referenceCounts.getOrDefault(new TicketKey(world.getUID(), chunkKey), 0);
+    }
+
+    /**
+     * Identifies a chunk in a world.
+     * @param worldId The {@link UUID} of the {@link World}.
+     * @param chunkKey The chunk key.
+     */
+    private record TicketKey(@NotNull UUID worldId, long chunkKey) {}
+}
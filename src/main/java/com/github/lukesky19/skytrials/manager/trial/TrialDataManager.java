@@ -21,15 +21,35 @@ import com.github.lukesky19.skylib.api.adventure.AdventureUtil;
 import com.github.lukesky19.skylib.api.itemstack.ItemStackBuilder;
 import com.github.lukesky19.skylib.api.registry.RegistryUtil;
 import com.github.lukesky19.skytrials.SkyTrials;
+import com.github.lukesky19.skytrials.builder.EntityTemplateBuilder;
+import com.github.lukesky19.skytrials.data.config.block.TrialSpawnerConfig;
+import com.github.lukesky19.skytrials.data.config.block.VaultConfig;
+import com.github.lukesky19.skytrials.data.config.entity.EntityConfig;
+import com.github.lukesky19.skytrials.data.config.misc.InstanceConfig;
+import com.github.lukesky19.skytrials.data.config.misc.LocationConfig;
+import com.github.lukesky19.skytrials.data.config.misc.QueueConfig;
 import com.github.lukesky19.skytrials.data.config.misc.RegionConfig;
+import com.github.lukesky19.skytrials.data.config.misc.RestoreConfig;
 import com.github.lukesky19.skytrials.data.config.trial.ChamberTrialConfig;
 import com.github.lukesky19.skytrials.data.config.trial.LevelTrialConfig;
 import com.github.lukesky19.skytrials.data.trial.ChamberTrialData;
+import com.github.lukesky19.skytrials.data.trial.EntityTemplate;
+import com.github.lukesky19.skytrials.data.trial.InstanceData;
 import com.github.lukesky19.skytrials.data.trial.LevelTrialData;
+import com.github.lukesky19.skytrials.data.trial.QueueData;
+import com.github.lukesky19.skytrials.data.trial.RestoreData;
+import com.github.lukesky19.skytrials.data.trial.TrialSpawnerTemplate;
+import com.github.lukesky19.skytrials.util.AliasTable;
 import com.github.lukesky19.skytrials.util.LocationUtil;
+import com.github.lukesky19.skytrials.util.MobSpawnMode;
+import com.github.lukesky19.skytrials.util.RestoreMode;
 import com.sk89q.worldedit.bukkit.BukkitAdapter;
+import com.sk89q.worldedit.math.BlockVector2;
+import com.sk89q.worldedit.math.BlockVector3;
 import com.sk89q.worldguard.WorldGuard;
 import com.sk89q.worldguard.protection.managers.RegionManager;
+import com.sk89q.worldguard.protection.regions.ProtectedCuboidRegion;
+import com.sk89q.worldguard.protection.regions.ProtectedPolygonalRegion;
 import com.sk89q.worldguard.protection.regions.ProtectedRegion;
 import net.kyori.adventure.text.logger.slf4j.ComponentLogger;
 import org.bukkit.Location;
@@ -203,13 +223,55 @@ public class TrialDataManager {
 
         ChamberTrialData.TrialBossBarData trialBossBarData = new ChamberTrialData.TrialBossBarData(trialBossBarConfig.timeLimitText(), trialBossBarConfig.noTimeLimitText(), trialBossBarConfig.color(), trialBossBarConfig.overlay());
 
+        InstanceData instanceData = createInstanceData(config.trialId(), config.instances());
+        QueueData queueData = createQueueData(config.queue());
+        RestoreData restoreData = createRestoreData(config.trialId(), config.restore());
+
+        List<TrialSpawnerTemplate> trialSpawnerTemplateList = config.trialSpawners().stream()
+                .map(trialSpawnerConfig -> new TrialSpawnerTemplate(trialSpawnerConfig.location(), createSpawnerTemplate(trialSpawnerConfig.normal()), createSpawnerTemplate(trialSpawnerConfig.ominous())))
+                .toList();
+
         ChamberTrialData chamberTrialData = new ChamberTrialData(
-                config.trialId(), timeLimitSeconds, cooldownSeconds, gracePeriodSeconds, world, protectedRegion,
-                joinLocation, startLocation, endLocation, lobbyBossBarData, trialBossBarData, config.trialSpawners(), config.vaults());
+                config.trialId(), timeLimitSeconds, cooldownSeconds, gracePeriodSeconds, world, protectedRegion, instanceData, queueData, restoreData,
+                joinLocation, startLocation, endLocation, lobbyBossBarData, trialBossBarData, trialSpawnerTemplateList, config.vaults());
 
         chamberTrialDataList.add(chamberTrialData);
     }
 
+    /**
+     * Create the {@link TrialSpawnerTemplate.SpawnerTemplate} for a {@link TrialSpawnerConfig.SpawnerConfig} by compiling its spawn potentials once,
+     * so placing the trial spawner for each run doesn't build the entity templates again.
+     * @param spawnerConfig The {@link TrialSpawnerConfig.SpawnerConfig}.
+     * @return The {@link TrialSpawnerTemplate.SpawnerTemplate}. Invalid spawn potentials are skipped.
+     */
+    private @NotNull TrialSpawnerTemplate.SpawnerTemplate createSpawnerTemplate(@NotNull TrialSpawnerConfig.SpawnerConfig spawnerConfig) {
+        List<TrialSpawnerTemplate.SpawnPotential> spawnPotentials = new ArrayList<>();
+
+        for(TrialSpawnerConfig.SpawnPotential spawnPotential : spawnerConfig.spawnPotentials()) {
+            EntityConfig entityConfig = spawnPotential.entityConfig();
+
+            if(entityConfig.entityType() == null) {
+                logger.warn(AdventureUtil.serialize("Skipping a trial spawner spawn potential due to an invalid EntityType name."));
+                continue;
+            }
+
+            if(spawnPotential.weight() == null) {
+                logger.warn(AdventureUtil.serialize("Skipping a trial spawner spawn potential due to an invalid weight for entity Type: " + entityConfig.entityType()));
+                continue;
+            }
+
+            Optional<EntityTemplate> optionalEntityTemplate = new EntityTemplateBuilder(logger, entityConfig).buildEntityTemplate();
+            if(optionalEntityTemplate.isEmpty()) {
+                logger.warn(AdventureUtil.serialize("Skipping a trial spawner spawn potential due to an invalid entity config for EntityType: " + entityConfig.entityType()));
+                continue;
+            }
+
+            spawnPotentials.add(new TrialSpawnerTemplate.SpawnPotential(optionalEntityTemplate.get(), spawnPotential.weight()));
+        }
+
+        return new TrialSpawnerTemplate.SpawnerTemplate(spawnerConfig, List.copyOf(spawnPotentials));
+    }
+
     /**
      * Create the {@link LevelTrialData} from a {@link LevelTrialConfig}.
      * @param config The {@link LevelTrialConfig}.
@@ -356,6 +418,10 @@ public class TrialDataManager {
             levelDataList.add(levelData);
         }
 
+        InstanceData instanceData = createInstanceData(config.trialId(), config.instances());
+        QueueData queueData = createQueueData(config.queue());
+        RestoreData restoreData = createRestoreData(config.trialId(), config.restore());
+
         LevelTrialData levelTrialData = new LevelTrialData(
                 config.trialId(),
                 timeLimitSeconds,
@@ -363,6 +429,10 @@ public class TrialDataManager {
                 gracePeriodSeconds,
                 world,
                 protectedRegion,
+                instanceData,
+                queueData,
+                restoreData,
+                config.spawnSeed(),
                 joinLocation,
                 endLocation,
                 lobbyBossBarData,
@@ -439,9 +509,25 @@ public class TrialDataManager {
             return null;
         }
 
-        if(config.mobSpawnFrequencySeconds() == null || config.mobSpawnFrequencySeconds() < 0) {
-            logger.error(AdventureUtil.serialize("Unable to create level trial data as the mob spawn frequency is invalid."));
-            return null;
+        MobSpawnMode mobSpawnMode = config.mobSpawnMode() != null ? config.mobSpawnMode() : MobSpawnMode.TIMER;
+        if(mobSpawnMode == MobSpawnMode.REFILL && baseMobLimit == -1) {
+            logger.warn(AdventureUtil.serialize("A level uses the refill mob spawn mode without a mob limit to refill to. The timer mode will be used instead."));
+            mobSpawnMode = MobSpawnMode.TIMER;
+        }
+
+        long mobSpawnFrequencySeconds = -1;
+        if(mobSpawnMode == MobSpawnMode.TIMER) {
+            if(config.mobSpawnFrequencySeconds() == null || config.mobSpawnFrequencySeconds() < 0) {
+                logger.error(AdventureUtil.serialize("Unable to create level trial data as the mob spawn frequency is invalid."));
+                return null;
+            }
+
+            mobSpawnFrequencySeconds = config.mobSpawnFrequencySeconds();
+        }
+
+        long minRefillIntervalTicks = -1;
+        if(config.minRefillIntervalTicks() != null && config.minRefillIntervalTicks() > 0) {
+            minRefillIntervalTicks = config.minRefillIntervalTicks();
         }
 
         List<ItemStack> rewardItemStacks = config.rewardItems().stream()
@@ -465,11 +551,30 @@ public class TrialDataManager {
                 .filter(Objects::nonNull)
                 .toList();
 
-        List<LevelTrialData.MobSpawn> entityList = config.mobSpawns().stream().map(mobSpawn -> {
-            List<Location> mobSpawnLocations = mobSpawn.spawnLocations().stream().map(locationConfig -> LocationUtil.getLocation(skyTrials, locationConfig)).filter(Objects::nonNull).toList();
+        // Compile each entity config once so spawning only needs to apply the template
+        List<LevelTrialData.MobSpawn> entityList = new ArrayList<>();
+        List<Double> entityWeights = new ArrayList<>();
+        for(LevelTrialConfig.MobSpawn mobSpawn : config.mobSpawns()) {
+            double weight = mobSpawn.weight() != null ? mobSpawn.weight() : 1D;
+            if(!(weight > 0) || Double.isInfinite(weight)) {
+                logger.error(AdventureUtil.serialize("Skipping a mob spawn for level trial data as its weight is not a positive number."));
+                continue;
+            }
+
+            Optional<EntityTemplate> optionalEntityTemplate = new EntityTemplateBuilder(logger, mobSpawn.entityConfig()).buildEntityTemplate();
+            if(optionalEntityTemplate.isEmpty()) {
+                logger.error(AdventureUtil.serialize("Skipping a mob spawn for level trial data as its entity config is invalid."));
+                continue;
+            }
 
-            return new LevelTrialData.MobSpawn(mobSpawn.entityConfig(), mobSpawnLocations);
-        }).toList();
+            LevelTrialData.MobSpawn mobSpawnData = createMobSpawn(optionalEntityTemplate.get(), mobSpawn);
+            if(mobSpawnData == null) continue;
+
+            entityList.add(mobSpawnData);
+            entityWeights.add(weight);
+        }
+
+        AliasTable mobSpawnTable = entityList.isEmpty() ? null : new AliasTable(entityWeights.stream().mapToDouble(Double::doubleValue).toArray());
 
         return new LevelTrialData.LevelData(
                 startLocation,
@@ -483,10 +588,260 @@ public class TrialDataManager {
                 spawnCount,
                 additionalSpawnCountPerPlayer,
                 config.mobSpawnStartDelay(),
-                config.mobSpawnFrequencySeconds(),
+                mobSpawnFrequencySeconds,
+                mobSpawnMode,
+                minRefillIntervalTicks,
                 potionEffectList,
                 rewardItemStacks,
                 rewardCommands,
-                entityList);
+                entityList,
+                mobSpawnTable);
+    }
+
+    /**
+     * Create the {@link LevelTrialData.MobSpawn} for a {@link LevelTrialConfig.MobSpawn}, including the table used to pick its spawn locations.
+     * Spawn locations are equally likely unless a weight is configured for each of them.
+     * @param entityTemplate The {@link EntityTemplate} for the mob.
+     * @param config The {@link LevelTrialConfig.MobSpawn}.
+     * @return The {@link LevelTrialData.MobSpawn} or null if the mob has no valid spawn locations.
+     */
+    private @Nullable LevelTrialData.MobSpawn createMobSpawn(@NotNull EntityTemplate entityTemplate, @NotNull LevelTrialConfig.MobSpawn config) {
+        List<Double> configWeights = config.spawnLocationWeights();
+        if(configWeights != null && !configWeights.isEmpty() && configWeights.size() != config.spawnLocations().size()) {
+            logger.warn(AdventureUtil.serialize("A mob spawn's spawn location weights don't match its spawn locations. Every spawn location will be equally likely."));
+            configWeights = null;
+        }
+
+        List<Location> spawnLocations = new ArrayList<>();
+        List<Double> spawnLocationWeights = new ArrayList<>();
+        for(int i = 0; i < config.spawnLocations().size(); i++) {
+            Location location = LocationUtil.getLocation(skyTrials, config.spawnLocations().get(i));
+            if(location == null) continue;
+
+            Double weight = configWeights != null && !configWeights.isEmpty() ? configWeights.get(i) : null;
+            if(weight == null) weight = 1D;
+            if(!(weight > 0) || Double.isInfinite(weight)) {
+                logger.warn(AdventureUtil.serialize("Skipping a mob spawn location as its weight is not a positive number."));
+                continue;
+            }
+
+            spawnLocations.add(location);
+            spawnLocationWeights.add(weight);
+        }
+
+        if(spawnLocations.isEmpty()) {
+            logger.error(AdventureUtil.serialize("Skipping a mob spawn for level trial data as it has no valid spawn locations."));
+            return null;
+        }
+
+        AliasTable spawnLocationTable = new AliasTable(spawnLocationWeights.stream().mapToDouble(Double::doubleValue).toArray());
+
+        return new LevelTrialData.MobSpawn(entityTemplate, List.copyOf(spawnLocations), spawnLocationTable);
+    }
+
+    /**
+     * Create the {@link InstanceData} from an {@link InstanceConfig}.
+     * @param trialId The id of the trial the config is for.
+     * @param config The {@link InstanceConfig} or null if not configured.
+     * @return The {@link InstanceData}. Defaults to a single instance if the config is missing or invalid.
+     */
+    private @NotNull InstanceData createInstanceData(@NotNull String trialId, @Nullable InstanceConfig config) {
+        if(config == null || config.maxInstances() == null || config.maxInstances() <= 1) {
+            return new InstanceData(1, BlockVector3.ZERO);
+        }
+
+        BlockVector3 offset = BlockVector3.at(
+                config.offsetX() != null ? config.offsetX() : 0,
+                config.offsetY() != null ? config.offsetY() : 0,
+                config.offsetZ() != null ? config.offsetZ() : 0);
+
+        if(offset.equals(BlockVector3.ZERO)) {
+            logger.warn(AdventureUtil.serialize("Trial " + trialId + " allows multiple instances but has no instance offset. Only one instance will be used."));
+            return new InstanceData(1, BlockVector3.ZERO);
+        }
+
+        return new InstanceData(config.maxInstances(), offset);
+    }
+
+    /**
+     * Create the {@link QueueData} from a {@link QueueConfig}.
+     * @param config The {@link QueueConfig} or null if not configured.
+     * @return The {@link QueueData} or null if the trial does not use a queue.
+     */
+    private @Nullable QueueData createQueueData(@Nullable QueueConfig config) {
+        if(config == null || config.partySize() == null || config.partySize() <= 0) return null;
+
+        int maxWaitSeconds = -1;
+        if(config.maxWaitSeconds() != null && config.maxWaitSeconds() > 0) {
+            maxWaitSeconds = config.maxWaitSeconds();
+        }
+
+        return new QueueData(config.partySize(), maxWaitSeconds);
+    }
+
+    /**
+     * Create the {@link RestoreData} from a {@link RestoreConfig}.
+     * @param trialId The id of the trial, used for logging.
+     * @param config The {@link RestoreConfig} or null if not configured.
+     * @return The {@link RestoreData} or null if the trial's arena is not restored.
+     */
+    private @Nullable RestoreData createRestoreData(@NotNull String trialId, @Nullable RestoreConfig config) {
+        if(config == null) return null;
+
+        RestoreMode restoreMode = config.mode() != null ? config.mode() : RestoreMode.JOURNAL;
+        if(restoreMode == RestoreMode.JOURNAL) return new RestoreData(restoreMode, -1);
+
+        if(config.blocksPerTick() == null || config.blocksPerTick() <= 0) {
+            logger.warn(AdventureUtil.serialize("The blocks per tick to restore for trial " + trialId + " is invalid. The trial's arena will not be restored."));
+            return null;
+        }
+
+        return new RestoreData(restoreMode, config.blocksPerTick());
+    }
+
+    /**
+     * Create the {@link ChamberTrialData} for an instance of a chamber trial.
+     * The region, locations, trial spawners, and vaults are moved by the instance offset times the instance index.
+     * @param trialData The {@link ChamberTrialData} for the first instance.
+     * @param instanceIndex The index of the instance, starting at 0.
+     * @return The {@link ChamberTrialData} for the instance.
+     */
+    public @NotNull ChamberTrialData createInstanceTrialData(@NotNull ChamberTrialData trialData, int instanceIndex) {
+        if(instanceIndex == 0) return trialData;
+
+        BlockVector3 offset = trialData.instanceData().offset().multiply(instanceIndex);
+
+        List<TrialSpawnerTemplate> trialSpawnerTemplateList = trialData.trialSpawnerTemplateList().stream()
+                .map(trialSpawnerTemplate -> new TrialSpawnerTemplate(offsetLocationConfig(trialSpawnerTemplate.location(), offset), trialSpawnerTemplate.normal(), trialSpawnerTemplate.ominous()))
+                .toList();
+
+        List<VaultConfig> vaultConfigList = trialData.vaultConfigList().stream()
+                .map(vaultConfig -> new VaultConfig(offsetLocationConfig(vaultConfig.location(), offset), vaultConfig.ominous(), vaultConfig.activationRange(), vaultConfig.deactivationRange(), vaultConfig.keyItem(), vaultConfig.lootTable()))
+                .toList();
+
+        return new ChamberTrialData(
+                trialData.trialId(),
+                trialData.timeLimitSeconds(),
+                trialData.cooldownSeconds(),
+                trialData.gracePeriodSeconds(),
+                trialData.trialWorld(),
+                offsetRegion(trialData.trialRegion(), offset, instanceIndex),
+                trialData.instanceData(),
+                trialData.queueData(),
+                trialData.restoreData(),
+                offsetLocation(trialData.joinLocation(), offset),
+                offsetLocation(trialData.startLocation(), offset),
+                trialData.endLocation(),
+                trialData.lobbyBossBar(),
+                trialData.trialBossBar(),
+                trialSpawnerTemplateList,
+                vaultConfigList);
+    }
+
+    /**
+     * Create the {@link LevelTrialData} for an instance of a level trial.
+     * The region and locations inside the trial are moved by the instance offset times the instance index.
+     * @param trialData The {@link LevelTrialData} for the first instance.
+     * @param instanceIndex The index of the instance, starting at 0.
+     * @return The {@link LevelTrialData} for the instance.
+     */
+    public @NotNull LevelTrialData createInstanceTrialData(@NotNull LevelTrialData trialData, int instanceIndex) {
+        if(instanceIndex == 0) return trialData;
+
+        BlockVector3 offset = trialData.instanceData().offset().multiply(instanceIndex);
+
+        List<LevelTrialData.LevelData> levelDataList = trialData.levels().stream()
+                .map(levelData -> new LevelTrialData.LevelData(
+                        offsetLocation(levelData.startLocation(), offset),
+                        levelData.removeMobsOnLevelEnd(),
+                        levelData.clearEffectsOnLevelEnd(),
+                        levelData.allowMilkEffectRemoval(),
+                        levelData.baseMobLimit(),
+                        levelData.additionalMobLimitPerPlayer(),
+                        levelData.goalCount(),
+                        levelData.additionalGoalCountPerPlayer(),
+                        levelData.spawnCount(),
+                        levelData.additionalSpawnCountPerPlayer(),
+                        levelData.mobSpawnStartDelay(),
+                        levelData.mobSpawnFrequencySeconds(),
+                        levelData.mobSpawnMode(),
+                        levelData.minRefillIntervalTicks(),
+                        levelData.playerEffects(),
+                        levelData.rewardItemStacks(),
+                        levelData.rewardCommands(),
+                        levelData.mobSpawnList().stream()
+                                .map(mobSpawn -> new LevelTrialData.MobSpawn(mobSpawn.entityTemplate(), mobSpawn.spawnLocations().stream().map(location -> offsetLocation(location, offset)).toList(), mobSpawn.spawnLocationTable()))
+                                .toList(),
+                        levelData.mobSpawnTable()))
+                .toList();
+
+        return new LevelTrialData(
+                trialData.trialId(),
+                trialData.timeLimitSeconds(),
+                trialData.cooldownSeconds(),
+                trialData.gracePeriodSeconds(),
+                trialData.trialWorld(),
+                offsetRegion(trialData.trialRegion(), offset, instanceIndex),
+                trialData.instanceData(),
+                trialData.queueData(),
+                trialData.restoreData(),
+                trialData.spawnSeed(),
+                offsetLocation(trialData.joinLocation(), offset),
+                trialData.endLocation(),
+                trialData.lobbyBossBar(),
+                trialData.trialBossBar(),
+                trialData.clearEffectsOnTrialEnd(),
+                trialData.rewardOnTimeEnd(),
+                trialData.playerEffects(),
+                trialData.trialRewardItemStacks(),
+                trialData.trialRewardCommands(),
+                levelDataList);
+    }
+
+    /**
+     * Create a copy of a {@link ProtectedRegion} moved by the offset provided.
+     * The copy is not added to WorldGuard and is only used to find what is inside the instance.
+     * Polygonal regions keep their shape, any other region is copied as its bounding box.
+     * @param region The {@link ProtectedRegion} to copy.
+     * @param offset The {@link BlockVector3} offset.
+     * @param instanceIndex The index of the instance, which is added to the region's id.
+     * @return The moved {@link ProtectedRegion}.
+     */
+    private @NotNull ProtectedRegion offsetRegion(@NotNull ProtectedRegion region, @NotNull BlockVector3 offset, int instanceIndex) {
+        String id = region.getId() + "_instance_" + instanceIndex;
+
+        if(region instanceof ProtectedPolygonalRegion) {
+            List<BlockVector2> points = region.getPoints().stream().map(point -> point.add(offset.x(), offset.z())).toList();
+            return new ProtectedPolygonalRegion(id, points, region.getMinimumPoint().y() + offset.y(), region.getMaximumPoint().y() + offset.y());
+        }
+
+        return new ProtectedCuboidRegion(id, region.getMinimumPoint().add(offset), region.getMaximumPoint().add(offset));
+    }
+
+    /**
+     * Create a copy of a {@link Location} moved by the offset provided.
+     * @param location The {@link Location} to copy.
+     * @param offset The {@link BlockVector3} offset.
+     * @return The moved {@link Location}.
+     */
+    private @NotNull Location offsetLocation(@NotNull Location location, @NotNull BlockVector3 offset) {
+        return location.clone().add(offset.x(), offset.y(), offset.z());
+    }
+
+    /**
+     * Create a copy of a {@link LocationConfig} moved by the offset provided.
+     * Missing coordinates are left missing so the config is still reported as invalid where it is used.
+     * @param locationConfig The {@link LocationConfig} to copy.
+     * @param offset The {@link BlockVector3} offset.
+     * @return The moved {@link LocationConfig}.
+     */
+    private @NotNull LocationConfig offsetLocationConfig(@NotNull LocationConfig locationConfig, @NotNull BlockVector3 offset) {
+        return new LocationConfig(
+                locationConfig.world(),
+                locationConfig.x() != null ? locationConfig.x() + offset.x() : null,
+                locationConfig.y() != null ? locationConfig.y() + offset.y() : null,
+                locationConfig.z() != null ? locationConfig.z() + offset.z() : null,
+                locationConfig.yaw(),
+                locationConfig.pitch());
     }
 }
@@ -18,22 +18,33 @@
 package com.github.lukesky19.skytrials.manager.trial;
 
 import com.github.lukesky19.skytrials.SkyTrials;
+import com.github.lukesky19.skytrials.manager.broadcast.BroadcastManager;
 import com.github.lukesky19.skytrials.manager.locale.LocaleManager;
+import com.github.lukesky19.skytrials.manager.metrics.MetricsManager;
 import com.github.lukesky19.skytrials.manager.player.CooldownManager;
 import com.github.lukesky19.skytrials.manager.blocks.SpawnerManager;
 import com.github.lukesky19.skytrials.manager.blocks.VaultManager;
 import com.github.lukesky19.skytrials.manager.entity.EntityManager;
+import com.github.lukesky19.skytrials.manager.entity.SpawnGovernor;
+import com.github.lukesky19.skytrials.manager.load.LoadController;
 import com.github.lukesky19.skytrials.manager.player.GracePeriodManager;
+import com.github.lukesky19.skytrials.manager.task.TaskScheduler;
+import com.github.lukesky19.skytrials.data.trial.RestoreData;
 import com.github.lukesky19.skytrials.trial.AbstractTrial;
+import com.github.lukesky19.skytrials.trial.TrialArenaTemplate;
 import com.github.lukesky19.skytrials.trial.impl.ChamberTrial;
 import com.github.lukesky19.skytrials.trial.impl.LevelTrial;
+import com.github.lukesky19.skytrials.util.RestoreMode;
 import com.github.lukesky19.skytrials.util.TrialEndReason;
+import com.github.lukesky19.skytrials.util.TrialOperation;
 import com.sk89q.worldguard.protection.regions.ProtectedRegion;
-import org.bukkit.*;
+import org.bukkit.Location;
+import org.bukkit.World;
 import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nullable;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This class manages the actual running trials.
@@ -44,11 +55,21 @@ public class TrialManager {
     private final @NotNull TrialDataManager trialDataManager;
     private final @NotNull SpawnerManager spawnerManager;
     private final @NotNull EntityManager entityManager;
+    private final @NotNull SpawnGovernor spawnGovernor;
+    private final @NotNull LoadController loadController;
     private final @NotNull VaultManager vaultManager;
     private final @NotNull CooldownManager cooldownManager;
     private final @NotNull GracePeriodManager gracePeriodManager;
+    private final @NotNull MetricsManager metricsManager;
+    private final @NotNull BroadcastManager broadcastManager;
+    private final @NotNull TaskScheduler taskScheduler;
 
-    private final @NotNull Map<String, AbstractTrial> trialMap = new HashMap<>();
+    private final @NotNull Map<String, TrialPool> trialPoolMap = new ConcurrentHashMap<>();
+    // Every instance of every trial, replaced whenever an instance is created or released
+    private volatile @NotNull List<AbstractTrial> trials = List.of();
+    private final @NotNull TrialRegionIndex trialRegionIndex = new TrialRegionIndex();
+    private final @NotNull TrialPlayerIndex trialPlayerIndex = new TrialPlayerIndex();
+    private final @NotNull ChunkTicketRegistry chunkTicketRegistry;
 
     /**
      * Constructor
@@ -57,9 +78,14 @@ public class TrialManager {
      * @param trialDataManager A {@link TrialDataManager} instance.
      * @param spawnerManager A {@link SpawnerManager} instance.
      * @param entityManager A {@link EntityManager} instance.
+     * @param spawnGovernor A {@link SpawnGovernor} instance.
+     * @param loadController A {@link LoadController} instance.
      * @param vaultManager A {@link VaultManager} instance.
      * @param cooldownManager A {@link CooldownManager} instance.
      * @param gracePeriodManager A {@link GracePeriodManager} instance.
+     * @param metricsManager A {@link MetricsManager} instance.
+     * @param broadcastManager A {@link BroadcastManager} instance.
+     * @param taskScheduler A {@link TaskScheduler} instance.
      */
     public TrialManager(
             @NotNull SkyTrials skyTrials,
@@ -67,28 +93,64 @@ public class TrialManager {
             @NotNull TrialDataManager trialDataManager,
             @NotNull SpawnerManager spawnerManager,
             @NotNull EntityManager entityManager,
+            @NotNull SpawnGovernor spawnGovernor,
+            @NotNull LoadController loadController,
             @NotNull VaultManager vaultManager,
             @NotNull CooldownManager cooldownManager,
-            @NotNull GracePeriodManager gracePeriodManager) {
+            @NotNull GracePeriodManager gracePeriodManager,
+            @NotNull MetricsManager metricsManager,
+            @NotNull BroadcastManager broadcastManager,
+            @NotNull TaskScheduler taskScheduler) {
         this.skyTrials = skyTrials;
         this.localeManager = localeManager;
         this.trialDataManager = trialDataManager;
         this.spawnerManager = spawnerManager;
         this.entityManager = entityManager;
+        this.spawnGovernor = spawnGovernor;
+        this.loadController = loadController;
         this.vaultManager = vaultManager;
         this.cooldownManager = cooldownManager;
         this.gracePeriodManager = gracePeriodManager;
+        this.metricsManager = metricsManager;
+        this.broadcastManager = broadcastManager;
+        this.taskScheduler = taskScheduler;
+        this.chunkTicketRegistry = new ChunkTicketRegistry(skyTrials);
     }
 
     /**
-     * Creates the trials from the trial data.
+     * Creates the trial pools from the trial data. Each pool starts with a single instance of its trial.
      */
     public void createTrials() {
-        trialDataManager.getChamberTrialDataList().forEach(trialData ->
-                trialMap.put(trialData.trialId(), new ChamberTrial(skyTrials, localeManager, spawnerManager, vaultManager, cooldownManager, gracePeriodManager, trialData)));
+        trialDataManager.getChamberTrialDataList().forEach(trialData -> {
+            TrialArenaTemplate arenaTemplate = createArenaTemplate(trialData.trialId(), trialData.trialWorld(), trialData.trialRegion(), trialData.restoreData());
+            trialPoolMap.put(trialData.trialId(), new TrialPool(trialData.trialId(), trialData.instanceData().maxInstances(), instanceIndex ->
+                    new ChamberTrial(skyTrials, localeManager, spawnerManager, vaultManager, cooldownManager, gracePeriodManager, trialPlayerIndex, chunkTicketRegistry, broadcastManager, metricsManager, loadController, taskScheduler, arenaTemplate, trialDataManager.createInstanceTrialData(trialData, instanceIndex))));
+        });
 
-        trialDataManager.getLevelTrialDataList().forEach(trialData ->
-                trialMap.put(trialData.trialId(), new LevelTrial(skyTrials, localeManager, entityManager, cooldownManager, gracePeriodManager, trialData)));
+        trialDataManager.getLevelTrialDataList().forEach(trialData -> {
+            TrialArenaTemplate arenaTemplate = createArenaTemplate(trialData.trialId(), trialData.trialWorld(), trialData.trialRegion(), trialData.restoreData());
+            trialPoolMap.put(trialData.trialId(), new TrialPool(trialData.trialId(), trialData.instanceData().maxInstances(), instanceIndex ->
+                    new LevelTrial(skyTrials, localeManager, entityManager, spawnGovernor, cooldownManager, gracePeriodManager, trialPlayerIndex, chunkTicketRegistry, broadcastManager, metricsManager, loadController, taskScheduler, arenaTemplate, trialDataManager.createInstanceTrialData(trialData, instanceIndex))));
+        });
+
+        refreshTrials();
+    }
+
+    /**
+     * Creates and captures the arena template shared by every instance of a trial that restores its arena from a snapshot.
+     * The arena is only captured here, so instances created later while players join don't copy it again.
+     * @param trialId The id of the trial.
+     * @param world The {@link World} the trial is in.
+     * @param region The {@link ProtectedRegion} of the trial's first instance.
+     * @param restoreData The {@link RestoreData} for the trial or null if the arena is not restored.
+     * @return A {@link TrialArenaTemplate} or null if the trial does not restore its arena from a snapshot.
+     */
+    private @Nullable TrialArenaTemplate createArenaTemplate(@NotNull String trialId, @NotNull World world, @NotNull ProtectedRegion region, @Nullable RestoreData restoreData) {
+        if(restoreData == null || restoreData.restoreMode() != RestoreMode.SNAPSHOT) return null;
+
+        TrialArenaTemplate arenaTemplate = new TrialArenaTemplate(skyTrials, taskScheduler, trialId, world, region);
+        arenaTemplate.capture();
+        return arenaTemplate;
     }
 
     /**
@@ -96,20 +158,96 @@ public class TrialManager {
      * Is used on reloads.
      */
     public void clearTrials() {
-        for(AbstractTrial trial : trialMap.values()) {
-            trial.end(TrialEndReason.RELOAD);
+        for(AbstractTrial trial : trials) {
+            taskScheduler.execute(trial.getAnchorLocation(), () -> trial.end(TrialEndReason.RELOAD));
+        }
+
+        trialPoolMap.clear();
+        trials = List.of();
+        trialRegionIndex.clear();
+        trialPlayerIndex.clear();
+    }
+
+    /**
+     * Get an instance of a trial for a player to join, creating a new instance if every instance is in use and the trial allows more.
+     * @param trialId The id of the trial.
+     * @return An {@link AbstractTrial} or null if no trial exists for the id.
+     */
+    public @Nullable AbstractTrial acquireTrial(@NotNull String trialId) {
+        TrialPool trialPool = trialPoolMap.get(trialId);
+        if(trialPool == null) return null;
+
+        AbstractTrial trial = trialPool.acquireInstance();
+        if(!trials.contains(trial)) refreshTrials();
+
+        return trial;
+    }
+
+    /**
+     * Get an instance of a trial that has not started and has no players, creating a new instance if the trial allows more.
+     * @param trialId The id of the trial.
+     * @return An {@link AbstractTrial} or null if no trial exists for the id or every instance is in use.
+     */
+    public @Nullable AbstractTrial acquireEmptyTrial(@NotNull String trialId) {
+        TrialPool trialPool = trialPoolMap.get(trialId);
+        if(trialPool == null) return null;
+
+        AbstractTrial trial = trialPool.acquireEmptyInstance();
+        if(trial != null && !trials.contains(trial)) refreshTrials();
+
+        return trial;
+    }
+
+    /**
+     * Releases any extra trial instances that are no longer in use.
+     */
+    public void releaseIdleTrials() {
+        boolean released = false;
+        for(TrialPool trialPool : trialPoolMap.values()) {
+            if(trialPool.releaseIdleInstances()) released = true;
+        }
+
+        if(released) refreshTrials();
+    }
+
+    /**
+     * Rebuilds the {@link List} of every trial instance and the {@link TrialRegionIndex} from the trial pools.
+     */
+    private synchronized void refreshTrials() {
+        List<AbstractTrial> trialList = new ArrayList<>();
+        for(TrialPool trialPool : trialPoolMap.values()) {
+            trialList.addAll(trialPool.getInstances());
         }
 
-        trialMap.clear();
+        trials = List.copyOf(trialList);
+        trialRegionIndex.build(trials);
+    }
+
+    /**
+     * Runs an operation on a trial on the thread that owns the trial's region and records how long it took.
+     * The operation runs immediately if the current thread already owns the trial's region, which is always the case on Paper.
+     * @param trial The {@link AbstractTrial} the operation is for.
+     * @param trialOperation The {@link TrialOperation} to record the time for.
+     * @param operation The {@link Runnable} that runs the operation.
+     */
+    public void runTrialOperation(@NotNull AbstractTrial trial, @NotNull TrialOperation trialOperation, @NotNull Runnable operation) {
+        taskScheduler.execute(trial.getAnchorLocation(), () -> {
+            long startTime = System.nanoTime();
+            operation.run();
+            trial.getTrialMetrics().recordTime(trialOperation, System.nanoTime() - startTime);
+        });
     }
 
     /**
-     * Get the {@link AbstractTrial} for the trial id provided.
+     * Get the first instance of the {@link AbstractTrial} for the trial id provided.
      * @param trialId The id of the trial.
      * @return An {@link AbstractTrial} or null.
      */
     public @Nullable AbstractTrial getTrialById(@NotNull String trialId) {
-        return trialMap.get(trialId);
+        TrialPool trialPool = trialPoolMap.get(trialId);
+        if(trialPool == null) return null;
+
+        return trialPool.getPrimaryInstance();
     }
 
     /**
@@ -118,24 +256,16 @@ public class TrialManager {
      * @return An {@link AbstractTrial} or null.
      */
     public @Nullable AbstractTrial getTrialByPlayerUUID(@NotNull UUID uuid) {
-        for(AbstractTrial trial : trialMap.values()) {
-            if(trial.getPlayerIds().contains(uuid)) return trial;
-        }
-
-        return null;
+        return trialPlayerIndex.getTrial(uuid);
     }
 
     /**
      * Checks if a player is in a trial.
-     * @param uuid The {@link UUID} of the playe.r
+     * @param uuid The {@link UUID} of the player.
      * @return true if in a trial, otherwise false.
      */
     public boolean isPlayerInTrial(@NotNull UUID uuid) {
-        for(AbstractTrial trial : trialMap.values()) {
-            if(trial.getPlayerIds().contains(uuid)) return true;
-        }
-
-        return false;
+        return trialPlayerIndex.isPlayerInTrial(uuid);
     }
 
     /**
@@ -144,16 +274,15 @@ public class TrialManager {
      * @return An {@link AbstractTrial} or null.
      */
     public @Nullable AbstractTrial getTrialByLocation(@NotNull Location location) {
-        for(AbstractTrial trial : trialMap.values()) {
-            World trialWorld = trial.getWorld();
-            ProtectedRegion trialRegion = trial.getRegion();
-
-            if(location.getWorld().equals(trialWorld) && trialRegion.contains(location.getBlockX(), location.getBlockY(),location.getBlockZ())) {
-                return trial;
-            }
-        }
+        return trialRegionIndex.getTrial(location);
+    }
 
-        return null;
+    /**
+     * Get the {@link TrialRegionIndex} used to look up trials by location.
+     * @return The {@link TrialRegionIndex}.
+     */
+    public @NotNull TrialRegionIndex getTrialRegionIndex() {
+        return trialRegionIndex;
     }
 
     /**
@@ -161,14 +290,14 @@ public class TrialManager {
      * @return A {@link List} of {@link String} for trial ids.
      */
     public @NotNull List<String> getTrialIds() {
-        return trialMap.keySet().stream().toList();
+        return trialPoolMap.keySet().stream().toList();
     }
 
     /**
-     * Get a {@link List} of {@link AbstractTrial}s for all created trials.
+     * Get a {@link List} of {@link AbstractTrial}s for every instance of all created trials.
      * @return A {@link List} of {@link AbstractTrial}s
      */
     public @NotNull List<AbstractTrial> getTrials() {
-        return trialMap.values().stream().toList();
+        return trials;
     }
 }
@@ -0,0 +1,83 @@
+/*
+    SkyTrials is a plugin that offers different challenges or trials to tackle. Inspired by the Minecraft Trial Chambers and mob arenas.
+    Copyright (C) 2024 lukeskywlker19
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.github.lukesky19.skytrials.manager.trial;
+
+import com.github.lukesky19.skytrials.trial.AbstractTrial;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This class maps player {@link UUID}s to the {@link AbstractTrial} they are in.
+ * Trials keep this up to date as players join, leave, die, quit, or when the trial ends.
+ */
+public class TrialPlayerIndex {
+    private final @NotNull Map<UUID, AbstractTrial> playerTrialMap = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor
+     */
+    public TrialPlayerIndex() {}
+
+    /**
+     * Marks the player as being inside the {@link AbstractTrial} provided.
+     * @param uuid The {@link UUID} of the player.
+     * @param trial The {@link AbstractTrial} the player is in.
+     */
+    public void addPlayer(@NotNull UUID uuid, @NotNull AbstractTrial trial) {
+        playerTrialMap.put(uuid, trial);
+    }
+
+    /**
+     * Removes the player from the {@link AbstractTrial} provided.
+     * Nothing is removed if the player is mapped to a different trial.
+     * @param uuid The {@link UUID} of the player.
+     * @param trial The {@link AbstractTrial} the player is leaving.
+     */
+    public void removePlayer(@NotNull UUID uuid, @NotNull AbstractTrial trial) {
+        playerTrialMap.remove(uuid, trial);
+    }
+
+    /**
+     * Get the {@link AbstractTrial} the player is in if any.
+     * @param uuid The {@link UUID} of the player.
+     * @return An {@link AbstractTrial} or null.
+     */
+    public @Nullable AbstractTrial getTrial(@NotNull UUID uuid) {
+        return playerTrialMap.get(uuid);
+    }
+
+    /**
+     * Checks if a player is in a trial.
+     * @param uuid The {@link UUID} of the player.
+     * @return true if in a trial, otherwise false.
+     */
+    public boolean isPlayerInTrial(@NotNull UUID uuid) {
+        return playerTrialMap.containsKey(uuid);
+    }
+
+    /**
+     * Clears all players from the index.
+     */
+    public void clear() {
+        playerTrialMap.clear();
+    }
+}
@@ -0,0 +1,169 @@
+/*
+    SkyTrials is a plugin that offers different challenges or trials to tackle. Inspired by the Minecraft Trial Chambers and mob arenas.
+    Copyright (C) 2024 lukeskywlker19
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.github.lukesky19.skytrials.manager.trial;
+
+import com.github.lukesky19.skytrials.trial.AbstractTrial;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+/**
+ * This class manages the instances of a single trial.
+ * The first instance always exists. More instances are created as players join while every instance is in use,
+ * up to the trial's max instances, and are released once they have been idle for a while.
+ * Methods are synchronized as players may join from different region threads on Folia.
+ */
+public class TrialPool {
+    // How long an instance must go unused before it is released, so a player handed an instance can finish joining it
+    private static final long RELEASE_DELAY_MILLIS = TimeUnit.SECONDS.toMillis(30);
+    // How long an empty instance is held for the players it was handed to, as joins may run later on the instance's region thread
+    private static final long RESERVE_MILLIS = TimeUnit.SECONDS.toMillis(5);
+
+    private final @NotNull String trialId;
+    private final @NotNull IntFunction<AbstractTrial> instanceFactory;
+    private final @Nullable AbstractTrial[] instances;
+    private final long[] lastUsedMillis;
+
+    /**
+     * Constructor
+     * @param trialId The id of the trial.
+     * @param maxInstances The maximum number of instances that can exist at once.
+     * @param instanceFactory The {@link IntFunction} that creates the {@link AbstractTrial} for an instance index.
+     */
+    public TrialPool(@NotNull String trialId, int maxInstances, @NotNull IntFunction<AbstractTrial> instanceFactory) {
+        this.trialId = trialId;
+        this.instanceFactory = instanceFactory;
+        this.instances = new AbstractTrial[Math.max(1, maxInstances)];
+        this.lastUsedMillis = new long[instances.length];
+
+        instances[0] = instanceFactory.apply(0);
+    }
+
+    /**
+     * Get the id of the trial.
+     * @return The id of the trial.
+     */
+    public @NotNull String getTrialId() {
+        return trialId;
+    }
+
+    /**
+     * Get the first instance of the trial, which always exists.
+     * @return The first {@link AbstractTrial} instance.
+     */
+    public synchronized @NotNull AbstractTrial getPrimaryInstance() {
+        //noinspection DataFlowIssue
+        return instances[0];
+    }
+
+    /**
+     * Get a {@link List} of every instance of the trial that currently exists.
+     * @return A {@link List} of {@link AbstractTrial}s.
+     */
+    public synchronized @NotNull List<AbstractTrial> getInstances() {
+        List<AbstractTrial> instanceList = new ArrayList<>(instances.length);
+        for(AbstractTrial instance : instances) {
+            if(instance != null) instanceList.add(instance);
+        }
+
+        return instanceList;
+    }
+
+    /**
+     * Get an instance for a player to join. Instances that already have players waiting in the lobby are filled first,
+     * then empty instances, and a new instance is only created if every existing instance has started.
+     * If the max instances have been reached, the first instance is returned so the player is told the trial has started.
+     * @return The {@link AbstractTrial} instance to join.
+     */
+    public synchronized @NotNull AbstractTrial acquireInstance() {
+        for(int i = 0; i < instances.length; i++) {
+            AbstractTrial instance = instances[i];
+            if(instance != null && !instance.isStarted() && !instance.isEmpty()) return markUsed(i);
+        }
+
+        AbstractTrial emptyInstance = acquireEmptyInstance();
+        if(emptyInstance != null) return emptyInstance;
+
+        return getPrimaryInstance();
+    }
+
+    /**
+     * Get an instance that has not started, has no players, and is not restoring its arena, creating a new instance if none exist and the max instances have not been reached.
+     * Empty instances that were handed out in the last few seconds are skipped, as the players they were handed to may not have joined yet.
+     * @return The {@link AbstractTrial} instance or null if every instance is in use.
+     */
+    public synchronized @Nullable AbstractTrial acquireEmptyInstance() {
+        long currentTimeMillis = System.currentTimeMillis();
+        int freeIndex = -1;
+
+        for(int i = 0; i < instances.length; i++) {
+            AbstractTrial instance = instances[i];
+            if(instance == null) {
+                if(freeIndex == -1) freeIndex = i;
+                continue;
+            }
+
+            if(instance.isStarted() || !instance.isEmpty() || instance.isRestoring()) continue;
+            if(currentTimeMillis - lastUsedMillis[i] < RESERVE_MILLIS) continue;
+
+            return markUsed(i);
+        }
+
+        if(freeIndex == -1) return null;
+
+        instances[freeIndex] = instanceFactory.apply(freeIndex);
+        return markUsed(freeIndex);
+    }
+
+    /**
+     * Releases every instance except the first that has not started, has no players, is not restoring its arena, and has not been used recently.
+     * @return true if any instance was released, otherwise false.
+     */
+    public synchronized boolean releaseIdleInstances() {
+        long currentTimeMillis = System.currentTimeMillis();
+        boolean released = false;
+
+        for(int i = 1; i < instances.length; i++) {
+            AbstractTrial instance = instances[i];
+            // An instance still restoring its arena is kept, so a new instance at the same index can't start while the old restore writes blocks
+            if(instance == null || instance.isStarted() || !instance.isEmpty() || instance.isRestoring()) continue;
+            if(currentTimeMillis - lastUsedMillis[i] < RELEASE_DELAY_MILLIS) continue;
+
+            instances[i] = null;
+            released = true;
+        }
+
+        return released;
+    }
+
+    /**
+     * Records that an instance was just handed out and returns it.
+     * @param index The index of the instance.
+     * @return The {@link AbstractTrial} instance.
+     */
+    private @NotNull AbstractTrial markUsed(int index) {
+        lastUsedMillis[index] = System.currentTimeMillis();
+
+        //noinspection DataFlowIssue
+        return instances[index];
+    }
+}
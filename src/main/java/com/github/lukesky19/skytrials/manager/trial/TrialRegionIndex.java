@@ -0,0 +1,131 @@
+/*
+    SkyTrials is a plugin that offers different challenges or trials to tackle. Inspired by the Minecraft Trial Chambers and mob arenas.
+    Copyright (C) 2024 lukeskywlker19
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.github.lukesky19.skytrials.manager.trial;
+
+import com.github.lukesky19.skytrials.trial.AbstractTrial;
+import com.sk89q.worldedit.math.BlockVector3;
+import com.sk89q.worldguard.protection.regions.ProtectedRegion;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * This class indexes trials by the chunks their {@link ProtectedRegion} overlaps.
+ * A lookup is a single chunk probe followed by an exact region check against the few trials that overlap that chunk.
+ * The index is rebuilt into a new map and swapped in, so lookups from any region thread never see a partially built index.
+ */
+public class TrialRegionIndex {
+    private volatile @NotNull Map<UUID, Map<Long, List<AbstractTrial>>> worldIndexMap = Map.of();
+
+    /**
+     * Constructor
+     */
+    public TrialRegionIndex() {}
+
+    /**
+     * Rebuilds the index for the {@link Collection} of {@link AbstractTrial}s provided.
+     * @param trials A {@link Collection} of {@link AbstractTrial}s to index.
+     */
+    public void build(@NotNull Collection<AbstractTrial> trials) {
+        Map<UUID, Map<Long, List<AbstractTrial>>> newWorldIndexMap = new HashMap<>();
+
+        for(AbstractTrial trial : trials) {
+            addTrial(newWorldIndexMap, trial);
+        }
+
+        worldIndexMap = newWorldIndexMap;
+    }
+
+    /**
+     * Clears all indexed trials.
+     */
+    public void clear() {
+        worldIndexMap = Map.of();
+    }
+
+    /**
+     * Adds an {@link AbstractTrial} to every chunk its {@link ProtectedRegion}'s bounding box overlaps.
+     * @param worldIndexMap The index being built.
+     * @param trial The {@link AbstractTrial} to index.
+     */
+    private void addTrial(@NotNull Map<UUID, Map<Long, List<AbstractTrial>>> worldIndexMap, @NotNull AbstractTrial trial) {
+        ProtectedRegion region = trial.getRegion();
+        BlockVector3 min = region.getMinimumPoint();
+        BlockVector3 max = region.getMaximumPoint();
+
+        Map<Long, List<AbstractTrial>> chunkMap = worldIndexMap.computeIfAbsent(trial.getWorld().getUID(), uuid -> new HashMap<>());
+
+        int minChunkX = min.x() >> 4;
+        int minChunkZ = min.z() >> 4;
+        int maxChunkX = max.x() >> 4;
+        int maxChunkZ = max.z() >> 4;
+
+        for(int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for(int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                chunkMap.computeIfAbsent(Chunk.getChunkKey(chunkX, chunkZ), key -> new ArrayList<>(1)).add(trial);
+            }
+        }
+    }
+
+    /**
+     * Get the {@link AbstractTrial} whose {@link ProtectedRegion} contains the {@link Location} provided.
+     * @param location The {@link Location} to check.
+     * @return An {@link AbstractTrial} or null.
+     */
+    public @Nullable AbstractTrial getTrial(@NotNull Location location) {
+        World world = location.getWorld();
+        if(world == null) return null;
+
+        Map<Long, List<AbstractTrial>> chunkMap = worldIndexMap.get(world.getUID());
+        if(chunkMap == null) return null;
+
+        int x = location.getBlockX();
+        int y = location.getBlockY();
+        int z = location.getBlockZ();
+
+        List<AbstractTrial> trials = chunkMap.get(Chunk.getChunkKey(x >> 4, z >> 4));
+        if(trials == null) return null;
+
+        for(AbstractTrial trial : trials) {
+            if(trial.getRegion().contains(x, y, z)) return trial;
+        }
+
+        return null;
+    }
+
+    /**
+     * Get the {@link List} of {@link AbstractTrial}s whose {@link ProtectedRegion} overlaps the chunk provided.
+     * @param world The {@link World} of the chunk.
+     * @param chunkX The chunk's x coordinate.
+     * @param chunkZ The chunk's z coordinate.
+     * @return A {@link List} of {@link AbstractTrial}s. May be empty.
+     */
+    public @NotNull List<AbstractTrial> getTrialsInChunk(@NotNull World world, int chunkX, int chunkZ) {
+        Map<Long, List<AbstractTrial>> chunkMap = worldIndexMap.get(world.getUID());
+        if(chunkMap == null) return List.of();
+
+        List<AbstractTrial> trials = chunkMap.get(Chunk.getChunkKey(chunkX, chunkZ));
+        if(trials == null) return List.of();
+
+        return Collections.unmodifiableList(trials);
+    }
+}
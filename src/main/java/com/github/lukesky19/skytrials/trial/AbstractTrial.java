@@ -17,20 +17,26 @@
 */
 package com.github.lukesky19.skytrials.trial;
 
+import com.github.lukesky19.skytrials.manager.metrics.TrialMetrics;
 import com.github.lukesky19.skytrials.util.TrialEndReason;
+import com.sk89q.worldedit.math.BlockVector3;
 import com.sk89q.worldguard.protection.regions.ProtectedRegion;
+import org.bukkit.Location;
 import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.data.BlockData;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.entity.EntityDeathEvent;
 import org.bukkit.event.entity.EntityPotionEffectEvent;
 import org.bukkit.event.entity.PlayerDeathEvent;
-import org.bukkit.event.entity.SpawnerSpawnEvent;
+import org.bukkit.event.entity.EntitySpawnEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -76,6 +82,7 @@ public abstract class AbstractTrial {
 
     /**
      * Handles when a player dies inside a trial.
+     * The event has already been cancelled and may have finished, as this may run later on the thread that owns the trial's region.
      * @param playerDeathEvent A {@link PlayerDeathEvent}.
      */
     public abstract void handlePlayerDeath(@NotNull PlayerDeathEvent playerDeathEvent);
@@ -99,16 +106,33 @@ public abstract class AbstractTrial {
     public abstract void handlePlayerQuitEvent(@NotNull PlayerQuitEvent playerQuitEvent);
 
     /**
-     * Handles when a spawner spawns an {@link Entity}.
-     * @param spawnerSpawnEvent A {@link SpawnerSpawnEvent}.
+     * Checks if a spawner or trial spawner spawn inside the trial must be cancelled.
+     * This is called on the thread firing the event, which may not own the trial's region, so it must only read state that is safe to read from any thread.
+     * @param entitySpawnEvent The {@link EntitySpawnEvent}, either a {@link org.bukkit.event.entity.SpawnerSpawnEvent} or a {@link org.bukkit.event.entity.TrialSpawnerSpawnEvent}.
+     * @return true if the spawn must be cancelled, otherwise false.
      */
-    public abstract void handleEntitySpawn(@NotNull SpawnerSpawnEvent spawnerSpawnEvent);
+    public abstract boolean shouldCancelEntitySpawn(@NotNull EntitySpawnEvent entitySpawnEvent);
 
     /**
-     * Handles when a potion effect is applied to an {@link Entity}.
+     * Handles when a spawner or trial spawner spawns an {@link Entity} that was not cancelled by {@link #shouldCancelEntitySpawn(EntitySpawnEvent)}.
+     * The event may have finished, as this may run later on the thread that owns the trial's region.
+     * @param entitySpawnEvent The {@link EntitySpawnEvent}, either a {@link org.bukkit.event.entity.SpawnerSpawnEvent} or a {@link org.bukkit.event.entity.TrialSpawnerSpawnEvent}.
+     */
+    public abstract void handleEntitySpawn(@NotNull EntitySpawnEvent entitySpawnEvent);
+
+    /**
+     * Checks if a change to a potion effect on a player in the trial must be cancelled.
+     * This is called on the thread firing the event, which may not own the trial's region, so it must only read state that is safe to read from any thread.
      * @param entityPotionEffectEvent An {@link EntityPotionEffectEvent}.
+     * @return true if the change must be cancelled, otherwise false.
+     */
+    public abstract boolean shouldCancelEntityPotionEffect(@NotNull EntityPotionEffectEvent entityPotionEffectEvent);
+
+    /**
+     * Handles when blocks inside the trial are changed by players, explosions, or fluids.
+     * @param blockChanges A {@link Map} of each changed {@link Block} to its {@link BlockData} from before the change.
      */
-    public abstract void handleEntityPotionEffect(@NotNull EntityPotionEffectEvent entityPotionEffectEvent);
+    public abstract void handleBlockChanges(@NotNull Map<Block, BlockData> blockChanges);
 
     /**
      * Handles the decrementing of the trial's time by one.
@@ -127,6 +151,18 @@ public abstract class AbstractTrial {
      */
     public abstract @NotNull ProtectedRegion getRegion();
 
+    /**
+     * Get the {@link Location} at the center of the trial's {@link ProtectedRegion}.
+     * Tasks for the trial are scheduled at this location, so on Folia the trial runs on the thread that owns its region.
+     * @return A {@link Location}.
+     */
+    public @NotNull Location getAnchorLocation() {
+        BlockVector3 min = getRegion().getMinimumPoint();
+        BlockVector3 max = getRegion().getMaximumPoint();
+
+        return new Location(getWorld(), (min.x() + max.x()) / 2D, (min.y() + max.y()) / 2D, (min.z() + max.z()) / 2D);
+    }
+
     /**
      * Get a {@link List} of {@link UUID}s that are inside the trial.
      * @return A {@link List} of {@link UUID}s.
@@ -139,6 +175,30 @@ public abstract class AbstractTrial {
      */
     public abstract @NotNull List<Player> getPlayers();
 
+    /**
+     * Checks if the trial has started. Players can only join a trial that has not started.
+     * @return true if started, otherwise false.
+     */
+    public abstract boolean isStarted();
+
+    /**
+     * Checks if the trial has no players in it, either in the lobby or in the trial.
+     * @return true if empty, otherwise false.
+     */
+    public abstract boolean isEmpty();
+
+    /**
+     * Checks if the trial's arena is still being restored from the last run.
+     * @return true if the arena is being restored, otherwise false.
+     */
+    public abstract boolean isRestoring();
+
+    /**
+     * Get the {@link TrialMetrics} recorded for the trial.
+     * @return The {@link TrialMetrics}.
+     */
+    public abstract @NotNull TrialMetrics getTrialMetrics();
+
     /**
      * This method can be run to place blocks.
      */
@@ -0,0 +1,249 @@
+/*
+    SkyTrials is a plugin that offers different challenges or trials to tackle. Inspired by the Minecraft Trial Chambers and mob arenas.
+    Copyright (C) 2024 lukeskywlker19
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.github.lukesky19.skytrials.trial;
+
+import com.github.lukesky19.skylib.api.adventure.AdventureUtil;
+import com.github.lukesky19.skytrials.SkyTrials;
+import com.github.lukesky19.skytrials.manager.metrics.TrialMetrics;
+import com.github.lukesky19.skytrials.manager.task.SchedulerTask;
+import com.github.lukesky19.skytrials.manager.task.TaskScheduler;
+import com.github.lukesky19.skytrials.util.TrialOperation;
+import com.sk89q.worldedit.EditSession;
+import com.sk89q.worldedit.WorldEdit;
+import com.sk89q.worldedit.WorldEditException;
+import com.sk89q.worldedit.bukkit.BukkitAdapter;
+import com.sk89q.worldedit.extent.clipboard.BlockArrayClipboard;
+import com.sk89q.worldedit.math.BlockVector3;
+import com.sk89q.worldedit.world.block.BaseBlock;
+import com.sk89q.worldguard.protection.regions.ProtectedRegion;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Iterator;
+
+/**
+ * This class restores a trial instance's arena after each run from the {@link TrialArenaTemplate} shared by every instance of the trial.
+ * Restores are spread across ticks with a budget of blocks per tick, so large arenas don't stall the thread that owns the trial's region.
+ * Only blocks that differ from the clipboard are changed, and they are changed through a WorldEdit {@link EditSession} in fast mode.
+ */
+public class TrialArenaSnapshot {
+    private final @NotNull SkyTrials skyTrials;
+    private final @NotNull TaskScheduler taskScheduler;
+    private final @NotNull TrialMetrics trialMetrics;
+    private final @NotNull String trialId;
+    private final @NotNull World world;
+    private final @NotNull ProtectedRegion region;
+    private final @NotNull Location location;
+    private final @Nullable TrialArenaTemplate arenaTemplate;
+    // The offset from the template's region to this instance's region
+    private final @NotNull BlockVector3 offset;
+    private final int blocksPerTick;
+
+    // The positions left to restore or null if no restore is in progress
+    private @Nullable Iterator<BlockVector3> restoreIterator;
+    // Read by the trial pool from other region threads
+    private volatile boolean restoring = false;
+    private @Nullable SchedulerTask restoreTask;
+    // Runs once the restore in progress completes or fails
+    private @Nullable Runnable restoreCallback;
+
+    /**
+     * Constructor
+     * @param skyTrials A {@link SkyTrials} instance.
+     * @param taskScheduler A {@link TaskScheduler} instance.
+     * @param trialMetrics The {@link TrialMetrics} for the trial.
+     * @param trialId The id of the trial.
+     * @param world The {@link World} the trial is in.
+     * @param region The {@link ProtectedRegion} for the trial.
+     * @param location The {@link Location} of the trial, used to restore on the thread that owns the trial's region.
+     * @param arenaTemplate The {@link TrialArenaTemplate} to restore from or null to disable restoring the arena.
+     * @param blocksPerTick The number of blocks to restore per tick.
+     */
+    public TrialArenaSnapshot(
+            @NotNull SkyTrials skyTrials,
+            @NotNull TaskScheduler taskScheduler,
+            @NotNull TrialMetrics trialMetrics,
+            @NotNull String trialId,
+            @NotNull World world,
+            @NotNull ProtectedRegion region,
+            @NotNull Location location,
+            @Nullable TrialArenaTemplate arenaTemplate,
+            int blocksPerTick) {
+        this.skyTrials = skyTrials;
+        this.taskScheduler = taskScheduler;
+        this.trialMetrics = trialMetrics;
+        this.trialId = trialId;
+        this.world = world;
+        this.region = region;
+        this.location = location;
+        this.arenaTemplate = arenaTemplate;
+        this.offset = arenaTemplate != null ? region.getMinimumPoint().subtract(arenaTemplate.getRegion().getMinimumPoint()) : BlockVector3.ZERO;
+        this.blocksPerTick = blocksPerTick;
+    }
+
+    /**
+     * Starts restoring the arena to how it was captured. The restore runs over the next ticks within the budget of blocks per tick.
+     * If the arena was not captured, the callback runs right away. While the plugin is disabling, the whole arena is restored right away.
+     * @param callback A {@link Runnable} to run once the restore completes or fails, such as releasing the trial's chunks.
+     */
+    public void restore(@NotNull Runnable callback) {
+        BlockArrayClipboard currentClipboard = getClipboard();
+        if(currentClipboard == null) {
+            callback.run();
+            return;
+        }
+
+        // Start over if a restore is already in progress, since the arena may have changed again
+        cancelRestoreTask();
+        Runnable previousCallback = restoreCallback;
+        restoreCallback = previousCallback == null ? callback : () -> {
+            previousCallback.run();
+            callback.run();
+        };
+        restoreIterator = currentClipboard.getRegion().iterator();
+        restoring = true;
+
+        // Tasks can't be scheduled while the plugin is disabling, so restore straight away
+        if(!skyTrials.isEnabled()) {
+            restoreBlocks(Integer.MAX_VALUE);
+            return;
+        }
+
+        restoreTask = taskScheduler.runAtLocationTimer(location, () -> restoreBlocks(blocksPerTick), 1L, 1L);
+    }
+
+    /**
+     * Runs a callback once the restore in progress completes, or right away if no restore is in progress.
+     * Unlike {@link #restore(Runnable)}, this doesn't start the restore over.
+     * @param callback A {@link Runnable} to run once the arena is restored.
+     */
+    public void whenRestored(@NotNull Runnable callback) {
+        if(restoreIterator == null) {
+            callback.run();
+            return;
+        }
+
+        Runnable previousCallback = restoreCallback;
+        restoreCallback = previousCallback == null ? callback : () -> {
+            previousCallback.run();
+            callback.run();
+        };
+    }
+
+    /**
+     * Checks if a restore is in progress.
+     * @return true if the arena is being restored, otherwise false.
+     */
+    public boolean isRestoring() {
+        return restoring;
+    }
+
+    /**
+     * Finishes a restore in progress right away and runs its callback. Used on reloads, so the arena is fully restored before it is captured again.
+     */
+    public void finishRestore() {
+        if(restoreIterator == null) return;
+
+        restoreBlocks(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Restores the next batch of blocks. Ends the restore once every block was restored.
+     * @param budget The number of blocks to restore.
+     */
+    private void restoreBlocks(int budget) {
+        BlockArrayClipboard currentClipboard = getClipboard();
+        Iterator<BlockVector3> iterator = restoreIterator;
+        if(currentClipboard == null || iterator == null) {
+            completeRestore();
+            return;
+        }
+
+        long startTime = System.nanoTime();
+
+        try(EditSession editSession = createEditSession()) {
+            int restoredBlocks = 0;
+            while(restoredBlocks < budget && iterator.hasNext()) {
+                BlockVector3 position = iterator.next();
+                BlockVector3 target = position.add(offset);
+                // The clipboard holds the region's bounding box, so skip positions outside polygonal regions
+                if(!region.contains(target)) continue;
+
+                restoredBlocks++;
+
+                BaseBlock block = currentClipboard.getFullBlock(position);
+                if(!editSession.getFullBlock(target).equals(block)) {
+                    editSession.setBlock(target, block);
+                }
+            }
+        } catch(WorldEditException e) {
+            skyTrials.getComponentLogger().error(AdventureUtil.serialize("Unable to restore the arena for trial " + trialId + ". Error: " + e.getMessage()));
+            iterator = null;
+        }
+
+        trialMetrics.recordTime(TrialOperation.RESTORE_ARENA, System.nanoTime() - startTime);
+
+        if(iterator == null || !iterator.hasNext()) {
+            completeRestore();
+        }
+    }
+
+    /**
+     * Ends the restore in progress and runs its callback.
+     */
+    private void completeRestore() {
+        restoreIterator = null;
+        restoring = false;
+        cancelRestoreTask();
+
+        Runnable callback = restoreCallback;
+        restoreCallback = null;
+        if(callback != null) callback.run();
+    }
+
+    /**
+     * Get the clipboard to restore from.
+     * @return The {@link BlockArrayClipboard} or null if restoring is disabled or the arena has not been captured.
+     */
+    private @Nullable BlockArrayClipboard getClipboard() {
+        return arenaTemplate != null ? arenaTemplate.getClipboard() : null;
+    }
+
+    /**
+     * Cancels the repeating restore task if it is running.
+     */
+    private void cancelRestoreTask() {
+        if(restoreTask != null) {
+            restoreTask.cancel();
+            restoreTask = null;
+        }
+    }
+
+    /**
+     * Creates an {@link EditSession} for the trial's {@link World} in fast mode.
+     * @return An {@link EditSession}. It must be closed to flush the changes to the world.
+     */
+    private @NotNull EditSession createEditSession() {
+        return WorldEdit.getInstance().newEditSessionBuilder()
+                .world(BukkitAdapter.adapt(world))
+                .fastMode(true)
+                .build();
+    }
+}
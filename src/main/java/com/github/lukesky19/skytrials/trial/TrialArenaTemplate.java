@@ -0,0 +1,113 @@
+/*
+    SkyTrials is a plugin that offers different challenges or trials to tackle. Inspired by the Minecraft Trial Chambers and mob arenas.
+    Copyright (C) 2024 lukeskywlker19
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.github.lukesky19.skytrials.trial;
+
+import com.github.lukesky19.skylib.api.adventure.AdventureUtil;
+import com.github.lukesky19.skytrials.SkyTrials;
+import com.github.lukesky19.skytrials.manager.task.TaskScheduler;
+import com.sk89q.worldedit.EditSession;
+import com.sk89q.worldedit.WorldEdit;
+import com.sk89q.worldedit.WorldEditException;
+import com.sk89q.worldedit.bukkit.BukkitAdapter;
+import com.sk89q.worldedit.extent.clipboard.BlockArrayClipboard;
+import com.sk89q.worldedit.function.operation.ForwardExtentCopy;
+import com.sk89q.worldedit.function.operation.Operations;
+import com.sk89q.worldedit.math.BlockVector3;
+import com.sk89q.worldedit.regions.CuboidRegion;
+import com.sk89q.worldguard.protection.regions.ProtectedRegion;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * This class holds the arena of a trial's first instance, captured once into an in-memory clipboard when the trials are created.
+ * Every instance of the trial restores its arena from this clipboard, so creating a new instance while players join doesn't copy the arena again.
+ */
+public class TrialArenaTemplate {
+    private final @NotNull SkyTrials skyTrials;
+    private final @NotNull TaskScheduler taskScheduler;
+    private final @NotNull String trialId;
+    private final @NotNull World world;
+    private final @NotNull ProtectedRegion region;
+
+    // Null until the capture finishes or if it failed
+    private volatile @Nullable BlockArrayClipboard clipboard;
+
+    /**
+     * Constructor
+     * @param skyTrials A {@link SkyTrials} instance.
+     * @param taskScheduler A {@link TaskScheduler} instance.
+     * @param trialId The id of the trial.
+     * @param world The {@link World} the trial is in.
+     * @param region The {@link ProtectedRegion} of the trial's first instance.
+     */
+    public TrialArenaTemplate(
+            @NotNull SkyTrials skyTrials,
+            @NotNull TaskScheduler taskScheduler,
+            @NotNull String trialId,
+            @NotNull World world,
+            @NotNull ProtectedRegion region) {
+        this.skyTrials = skyTrials;
+        this.taskScheduler = taskScheduler;
+        this.trialId = trialId;
+        this.world = world;
+        this.region = region;
+    }
+
+    /**
+     * Captures the blocks inside the region into the clipboard on the thread that owns the region.
+     */
+    public void capture() {
+        BlockVector3 min = region.getMinimumPoint();
+        BlockVector3 max = region.getMaximumPoint();
+        Location location = new Location(world, (min.x() + max.x()) / 2D, (min.y() + max.y()) / 2D, (min.z() + max.z()) / 2D);
+
+        taskScheduler.execute(location, () -> {
+            CuboidRegion cuboidRegion = new CuboidRegion(BukkitAdapter.adapt(world), min, max);
+            BlockArrayClipboard newClipboard = new BlockArrayClipboard(cuboidRegion);
+
+            try(EditSession editSession = WorldEdit.getInstance().newEditSessionBuilder().world(BukkitAdapter.adapt(world)).fastMode(true).build()) {
+                ForwardExtentCopy copy = new ForwardExtentCopy(editSession, cuboidRegion, newClipboard, cuboidRegion.getMinimumPoint());
+                copy.setCopyingEntities(false);
+                copy.setCopyingBiomes(false);
+
+                Operations.complete(copy);
+                clipboard = newClipboard;
+            } catch(WorldEditException e) {
+                skyTrials.getComponentLogger().error(AdventureUtil.serialize("Unable to capture the arena for trial " + trialId + ". The arena will not be restored after each run. Error: " + e.getMessage()));
+            }
+        });
+    }
+
+    /**
+     * Get the captured clipboard.
+     * @return The {@link BlockArrayClipboard} or null if the arena has not been captured.
+     */
+    public @Nullable BlockArrayClipboard getClipboard() {
+        return clipboard;
+    }
+
+    /**
+     * Get the region the arena was captured from. Instances restore their arena relative to its minimum point.
+     * @return The {@link ProtectedRegion} of the trial's first instance.
+     */
+    public @NotNull ProtectedRegion getRegion() {
+        return region;
+    }
+}
@@ -0,0 +1,187 @@
+/*
+    SkyTrials is a plugin that offers different challenges or trials to tackle. Inspired by the Minecraft Trial Chambers and mob arenas.
+    Copyright (C) 2024 lukeskywlker19
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.github.lukesky19.skytrials.trial;
+
+import com.sk89q.worldguard.protection.regions.ProtectedRegion;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.data.BlockData;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class journals the original {@link BlockData} of every block changed inside a trial's region during a run,
+ * so only the changed blocks need to be reverted when the run ends.
+ * Positions are stored as packed block keys and block data as ids into a palette of the distinct {@link BlockData} seen,
+ * so each journaled block costs a long and an int plus a slot in the position lookup table.
+ * Only the first change to a position is journaled, as that holds the block's state from before the run.
+ */
+public class TrialBlockJournal {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final @NotNull World world;
+    private final @NotNull ProtectedRegion region;
+
+    // The distinct block data seen and their ids
+    private final @NotNull List<BlockData> palette = new ArrayList<>();
+    private final @NotNull Map<BlockData, Integer> paletteIds = new HashMap<>();
+
+    // The journal entries in the order they were recorded
+    private long[] positions = new long[INITIAL_CAPACITY];
+    private int[] blockDataIds = new int[INITIAL_CAPACITY];
+    private int size = 0;
+
+    // An open addressing table of entry indexes plus one, keyed by position. 0 marks an empty slot.
+    private int[] positionTable = new int[INITIAL_CAPACITY * 2];
+
+    /**
+     * Constructor
+     * @param world The {@link World} the trial is in.
+     * @param region The {@link ProtectedRegion} for the trial.
+     */
+    public TrialBlockJournal(@NotNull World world, @NotNull ProtectedRegion region) {
+        this.world = world;
+        this.region = region;
+    }
+
+    /**
+     * Journals the original {@link BlockData} of a block that is about to change or just changed.
+     * Does nothing if the block is outside the trial's region or the block's position was already journaled.
+     * @param block The {@link Block} that changed.
+     * @param originalBlockData The {@link BlockData} of the block before it changed.
+     */
+    public void record(@NotNull Block block, @NotNull BlockData originalBlockData) {
+        if(!block.getWorld().equals(world) || !region.contains(block.getX(), block.getY(), block.getZ())) return;
+
+        long position = block.getBlockKey();
+        int slot = findSlot(position);
+        if(positionTable[slot] != 0) return;
+
+        if(size == positions.length) {
+            positions = Arrays.copyOf(positions, size * 2);
+            blockDataIds = Arrays.copyOf(blockDataIds, size * 2);
+        }
+
+        positions[size] = position;
+        blockDataIds[size] = paletteIds.computeIfAbsent(originalBlockData, blockData -> {
+            palette.add(blockData);
+            return palette.size() - 1;
+        });
+        size++;
+        positionTable[slot] = size;
+
+        // Keep the table at most half full so probes stay short
+        if(size * 2 > positionTable.length) resizeTable();
+    }
+
+    /**
+     * Get the number of journaled blocks.
+     * @return The number of journaled blocks.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Reverts every journaled block to its original {@link BlockData} without physics updates and clears the journal.
+     * Blocks are reverted one chunk at a time, so each chunk is only looked up once.
+     */
+    public void rollback() {
+        if(size == 0) return;
+
+        // Group the entries by chunk
+        Map<Long, List<Integer>> entriesByChunk = new HashMap<>();
+        for(int i = 0; i < size; i++) {
+            long position = positions[i];
+            long chunkKey = Chunk.getChunkKey(Block.getBlockKeyX(position) >> 4, Block.getBlockKeyZ(position) >> 4);
+            entriesByChunk.computeIfAbsent(chunkKey, key -> new ArrayList<>()).add(i);
+        }
+
+        for(List<Integer> entries : entriesByChunk.values()) {
+            long firstPosition = positions[entries.getFirst()];
+            Chunk chunk = world.getChunkAt(Block.getBlockKeyX(firstPosition) >> 4, Block.getBlockKeyZ(firstPosition) >> 4);
+
+            for(int entry : entries) {
+                long position = positions[entry];
+                Block block = chunk.getBlock(Block.getBlockKeyX(position) & 15, Block.getBlockKeyY(position), Block.getBlockKeyZ(position) & 15);
+                BlockData blockData = palette.get(blockDataIds[entry]);
+
+                if(!block.getBlockData().equals(blockData)) {
+                    block.setBlockData(blockData, false);
+                }
+            }
+        }
+
+        clear();
+    }
+
+    /**
+     * Clears the journal without reverting any blocks.
+     */
+    public void clear() {
+        palette.clear();
+        paletteIds.clear();
+        positions = new long[INITIAL_CAPACITY];
+        blockDataIds = new int[INITIAL_CAPACITY];
+        positionTable = new int[INITIAL_CAPACITY * 2];
+        size = 0;
+    }
+
+    /**
+     * Finds the slot in the position table for a position using linear probing.
+     * @param position The packed block position.
+     * @return The slot that holds the position or the empty slot where it would be added.
+     */
+    private int findSlot(long position) {
+        int mask = positionTable.length - 1;
+        int slot = hash(position) & mask;
+
+        while(positionTable[slot] != 0 && positions[positionTable[slot] - 1] != position) {
+            slot = (slot + 1) & mask;
+        }
+
+        return slot;
+    }
+
+    /**
+     * Doubles the size of the position table and re-adds every entry.
+     */
+    private void resizeTable() {
+        positionTable = new int[positionTable.length * 2];
+
+        for(int i = 0; i < size; i++) {
+            positionTable[findSlot(positions[i])] = i + 1;
+        }
+    }
+
+    /**
+     * Mixes the bits of a packed position, as nearby positions only differ in a few bits.
+     * @param position The packed block position.
+     * @return The hash.
+     */
+    private static int hash(long position) {
+        long hash = position * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+}
@@ -0,0 +1,186 @@
+/*
+    SkyTrials is a plugin that offers different challenges or trials to tackle. Inspired by the Minecraft Trial Chambers and mob arenas.
+    Copyright (C) 2024 lukeskywlker19
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.github.lukesky19.skytrials.trial;
+
+import com.github.lukesky19.skytrials.SkyTrials;
+import com.github.lukesky19.skytrials.manager.load.LoadController;
+import com.github.lukesky19.skytrials.manager.locale.LocaleManager;
+import com.github.lukesky19.skytrials.manager.locale.MessageTemplate;
+import com.github.lukesky19.skytrials.manager.task.TaskScheduler;
+import net.kyori.adventure.bossbar.BossBar;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import org.bukkit.Location;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class renders a trial's {@link BossBar} from the values shown on it.
+ * Setting a value only marks the boss bar as changed when the value is different. Changes are rendered together on the next tick,
+ * so the boss bar is rendered at most once per tick, and the name is only sent to players when the rendered text changed.
+ * While the server is under load, changes are rendered together after the number of ticks set by the {@link LoadController} instead.
+ */
+public class TrialBossBarRenderer {
+    private final @NotNull SkyTrials skyTrials;
+    private final @NotNull LocaleManager localeManager;
+    private final @NotNull LoadController loadController;
+    private final @NotNull TaskScheduler taskScheduler;
+    private final @NotNull Location location;
+    private final @NotNull BossBar bossBar;
+
+    private @Nullable MessageTemplate text;
+    private final @NotNull Map<String, Long> values = new HashMap<>();
+    // The time in seconds for the time placeholder or -1 if there is no time to show
+    private long timeSeconds = -1;
+
+    private boolean dirty = false;
+    private boolean renderScheduled = false;
+    private @Nullable Component lastRendered;
+
+    /**
+     * Constructor
+     * @param skyTrials A {@link SkyTrials} instance.
+     * @param localeManager A {@link LocaleManager} instance.
+     * @param loadController A {@link LoadController} instance.
+     * @param taskScheduler A {@link TaskScheduler} instance.
+     * @param location The {@link Location} of the trial, used to render on the thread that owns the trial's region.
+     * @param color The initial {@link BossBar.Color}.
+     * @param overlay The initial {@link BossBar.Overlay}.
+     */
+    public TrialBossBarRenderer(@NotNull SkyTrials skyTrials, @NotNull LocaleManager localeManager, @NotNull LoadController loadController, @NotNull TaskScheduler taskScheduler, @NotNull Location location, @NotNull BossBar.Color color, @NotNull BossBar.Overlay overlay) {
+        this.skyTrials = skyTrials;
+        this.localeManager = localeManager;
+        this.loadController = loadController;
+        this.taskScheduler = taskScheduler;
+        this.location = location;
+        this.bossBar = BossBar.bossBar(Component.empty(), 1, color, overlay);
+    }
+
+    /**
+     * Get the {@link BossBar} to show to players.
+     * @return The {@link BossBar}.
+     */
+    public @NotNull BossBar getBossBar() {
+        return bossBar;
+    }
+
+    /**
+     * Sets the text, color, and overlay of the boss bar. Changing the text clears all values.
+     * @param text The {@link MessageTemplate} for the boss bar text.
+     * @param color The {@link BossBar.Color}.
+     * @param overlay The {@link BossBar.Overlay}.
+     */
+    public void setStyle(@NotNull MessageTemplate text, @NotNull BossBar.Color color, @NotNull BossBar.Overlay overlay) {
+        if(bossBar.color() != color) bossBar.color(color);
+        if(bossBar.overlay() != overlay) bossBar.overlay(overlay);
+
+        if(this.text != text) {
+            this.text = text;
+            values.clear();
+            timeSeconds = -1;
+            markDirty();
+        }
+    }
+
+    /**
+     * Sets the value of a number placeholder.
+     * @param name The name of the placeholder.
+     * @param value The value.
+     */
+    public void setValue(@NotNull String name, long value) {
+        Long previousValue = values.put(name, value);
+        if(previousValue == null || previousValue != value) markDirty();
+    }
+
+    /**
+     * Removes a number placeholder, so it is shown as written.
+     * @param name The name of the placeholder.
+     */
+    public void removeValue(@NotNull String name) {
+        if(values.remove(name) != null) markDirty();
+    }
+
+    /**
+     * Sets the time shown by the time placeholder.
+     * @param timeSeconds The time in seconds or -1 to remove the time placeholder.
+     */
+    public void setTime(long timeSeconds) {
+        if(this.timeSeconds == timeSeconds) return;
+
+        this.timeSeconds = timeSeconds;
+        markDirty();
+    }
+
+    /**
+     * Renders any changes now instead of on the next tick.
+     */
+    public void flush() {
+        render();
+    }
+
+    /**
+     * Marks the boss bar as changed and schedules it to be rendered on the next tick, or later while the server is under load.
+     */
+    private void markDirty() {
+        dirty = true;
+
+        // Tasks can't be scheduled while the plugin is disabling, so render straight away
+        if(!skyTrials.isEnabled()) {
+            render();
+            return;
+        }
+
+        if(!renderScheduled) {
+            renderScheduled = true;
+
+            long refreshTicks = loadController.getLoadLevel().getBossBarRefreshTicks();
+            if(refreshTicks > 1) {
+                taskScheduler.runAtLocationLater(location, this::render, refreshTicks);
+            } else {
+                taskScheduler.runAtLocation(location, this::render);
+            }
+        }
+    }
+
+    /**
+     * Renders the boss bar text if anything changed and updates the boss bar name if the rendered text is different.
+     */
+    private void render() {
+        renderScheduled = false;
+        if(!dirty || text == null) return;
+        dirty = false;
+
+        List<TagResolver.Single> placeholders = new ArrayList<>(values.size() + 1);
+        values.forEach((name, value) -> placeholders.add(Placeholder.unparsed(name, String.valueOf(value))));
+        if(timeSeconds != -1) {
+            placeholders.add(Placeholder.parsed("time", localeManager.getTimeMessage(timeSeconds)));
+        }
+
+        Component rendered = text.render(placeholders);
+        if(rendered.equals(lastRendered)) return;
+
+        lastRendered = rendered;
+        bossBar.name(rendered);
+    }
+}
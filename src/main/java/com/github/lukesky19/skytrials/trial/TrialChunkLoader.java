@@ -0,0 +1,127 @@
+/*
+    SkyTrials is a plugin that offers different challenges or trials to tackle. Inspired by the Minecraft Trial Chambers and mob arenas.
+    Copyright (C) 2024 lukeskywlker19
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.github.lukesky19.skytrials.trial;
+
+import com.github.lukesky19.skytrials.manager.trial.ChunkTicketRegistry;
+import com.sk89q.worldedit.math.BlockVector3;
+import com.sk89q.worldguard.protection.regions.ProtectedRegion;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * This class loads the chunks a trial uses before the trial starts and keeps them loaded for the run.
+ * Chunks are loaded asynchronously and each loaded chunk is held through the {@link ChunkTicketRegistry} until the chunks are released,
+ * so placing blocks and spawning entities during the run never loads a chunk synchronously.
+ * The registry counts holders, so releasing this trial's chunks never unloads a chunk another trial is still using.
+ */
+public class TrialChunkLoader {
+    private final @NotNull ChunkTicketRegistry chunkTicketRegistry;
+    private final @NotNull World world;
+    private final long[] chunkKeys;
+    // The chunks this loader currently holds
+    private final @NotNull Set<Long> ticketChunkKeys = new HashSet<>();
+    // Whether the chunks should be held, so chunks that finish loading after a release aren't held again
+    private boolean holding = false;
+
+    /**
+     * Constructor
+     * @param chunkTicketRegistry A {@link ChunkTicketRegistry} instance.
+     * @param world The {@link World} the trial is in.
+     * @param region The {@link ProtectedRegion} for the trial. Every chunk covering the region's bounding box is loaded.
+     * @param locations A {@link List} of additional {@link Location}s the trial uses, such as spawn locations. Locations in other worlds are ignored.
+     */
+    public TrialChunkLoader(@NotNull ChunkTicketRegistry chunkTicketRegistry, @NotNull World world, @NotNull ProtectedRegion region, @NotNull List<Location> locations) {
+        this.chunkTicketRegistry = chunkTicketRegistry;
+        this.world = world;
+
+        Set<Long> keys = new LinkedHashSet<>();
+
+        BlockVector3 min = region.getMinimumPoint();
+        BlockVector3 max = region.getMaximumPoint();
+        for(int chunkX = min.x() >> 4; chunkX <= max.x() >> 4; chunkX++) {
+            for(int chunkZ = min.z() >> 4; chunkZ <= max.z() >> 4; chunkZ++) {
+                keys.add(Chunk.getChunkKey(chunkX, chunkZ));
+            }
+        }
+
+        for(Location location : locations) {
+            if(world.equals(location.getWorld())) {
+                keys.add(Chunk.getChunkKey(location.getBlockX() >> 4, location.getBlockZ() >> 4));
+            }
+        }
+
+        this.chunkKeys = keys.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /**
+     * Loads every chunk the trial uses asynchronously and acquires each chunk from the {@link ChunkTicketRegistry} as it loads.
+     * @return A {@link CompletableFuture} that completes once every chunk was loaded.
+     */
+    public @NotNull CompletableFuture<Void> load() {
+        synchronized(ticketChunkKeys) {
+            holding = true;
+        }
+
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[chunkKeys.length];
+
+        for(int i = 0; i < chunkKeys.length; i++) {
+            long chunkKey = chunkKeys[i];
+            futures[i] = world.getChunkAtAsync((int) chunkKey, (int) (chunkKey >> 32)).thenAccept(chunk -> {
+                synchronized(ticketChunkKeys) {
+                    // Each chunk is only acquired once per loader, even if it is loaded again before being released
+                    if(holding && ticketChunkKeys.add(chunkKey)) {
+                        chunkTicketRegistry.acquire(world, chunkKey);
+                    }
+                }
+            });
+        }
+
+        return CompletableFuture.allOf(futures);
+    }
+
+    /**
+     * Releases the chunks held by this loader, so they can unload again once no other trial holds them.
+     */
+    public void release() {
+        synchronized(ticketChunkKeys) {
+            holding = false;
+
+            for(long chunkKey : ticketChunkKeys) {
+                chunkTicketRegistry.release(world, chunkKey);
+            }
+
+            ticketChunkKeys.clear();
+        }
+    }
+
+    /**
+     * Get the number of chunks the trial uses.
+     * @return The number of chunks.
+     */
+    public int size() {
+        return chunkKeys.length;
+    }
+}
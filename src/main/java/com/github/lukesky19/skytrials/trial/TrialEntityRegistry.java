@@ -0,0 +1,128 @@
+/*
+    SkyTrials is a plugin that offers different challenges or trials to tackle. Inspired by the Minecraft Trial Chambers and mob arenas.
+    Copyright (C) 2024 lukeskywlker19
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.github.lukesky19.skytrials.trial;
+
+import com.sk89q.worldedit.math.BlockVector3;
+import com.sk89q.worldguard.protection.regions.ProtectedRegion;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This class tracks the entities spawned for a trial so they can be removed without scanning the whole {@link World}.
+ */
+public class TrialEntityRegistry {
+    private final @NotNull World world;
+    private final @NotNull ProtectedRegion region;
+    // Concurrent so the spawn governor can read the size from the global region thread
+    private final @NotNull Set<UUID> entityIds = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Constructor
+     * @param world The {@link World} the trial is in.
+     * @param region The {@link ProtectedRegion} for the trial.
+     */
+    public TrialEntityRegistry(@NotNull World world, @NotNull ProtectedRegion region) {
+        this.world = world;
+        this.region = region;
+    }
+
+    /**
+     * Start tracking an {@link Entity} spawned for the trial.
+     * @param entity The {@link Entity} to track.
+     */
+    public void track(@NotNull Entity entity) {
+        entityIds.add(entity.getUniqueId());
+    }
+
+    /**
+     * Stop tracking an {@link Entity}. Used when the entity dies or is otherwise removed.
+     * @param entity The {@link Entity} to stop tracking.
+     */
+    public void untrack(@NotNull Entity entity) {
+        entityIds.remove(entity.getUniqueId());
+    }
+
+    /**
+     * Checks if an {@link Entity} is tracked by this registry.
+     * @param entity The {@link Entity} to check.
+     * @return true if tracked, otherwise false.
+     */
+    public boolean isTracked(@NotNull Entity entity) {
+        return entityIds.contains(entity.getUniqueId());
+    }
+
+    /**
+     * Get the number of tracked entities.
+     * @return The number of tracked entities.
+     */
+    public int size() {
+        return entityIds.size();
+    }
+
+    /**
+     * Removes all tracked entities that still exist and clears the registry.
+     */
+    public void removeTrackedEntities() {
+        for(UUID entityId : entityIds) {
+            Entity entity = world.getEntity(entityId);
+            if(entity != null) {
+                entity.remove();
+            }
+        }
+
+        entityIds.clear();
+    }
+
+    /**
+     * Removes all non-player entities inside the trial's region, including entities that were never tracked.
+     * Only the loaded chunks that intersect the region's bounding box are checked.
+     */
+    public void removeEntitiesInRegion() {
+        BlockVector3 min = region.getMinimumPoint();
+        BlockVector3 max = region.getMaximumPoint();
+
+        int minChunkX = min.x() >> 4;
+        int minChunkZ = min.z() >> 4;
+        int maxChunkX = max.x() >> 4;
+        int maxChunkZ = max.z() >> 4;
+
+        for(int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for(int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                if(!world.isChunkLoaded(chunkX, chunkZ)) continue;
+
+                for(Entity entity : world.getChunkAt(chunkX, chunkZ).getEntities()) {
+                    if(entity instanceof Player) continue;
+
+                    Location location = entity.getLocation();
+                    if(region.contains(location.getBlockX(), location.getBlockY(), location.getBlockZ())) {
+                        entity.remove();
+                    }
+                }
+            }
+        }
+
+        entityIds.clear();
+    }
+}
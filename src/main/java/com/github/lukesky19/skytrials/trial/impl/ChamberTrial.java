@@ -17,30 +17,50 @@
 */
 package com.github.lukesky19.skytrials.trial.impl;
 
-import com.github.lukesky19.skylib.api.adventure.AdventureUtil;
 import com.github.lukesky19.skytrials.SkyTrials;
+import com.github.lukesky19.skytrials.manager.broadcast.BroadcastManager;
+import com.github.lukesky19.skytrials.manager.load.LoadController;
 import com.github.lukesky19.skytrials.manager.locale.LocaleManager;
-import com.github.lukesky19.skytrials.data.config.locale.Locale;
+import com.github.lukesky19.skytrials.manager.locale.LocaleMessage;
+import com.github.lukesky19.skytrials.manager.locale.MessageTemplate;
+import com.github.lukesky19.skytrials.manager.metrics.MetricsManager;
+import com.github.lukesky19.skytrials.manager.metrics.TrialMetrics;
 import com.github.lukesky19.skytrials.data.trial.ChamberTrialData;
+import com.github.lukesky19.skytrials.data.trial.RestoreData;
+import com.github.lukesky19.skytrials.data.trial.TrialSpawnerTemplate;
+import com.github.lukesky19.skytrials.data.trial.VaultTemplate;
+import com.github.lukesky19.skytrials.manager.blocks.BlockPlacements;
 import com.github.lukesky19.skytrials.manager.blocks.SpawnerManager;
 import com.github.lukesky19.skytrials.manager.blocks.VaultManager;
 import com.github.lukesky19.skytrials.manager.player.CooldownManager;
 import com.github.lukesky19.skytrials.manager.player.GracePeriodManager;
+import com.github.lukesky19.skytrials.manager.task.TaskScheduler;
+import com.github.lukesky19.skytrials.manager.trial.ChunkTicketRegistry;
+import com.github.lukesky19.skytrials.manager.trial.TrialPlayerIndex;
 import com.github.lukesky19.skytrials.trial.AbstractTrial;
+import com.github.lukesky19.skytrials.trial.TrialArenaSnapshot;
+import com.github.lukesky19.skytrials.trial.TrialArenaTemplate;
+import com.github.lukesky19.skytrials.trial.TrialBlockJournal;
+import com.github.lukesky19.skytrials.trial.TrialBossBarRenderer;
+import com.github.lukesky19.skytrials.trial.TrialChunkLoader;
+import com.github.lukesky19.skytrials.trial.TrialEntityRegistry;
+import com.github.lukesky19.skytrials.util.LocationUtil;
+import com.github.lukesky19.skytrials.util.RestoreMode;
 import com.github.lukesky19.skytrials.util.TrialEndReason;
-import com.google.common.collect.ImmutableList;
+import com.github.lukesky19.skytrials.util.TrialOperation;
 import com.sk89q.worldguard.protection.regions.ProtectedRegion;
 import net.kyori.adventure.bossbar.BossBar;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
 import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
 import org.bukkit.*;
-import org.bukkit.entity.Entity;
+import org.bukkit.block.Block;
+import org.bukkit.block.data.BlockData;
 import org.bukkit.entity.Player;
 import org.bukkit.event.entity.EntityDeathEvent;
 import org.bukkit.event.entity.EntityPotionEffectEvent;
 import org.bukkit.event.entity.PlayerDeathEvent;
-import org.bukkit.event.entity.SpawnerSpawnEvent;
+import org.bukkit.event.entity.EntitySpawnEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 import org.jetbrains.annotations.NotNull;
@@ -52,6 +72,8 @@ import java.util.*;
  * This class is used to create a single-chamber trial with trial spawners and vault blocks.
  */
 public class ChamberTrial extends AbstractTrial {
+    private static final @NotNull Set<String> BOSS_BAR_PLACEHOLDERS = Set.of("time", "ready_count", "player_count");
+
     // Plugin Classes
     private final @NotNull SkyTrials skyTrials;
     private final @NotNull LocaleManager localeManager;
@@ -59,22 +81,46 @@ public class ChamberTrial extends AbstractTrial {
     private final @NotNull VaultManager vaultManager;
     private final @NotNull CooldownManager cooldownManager;
     private final @NotNull GracePeriodManager gracePeriodManager;
+    private final @NotNull TrialPlayerIndex trialPlayerIndex;
+    private final @NotNull BroadcastManager broadcastManager;
+    private final @NotNull TaskScheduler taskScheduler;
+    private final @NotNull TrialMetrics trialMetrics;
 
     // Config Data
     private final @NotNull ChamberTrialData trialData;
+    private final @NotNull BlockPlacements<TrialSpawnerTemplate> trialSpawnerPlacements;
+    private final @NotNull BlockPlacements<VaultTemplate> vaultPlacements;
 
     // Controls whether the trial is started or not
-    private boolean status = false;
+    // Volatile as the trial's pool checks it from other threads to find a free instance
+    private volatile boolean status = false;
+    // Whether the chunks used by the trial are being loaded before it starts
+    private volatile boolean preparing = false;
 
     // Trial time limit
     private int remainingTimeSeconds = -1;
 
     // Boss Bar
+    private final @NotNull TrialBossBarRenderer bossBarRenderer;
     private final @NotNull BossBar bossBar;
+    private final @NotNull MessageTemplate lobbyBossBarText;
+    private final @NotNull MessageTemplate timeLimitBossBarText;
+    private final @NotNull MessageTemplate noTimeLimitBossBarText;
 
     // Player ready statuses
     private final @NotNull Map<Player, Boolean> playerStatuses = new HashMap<>();
 
+    // Entities spawned for the trial
+    private final @NotNull TrialEntityRegistry entityRegistry;
+
+    // The arena's blocks, restored after each run
+    private final @NotNull TrialArenaSnapshot arenaSnapshot;
+    // The blocks changed during a run or null if the trial doesn't journal block changes
+    private final @Nullable TrialBlockJournal blockJournal;
+
+    // The chunks used by the trial, held loaded during a run
+    private final @NotNull TrialChunkLoader chunkLoader;
+
     /**
      * Constructor
      * @param skyTrials A {@link SkyTrials} instance.
@@ -83,6 +129,13 @@ public class ChamberTrial extends AbstractTrial {
      * @param vaultManager A {@link VaultManager} instance.
      * @param cooldownManager A {@link CooldownManager} instance.
      * @param gracePeriodManager A {@link GracePeriodManager} instance.
+     * @param trialPlayerIndex A {@link TrialPlayerIndex} instance.
+     * @param chunkTicketRegistry A {@link ChunkTicketRegistry} instance.
+     * @param broadcastManager A {@link BroadcastManager} instance.
+     * @param metricsManager A {@link MetricsManager} instance.
+     * @param loadController A {@link LoadController} instance.
+     * @param taskScheduler A {@link TaskScheduler} instance.
+     * @param arenaTemplate The {@link TrialArenaTemplate} shared by every instance of the trial or null if the arena is not restored from a snapshot.
      * @param trialData The {@link ChamberTrialData} for the trial.
      */
     public ChamberTrial(
@@ -92,6 +145,13 @@ public class ChamberTrial extends AbstractTrial {
             @NotNull VaultManager vaultManager,
             @NotNull CooldownManager cooldownManager,
             @NotNull GracePeriodManager gracePeriodManager,
+            @NotNull TrialPlayerIndex trialPlayerIndex,
+            @NotNull ChunkTicketRegistry chunkTicketRegistry,
+            @NotNull BroadcastManager broadcastManager,
+            @NotNull MetricsManager metricsManager,
+            @NotNull LoadController loadController,
+            @NotNull TaskScheduler taskScheduler,
+            @Nullable TrialArenaTemplate arenaTemplate,
             @NotNull ChamberTrialData trialData) {
         this.skyTrials = skyTrials;
         this.localeManager = localeManager;
@@ -99,10 +159,38 @@ public class ChamberTrial extends AbstractTrial {
         this.vaultManager = vaultManager;
         this.cooldownManager = cooldownManager;
         this.gracePeriodManager = gracePeriodManager;
+        this.trialPlayerIndex = trialPlayerIndex;
+        this.broadcastManager = broadcastManager;
+        this.taskScheduler = taskScheduler;
         this.trialData = trialData;
+        this.trialSpawnerPlacements = spawnerManager.createTrialSpawnerPlacements(trialData.trialSpawnerTemplateList());
+        this.vaultPlacements = vaultManager.createVaultPlacements(trialData.vaultConfigList());
+        this.trialMetrics = metricsManager.getTrialMetrics(trialData.trialId());
+        this.entityRegistry = new TrialEntityRegistry(trialData.trialWorld(), trialData.trialRegion());
+        RestoreData restoreData = trialData.restoreData();
+        int snapshotBlocksPerTick = restoreData != null && restoreData.restoreMode() == RestoreMode.SNAPSHOT ? restoreData.blocksPerTick() : -1;
+        this.arenaSnapshot = new TrialArenaSnapshot(skyTrials, taskScheduler, trialMetrics, trialData.trialId(), trialData.trialWorld(), trialData.trialRegion(), getAnchorLocation(), arenaTemplate, snapshotBlocksPerTick);
+        this.blockJournal = restoreData != null && restoreData.restoreMode() == RestoreMode.JOURNAL ? new TrialBlockJournal(trialData.trialWorld(), trialData.trialRegion()) : null;
+
+        List<Location> chunkLocations = new ArrayList<>();
+        chunkLocations.add(trialData.startLocation());
+        trialData.trialSpawnerTemplateList().forEach(trialSpawnerTemplate -> {
+            Location location = LocationUtil.getLocation(skyTrials, trialSpawnerTemplate.location());
+            if(location != null) chunkLocations.add(location);
+        });
+        trialData.vaultConfigList().forEach(vaultConfig -> {
+            Location location = LocationUtil.getLocation(skyTrials, vaultConfig.location());
+            if(location != null) chunkLocations.add(location);
+        });
+        this.chunkLoader = new TrialChunkLoader(chunkTicketRegistry, trialData.trialWorld(), trialData.trialRegion(), chunkLocations);
 
         // Create the initial boss bar
-        bossBar = BossBar.bossBar(AdventureUtil.serialize(""), 1, trialData.lobbyBossBar().color(), trialData.lobbyBossBar().overlay());
+        lobbyBossBarText = new MessageTemplate(trialData.lobbyBossBar().bossBarText(), BOSS_BAR_PLACEHOLDERS);
+        timeLimitBossBarText = new MessageTemplate(trialData.trialBossBar().timeLimitText(), BOSS_BAR_PLACEHOLDERS);
+        noTimeLimitBossBarText = new MessageTemplate(trialData.trialBossBar().noTimeLimitText(), BOSS_BAR_PLACEHOLDERS);
+        bossBarRenderer = new TrialBossBarRenderer(skyTrials, localeManager, loadController, taskScheduler, getAnchorLocation(), trialData.lobbyBossBar().color(), trialData.lobbyBossBar().overlay());
+        bossBarRenderer.setStyle(lobbyBossBarText, trialData.lobbyBossBar().color(), trialData.lobbyBossBar().overlay());
+        bossBar = bossBarRenderer.getBossBar();
     }
 
     /**
@@ -112,11 +200,9 @@ public class ChamberTrial extends AbstractTrial {
      */
     @Override
     public void join(@NotNull Player player, @NotNull UUID uuid) {
-        Locale locale = localeManager.getLocale();
-
         // If the trial has already started, send a message to the player that they can't join a trial that has already started.
-        if(status) {
-            player.sendMessage(AdventureUtil.serialize(locale.prefix() + locale.joinTrialActive()));
+        if(status || preparing) {
+            player.sendMessage(localeManager.getMessage(LocaleMessage.JOIN_TRIAL_ACTIVE));
             return;
         }
 
@@ -125,65 +211,81 @@ public class ChamberTrial extends AbstractTrial {
         if(playerCooldown != null) {
             List<TagResolver.Single> placeholders = List.of(Placeholder.parsed("trial_id", trialData.trialId()), Placeholder.parsed("time", localeManager.getTimeMessage(playerCooldown)));
 
-            player.sendMessage(AdventureUtil.serialize(locale.prefix() + locale.trialOnCooldown(), placeholders));
-            player.sendMessage(AdventureUtil.serialize(player, locale.prefix() + locale.cooldownTime(), placeholders));
+            player.sendMessage(localeManager.getMessage(LocaleMessage.TRIAL_ON_COOLDOWN, placeholders));
+            player.sendMessage(localeManager.getMessage(LocaleMessage.COOLDOWN_TIME, player, placeholders));
 
             return;
         }
 
         // Add the player to the player statuses map
         playerStatuses.put(player, false);
+        trialPlayerIndex.addPlayer(uuid, this);
 
         // Teleport the player to the join area
         player.teleportAsync(trialData.joinLocation());
 
         // Send a message that to player that they joined the trial
         List<TagResolver.Single> placeholders = List.of(Placeholder.parsed("trial_id", trialData.trialId()), Placeholder.parsed("player_name", player.getName()));
-        player.sendMessage(AdventureUtil.serialize(locale.prefix() + locale.joinTrial(), placeholders));
-
-        // Get and filter online players
-        List<Player> onlinePlayers = ImmutableList.copyOf(skyTrials.getServer().getOnlinePlayers());
-        List<Player> filteredOnlinePlayers = onlinePlayers.stream().filter(onlinePlayer -> onlinePlayer.getUniqueId() != uuid).toList();
+        player.sendMessage(localeManager.getMessage(LocaleMessage.JOIN_TRIAL, placeholders));
 
         // Send a message to all players except the joining player that the player joined the trial
-        for(Player p : filteredOnlinePlayers) {
-            p.sendMessage(AdventureUtil.serialize(player,locale.prefix() + locale.playerJoinedTrial(), placeholders));
-        }
+        broadcastManager.broadcast(this, LocaleMessage.PLAYER_JOINED_TRIAL, player, placeholders, recipient -> !recipient.getUniqueId().equals(uuid));
     }
 
     /**
-     * Handles the actual starting of the trial.
+     * Prepares the trial to start by loading the chunks the trial uses asynchronously. The trial starts once they are loaded.
      */
     @Override
     public void start() {
-        Locale locale = localeManager.getLocale();
+        if(status || preparing) return;
+        preparing = true;
+
+        // Wait for the arena to be restored from the last run so the restore doesn't change the arena during this run.
+        // The restore releases the chunks it held before they are loaded again.
+        arenaSnapshot.whenRestored(this::loadChunks);
+    }
+
+    /**
+     * Loads the chunks the trial uses asynchronously and starts the run once they are loaded.
+     */
+    private void loadChunks() {
+        long startTime = System.nanoTime();
+        chunkLoader.load().whenComplete((unused, throwable) -> {
+            trialMetrics.recordTime(TrialOperation.LOAD_CHUNKS, System.nanoTime() - startTime);
+            taskScheduler.execute(getAnchorLocation(), this::startRun);
+        });
+    }
+
+    /**
+     * Handles the actual starting of the trial once its chunks are loaded.
+     */
+    private void startRun() {
+        // The trial ended or every player left while the chunks were loading
+        if(!preparing || playerStatuses.isEmpty()) {
+            preparing = false;
+            chunkLoader.release();
+            return;
+        }
 
         // Set the trial status to true
+        preparing = false;
         status = true;
-
-        // Update the boss bra color and overlay
-        bossBar.color(trialData.trialBossBar().color());
-        bossBar.overlay(trialData.trialBossBar().overlay());
+        trialMetrics.incrementRunsStarted();
 
         // Create a list of placeholders
         List<TagResolver.Single> placeholders = List.of(Placeholder.parsed("trial_id", trialData.trialId()));
 
         // Send a message to all players in the trial that the trial is starting, teleport them to the start area, and show the boss bar.
         playerStatuses.keySet().forEach(player -> {
-            player.sendMessage(AdventureUtil.serialize(player,locale.prefix() + locale.startTrial(), placeholders));
+            player.sendMessage(localeManager.getMessage(LocaleMessage.START_TRIAL, player, placeholders));
 
             player.teleportAsync(trialData.startLocation());
 
             player.showBossBar(bossBar);
         });
 
-        // Get and filter online players
-        List<Player> onlinePlayers = ImmutableList.copyOf(skyTrials.getServer().getOnlinePlayers());
-        List<Player> filteredOnlinePlayers = onlinePlayers.stream().filter(onlinePlayer -> !playerStatuses.containsKey(onlinePlayer)).toList();
-
         // Send a message to all players except the players in the trial that the trial is starting
-        filteredOnlinePlayers.forEach(onlinePlayer ->
-                onlinePlayer.sendMessage(AdventureUtil.serialize(onlinePlayer,locale.prefix() + locale.broadcastTrialStart(), placeholders)));
+        broadcastManager.broadcast(this, LocaleMessage.BROADCAST_TRIAL_START, placeholders, recipient -> !playerStatuses.containsKey(recipient));
 
         // Place blocks for the trial
         placeBlocks();
@@ -191,7 +293,9 @@ public class ChamberTrial extends AbstractTrial {
         // Set the trial time limit
         remainingTimeSeconds = trialData.timeLimitSeconds();
 
-        // Update the boss bar
+        // Update the boss bar text, color, and overlay
+        MessageTemplate trialBossBarText = remainingTimeSeconds != -1 ? timeLimitBossBarText : noTimeLimitBossBarText;
+        bossBarRenderer.setStyle(trialBossBarText, trialData.trialBossBar().color(), trialData.trialBossBar().overlay());
         updateBossBar();
     }
 
@@ -202,8 +306,6 @@ public class ChamberTrial extends AbstractTrial {
      */
     @Override
     public void leave(@NotNull Player player, @NotNull UUID uuid) {
-        Locale locale = localeManager.getLocale();
-
         // Create a list of placeholders
         List<TagResolver.Single> placeholders = new ArrayList<>();
         placeholders.add(Placeholder.parsed("trial_id", trialData.trialId()));
@@ -211,12 +313,13 @@ public class ChamberTrial extends AbstractTrial {
 
         // Remove the player from the players in the trial
         playerStatuses.remove(player);
+        trialPlayerIndex.removePlayer(uuid, this);
 
         // Remove the boss bar
         player.hideBossBar(bossBar);
 
         // Send a message to the player leaving the trial that they have left the trial.
-        player.sendMessage(AdventureUtil.serialize(player,locale.prefix() + locale.leaveTrial(), placeholders));
+        player.sendMessage(localeManager.getMessage(LocaleMessage.LEAVE_TRIAL, player, placeholders));
 
         // If the trial is active, apply the cooldown if configured.
         if(status) {
@@ -228,7 +331,7 @@ public class ChamberTrial extends AbstractTrial {
                 cooldownManager.addCooldown(uuid, trialData.trialId(), trialData.cooldownSeconds());
 
                 // Send a message to the player leaving the trial that they have left the trial with their cooldown.
-                player.sendMessage(AdventureUtil.serialize(player,locale.prefix() + locale.cooldownApplied(), placeholders));
+                player.sendMessage(localeManager.getMessage(LocaleMessage.COOLDOWN_APPLIED, player, placeholders));
             }
 
             if(playerStatuses.isEmpty()) {
@@ -241,14 +344,8 @@ public class ChamberTrial extends AbstractTrial {
         // Teleport the player to the end location of the trial
         player.teleportAsync(trialData.endLocation());
 
-        // Get and filter online players
-        List<Player> onlinePlayers = ImmutableList.copyOf(skyTrials.getServer().getOnlinePlayers());
-        List<Player> filteredOnlinePlayers = onlinePlayers.stream().filter(onlinePlayer -> onlinePlayer.getUniqueId() != uuid).toList();
-
         // Send a message to all players except the leaving player that the player left the trial
-        for(Player p : filteredOnlinePlayers) {
-            p.sendMessage(AdventureUtil.serialize(player,locale.prefix() + locale.playerLeaveTrial(), placeholders));
-        }
+        broadcastManager.broadcast(this, LocaleMessage.PLAYER_LEAVE_TRIAL, player, placeholders, recipient -> !recipient.getUniqueId().equals(uuid));
 
         if(status) {
             // End the trial if there are no more players
@@ -265,7 +362,8 @@ public class ChamberTrial extends AbstractTrial {
      */
     @Override
     public void end(@NotNull TrialEndReason trialEndReason) {
-        Locale locale = localeManager.getLocale();
+        // Idle trials are also ended on reloads, which aren't runs
+        if(status) trialMetrics.incrementRunsEnded(trialEndReason);
 
         // Remove grace periods if necessary and get a list of UUIDs to apply cooldowns to if necessary
         List<UUID> playersWithGracePeriods = gracePeriodManager.removeGracePeriods(trialData.trialId());
@@ -290,8 +388,8 @@ public class ChamberTrial extends AbstractTrial {
                         cooldownManager.addCooldown(playerId, trialData.trialId(), trialData.cooldownSeconds());
 
                         // Send a trial end message and a message with the cooldown time
-                        player.sendMessage(AdventureUtil.serialize(player, locale.prefix() + locale.trialEnd(), placeholders));
-                        player.sendMessage(AdventureUtil.serialize(player,locale.prefix() + locale.cooldownApplied(), placeholders));
+                        player.sendMessage(localeManager.getMessage(LocaleMessage.TRIAL_END, player, placeholders));
+                        player.sendMessage(localeManager.getMessage(LocaleMessage.COOLDOWN_APPLIED, player, placeholders));
 
                         // Teleport the player to the end location
                         player.teleportAsync(trialData.endLocation());
@@ -302,7 +400,7 @@ public class ChamberTrial extends AbstractTrial {
                 } else {
                     playerStatuses.keySet().forEach(player -> {
                         // Send a trial end message
-                        player.sendMessage(AdventureUtil.serialize(player, locale.prefix() + locale.trialEnd()));
+                        player.sendMessage(localeManager.getMessage(LocaleMessage.TRIAL_END, player, List.of()));
 
                         // Teleport the player to the end location
                         player.teleportAsync(trialData.endLocation());
@@ -313,9 +411,7 @@ public class ChamberTrial extends AbstractTrial {
                 }
 
                 List<TagResolver.Single> placeholders = List.of(Placeholder.parsed("trial_id", trialData.trialId()));
-                for(Player player : skyTrials.getServer().getOnlinePlayers()) {
-                    player.sendMessage(AdventureUtil.serialize(player, locale.prefix() + locale.broadcastTrialEnd(), placeholders));
-                }
+                broadcastManager.broadcast(this, LocaleMessage.BROADCAST_TRIAL_END, placeholders, recipient -> true);
             }
 
             case EMPTY, DEATH -> {
@@ -327,9 +423,7 @@ public class ChamberTrial extends AbstractTrial {
                 }
 
                 List<TagResolver.Single> placeholders = List.of(Placeholder.parsed("trial_id", trialData.trialId()));
-                for(Player player : skyTrials.getServer().getOnlinePlayers()) {
-                    player.sendMessage(AdventureUtil.serialize(player, locale.prefix() + locale.broadcastTrialEnd(), placeholders));
-                }
+                broadcastManager.broadcast(this, LocaleMessage.BROADCAST_TRIAL_END, placeholders, recipient -> true);
             }
 
             case RELOAD -> {
@@ -340,7 +434,7 @@ public class ChamberTrial extends AbstractTrial {
 
                 playerStatuses.keySet().forEach(player -> {
                     // Send a trial end message
-                    player.sendMessage(AdventureUtil.serialize(player, locale.prefix() + locale.trialEnd(), placeholders));
+                    player.sendMessage(localeManager.getMessage(LocaleMessage.TRIAL_END, player, placeholders));
 
                     // Teleport the player to the end location
                     player.teleportAsync(trialData.endLocation());
@@ -351,13 +445,29 @@ public class ChamberTrial extends AbstractTrial {
             }
         }
 
+        // Sweep the region's chunks for anything that was not tracked (drops, projectiles, etc.)
+        entityRegistry.removeEntitiesInRegion();
+
+        // Revert any block changes not already reverted when the trial's blocks were removed
+        if(blockJournal != null) blockJournal.rollback();
+
+        // Restore the arena after a run and let the trial's chunks unload once the restore is done, so the restore never runs on unloaded chunks.
+        // Reloads finish the restore right away, as the arena is captured again when the trials are recreated.
+        preparing = false;
+        if(status) {
+            arenaSnapshot.restore(chunkLoader::release);
+        } else {
+            chunkLoader.release();
+        }
+        if(trialEndReason == TrialEndReason.RELOAD) arenaSnapshot.finishRestore();
+
+        playerStatuses.keySet().forEach(player -> trialPlayerIndex.removePlayer(player.getUniqueId(), this));
         playerStatuses.clear();
         remainingTimeSeconds = -1;
         status = false;
 
         // Reset boss bar back to lobby boss bar
-        bossBar.color(trialData.lobbyBossBar().color());
-        bossBar.overlay(trialData.lobbyBossBar().overlay());
+        bossBarRenderer.setStyle(lobbyBossBarText, trialData.lobbyBossBar().color(), trialData.lobbyBossBar().overlay());
         updateBossBar();
     }
 
@@ -368,11 +478,15 @@ public class ChamberTrial extends AbstractTrial {
      */
     @Override
     public void togglePlayerStatus(@NotNull Player player, @NotNull UUID uuid) {
-        Locale locale = localeManager.getLocale();
-
         // Send a message to the player if the trial is already started.
-        if(status) {
-            player.sendMessage(AdventureUtil.serialize(locale.prefix() + locale.startTrialActive()));
+        if(status || preparing) {
+            player.sendMessage(localeManager.getMessage(LocaleMessage.START_TRIAL_ACTIVE));
+            return;
+        }
+
+        // Trials with a queue start automatically once a party is placed into them
+        if(trialData.queueData() != null) {
+            player.sendMessage(localeManager.getMessage(LocaleMessage.READY_QUEUED_TRIAL));
             return;
         }
 
@@ -385,22 +499,22 @@ public class ChamberTrial extends AbstractTrial {
 
         if(playerStatus) {
             // Send a message that the player is now ready to start the trial.
-            player.sendMessage(AdventureUtil.serialize(locale.prefix() + locale.ready()));
+            player.sendMessage(localeManager.getMessage(LocaleMessage.READY));
 
             // Send a message to all other players in the trial that the player is ready.
+            Component readyMessage = localeManager.getMessage(LocaleMessage.PLAYER_IS_READY, player, placeholders);
             playerStatuses.keySet().stream()
                     .filter(trialPlayer -> player.getUniqueId() != uuid)
-                    .forEach(trialPlayer ->
-                            trialPlayer.sendMessage(AdventureUtil.serialize(player, locale.prefix() + locale.playerIsReady(), placeholders)));
+                    .forEach(trialPlayer -> trialPlayer.sendMessage(readyMessage));
         } else {
             // Send a message that the player is no longer ready to start the trial.
-            player.sendMessage(AdventureUtil.serialize(locale.prefix() + locale.notReady()));
+            player.sendMessage(localeManager.getMessage(LocaleMessage.NOT_READY));
 
             // Send a message to all other players in the trial that the player is not ready.
+            Component notReadyMessage = localeManager.getMessage(LocaleMessage.PLAYER_IS_NOT_READY, player, placeholders);
             playerStatuses.keySet().stream()
                     .filter(trialPlayer -> player.getUniqueId() != uuid)
-                    .forEach(trialPlayer ->
-                            trialPlayer.sendMessage(AdventureUtil.serialize(player, locale.prefix() + locale.playerIsNotReady(), placeholders)));
+                    .forEach(trialPlayer -> trialPlayer.sendMessage(notReadyMessage));
         }
 
         updateBossBar();
@@ -425,6 +539,7 @@ public class ChamberTrial extends AbstractTrial {
             gracePeriodManager.removeGracePeriod(uuid, trialData.trialId());
 
             playerStatuses.put(player, true);
+            trialPlayerIndex.addPlayer(uuid, this);
 
             player.teleportAsync(trialData.startLocation());
 
@@ -456,6 +571,7 @@ public class ChamberTrial extends AbstractTrial {
         }
 
         playerStatuses.remove(player);
+        trialPlayerIndex.removePlayer(uuid, this);
 
         if(playerStatuses.isEmpty()) {
             // Remove blocks and entities
@@ -472,35 +588,22 @@ public class ChamberTrial extends AbstractTrial {
      */
     @Override
     public void handlePlayerDeath(@NotNull PlayerDeathEvent playerDeathEvent) {
-        Locale locale = localeManager.getLocale();
         Player player = playerDeathEvent.getPlayer();
         UUID uuid = player.getUniqueId();
 
-        playerDeathEvent.setKeepInventory(true);
-        playerDeathEvent.setKeepLevel(true);
-        playerDeathEvent.getDrops().clear();
-        playerDeathEvent.setCancelled(true);
-
         List<TagResolver.Single> placeholders = new ArrayList<>();
         placeholders.add(Placeholder.parsed("trial_id", trialData.trialId()));
         placeholders.add(Placeholder.parsed("player_name", player.getName()));
 
-        // Send a message that a player died in a trial and fake their actual death message
+        // Fake the player's actual death message
         Component deathMessage = playerDeathEvent.deathMessage();
         if(deathMessage != null) {
-            for(Player p : skyTrials.getServer().getOnlinePlayers()) {
-                p.sendMessage(deathMessage);
-
-                p.sendMessage(AdventureUtil.serialize(player, locale.prefix() + locale.playerDiedInTrial(), placeholders));
-            }
-        } else {
-            for(Player p : skyTrials.getServer().getOnlinePlayers()) {
-                p.sendMessage(AdventureUtil.serialize(player, locale.prefix() + locale.playerDiedInTrial(), placeholders));
-            }
+            broadcastManager.broadcast(this, deathMessage, recipient -> true);
         }
 
         // Remove the player from the players in the trial
         playerStatuses.remove(player);
+        trialPlayerIndex.removePlayer(uuid, this);
 
         // If the trial is active, apply the cooldown if configured.
         if(status) {
@@ -512,11 +615,11 @@ public class ChamberTrial extends AbstractTrial {
                 cooldownManager.addCooldown(uuid, trialData.trialId(), trialData.cooldownSeconds());
 
                 // Send a message to the player who died in the trial with their cooldown.
-                player.sendMessage(AdventureUtil.serialize(player,locale.prefix() + locale.diedInTrial(), placeholders));
-                player.sendMessage(AdventureUtil.serialize(player,locale.prefix() + locale.cooldownApplied(), placeholders));
+                player.sendMessage(localeManager.getMessage(LocaleMessage.DIED_IN_TRIAL, player, placeholders));
+                player.sendMessage(localeManager.getMessage(LocaleMessage.COOLDOWN_APPLIED, player, placeholders));
             } else {
                 // Send a message to the player who died in the trial
-                player.sendMessage(AdventureUtil.serialize(player,locale.prefix() + locale.diedInTrial(), placeholders));
+                player.sendMessage(localeManager.getMessage(LocaleMessage.DIED_IN_TRIAL, player, placeholders));
             }
 
             if(playerStatuses.isEmpty()) {
@@ -529,14 +632,8 @@ public class ChamberTrial extends AbstractTrial {
         // Teleport the player to the end location of the trial
         player.teleportAsync(trialData.endLocation());
 
-        // Get and filter online players
-        List<Player> onlinePlayers = ImmutableList.copyOf(skyTrials.getServer().getOnlinePlayers());
-        List<Player> filteredOnlinePlayers = onlinePlayers.stream().filter(onlinePlayer -> onlinePlayer.getUniqueId() != uuid).toList();
-
-        // Send a message to all players except the player that died.
-        for(Player p : filteredOnlinePlayers) {
-            p.sendMessage(AdventureUtil.serialize(player,locale.prefix() + locale.playerDiedInTrial(), placeholders));
-        }
+        // Send a message to all players except the player that died that the player died in the trial.
+        broadcastManager.broadcast(this, LocaleMessage.PLAYER_DIED_IN_TRIAL, player, placeholders, recipient -> !recipient.getUniqueId().equals(uuid));
 
         if(status) {
             // End the trial if there are no more players
@@ -548,22 +645,55 @@ public class ChamberTrial extends AbstractTrial {
     }
 
     /**
-     * This method is unused for this trial and does nothing.
+     * Stops tracking the entity that died.
+     * @param entityDeathEvent An {@link EntityDeathEvent}.
      */
     @Override
-    public void handleEntityDeath(@NotNull EntityDeathEvent entityDeathEvent) {}
+    public void handleEntityDeath(@NotNull EntityDeathEvent entityDeathEvent) {
+        if(entityRegistry.isTracked(entityDeathEvent.getEntity())) trialMetrics.incrementMobsKilled();
+        entityRegistry.untrack(entityDeathEvent.getEntity());
+    }
+
+    /**
+     * Spawns are never cancelled in this trial, as the trial spawners limit their own mobs.
+     * @param entitySpawnEvent The {@link EntitySpawnEvent}, either a {@link org.bukkit.event.entity.SpawnerSpawnEvent} or a {@link org.bukkit.event.entity.TrialSpawnerSpawnEvent}.
+     * @return false
+     */
+    @Override
+    public boolean shouldCancelEntitySpawn(@NotNull EntitySpawnEvent entitySpawnEvent) {
+        return false;
+    }
 
     /**
-     * This method is unused for this trial and does nothing.
+     * Tracks the entity spawned so it can be removed when the trial ends.
+     * @param entitySpawnEvent The {@link EntitySpawnEvent}, either a {@link org.bukkit.event.entity.SpawnerSpawnEvent} or a {@link org.bukkit.event.entity.TrialSpawnerSpawnEvent}.
      */
     @Override
-    public void handleEntitySpawn(@NotNull SpawnerSpawnEvent spawnerSpawnEvent) {}
+    public void handleEntitySpawn(@NotNull EntitySpawnEvent entitySpawnEvent) {
+        entityRegistry.track(entitySpawnEvent.getEntity());
+        trialMetrics.incrementMobsSpawned();
+    }
 
     /**
-     * This method is unused for this trial and does nothing.
+     * Potion effects are never blocked in this trial.
+     * @param entityPotionEffectEvent An {@link EntityPotionEffectEvent}.
+     * @return false
      */
     @Override
-    public void handleEntityPotionEffect(@NotNull EntityPotionEffectEvent entityPotionEffectEvent) {}
+    public boolean shouldCancelEntityPotionEffect(@NotNull EntityPotionEffectEvent entityPotionEffectEvent) {
+        return false;
+    }
+
+    /**
+     * Journals the original {@link BlockData} of blocks changed while the trial is active so they can be reverted when the trial ends.
+     * @param blockChanges A {@link Map} of each changed {@link Block} to its {@link BlockData} from before the change.
+     */
+    @Override
+    public void handleBlockChanges(@NotNull Map<Block, BlockData> blockChanges) {
+        if(!status || blockJournal == null) return;
+
+        blockChanges.forEach(blockJournal::record);
+    }
 
     /**
      * If the trial has a time limit, decrement the time by one and update the boss bar.
@@ -614,26 +744,65 @@ public class ChamberTrial extends AbstractTrial {
         return playerStatuses.keySet().stream().toList();
     }
 
+    /**
+     * Checks if the trial has started.
+     * @return true if started, otherwise false.
+     */
+    @Override
+    public boolean isStarted() {
+        return status || preparing;
+    }
+
+    /**
+     * Checks if the trial has no players in it.
+     * @return true if empty, otherwise false.
+     */
+    @Override
+    public boolean isEmpty() {
+        return playerStatuses.isEmpty();
+    }
+
+    /**
+     * Checks if the trial's arena is still being restored from the last run.
+     * @return true if the arena is being restored, otherwise false.
+     */
+    @Override
+    public boolean isRestoring() {
+        return arenaSnapshot.isRestoring();
+    }
+
+    /**
+     * Get the {@link TrialMetrics} recorded for the trial.
+     * @return The {@link TrialMetrics}.
+     */
+    @Override
+    public @NotNull TrialMetrics getTrialMetrics() {
+        return trialMetrics;
+    }
+
     /**
      * Place the blocks in the trial.
      */
     @Override
     public void placeBlocks() {
-        spawnerManager.placeTrialSpawners(trialData.trialSpawnerConfigList(), playerStatuses.size());
-        vaultManager.placeVaultBlocks(trialData.vaultConfigList());
+        long startTime = System.nanoTime();
+
+        spawnerManager.placeTrialSpawners(trialSpawnerPlacements, playerStatuses.size());
+        vaultManager.placeVaultBlocks(vaultPlacements);
+
+        trialMetrics.recordTime(TrialOperation.PLACE_BLOCKS, System.nanoTime() - startTime);
     }
 
     /**
-     * Remove all non-player entities from the trial.
+     * Remove all entities spawned for the trial.
      */
     @Override
     protected void removeEntities() {
-        List<Entity> entityList = trialData.trialWorld().getEntities().stream()
-                .filter(entity -> trialData.trialRegion().contains(entity.getLocation().getBlockX(), entity.getLocation().getBlockY(), entity.getLocation().getBlockZ()))
-                .filter(entity -> !(entity instanceof Player))
-                .toList();
+        long startTime = System.nanoTime();
+
+        entityRegistry.removeTrackedEntities();
 
-        entityList.forEach(Entity::remove);
+        trialMetrics.recordTime(TrialOperation.REMOVE_ENTITIES, System.nanoTime() - startTime);
     }
 
     /**
@@ -641,8 +810,15 @@ public class ChamberTrial extends AbstractTrial {
      */
     @Override
     public void removeBlocks() {
-        spawnerManager.removeTrialSpawners(trialData.trialSpawnerConfigList());
-        vaultManager.removeVaultBlocks(trialData.vaultConfigList());
+        long startTime = System.nanoTime();
+
+        // Revert block changes first, as reverting a broken trial spawner or vault would place it again
+        if(blockJournal != null) blockJournal.rollback();
+
+        spawnerManager.removeTrialSpawners(trialSpawnerPlacements);
+        vaultManager.removeVaultBlocks(vaultPlacements);
+
+        trialMetrics.recordTime(TrialOperation.REMOVE_BLOCKS, System.nanoTime() - startTime);
     }
 
     /**
@@ -658,29 +834,14 @@ public class ChamberTrial extends AbstractTrial {
     }
 
     /**
-     * Update the boss bar shown to the players.
+     * Update the values shown on the boss bar. The boss bar is rendered on the next tick if any value changed.
      */
     private void updateBossBar() {
         if(status) {
-            ChamberTrialData.TrialBossBarData trialBossBarData = trialData.trialBossBar();
-
-            if(remainingTimeSeconds != -1) {
-                @NotNull String timeMessage = localeManager.getTimeMessage(remainingTimeSeconds);
-                List<TagResolver.Single> placeholders = List.of(Placeholder.parsed("time", timeMessage));
-
-                bossBar.name(AdventureUtil.serialize(trialBossBarData.timeLimitText(), placeholders));
-            } else {
-                bossBar.name(AdventureUtil.serialize(trialBossBarData.noTimeLimitText()));
-            }
+            bossBarRenderer.setTime(remainingTimeSeconds);
         } else {
-            ChamberTrialData.LobbyBossBarData lobbyBossBarData = trialData.lobbyBossBar();
-
-            List<TagResolver.Single> placeholders = List.of(
-                    Placeholder.parsed("ready_count",
-                            String.valueOf(playerStatuses.entrySet().stream().filter(Map.Entry::getValue).count())),
-                    Placeholder.parsed("player_count", String.valueOf(playerStatuses.size())));
-
-            bossBar.name(AdventureUtil.serialize(lobbyBossBarData.bossBarText(), placeholders));
+            bossBarRenderer.setValue("ready_count", playerStatuses.entrySet().stream().filter(Map.Entry::getValue).count());
+            bossBarRenderer.setValue("player_count", playerStatuses.size());
         }
     }
 }
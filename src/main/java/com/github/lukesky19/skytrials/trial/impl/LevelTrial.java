@@ -21,31 +21,51 @@ import com.github.lukesky19.skylib.api.adventure.AdventureUtil;
 import com.github.lukesky19.skylib.api.placeholderapi.PlaceholderAPIUtil;
 import com.github.lukesky19.skylib.api.player.PlayerUtil;
 import com.github.lukesky19.skytrials.SkyTrials;
+import com.github.lukesky19.skytrials.manager.broadcast.BroadcastManager;
+import com.github.lukesky19.skytrials.manager.load.LoadController;
 import com.github.lukesky19.skytrials.manager.locale.LocaleManager;
-import com.github.lukesky19.skytrials.data.config.locale.Locale;
+import com.github.lukesky19.skytrials.manager.locale.LocaleMessage;
+import com.github.lukesky19.skytrials.manager.locale.MessageTemplate;
+import com.github.lukesky19.skytrials.manager.metrics.MetricsManager;
+import com.github.lukesky19.skytrials.manager.metrics.TrialMetrics;
 import com.github.lukesky19.skytrials.data.trial.LevelTrialData;
+import com.github.lukesky19.skytrials.data.trial.RestoreData;
 import com.github.lukesky19.skytrials.manager.entity.EntityManager;
+import com.github.lukesky19.skytrials.manager.entity.SpawnGovernor;
 import com.github.lukesky19.skytrials.manager.player.CooldownManager;
 import com.github.lukesky19.skytrials.manager.player.GracePeriodManager;
+import com.github.lukesky19.skytrials.manager.task.SchedulerTask;
+import com.github.lukesky19.skytrials.manager.task.TaskScheduler;
+import com.github.lukesky19.skytrials.manager.trial.ChunkTicketRegistry;
+import com.github.lukesky19.skytrials.manager.trial.TrialPlayerIndex;
 import com.github.lukesky19.skytrials.trial.AbstractTrial;
+import com.github.lukesky19.skytrials.trial.TrialArenaSnapshot;
+import com.github.lukesky19.skytrials.trial.TrialArenaTemplate;
+import com.github.lukesky19.skytrials.trial.TrialBlockJournal;
+import com.github.lukesky19.skytrials.trial.TrialBossBarRenderer;
+import com.github.lukesky19.skytrials.trial.TrialChunkLoader;
+import com.github.lukesky19.skytrials.trial.TrialEntityRegistry;
+import com.github.lukesky19.skytrials.util.MobSpawnMode;
+import com.github.lukesky19.skytrials.util.RestoreMode;
 import com.github.lukesky19.skytrials.util.TrialEndReason;
-import com.google.common.collect.ImmutableList;
+import com.github.lukesky19.skytrials.util.TrialOperation;
 import com.sk89q.worldguard.protection.regions.ProtectedRegion;
 import net.kyori.adventure.bossbar.BossBar;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
 import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
 import org.bukkit.*;
+import org.bukkit.block.Block;
+import org.bukkit.block.data.BlockData;
 import org.bukkit.command.ConsoleCommandSender;
 import org.bukkit.entity.*;
 import org.bukkit.event.entity.EntityDeathEvent;
 import org.bukkit.event.entity.EntityPotionEffectEvent;
 import org.bukkit.event.entity.PlayerDeathEvent;
-import org.bukkit.event.entity.SpawnerSpawnEvent;
+import org.bukkit.event.entity.EntitySpawnEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nullable;
@@ -55,63 +75,137 @@ import java.util.*;
  * This class is used to create a level-based trial.
  */
 public class LevelTrial extends AbstractTrial {
+    private static final @NotNull Set<String> BOSS_BAR_PLACEHOLDERS = Set.of("mob_count", "mob_limit", "goal_count", "goal_limit", "time", "ready_count", "player_count");
+
     // Plugin Classes
     private final @NotNull SkyTrials skyTrials;
     private final @NotNull LocaleManager localeManager;
     private final @NotNull EntityManager entityManager;
+    private final @NotNull SpawnGovernor spawnGovernor;
+    private final @NotNull LoadController loadController;
     private final @NotNull CooldownManager cooldownManager;
     private final @NotNull GracePeriodManager gracePeriodManager;
+    private final @NotNull TrialPlayerIndex trialPlayerIndex;
+    private final @NotNull BroadcastManager broadcastManager;
+    private final @NotNull TaskScheduler taskScheduler;
+    private final @NotNull TrialMetrics trialMetrics;
 
     // Config Data
     private final @NotNull LevelTrialData trialData;
-    private LevelTrialData.LevelData levelData;
+    // Volatile as event listeners read the level's settings from other threads
+    private volatile LevelTrialData.LevelData levelData;
 
     // Controls whether the trial is started or not// Trial Status & timer
-    private boolean status = false;
+    // Volatile as the trial's pool checks it from other threads to find a free instance
+    private volatile boolean status = false;
+    // Whether the chunks used by the trial are being loaded before it starts
+    private volatile boolean preparing = false;
 
     // Trial time limit
     private int remainingTimeSeconds = -1;
 
     // Active Trial Data
     private int level = 0;
-    private int mobCount = 0;
-    private int mobLimit = -1;
+    // Volatile as spawner events check the mob limit from other threads
+    private volatile int mobCount = 0;
+    private volatile int mobLimit = -1;
     private int goalCount = 0;
     private int goalLimit = -1;
 
+    // Boss Bar
+    private final @NotNull TrialBossBarRenderer bossBarRenderer;
     private final @NotNull BossBar bossBar;
+    private final @NotNull MessageTemplate lobbyBossBarText;
+    private final @NotNull MessageTemplate trialBossBarText;
 
     // Player ready statuses
     private final @NotNull Map<Player, Boolean> playerStatuses = new HashMap<>();
 
+    // Entities spawned for the trial
+    private final @NotNull TrialEntityRegistry entityRegistry;
+    // Picks the mobs and spawn locations, seeded again for every run so a run can be reproduced from its seed
+    private @NotNull SplittableRandom spawnRandom = new SplittableRandom();
+
+    // The arena's blocks, restored after each run
+    private final @NotNull TrialArenaSnapshot arenaSnapshot;
+    // The blocks changed during a run or null if the trial doesn't journal block changes
+    private final @Nullable TrialBlockJournal blockJournal;
+
+    // The chunks used by the trial, held loaded during a run
+    private final @NotNull TrialChunkLoader chunkLoader;
+
     // Tasks
-    private @Nullable BukkitTask mobSpawnTask;
+    private @Nullable SchedulerTask mobSpawnTask;
+    // The runs of the mob spawn task owed a spawn request, which fall behind the task while the server is under load
+    private double mobSpawnCredit = 0;
+    // In refill mode, the task that waits for the start delay or the minimum interval between refills
+    private @Nullable SchedulerTask refillTask;
+    // Whether a refill was requested while the refill task was waiting
+    private boolean refillPending = false;
 
     /**
      * Constructor
      * @param skyTrials A {@link SkyTrials} instance.
      * @param localeManager A {@link LocaleManager} instance.
      * @param entityManager An {@link EntityManager} instance.
+     * @param spawnGovernor A {@link SpawnGovernor} instance.
      * @param cooldownManager A {@link CooldownManager} instance.
      * @param gracePeriodManager A {@link GracePeriodManager} instance.
+     * @param trialPlayerIndex A {@link TrialPlayerIndex} instance.
+     * @param chunkTicketRegistry A {@link ChunkTicketRegistry} instance.
+     * @param broadcastManager A {@link BroadcastManager} instance.
+     * @param metricsManager A {@link MetricsManager} instance.
+     * @param loadController A {@link LoadController} instance.
+     * @param taskScheduler A {@link TaskScheduler} instance.
+     * @param arenaTemplate The {@link TrialArenaTemplate} shared by every instance of the trial or null if the arena is not restored from a snapshot.
      * @param trialData The {@link LevelTrialData} for the trial.
      */
     public LevelTrial(
             @NotNull SkyTrials skyTrials,
             @NotNull LocaleManager localeManager,
             @NotNull EntityManager entityManager,
+            @NotNull SpawnGovernor spawnGovernor,
             @NotNull CooldownManager cooldownManager,
             @NotNull GracePeriodManager gracePeriodManager,
+            @NotNull TrialPlayerIndex trialPlayerIndex,
+            @NotNull ChunkTicketRegistry chunkTicketRegistry,
+            @NotNull BroadcastManager broadcastManager,
+            @NotNull MetricsManager metricsManager,
+            @NotNull LoadController loadController,
+            @NotNull TaskScheduler taskScheduler,
+            @Nullable TrialArenaTemplate arenaTemplate,
             @NotNull LevelTrialData trialData) {
         this.skyTrials = skyTrials;
         this.localeManager = localeManager;
         this.entityManager = entityManager;
+        this.spawnGovernor = spawnGovernor;
+        this.loadController = loadController;
         this.cooldownManager = cooldownManager;
         this.gracePeriodManager = gracePeriodManager;
+        this.trialPlayerIndex = trialPlayerIndex;
+        this.broadcastManager = broadcastManager;
+        this.taskScheduler = taskScheduler;
         this.trialData = trialData;
+        this.trialMetrics = metricsManager.getTrialMetrics(trialData.trialId());
+        this.entityRegistry = new TrialEntityRegistry(trialData.trialWorld(), trialData.trialRegion());
+        RestoreData restoreData = trialData.restoreData();
+        int snapshotBlocksPerTick = restoreData != null && restoreData.restoreMode() == RestoreMode.SNAPSHOT ? restoreData.blocksPerTick() : -1;
+        this.arenaSnapshot = new TrialArenaSnapshot(skyTrials, taskScheduler, trialMetrics, trialData.trialId(), trialData.trialWorld(), trialData.trialRegion(), getAnchorLocation(), arenaTemplate, snapshotBlocksPerTick);
+        this.blockJournal = restoreData != null && restoreData.restoreMode() == RestoreMode.JOURNAL ? new TrialBlockJournal(trialData.trialWorld(), trialData.trialRegion()) : null;
+
+        List<Location> chunkLocations = new ArrayList<>();
+        trialData.levels().forEach(level -> {
+            chunkLocations.add(level.startLocation());
+            level.mobSpawnList().forEach(mobSpawn -> chunkLocations.addAll(mobSpawn.spawnLocations()));
+        });
+        this.chunkLoader = new TrialChunkLoader(chunkTicketRegistry, trialData.trialWorld(), trialData.trialRegion(), chunkLocations);
 
         // Create the initial boss bar
-        bossBar = BossBar.bossBar(AdventureUtil.serialize(""), 1, trialData.lobbyBossBar().color(), trialData.lobbyBossBar().overlay());
+        lobbyBossBarText = new MessageTemplate(trialData.lobbyBossBar().bossBarText(), BOSS_BAR_PLACEHOLDERS);
+        trialBossBarText = new MessageTemplate(trialData.trialBossBar().bossBarText(), BOSS_BAR_PLACEHOLDERS);
+        bossBarRenderer = new TrialBossBarRenderer(skyTrials, localeManager, loadController, taskScheduler, getAnchorLocation(), trialData.lobbyBossBar().color(), trialData.lobbyBossBar().overlay());
+        bossBarRenderer.setStyle(lobbyBossBarText, trialData.lobbyBossBar().color(), trialData.lobbyBossBar().overlay());
+        bossBar = bossBarRenderer.getBossBar();
     }
 
     /**
@@ -121,11 +215,9 @@ public class LevelTrial extends AbstractTrial {
      */
     @Override
     public void join(@NotNull Player player, @NotNull UUID uuid) {
-        Locale locale = localeManager.getLocale();
-
         // If the trial has already started, send a message to the player that they can't join a trial that has already started.
-        if(status) {
-            player.sendMessage(AdventureUtil.serialize(locale.prefix() + locale.joinTrialInTrial()));
+        if(status || preparing) {
+            player.sendMessage(localeManager.getMessage(LocaleMessage.JOIN_TRIAL_IN_TRIAL));
             return;
         }
 
@@ -134,45 +226,73 @@ public class LevelTrial extends AbstractTrial {
         if(playerCooldown != null) {
             List<TagResolver.Single> placeholders = List.of(Placeholder.parsed("trial_id", trialData.trialId()), Placeholder.parsed("time", localeManager.getTimeMessage(playerCooldown)));
 
-            player.sendMessage(AdventureUtil.serialize(locale.prefix() + locale.trialOnCooldown(), placeholders));
-            player.sendMessage(AdventureUtil.serialize(player, locale.prefix() + locale.cooldownTime(), placeholders));
+            player.sendMessage(localeManager.getMessage(LocaleMessage.TRIAL_ON_COOLDOWN, placeholders));
+            player.sendMessage(localeManager.getMessage(LocaleMessage.COOLDOWN_TIME, player, placeholders));
 
             return;
         }
 
         // Add the player to the player statuses map
         playerStatuses.put(player, false);
+        trialPlayerIndex.addPlayer(uuid, this);
 
         // Teleport the player to the join area
         player.teleportAsync(trialData.joinLocation());
 
         // Send a message that to player that they joined the trial
         List<TagResolver.Single> placeholders = List.of(Placeholder.parsed("trial_id", trialData.trialId()), Placeholder.parsed("player_name", player.getName()));
-        player.sendMessage(AdventureUtil.serialize(locale.prefix() + locale.joinTrial(), placeholders));
-
-        // Get and filter online players
-        List<Player> onlinePlayers = ImmutableList.copyOf(skyTrials.getServer().getOnlinePlayers());
-        List<Player> filteredOnlinePlayers = onlinePlayers.stream().filter(onlinePlayer -> onlinePlayer.getUniqueId() != uuid).toList();
+        player.sendMessage(localeManager.getMessage(LocaleMessage.JOIN_TRIAL, placeholders));
 
         // Send a message to all players except the joining player that the player joined the trial
-        for(Player p : filteredOnlinePlayers) {
-            p.sendMessage(AdventureUtil.serialize(player,locale.prefix() + locale.playerJoinedTrial(), placeholders));
-        }
+        broadcastManager.broadcast(this, LocaleMessage.PLAYER_JOINED_TRIAL, player, placeholders, recipient -> !recipient.getUniqueId().equals(uuid));
     }
 
     /**
-     * Handles the actual starting of the trial.
+     * Prepares the trial to start by loading the chunks the trial uses asynchronously. The trial starts once they are loaded.
      */
     @Override
     public void start() {
-        Locale locale = localeManager.getLocale();
+        if(status || preparing) return;
+        preparing = true;
+
+        // Wait for the arena to be restored from the last run so the restore doesn't change the arena during this run.
+        // The restore releases the chunks it held before they are loaded again.
+        arenaSnapshot.whenRestored(this::loadChunks);
+    }
+
+    /**
+     * Loads the chunks the trial uses asynchronously and starts the run once they are loaded.
+     */
+    private void loadChunks() {
+        long startTime = System.nanoTime();
+        chunkLoader.load().whenComplete((unused, throwable) -> {
+            trialMetrics.recordTime(TrialOperation.LOAD_CHUNKS, System.nanoTime() - startTime);
+            taskScheduler.execute(getAnchorLocation(), this::startRun);
+        });
+    }
+
+    /**
+     * Handles the actual starting of the trial once its chunks are loaded.
+     */
+    private void startRun() {
+        // The trial ended or every player left while the chunks were loading
+        if(!preparing || playerStatuses.isEmpty()) {
+            preparing = false;
+            chunkLoader.release();
+            return;
+        }
 
         // Set the trial status to true
+        preparing = false;
         status = true;
+        long spawnSeed = trialData.spawnSeed() != null ? trialData.spawnSeed() : System.nanoTime();
+        spawnRandom = new SplittableRandom(spawnSeed);
+        skyTrials.getComponentLogger().info(AdventureUtil.serialize("Trial " + trialData.trialId() + " started with spawn seed " + spawnSeed + "."));
+        spawnGovernor.register(this);
+        trialMetrics.incrementRunsStarted();
 
-        // Update the boss bra color and overlay
-        bossBar.color(trialData.trialBossBar().color());
-        bossBar.overlay(trialData.trialBossBar().overlay());
+        // Update the boss bar text, color, and overlay
+        bossBarRenderer.setStyle(trialBossBarText, trialData.trialBossBar().color(), trialData.trialBossBar().overlay());
 
         // Get the first level's data.
         levelData = trialData.levels().getFirst();
@@ -182,20 +302,15 @@ public class LevelTrial extends AbstractTrial {
 
         // Send a message to all players in the trial that the trial is starting, teleport them to the start area, and show the boss bar.
         playerStatuses.keySet().forEach(player -> {
-            player.sendMessage(AdventureUtil.serialize(player,locale.prefix() + locale.startTrial(), placeholders));
+            player.sendMessage(localeManager.getMessage(LocaleMessage.START_TRIAL, player, placeholders));
 
             player.teleportAsync(levelData.startLocation());
 
             player.showBossBar(bossBar);
         });
 
-        // Get and filter online players
-        List<Player> onlinePlayers = ImmutableList.copyOf(skyTrials.getServer().getOnlinePlayers());
-        List<Player> filteredOnlinePlayers = onlinePlayers.stream().filter(onlinePlayer -> !playerStatuses.containsKey(onlinePlayer)).toList();
-
         // Send a message to all players except the players in the trial that the trial is starting
-        filteredOnlinePlayers.forEach(onlinePlayer ->
-                onlinePlayer.sendMessage(AdventureUtil.serialize(onlinePlayer,locale.prefix() + locale.broadcastTrialStart(), placeholders)));
+        broadcastManager.broadcast(this, LocaleMessage.BROADCAST_TRIAL_START, placeholders, recipient -> !playerStatuses.containsKey(recipient));
 
         // Update trial limits
         updateLimits();
@@ -216,8 +331,6 @@ public class LevelTrial extends AbstractTrial {
      */
     @Override
     public void leave(@NotNull Player player, @NotNull UUID uuid) {
-        Locale locale = localeManager.getLocale();
-
         // Create a list of placeholders
         List<TagResolver.Single> placeholders = new ArrayList<>();
         placeholders.add(Placeholder.parsed("trial_id", trialData.trialId()));
@@ -225,12 +338,13 @@ public class LevelTrial extends AbstractTrial {
 
         // Remove the player from the players in the trial
         playerStatuses.remove(player);
+        trialPlayerIndex.removePlayer(uuid, this);
 
         // Remove the boss bar
         player.hideBossBar(bossBar);
 
         // Send a message to the player leaving the trial that they have left the trial.
-        player.sendMessage(AdventureUtil.serialize(player,locale.prefix() + locale.leaveTrial(), placeholders));
+        player.sendMessage(localeManager.getMessage(LocaleMessage.LEAVE_TRIAL, player, placeholders));
 
         // If the trial is active, apply the cooldown if configured.
         if(status) {
@@ -242,7 +356,7 @@ public class LevelTrial extends AbstractTrial {
                 cooldownManager.addCooldown(uuid, trialData.trialId(), trialData.cooldownSeconds());
 
                 // Send a message to the player leaving the trial that they have left the trial with their cooldown.
-                player.sendMessage(AdventureUtil.serialize(player,locale.prefix() + locale.cooldownApplied(), placeholders));
+                player.sendMessage(localeManager.getMessage(LocaleMessage.COOLDOWN_APPLIED, player, placeholders));
             }
 
             if(playerStatuses.isEmpty()) {
@@ -255,33 +369,8 @@ public class LevelTrial extends AbstractTrial {
         // Teleport the player to the end location of the trial
         player.teleportAsync(trialData.endLocation());
 
-        // If the trial is active, apply the cooldown if configured.
-        if(status) {
-            // If a cooldown is configured, apply it and send a message with their cooldown.
-            if(trialData.cooldownSeconds() != -1) {
-                placeholders.add(Placeholder.parsed("time", localeManager.getTimeMessage(trialData.cooldownSeconds())));
-
-                // Add the cooldown for the player and trial.
-                cooldownManager.addCooldown(uuid, trialData.trialId(), trialData.cooldownSeconds());
-
-                // Send a message to the player leaving the trial that they have left the trial with their cooldown.
-                player.sendMessage(AdventureUtil.serialize(player,locale.prefix() + locale.cooldownApplied(), placeholders));
-            }
-
-            if(playerStatuses.isEmpty()) {
-                // Remove entities before teleporting the last player out
-                removeEntities();
-            }
-        }
-
-        // Get and filter online players
-        List<Player> onlinePlayers = ImmutableList.copyOf(skyTrials.getServer().getOnlinePlayers());
-        List<Player> filteredOnlinePlayers = onlinePlayers.stream().filter(onlinePlayer -> onlinePlayer.getUniqueId() != uuid).toList();
-
         // Send a message to all players except the leaving player that the player left the trial
-        for(Player p : filteredOnlinePlayers) {
-            p.sendMessage(AdventureUtil.serialize(player,locale.prefix() + locale.playerLeaveTrial(), placeholders));
-        }
+        broadcastManager.broadcast(this, LocaleMessage.PLAYER_LEAVE_TRIAL, player, placeholders, recipient -> !recipient.getUniqueId().equals(uuid));
 
         if(status) {
             // End the trial if there are no more players
@@ -301,7 +390,8 @@ public class LevelTrial extends AbstractTrial {
      */
     @Override
     public void end(@NotNull TrialEndReason trialEndReason) {
-        Locale locale = localeManager.getLocale();
+        // Idle trials are also ended on reloads, which aren't runs
+        if(status) trialMetrics.incrementRunsEnded(trialEndReason);
 
         // Stop the mob spawn task
         stopMobSpawnTask();
@@ -331,8 +421,8 @@ public class LevelTrial extends AbstractTrial {
                         cooldownManager.addCooldown(playerId, trialData.trialId(), trialData.cooldownSeconds());
 
                         // Send a trial end message and a message with the cooldown time
-                        player.sendMessage(AdventureUtil.serialize(player, locale.prefix() + locale.trialEnd(), placeholders));
-                        player.sendMessage(AdventureUtil.serialize(player,locale.prefix() + locale.cooldownApplied(), placeholders));
+                        player.sendMessage(localeManager.getMessage(LocaleMessage.TRIAL_END, player, placeholders));
+                        player.sendMessage(localeManager.getMessage(LocaleMessage.COOLDOWN_APPLIED, player, placeholders));
 
                         // Teleport the player to the end location and once that is complete, give end rewards if configured to do so
                         player.teleportAsync(trialData.endLocation()).whenComplete((b, t) -> {
@@ -350,7 +440,7 @@ public class LevelTrial extends AbstractTrial {
                         if(levelData.clearEffectsOnLevelEnd()) player.clearActivePotionEffects();
 
                         // Send a trial end message
-                        player.sendMessage(AdventureUtil.serialize(player, locale.prefix() + locale.trialEnd()));
+                        player.sendMessage(localeManager.getMessage(LocaleMessage.TRIAL_END, player, List.of()));
 
                         // Teleport the player to the end location and once that is complete, give end rewards if configured to do so
                         player.teleportAsync(trialData.endLocation()).whenComplete((b, t) -> {
@@ -365,9 +455,7 @@ public class LevelTrial extends AbstractTrial {
                 }
 
                 List<TagResolver.Single> placeholders = List.of(Placeholder.parsed("trial_id", trialData.trialId()));
-                for(Player player : skyTrials.getServer().getOnlinePlayers()) {
-                    player.sendMessage(AdventureUtil.serialize(player, locale.prefix() + locale.broadcastTrialEnd(), placeholders));
-                }
+                broadcastManager.broadcast(this, LocaleMessage.BROADCAST_TRIAL_END, placeholders, recipient -> true);
             }
 
             case COMPLETED -> {
@@ -391,8 +479,8 @@ public class LevelTrial extends AbstractTrial {
                         cooldownManager.addCooldown(playerId, trialData.trialId(), trialData.cooldownSeconds());
 
                         // Send a trial end message and a message with the cooldown time
-                        player.sendMessage(AdventureUtil.serialize(player, locale.prefix() + locale.trialEnd(), placeholders));
-                        player.sendMessage(AdventureUtil.serialize(player,locale.prefix() + locale.cooldownApplied(), placeholders));
+                        player.sendMessage(localeManager.getMessage(LocaleMessage.TRIAL_END, player, placeholders));
+                        player.sendMessage(localeManager.getMessage(LocaleMessage.COOLDOWN_APPLIED, player, placeholders));
 
                         // Teleport the player to the end location and once that is complete, give trial end rewards and level end rewards
                         player.teleportAsync(trialData.endLocation()).whenComplete((b, t) -> {
@@ -407,7 +495,7 @@ public class LevelTrial extends AbstractTrial {
                 } else {
                     playerStatuses.keySet().forEach(player -> {
                         // Send a trial end message
-                        player.sendMessage(AdventureUtil.serialize(player, locale.prefix() + locale.trialEnd()));
+                        player.sendMessage(localeManager.getMessage(LocaleMessage.TRIAL_END, player, List.of()));
 
                         // Teleport the player to the end location and once that is complete, give trial end rewards and level end rewards
                         player.teleportAsync(trialData.endLocation()).whenComplete((b, t) -> {
@@ -421,9 +509,7 @@ public class LevelTrial extends AbstractTrial {
                 }
 
                 List<TagResolver.Single> placeholders = List.of(Placeholder.parsed("trial_id", trialData.trialId()));
-                for(Player player : skyTrials.getServer().getOnlinePlayers()) {
-                    player.sendMessage(AdventureUtil.serialize(player, locale.prefix() + locale.broadcastTrialEnd(), placeholders));
-                }
+                broadcastManager.broadcast(this, LocaleMessage.BROADCAST_TRIAL_END, placeholders, recipient -> true);
             }
 
             case EMPTY, DEATH -> {
@@ -435,9 +521,7 @@ public class LevelTrial extends AbstractTrial {
                 }
 
                 List<TagResolver.Single> placeholders = List.of(Placeholder.parsed("trial_id", trialData.trialId()));
-                for(Player player : skyTrials.getServer().getOnlinePlayers()) {
-                    player.sendMessage(AdventureUtil.serialize(player, locale.prefix() + locale.broadcastTrialEnd(), placeholders));
-                }
+                broadcastManager.broadcast(this, LocaleMessage.BROADCAST_TRIAL_END, placeholders, recipient -> true);
             }
 
             case RELOAD -> {
@@ -451,7 +535,7 @@ public class LevelTrial extends AbstractTrial {
                     if(levelData.clearEffectsOnLevelEnd()) player.clearActivePotionEffects();
 
                     // Send a trial end message
-                    player.sendMessage(AdventureUtil.serialize(player, locale.prefix() + locale.trialEnd(), placeholders));
+                    player.sendMessage(localeManager.getMessage(LocaleMessage.TRIAL_END, player, placeholders));
 
                     // Teleport the player to the end location
                     player.teleportAsync(trialData.endLocation());
@@ -462,6 +546,25 @@ public class LevelTrial extends AbstractTrial {
             }
         }
 
+        // Sweep the region's chunks for anything that was not tracked (drops, projectiles, etc.)
+        entityRegistry.removeEntitiesInRegion();
+
+        // Revert any block changes not already reverted when the trial's blocks were removed
+        if(blockJournal != null) blockJournal.rollback();
+
+        // Restore the arena after a run and let the trial's chunks unload once the restore is done, so the restore never runs on unloaded chunks.
+        // Reloads finish the restore right away, as the arena is captured again when the trials are recreated.
+        preparing = false;
+        if(status) {
+            arenaSnapshot.restore(chunkLoader::release);
+        } else {
+            chunkLoader.release();
+        }
+        if(trialEndReason == TrialEndReason.RELOAD) arenaSnapshot.finishRestore();
+
+        spawnGovernor.unregister(this);
+
+        playerStatuses.keySet().forEach(player -> trialPlayerIndex.removePlayer(player.getUniqueId(), this));
         playerStatuses.clear();
 
         mobLimit = -1;
@@ -474,8 +577,7 @@ public class LevelTrial extends AbstractTrial {
         status = false;
 
         // Reset boss bar back to lobby boss bar
-        bossBar.color(trialData.lobbyBossBar().color());
-        bossBar.overlay(trialData.lobbyBossBar().overlay());
+        bossBarRenderer.setStyle(lobbyBossBarText, trialData.lobbyBossBar().color(), trialData.lobbyBossBar().overlay());
         updateBossBar();
     }
 
@@ -500,10 +602,9 @@ public class LevelTrial extends AbstractTrial {
         updateLimits();
         updateBossBar();
 
-        Locale locale = localeManager.getLocale();
         List<TagResolver.Single> placeholders = List.of(Placeholder.parsed("current_level", String.valueOf(level)), Placeholder.parsed("max_level", String.valueOf(trialData.levels().size())));
         for(Player player : getPlayers()) {
-            player.sendMessage(AdventureUtil.serialize(player, locale.prefix() + locale.levelUp(), placeholders));
+            player.sendMessage(localeManager.getMessage(LocaleMessage.LEVEL_UP, player, placeholders));
 
             player.teleportAsync(levelData.startLocation());
         }
@@ -519,11 +620,15 @@ public class LevelTrial extends AbstractTrial {
      */
     @Override
     public void togglePlayerStatus(@NotNull Player player, @NotNull UUID uuid) {
-        Locale locale = localeManager.getLocale();
-
         // Send a message to the player if the trial is already started.
-        if(status) {
-            player.sendMessage(AdventureUtil.serialize(locale.prefix() + locale.startTrialActive()));
+        if(status || preparing) {
+            player.sendMessage(localeManager.getMessage(LocaleMessage.START_TRIAL_ACTIVE));
+            return;
+        }
+
+        // Trials with a queue start automatically once a party is placed into them
+        if(trialData.queueData() != null) {
+            player.sendMessage(localeManager.getMessage(LocaleMessage.READY_QUEUED_TRIAL));
             return;
         }
 
@@ -536,22 +641,22 @@ public class LevelTrial extends AbstractTrial {
 
         if(playerStatus) {
             // Send a message that the player is now ready to start the trial.
-            player.sendMessage(AdventureUtil.serialize(locale.prefix() + locale.ready()));
+            player.sendMessage(localeManager.getMessage(LocaleMessage.READY));
 
             // Send a message to all other players in the trial that the player is ready.
+            Component readyMessage = localeManager.getMessage(LocaleMessage.PLAYER_IS_READY, player, placeholders);
             playerStatuses.keySet().stream()
                     .filter(trialPlayer -> player.getUniqueId() != uuid)
-                    .forEach(trialPlayer ->
-                            trialPlayer.sendMessage(AdventureUtil.serialize(player, locale.prefix() + locale.playerIsReady(), placeholders)));
+                    .forEach(trialPlayer -> trialPlayer.sendMessage(readyMessage));
         } else {
             // Send a message that the player is no longer ready to start the trial.
-            player.sendMessage(AdventureUtil.serialize(locale.prefix() + locale.notReady()));
+            player.sendMessage(localeManager.getMessage(LocaleMessage.NOT_READY));
 
             // Send a message to all other players in the trial that the player is not ready.
+            Component notReadyMessage = localeManager.getMessage(LocaleMessage.PLAYER_IS_NOT_READY, player, placeholders);
             playerStatuses.keySet().stream()
                     .filter(trialPlayer -> player.getUniqueId() != uuid)
-                    .forEach(trialPlayer ->
-                            trialPlayer.sendMessage(AdventureUtil.serialize(player, locale.prefix() + locale.playerIsNotReady(), placeholders)));
+                    .forEach(trialPlayer -> trialPlayer.sendMessage(notReadyMessage));
         }
 
         // If all players are ready, start the trial
@@ -574,6 +679,7 @@ public class LevelTrial extends AbstractTrial {
             gracePeriodManager.removeGracePeriod(uuid, trialData.trialId());
 
             playerStatuses.put(player, true);
+            trialPlayerIndex.addPlayer(uuid, this);
 
             trialData.playerEffects().forEach(player::addPotionEffect);
             levelData.playerEffects().forEach(player::addPotionEffect);
@@ -611,6 +717,7 @@ public class LevelTrial extends AbstractTrial {
         if(levelData.clearEffectsOnLevelEnd()) player.clearActivePotionEffects();
 
         playerStatuses.remove(player);
+        trialPlayerIndex.removePlayer(uuid, this);
 
         if(playerStatuses.isEmpty()) {
             // Remove blocks and entities
@@ -627,15 +734,9 @@ public class LevelTrial extends AbstractTrial {
      */
     @Override
     public void handlePlayerDeath(@NotNull PlayerDeathEvent playerDeathEvent) {
-        Locale locale = localeManager.getLocale();
         Player player = playerDeathEvent.getPlayer();
         UUID uuid = player.getUniqueId();
 
-        playerDeathEvent.setKeepInventory(true);
-        playerDeathEvent.setKeepLevel(true);
-        playerDeathEvent.getDrops().clear();
-        playerDeathEvent.setCancelled(true);
-
         if(trialData.clearEffectsOnTrialEnd()) player.clearActivePotionEffects();
         if(levelData.clearEffectsOnLevelEnd()) player.clearActivePotionEffects();
 
@@ -643,22 +744,15 @@ public class LevelTrial extends AbstractTrial {
         placeholders.add(Placeholder.parsed("trial_id", trialData.trialId()));
         placeholders.add(Placeholder.parsed("player_name", player.getName()));
 
-        // Send a message that a player died in a trial and fake their actual death message
+        // Fake the player's actual death message
         Component deathMessage = playerDeathEvent.deathMessage();
         if(deathMessage != null) {
-            for(Player p : skyTrials.getServer().getOnlinePlayers()) {
-                p.sendMessage(deathMessage);
-
-                p.sendMessage(AdventureUtil.serialize(player, locale.prefix() + locale.playerDiedInTrial(), placeholders));
-            }
-        } else {
-            for(Player p : skyTrials.getServer().getOnlinePlayers()) {
-                p.sendMessage(AdventureUtil.serialize(player, locale.prefix() + locale.playerDiedInTrial(), placeholders));
-            }
+            broadcastManager.broadcast(this, deathMessage, recipient -> true);
         }
 
         // Remove the player from the players in the trial
         playerStatuses.remove(player);
+        trialPlayerIndex.removePlayer(uuid, this);
 
         // If the trial is active, apply the cooldown if configured.
 // If a cooldown is configured, apply it and send a message with their cooldown.
@@ -669,11 +763,11 @@ public class LevelTrial extends AbstractTrial {
             cooldownManager.addCooldown(uuid, trialData.trialId(), trialData.cooldownSeconds());
 
             // Send a message to the player who died in the trial with their cooldown.
-            player.sendMessage(AdventureUtil.serialize(player,locale.prefix() + locale.diedInTrial(), placeholders));
-            player.sendMessage(AdventureUtil.serialize(player,locale.prefix() + locale.cooldownApplied(), placeholders));
+            player.sendMessage(localeManager.getMessage(LocaleMessage.DIED_IN_TRIAL, player, placeholders));
+            player.sendMessage(localeManager.getMessage(LocaleMessage.COOLDOWN_APPLIED, player, placeholders));
         } else {
             // Send a message to the player who died in the trial
-            player.sendMessage(AdventureUtil.serialize(player,locale.prefix() + locale.diedInTrial(), placeholders));
+            player.sendMessage(localeManager.getMessage(LocaleMessage.DIED_IN_TRIAL, player, placeholders));
         }
 
         if(playerStatuses.isEmpty()) {
@@ -685,14 +779,8 @@ public class LevelTrial extends AbstractTrial {
         // Teleport the player to the end location of the trial
         player.teleportAsync(trialData.endLocation());
 
-        // Get and filter online players
-        List<Player> onlinePlayers = ImmutableList.copyOf(skyTrials.getServer().getOnlinePlayers());
-        List<Player> filteredOnlinePlayers = onlinePlayers.stream().filter(onlinePlayer -> onlinePlayer.getUniqueId() != uuid).toList();
-
-        // Send a message to all players except the player that died.
-        for(Player p : filteredOnlinePlayers) {
-            p.sendMessage(AdventureUtil.serialize(player,locale.prefix() + locale.playerDiedInTrial(), placeholders));
-        }
+        // Send a message to all players except the player that died that the player died in the trial.
+        broadcastManager.broadcast(this, LocaleMessage.PLAYER_DIED_IN_TRIAL, player, placeholders, recipient -> !recipient.getUniqueId().equals(uuid));
 
         if(status) {
             // End the trial if there are no more players
@@ -709,6 +797,9 @@ public class LevelTrial extends AbstractTrial {
      */
     @Override
     public void handleEntityDeath(@NotNull EntityDeathEvent entityDeathEvent) {
+        if(entityRegistry.isTracked(entityDeathEvent.getEntity())) trialMetrics.incrementMobsKilled();
+        entityRegistry.untrack(entityDeathEvent.getEntity());
+
         if(mobLimit == -1) return;
         if(goalLimit == -1) return;
         mobCount--;
@@ -720,42 +811,71 @@ public class LevelTrial extends AbstractTrial {
             this.end(TrialEndReason.COMPLETED);
         } else if(goalCount >= goalLimit){
             this.levelUp();
+        } else if(levelData.mobSpawnMode() == MobSpawnMode.REFILL) {
+            requestRefill();
         }
     }
 
     /**
      * This handles when an entity spawns and updates the counters and boss bar.
-     * @param spawnerSpawnEvent A {@link SpawnerSpawnEvent}.
+     * @param entitySpawnEvent The {@link EntitySpawnEvent}, either a {@link org.bukkit.event.entity.SpawnerSpawnEvent} or a {@link org.bukkit.event.entity.TrialSpawnerSpawnEvent}.
      */
     @Override
-    public void handleEntitySpawn(@NotNull SpawnerSpawnEvent spawnerSpawnEvent) {
-        if(mobCount >= mobLimit) {
-            spawnerSpawnEvent.setCancelled(true);
-        } else {
-            mobCount++;
+    public void handleEntitySpawn(@NotNull EntitySpawnEvent entitySpawnEvent) {
+        Entity entity = entitySpawnEvent.getEntity();
 
-            updateBossBar();
+        // The mob limit was reached after the spawn was allowed and the event can no longer be cancelled, so remove the entity instead
+        if(mobCount >= mobLimit) {
+            taskScheduler.executeForEntity(entity, entity::remove);
+            return;
         }
+
+        entityRegistry.track(entity);
+        trialMetrics.incrementMobsSpawned();
+        mobCount++;
+
+        updateBossBar();
+    }
+
+    /**
+     * Cancels spawner spawns once the trial's mob limit is reached.
+     * @param entitySpawnEvent The {@link EntitySpawnEvent}, either a {@link org.bukkit.event.entity.SpawnerSpawnEvent} or a {@link org.bukkit.event.entity.TrialSpawnerSpawnEvent}.
+     * @return true if the mob limit is reached, otherwise false.
+     */
+    @Override
+    public boolean shouldCancelEntitySpawn(@NotNull EntitySpawnEvent entitySpawnEvent) {
+        return mobCount >= mobLimit;
     }
 
     /**
-     * Handles when a Player removes a potion effect through milk and cancels it if effect removal via milk is not allowed.
+     * Checks if a Player is removing a potion effect through milk while effect removal via milk is not allowed.
      * @param entityPotionEffectEvent An {@link EntityPotionEffectEvent}.
+     * @return true if the removal must be cancelled, otherwise false.
      */
     @Override
-    public void handleEntityPotionEffect(@NotNull EntityPotionEffectEvent entityPotionEffectEvent) {
-        Entity entity = entityPotionEffectEvent.getEntity();
-        if(entity instanceof Player) {
-            if(entityPotionEffectEvent.getCause().equals(EntityPotionEffectEvent.Cause.MILK)) {
-                if(!levelData.allowMilkEffectRemoval()) {
-                    entityPotionEffectEvent.setCancelled(true);
-                }
-            }
-        }
+    public boolean shouldCancelEntityPotionEffect(@NotNull EntityPotionEffectEvent entityPotionEffectEvent) {
+        LevelTrialData.LevelData currentLevelData = levelData;
+        if(currentLevelData == null) return false;
+
+        return entityPotionEffectEvent.getEntity() instanceof Player
+                && entityPotionEffectEvent.getCause().equals(EntityPotionEffectEvent.Cause.MILK)
+                && !currentLevelData.allowMilkEffectRemoval();
+    }
+
+    /**
+     * Journals the original {@link BlockData} of blocks changed while the trial is active so they can be reverted when the trial ends.
+     * @param blockChanges A {@link Map} of each changed {@link Block} to its {@link BlockData} from before the change.
+     */
+    @Override
+    public void handleBlockChanges(@NotNull Map<Block, BlockData> blockChanges) {
+        if(!status || blockJournal == null) return;
+
+        blockChanges.forEach(blockJournal::record);
     }
 
     /**
      * If the trial has a time limit, decrement the time by one and update the boss bar.
+     * In refill mode, this also checks that the level is being refilled up to its mob limit.
      */
     @Override
     public void decrementTime() {
@@ -763,8 +883,13 @@ public class LevelTrial extends AbstractTrial {
             remainingTimeSeconds--;
             updateBossBar();
 
-            if(remainingTimeSeconds <= 0) end(TrialEndReason.TIMEOUT);
+            if(remainingTimeSeconds <= 0) {
+                end(TrialEndReason.TIMEOUT);
+                return;
+            }
         }
+
+        checkRefill();
     }
 
     /**
@@ -803,6 +928,42 @@ public class LevelTrial extends AbstractTrial {
         return playerStatuses.keySet().stream().toList();
     }
 
+    /**
+     * Checks if the trial has started.
+     * @return true if started, otherwise false.
+     */
+    @Override
+    public boolean isStarted() {
+        return status || preparing;
+    }
+
+    /**
+     * Checks if the trial has no players in it.
+     * @return true if empty, otherwise false.
+     */
+    @Override
+    public boolean isEmpty() {
+        return playerStatuses.isEmpty();
+    }
+
+    /**
+     * Checks if the trial's arena is still being restored from the last run.
+     * @return true if the arena is being restored, otherwise false.
+     */
+    @Override
+    public boolean isRestoring() {
+        return arenaSnapshot.isRestoring();
+    }
+
+    /**
+     * Get the {@link TrialMetrics} recorded for the trial.
+     * @return The {@link TrialMetrics}.
+     */
+    @Override
+    public @NotNull TrialMetrics getTrialMetrics() {
+        return trialMetrics;
+    }
+
     /**
      * This trial doesn't place blocks so this method does nothing.
      */
@@ -816,16 +977,24 @@ public class LevelTrial extends AbstractTrial {
     public void removeBlocks() {}
 
     /**
-     * Remove all non-player entities from the trial.
+     * Remove all entities spawned for the trial.
      */
     @Override
     protected void removeEntities() {
-        List<Entity> entityList = trialData.trialWorld().getEntities().stream()
-                .filter(entity -> trialData.trialRegion().contains(entity.getLocation().getBlockX(), entity.getLocation().getBlockY(), entity.getLocation().getBlockZ()))
-                .filter(entity -> !(entity instanceof Player))
-                .toList();
+        long startTime = System.nanoTime();
 
-        entityList.forEach(Entity::remove);
+        entityRegistry.removeTrackedEntities();
+
+        trialMetrics.recordTime(TrialOperation.REMOVE_ENTITIES, System.nanoTime() - startTime);
+    }
+
+    /**
+     * Tracks an entity spawned for the trial so it can be removed later.
+     * @param entity The {@link Entity} that was spawned.
+     */
+    public void trackEntity(@NotNull Entity entity) {
+        entityRegistry.track(entity);
+        trialMetrics.incrementMobsSpawned();
     }
 
     /**
@@ -838,40 +1007,144 @@ public class LevelTrial extends AbstractTrial {
     }
 
     /**
-     * Start the task to spawn mobs.
+     * Start the task to spawn mobs. In refill mode, this only waits for the start delay before the level is first filled.
      */
     private void startMobSpawnTask() {
+        if(levelData.mobSpawnMode() == MobSpawnMode.REFILL) {
+            if(levelData.mobSpawnStartDelay() == -1) return;
+
+            // The level is filled once the start delay has passed, after that mobs are only spawned when mobs are killed
+            refillPending = true;
+            refillTask = taskScheduler.runAtLocationLater(getAnchorLocation(), this::finishRefillWait, levelData.mobSpawnStartDelay() * 20L);
+            return;
+        }
+
         if(levelData.mobSpawnStartDelay() == -1 || levelData.mobSpawnFrequencySeconds() == -1) return;
 
-        mobSpawnTask = skyTrials.getServer().getScheduler().runTaskTimer(skyTrials, () -> {
-            if(mobLimit != -1) {
-                for(int i = 0; i <= levelData.spawnCount(); i++) {
-                    if(mobCount < mobLimit) {
-                        entityManager.spawnEntity(this, levelData.mobSpawnList(), this.getPlayerIds().size());
-
-                        this.updateBossBar();
-                    } else {
-                        return;
-                    }
-                }
-            } else {
-                for(int i = 0; i <= levelData.spawnCount(); i++) {
-                    entityManager.spawnEntity(this, levelData.mobSpawnList(), this.getPlayerIds().size());
+        mobSpawnCredit = 0;
 
-                    this.updateBossBar();
-                }
-            }
+        // The spawns are requested from the spawn governor, which spreads them over the following ticks
+        mobSpawnTask = taskScheduler.runAtLocationTimer(getAnchorLocation(), () -> {
+            // Under load, only some runs request spawns
+            mobSpawnCredit += loadController.getLoadLevel().getSpawnFrequencyScale();
+            if(mobSpawnCredit < 1) return;
+            mobSpawnCredit -= 1;
+
+            spawnGovernor.requestSpawns(this, getSpawnCount());
         }, levelData.mobSpawnStartDelay() * 20L, levelData.mobSpawnFrequencySeconds() * 20L);
     }
 
     /**
-     * Stop the task that spawns mobs.
+     * Requests spawns to refill the level up to its mob limit in refill mode.
+     * If the level is waiting for the start delay or the minimum interval since the last refill, the refill happens once the wait ends.
+     */
+    private void requestRefill() {
+        if(refillTask != null) {
+            refillPending = true;
+            return;
+        }
+
+        if(mobLimit == -1 || mobCount >= mobLimit) return;
+
+        spawnGovernor.requestSpawns(this, mobLimit - mobCount);
+
+        long refillIntervalTicks = getRefillIntervalTicks();
+        if(refillIntervalTicks > 0) {
+            refillTask = taskScheduler.runAtLocationLater(getAnchorLocation(), this::finishRefillWait, refillIntervalTicks);
+        }
+    }
+
+    /**
+     * Requests a refill if the level is below its mob limit and has no spawns waiting to be granted.
+     * Refills are otherwise only requested when a mob dies, so a spawn that failed or was cancelled would leave the level short of mobs.
+     */
+    private void checkRefill() {
+        if(!status || levelData == null || levelData.mobSpawnMode() != MobSpawnMode.REFILL) return;
+        // Spawning is disabled for the level
+        if(levelData.mobSpawnStartDelay() == -1) return;
+        if(mobLimit == -1 || mobCount >= mobLimit) return;
+        if(spawnGovernor.hasPendingSpawns(this)) return;
+
+        requestRefill();
+    }
+
+    /**
+     * Ends the wait before the next refill and refills the level if a refill was requested while waiting.
+     */
+    private void finishRefillWait() {
+        refillTask = null;
+        if(!status || !refillPending) return;
+
+        refillPending = false;
+        requestRefill();
+    }
+
+    /**
+     * Get the minimum number of ticks between refills for the current level. Under load, the interval is stretched by the spawn frequency scale.
+     * @return The number of ticks or -1 if there is no minimum interval.
+     */
+    private long getRefillIntervalTicks() {
+        if(levelData.minRefillIntervalTicks() == -1) return -1;
+
+        return Math.round(levelData.minRefillIntervalTicks() / loadController.getLoadLevel().getSpawnFrequencyScale());
+    }
+
+    /**
+     * Get the number of mobs to spawn each time the mob spawn task runs for the current level.
+     * Under load this is scaled down, but at least 1 mob is spawned if any are configured.
+     * @return The number of mobs to spawn.
+     */
+    private int getSpawnCount() {
+        if(levelData.spawnCount() == -1) return 0;
+
+        int spawnCount = levelData.spawnCount();
+        if(levelData.additionalSpawnCountPerPlayer() != -1) {
+            spawnCount += levelData.additionalSpawnCountPerPlayer() * playerStatuses.size();
+        }
+        if(spawnCount <= 0) return 0;
+
+        return Math.max(1, (int) Math.round(spawnCount * loadController.getLoadLevel().getSpawnBatchScale()));
+    }
+
+    /**
+     * Spawns mobs granted by the {@link SpawnGovernor}. Stops early if the trial's mob limit is reached.
+     * @param count The number of mobs to spawn.
+     */
+    public void spawnMobs(int count) {
+        // The trial may have ended since the spawns were requested
+        if(!status || levelData == null) return;
+
+        for(int i = 0; i < count; i++) {
+            if(mobLimit != -1 && mobCount >= mobLimit) return;
+
+            entityManager.spawnEntity(this, levelData, playerStatuses.size(), spawnRandom);
+        }
+    }
+
+    /**
+     * Get the number of live mobs spawned for the trial.
+     * @return The number of live mobs.
+     */
+    public int getLiveMobCount() {
+        return entityRegistry.size();
+    }
+
+    /**
+     * Stop the tasks that spawn mobs.
      */
     private void stopMobSpawnTask() {
         if(mobSpawnTask != null && !mobSpawnTask.isCancelled()) {
             mobSpawnTask.cancel();
             mobSpawnTask = null;
         }
+
+        if(refillTask != null && !refillTask.isCancelled()) {
+            refillTask.cancel();
+        }
+        refillTask = null;
+        refillPending = false;
+
+        spawnGovernor.cancelSpawns(this);
     }
 
     /**
@@ -912,45 +1185,31 @@ public class LevelTrial extends AbstractTrial {
     }
 
     /**
-     * Update the boss bar shown to the players.
+     * Update the values shown on the boss bar. The boss bar is rendered on the next tick if any value changed.
      */
     private void updateBossBar() {
         if(status) {
-            LevelTrialData.BossBarData bossBarData = trialData.trialBossBar();
-
-            List<TagResolver.Single> placeholders = new ArrayList<>();
             if(mobLimit != -1) {
-                placeholders.add(Placeholder.parsed("mob_count", String.valueOf(mobCount)));
-                placeholders.add(Placeholder.parsed("mob_limit", String.valueOf(mobLimit)));
-            }
-            if(goalLimit != -1) {
-                placeholders.add(Placeholder.parsed("goal_count", String.valueOf(goalCount)));
-                placeholders.add(Placeholder.parsed("goal_limit", String.valueOf(goalLimit)));
-            }
-
-            if(remainingTimeSeconds != -1) {
-                @NotNull String timeMessage = localeManager.getTimeMessage(remainingTimeSeconds);
-                placeholders.add(Placeholder.parsed("time", timeMessage));
+                bossBarRenderer.setValue("mob_count", mobCount);
+                bossBarRenderer.setValue("mob_limit", mobLimit);
+            } else {
+                bossBarRenderer.removeValue("mob_count");
+                bossBarRenderer.removeValue("mob_limit");
             }
 
-            int timeValue = 0;
-            if(remainingTimeSeconds != -1) {
-                timeValue = remainingTimeSeconds;
+            if(goalLimit != -1) {
+                bossBarRenderer.setValue("goal_count", goalCount);
+                bossBarRenderer.setValue("goal_limit", goalLimit);
+            } else {
+                bossBarRenderer.removeValue("goal_count");
+                bossBarRenderer.removeValue("goal_limit");
             }
 
-            @NotNull String timeMessage = localeManager.getTimeMessage(timeValue);
-            placeholders.add(Placeholder.parsed("time", timeMessage));
-
-            bossBar.name(AdventureUtil.serialize(bossBarData.bossBarText(), placeholders));
+            // Trials without a time limit show a time of 0
+            bossBarRenderer.setTime(remainingTimeSeconds != -1 ? remainingTimeSeconds : 0);
         } else {
-            LevelTrialData.BossBarData lobbyBossBarData = trialData.lobbyBossBar();
-
-            List<TagResolver.Single> placeholders = List.of(
-                    Placeholder.parsed("ready_count",
-                            String.valueOf(playerStatuses.entrySet().stream().filter(Map.Entry::getValue).count())),
-                    Placeholder.parsed("player_count", String.valueOf(playerStatuses.size())));
-
-            bossBar.name(AdventureUtil.serialize(lobbyBossBarData.bossBarText(), placeholders));
+            bossBarRenderer.setValue("ready_count", playerStatuses.entrySet().stream().filter(Map.Entry::getValue).count());
+            bossBarRenderer.setValue("player_count", playerStatuses.size());
         }
     }
 
@@ -972,12 +1231,16 @@ public class LevelTrial extends AbstractTrial {
     private void givePlayerRewards(@NotNull Player player, @NotNull List<ItemStack> rewardItems, @NotNull List<String> rewardCommands) {
         ConsoleCommandSender commandSender = skyTrials.getServer().getConsoleSender();
 
-        for(ItemStack itemStack : rewardItems) {
-            PlayerUtil.giveItem(player.getInventory(), itemStack, itemStack.getAmount(), player.getLocation());
-        }
+        // The player's inventory belongs to the player's thread and console commands run on the global region thread
+        taskScheduler.executeForEntity(player, () -> {
+            for(ItemStack itemStack : rewardItems) {
+                PlayerUtil.giveItem(player.getInventory(), itemStack, itemStack.getAmount(), player.getLocation());
+            }
+        });
 
         for(String cmd : rewardCommands) {
-            skyTrials.getServer().dispatchCommand(commandSender, PlaceholderAPIUtil.parsePlaceholders(player, cmd));
+            String parsedCommand = PlaceholderAPIUtil.parsePlaceholders(player, cmd);
+            taskScheduler.executeGlobal(() -> skyTrials.getServer().dispatchCommand(commandSender, parsedCommand));
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,130 @@
+/*
+    SkyTrials is a plugin that offers different challenges or trials to tackle. Inspired by the Minecraft Trial Chambers and mob arenas.
+    Copyright (C) 2024 lukeskywlker19
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.github.lukesky19.skytrials.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * This class picks an index at random with a probability proportional to its weight, using Vose's alias method.
+ * The table is built once in O(n), after which each pick takes O(1) time, makes no allocations, and uses two random numbers.
+ * Picks are made with the {@link RandomGenerator} provided, so a seeded generator gives the same picks every time.
+ */
+public final class AliasTable {
+    // The chance of keeping each column's own index instead of its alias
+    private final double[] probabilities;
+    // The index picked for each column when its own index is not kept
+    private final int[] aliases;
+
+    /**
+     * Constructor
+     * @param weights The weight of each index. Must not be empty and every weight must be positive and finite.
+     * @throws IllegalArgumentException If the weights are empty or any weight is not positive and finite.
+     */
+    public AliasTable(double[] weights) {
+        int size = weights.length;
+        if(size == 0) throw new IllegalArgumentException("An alias table needs at least one weight.");
+
+        double sum = 0;
+        for(double weight : weights) {
+            if(!(weight > 0) || Double.isInfinite(weight)) throw new IllegalArgumentException("Alias table weights must be positive and finite.");
+            sum += weight;
+        }
+
+        probabilities = new double[size];
+        aliases = new int[size];
+
+        // Scale the weights so the average is 1, then split them into columns below and above the average
+        double[] scaled = new double[size];
+        int[] small = new int[size];
+        int[] large = new int[size];
+        int smallCount = 0;
+        int largeCount = 0;
+        for(int i = 0; i < size; i++) {
+            scaled[i] = (weights[i] * size) / sum;
+
+            if(scaled[i] < 1D) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        // Fill each column below the average with part of a column above it
+        while(smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+
+            probabilities[less] = scaled[less];
+            aliases[less] = more;
+
+            scaled[more] = (scaled[more] + scaled[less]) - 1D;
+            if(scaled[more] < 1D) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+
+        // Any columns left over are full, apart from floating point error
+        while(largeCount > 0) {
+            int index = large[--largeCount];
+            probabilities[index] = 1D;
+            aliases[index] = index;
+        }
+
+        while(smallCount > 0) {
+            int index = small[--smallCount];
+            probabilities[index] = 1D;
+            aliases[index] = index;
+        }
+    }
+
+    /**
+     * Creates an {@link AliasTable} where every index is equally likely.
+     * @param size The number of indexes. Must be at least 1.
+     * @return The {@link AliasTable}.
+     */
+    public static @NotNull AliasTable uniform(int size) {
+        double[] weights = new double[size];
+        Arrays.fill(weights, 1D);
+
+        return new AliasTable(weights);
+    }
+
+    /**
+     * Get the number of indexes that can be picked.
+     * @return The number of indexes.
+     */
+    public int size() {
+        return probabilities.length;
+    }
+
+    /**
+     * Picks an index at random.
+     * @param random The {@link RandomGenerator} to use.
+     * @return The index picked, from 0 to {@link #size()} - 1.
+     */
+    public int sample(@NotNull RandomGenerator random) {
+        int column = random.nextInt(probabilities.length);
+
+        return random.nextDouble() < probabilities[column] ? column : aliases[column];
+    }
+}
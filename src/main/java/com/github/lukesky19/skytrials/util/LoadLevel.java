@@ -0,0 +1,81 @@
+/*
+    SkyTrials is a plugin that offers different challenges or trials to tackle. Inspired by the Minecraft Trial Chambers and mob arenas.
+    Copyright (C) 2024 lukeskywlker19
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.github.lukesky19.skytrials.util;
+
+/**
+ * This enum is used to identify how far the plugin is scaling back its work because the server is behind.
+ * Each level reduces how often and how many mobs are spawned and how often boss bars are refreshed.
+ */
+public enum LoadLevel {
+    /**
+     * The server is keeping up, so everything runs at the configured rates.
+     */
+    NORMAL(1.0D, 1.0D, 1L),
+    /**
+     * The server is close to falling behind.
+     */
+    ELEVATED(0.75D, 0.75D, 5L),
+    /**
+     * The server is behind.
+     */
+    HIGH(0.5D, 0.5D, 10L),
+    /**
+     * The server is far behind.
+     */
+    CRITICAL(0.25D, 0.25D, 20L);
+
+    private final double spawnFrequencyScale;
+    private final double spawnBatchScale;
+    private final long bossBarRefreshTicks;
+
+    /**
+     * Constructor
+     * @param spawnFrequencyScale The fraction of mob spawn task runs that request spawns.
+     * @param spawnBatchScale The fraction of the configured spawn count requested each time.
+     * @param bossBarRefreshTicks The minimum number of ticks between boss bar renders.
+     */
+    LoadLevel(double spawnFrequencyScale, double spawnBatchScale, long bossBarRefreshTicks) {
+        this.spawnFrequencyScale = spawnFrequencyScale;
+        this.spawnBatchScale = spawnBatchScale;
+        this.bossBarRefreshTicks = bossBarRefreshTicks;
+    }
+
+    /**
+     * Get the fraction of mob spawn task runs that request spawns.
+     * @return The spawn frequency scale between 0 and 1.
+     */
+    public double getSpawnFrequencyScale() {
+        return spawnFrequencyScale;
+    }
+
+    /**
+     * Get the fraction of the configured spawn count requested each time.
+     * @return The spawn batch scale between 0 and 1.
+     */
+    public double getSpawnBatchScale() {
+        return spawnBatchScale;
+    }
+
+    /**
+     * Get the minimum number of ticks between boss bar renders.
+     * @return The number of ticks.
+     */
+    public long getBossBarRefreshTicks() {
+        return bossBarRefreshTicks;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+    SkyTrials is a plugin that offers different challenges or trials to tackle. Inspired by the Minecraft Trial Chambers and mob arenas.
+    Copyright (C) 2024 lukeskywlker19
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.github.lukesky19.skytrials.util;
+
+/**
+ * This enum is used to identify which part of a trial a recorded duration was spent in.
+ */
+public enum TrialOperation {
+    /**
+     * When a player attempts to join the trial.
+     */
+    JOIN,
+    /**
+     * When a player attempts to leave the trial.
+     */
+    LEAVE,
+    /**
+     * When a player toggles their ready status, which may start the trial.
+     */
+    TOGGLE_PLAYER_STATUS,
+    /**
+     * When the trial is started automatically for a party from its queue.
+     */
+    START,
+    /**
+     * When the chunks used by the trial are loaded before it starts. Measured until every chunk is loaded.
+     */
+    LOAD_CHUNKS,
+    /**
+     * When a player dies inside the trial.
+     */
+    PLAYER_DEATH,
+    /**
+     * When an entity dies inside the trial.
+     */
+    ENTITY_DEATH,
+    /**
+     * When a player joins the server inside the trial.
+     */
+    PLAYER_JOIN,
+    /**
+     * When a player quits the server while in the trial.
+     */
+    PLAYER_QUIT,
+    /**
+     * When a spawner spawns an entity inside the trial.
+     */
+    ENTITY_SPAWN,
+    /**
+     * When a potion effect is applied to a player in the trial.
+     */
+    ENTITY_POTION_EFFECT,
+    /**
+     * When blocks inside the trial are changed by players, explosions, or fluids.
+     */
+    BLOCK_CHANGE,
+    /**
+     * When the trial's time is decremented every second.
+     */
+    DECREMENT_TIME,
+    /**
+     * When the trial's blocks are placed.
+     */
+    PLACE_BLOCKS,
+    /**
+     * When the trial's blocks are removed.
+     */
+    REMOVE_BLOCKS,
+    /**
+     * When the trial's entities are removed.
+     */
+    REMOVE_ENTITIES,
+    /**
+     * When a batch of the trial's arena is restored after a run.
+     */
+    RESTORE_ARENA
+}
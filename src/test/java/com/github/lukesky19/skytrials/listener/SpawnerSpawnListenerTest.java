@@ -0,0 +1,206 @@
+/*
+    SkyTrials is a plugin that offers different challenges or trials to tackle. Inspired by the Minecraft Trial Chambers and mob arenas.
+    Copyright (C) 2024 lukeskywlker19
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.github.lukesky19.skytrials.listener;
+
+import com.github.lukesky19.skytrials.SkyTrials;
+import com.github.lukesky19.skytrials.data.trial.ChamberTrialData;
+import com.github.lukesky19.skytrials.data.trial.InstanceData;
+import com.github.lukesky19.skytrials.data.trial.LevelTrialData;
+import com.github.lukesky19.skytrials.manager.blocks.SpawnerManager;
+import com.github.lukesky19.skytrials.manager.blocks.VaultManager;
+import com.github.lukesky19.skytrials.manager.broadcast.BroadcastManager;
+import com.github.lukesky19.skytrials.manager.entity.EntityManager;
+import com.github.lukesky19.skytrials.manager.entity.SpawnGovernor;
+import com.github.lukesky19.skytrials.manager.load.LoadController;
+import com.github.lukesky19.skytrials.manager.locale.LocaleManager;
+import com.github.lukesky19.skytrials.manager.metrics.MetricsManager;
+import com.github.lukesky19.skytrials.manager.metrics.TrialMetrics;
+import com.github.lukesky19.skytrials.manager.player.CooldownManager;
+import com.github.lukesky19.skytrials.manager.player.GracePeriodManager;
+import com.github.lukesky19.skytrials.manager.task.TaskScheduler;
+import com.github.lukesky19.skytrials.manager.trial.ChunkTicketRegistry;
+import com.github.lukesky19.skytrials.manager.trial.TrialManager;
+import com.github.lukesky19.skytrials.manager.trial.TrialPlayerIndex;
+import com.github.lukesky19.skytrials.trial.AbstractTrial;
+import com.github.lukesky19.skytrials.trial.impl.ChamberTrial;
+import com.github.lukesky19.skytrials.trial.impl.LevelTrial;
+import com.github.lukesky19.skytrials.util.TrialOperation;
+import com.sk89q.worldedit.math.BlockVector3;
+import com.sk89q.worldguard.protection.regions.ProtectedCuboidRegion;
+import com.sk89q.worldguard.protection.regions.ProtectedRegion;
+import net.kyori.adventure.bossbar.BossBar;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.CreatureSpawner;
+import org.bukkit.block.TrialSpawner;
+import org.bukkit.damage.DamageSource;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.event.entity.EntityDeathEvent;
+import org.bukkit.event.entity.SpawnerSpawnEvent;
+import org.bukkit.event.entity.TrialSpawnerSpawnEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests that spawner spawns inside a trial reach the real trial handlers, so chamber mobs are tracked and level trials cancel spawns at their mob limit.
+ */
+public class SpawnerSpawnListenerTest {
+    private final ProtectedRegion region = new ProtectedCuboidRegion("trial", BlockVector3.at(0, 0, 0), BlockVector3.at(31, 31, 31));
+
+    private SkyTrials skyTrials;
+    private World world;
+    private MetricsManager metricsManager;
+    private TrialManager trialManager;
+
+    /**
+     * Creates the mocked managers the trials need. Trial operations run straight away, like they do on the thread that owns the trial's region.
+     */
+    @BeforeEach
+    public void setup() {
+        skyTrials = mock(SkyTrials.class);
+        world = mock(World.class);
+        when(world.getUID()).thenReturn(UUID.randomUUID());
+
+        metricsManager = mock(MetricsManager.class);
+        when(metricsManager.getTrialMetrics(anyString())).thenAnswer(invocation -> new TrialMetrics(invocation.getArgument(0)));
+
+        trialManager = mock(TrialManager.class);
+        doAnswer(invocation -> {
+            Runnable operation = invocation.getArgument(2);
+            operation.run();
+            return null;
+        }).when(trialManager).runTrialOperation(any(AbstractTrial.class), any(TrialOperation.class), any(Runnable.class));
+    }
+
+    /**
+     * A mob spawned by a trial spawner inside a chamber trial must be tracked by the trial, so its death is counted and it is removed when the trial ends.
+     */
+    @Test
+    public void chamberTrialTracksTrialSpawnerSpawn() {
+        ChamberTrial trial = createChamberTrial();
+        when(trialManager.getTrialByLocation(any(Location.class))).thenReturn(trial);
+
+        LivingEntity entity = createEntity(8, 8, 8);
+        TrialSpawnerSpawnEvent event = new TrialSpawnerSpawnEvent(entity, mock(TrialSpawner.class));
+        new SpawnerSpawnListener(trialManager).onTrialSpawnerSpawn(event);
+
+        assertFalse(event.isCancelled());
+        assertEquals(1, trial.getTrialMetrics().getMobsSpawned());
+
+        // Only tracked mobs are counted as killed, and a mob stops being tracked once it dies
+        EntityDeathEvent entityDeathEvent = new EntityDeathEvent(entity, mock(DamageSource.class), new ArrayList<>());
+        trial.handleEntityDeath(entityDeathEvent);
+        trial.handleEntityDeath(entityDeathEvent);
+        assertEquals(1, trial.getTrialMetrics().getMobsKilled());
+    }
+
+    /**
+     * A level trial with no room for another mob must cancel a spawner spawn before the event finishes and never hand it to the trial.
+     * Before a run sets the level's mob limit, the trial has no room for spawner mobs.
+     */
+    @Test
+    public void levelTrialCancelsSpawnAtMobLimit() {
+        LevelTrial trial = createLevelTrial();
+        when(trialManager.getTrialByLocation(any(Location.class))).thenReturn(trial);
+
+        LivingEntity entity = createEntity(8, 8, 8);
+        SpawnerSpawnEvent event = new SpawnerSpawnEvent(entity, mock(CreatureSpawner.class));
+        new SpawnerSpawnListener(trialManager).onSpawnerSpawn(event);
+
+        assertTrue(event.isCancelled());
+        verify(trialManager, never()).runTrialOperation(any(AbstractTrial.class), any(TrialOperation.class), any(Runnable.class));
+        assertEquals(0, trial.getTrialMetrics().getMobsSpawned());
+        assertEquals(0, trial.getLiveMobCount());
+    }
+
+    /**
+     * A trial spawner outside any trial must be ignored.
+     */
+    @Test
+    public void trialSpawnerSpawnOutsideTrialIsIgnored() {
+        when(trialManager.getTrialByLocation(any(Location.class))).thenReturn(null);
+
+        TrialSpawnerSpawnEvent event = new TrialSpawnerSpawnEvent(createEntity(100, 8, 100), mock(TrialSpawner.class));
+        new SpawnerSpawnListener(trialManager).onTrialSpawnerSpawn(event);
+
+        assertFalse(event.isCancelled());
+        verify(trialManager, never()).runTrialOperation(any(AbstractTrial.class), any(TrialOperation.class), any(Runnable.class));
+    }
+
+    /**
+     * Creates a mocked living entity at the location provided.
+     * @param x The x coordinate.
+     * @param y The y coordinate.
+     * @param z The z coordinate.
+     * @return The mocked {@link LivingEntity}.
+     */
+    private LivingEntity createEntity(double x, double y, double z) {
+        LivingEntity entity = mock(LivingEntity.class);
+        when(entity.getUniqueId()).thenReturn(UUID.randomUUID());
+        when(entity.getLocation()).thenReturn(new Location(world, x, y, z));
+
+        return entity;
+    }
+
+    /**
+     * Creates a chamber trial without trial spawners or vaults.
+     * @return The {@link ChamberTrial}.
+     */
+    private ChamberTrial createChamberTrial() {
+        Location location = new Location(world, 8, 8, 8);
+        ChamberTrialData trialData = new ChamberTrialData(
+                "chamber", -1, -1, -1, world, region, new InstanceData(1, BlockVector3.ZERO), null, null,
+                location, location, location,
+                new ChamberTrialData.LobbyBossBarData("Lobby", BossBar.Color.WHITE, BossBar.Overlay.PROGRESS),
+                new ChamberTrialData.TrialBossBarData("Trial", "Trial", BossBar.Color.WHITE, BossBar.Overlay.PROGRESS),
+                List.of(), List.of());
+
+        return new ChamberTrial(skyTrials, mock(LocaleManager.class), mock(SpawnerManager.class), mock(VaultManager.class), mock(CooldownManager.class),
+                mock(GracePeriodManager.class), mock(TrialPlayerIndex.class), new ChunkTicketRegistry(skyTrials), mock(BroadcastManager.class),
+                metricsManager, mock(LoadController.class), mock(TaskScheduler.class), null, trialData);
+    }
+
+    /**
+     * Creates a level trial without levels that has not been started.
+     * @return The {@link LevelTrial}.
+     */
+    private LevelTrial createLevelTrial() {
+        Location location = new Location(world, 8, 8, 8);
+        LevelTrialData trialData = new LevelTrialData(
+                "level", -1, -1, -1, world, region, new InstanceData(1, BlockVector3.ZERO), null, null, null,
+                location, location,
+                new LevelTrialData.BossBarData("Lobby", BossBar.Color.WHITE, BossBar.Overlay.PROGRESS),
+                new LevelTrialData.BossBarData("Trial", BossBar.Color.WHITE, BossBar.Overlay.PROGRESS),
+                false, false, List.of(), List.of(), List.of(), List.of());
+
+        return new LevelTrial(skyTrials, mock(LocaleManager.class), mock(EntityManager.class), mock(SpawnGovernor.class), mock(CooldownManager.class),
+                mock(GracePeriodManager.class), mock(TrialPlayerIndex.class), new ChunkTicketRegistry(skyTrials), mock(BroadcastManager.class),
+                metricsManager, mock(LoadController.class), mock(TaskScheduler.class), null, trialData);
+    }
+}
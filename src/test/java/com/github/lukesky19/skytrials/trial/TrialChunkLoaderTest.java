@@ -0,0 +1,127 @@
+/*
+    SkyTrials is a plugin that offers different challenges or trials to tackle. Inspired by the Minecraft Trial Chambers and mob arenas.
+    Copyright (C) 2024 lukeskywlker19
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.github.lukesky19.skytrials.trial;
+
+import com.github.lukesky19.skytrials.SkyTrials;
+import com.github.lukesky19.skytrials.manager.trial.ChunkTicketRegistry;
+import com.sk89q.worldedit.math.BlockVector3;
+import com.sk89q.worldguard.protection.regions.ProtectedCuboidRegion;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests that trials holding the same chunks share the plugin chunk ticket instead of releasing each other's chunks.
+ */
+public class TrialChunkLoaderTest {
+    private SkyTrials skyTrials;
+    private World world;
+    private ChunkTicketRegistry chunkTicketRegistry;
+
+    /**
+     * Creates a mocked world where every chunk loads straight away.
+     */
+    @BeforeEach
+    public void setup() {
+        skyTrials = mock(SkyTrials.class);
+        world = mock(World.class);
+        when(world.getUID()).thenReturn(UUID.randomUUID());
+        when(world.getChunkAtAsync(anyInt(), anyInt())).thenAnswer(invocation -> CompletableFuture.completedFuture(mock(Chunk.class)));
+
+        chunkTicketRegistry = new ChunkTicketRegistry(skyTrials);
+    }
+
+    /**
+     * Two trials share chunk (1, 0). The ticket must only be removed once both trials released it.
+     */
+    @Test
+    public void overlappingTrialsKeepSharedChunkUntilLastRelease() {
+        // Covers chunks (0, 0) and (1, 0)
+        TrialChunkLoader first = createLoader("first", 0, 31);
+        // Covers chunks (1, 0) and (2, 0)
+        TrialChunkLoader second = createLoader("second", 16, 47);
+
+        first.load().join();
+        second.load().join();
+
+        verify(world, times(1)).addPluginChunkTicket(0, 0, skyTrials);
+        verify(world, times(1)).addPluginChunkTicket(1, 0, skyTrials);
+        verify(world, times(1)).addPluginChunkTicket(2, 0, skyTrials);
+        assertEquals(2, chunkTicketRegistry.getReferenceCount(world, Chunk.getChunkKey(1, 0)));
+
+        first.release();
+
+        verify(world, times(1)).removePluginChunkTicket(0, 0, skyTrials);
+        verify(world, never()).removePluginChunkTicket(1, 0, skyTrials);
+        verify(world, never()).removePluginChunkTicket(2, 0, skyTrials);
+        assertEquals(1, chunkTicketRegistry.getReferenceCount(world, Chunk.getChunkKey(1, 0)));
+
+        second.release();
+
+        verify(world, times(1)).removePluginChunkTicket(1, 0, skyTrials);
+        verify(world, times(1)).removePluginChunkTicket(2, 0, skyTrials);
+        assertEquals(0, chunkTicketRegistry.getReferenceCount(world, Chunk.getChunkKey(1, 0)));
+    }
+
+    /**
+     * Loading the same trial again without releasing it must not hold its chunks twice.
+     */
+    @Test
+    public void loadingTwiceHoldsEachChunkOnce() {
+        TrialChunkLoader loader = createLoader("trial", 0, 15);
+
+        loader.load().join();
+        loader.load().join();
+        assertEquals(1, chunkTicketRegistry.getReferenceCount(world, Chunk.getChunkKey(0, 0)));
+
+        loader.release();
+        assertEquals(0, chunkTicketRegistry.getReferenceCount(world, Chunk.getChunkKey(0, 0)));
+        verify(world, times(1)).removePluginChunkTicket(0, 0, skyTrials);
+    }
+
+    /**
+     * A chunk that finishes loading after the trial released its chunks must not be held.
+     */
+    @Test
+    public void chunkLoadedAfterReleaseIsNotHeld() {
+        CompletableFuture<Chunk> pendingChunk = new CompletableFuture<>();
+        when(world.getChunkAtAsync(0, 0)).thenReturn(pendingChunk);
+
+        TrialChunkLoader loader = createLoader("trial", 0, 15);
+        loader.load();
+        loader.release();
+        pendingChunk.complete(mock(Chunk.class));
+
+        assertEquals(0, chunkTicketRegistry.getReferenceCount(world, Chunk.getChunkKey(0, 0)));
+        verify(world, never()).addPluginChunkTicket(0, 0, skyTrials);
+    }
+
+    private TrialChunkLoader createLoader(String id, int minX, int maxX) {
+        ProtectedCuboidRegion region = new ProtectedCuboidRegion(id, BlockVector3.at(minX, 0, 0), BlockVector3.at(maxX, 255, 15));
+        return new TrialChunkLoader(chunkTicketRegistry, world, region, List.of());
+    }
+}
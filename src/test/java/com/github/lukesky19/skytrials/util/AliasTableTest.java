@@ -0,0 +1,144 @@
+/*
+    SkyTrials is a plugin that offers different challenges or trials to tackle. Inspired by the Minecraft Trial Chambers and mob arenas.
+    Copyright (C) 2024 lukeskywlker19
+
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.github.lukesky19.skytrials.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that the alias table picks indexes in proportion to their weights,
+ * and that level trial runs with the same spawn seed pick the same mobs and spawn locations.
+ */
+public class AliasTableTest {
+    // The mob spawns for a level, by weight
+    private final AliasTable mobSpawnTable = new AliasTable(new double[] {5D, 3D, 1D});
+    // The spawn locations for each mob spawn
+    private final List<AliasTable> spawnLocationTables = List.of(AliasTable.uniform(4), AliasTable.uniform(2), AliasTable.uniform(6));
+
+    /**
+     * Each index must be picked about as often as its share of the total weight.
+     */
+    @Test
+    public void sampleFrequenciesMatchWeights() {
+        double[] weights = {5D, 3D, 1D};
+        AliasTable aliasTable = new AliasTable(weights);
+        SplittableRandom random = new SplittableRandom(42L);
+
+        int samples = 900_000;
+        int[] counts = new int[weights.length];
+        for(int i = 0; i < samples; i++) {
+            counts[aliasTable.sample(random)]++;
+        }
+
+        for(int i = 0; i < weights.length; i++) {
+            double expected = weights[i] / 9D;
+            assertEquals(expected, counts[i] / (double) samples, 0.005, "Index " + i + " was picked at the wrong rate.");
+        }
+    }
+
+    /**
+     * A uniform table must be able to pick every index, including the last one.
+     */
+    @Test
+    public void uniformPicksEveryIndex() {
+        int size = 5;
+        AliasTable aliasTable = AliasTable.uniform(size);
+        SplittableRandom random = new SplittableRandom(42L);
+
+        boolean[] picked = new boolean[size];
+        for(int i = 0; i < 10_000; i++) {
+            int index = aliasTable.sample(random);
+            assertTrue(index >= 0 && index < size, "Index " + index + " is out of range.");
+            picked[index] = true;
+        }
+
+        for(int i = 0; i < size; i++) {
+            assertTrue(picked[i], "Index " + i + " was never picked.");
+        }
+    }
+
+    /**
+     * A table with a single weight must always pick that index.
+     */
+    @Test
+    public void singleWeightAlwaysPicksIt() {
+        AliasTable aliasTable = new AliasTable(new double[] {2.5D});
+        SplittableRandom random = new SplittableRandom(42L);
+
+        assertEquals(1, aliasTable.size());
+        for(int i = 0; i < 1_000; i++) {
+            assertEquals(0, aliasTable.sample(random));
+        }
+    }
+
+    /**
+     * Weights that are empty, not positive, or not finite must be rejected.
+     */
+    @Test
+    public void invalidWeightsThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable(new double[0]));
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable(new double[] {1D, 0D}));
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable(new double[] {1D, -1D}));
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable(new double[] {1D, Double.NaN}));
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable(new double[] {1D, Double.POSITIVE_INFINITY}));
+    }
+
+    /**
+     * Two runs with the same seed must pick the same mob and location for every spawn.
+     */
+    @Test
+    public void sameSeedPicksSameSpawns() {
+        assertEquals(pickSpawns(42L, 500), pickSpawns(42L, 500));
+    }
+
+    /**
+     * Runs with different seeds should not pick the same spawns.
+     */
+    @Test
+    public void differentSeedsPickDifferentSpawns() {
+        assertNotEquals(pickSpawns(42L, 500), pickSpawns(43L, 500));
+    }
+
+    /**
+     * Picks spawns the same way the entity manager does, first the mob spawn and then one of its locations.
+     * @param seed The spawn seed for the run.
+     * @param count The number of spawns to pick.
+     * @return A {@link List} of the mob spawn and location index picked for each spawn.
+     */
+    private List<List<Integer>> pickSpawns(long seed, int count) {
+        SplittableRandom random = new SplittableRandom(seed);
+
+        List<List<Integer>> spawns = new ArrayList<>(count);
+        for(int i = 0; i < count; i++) {
+            int mobSpawn = mobSpawnTable.sample(random);
+            int location = spawnLocationTables.get(mobSpawn).sample(random);
+
+            spawns.add(List.of(mobSpawn, location));
+        }
+
+        return spawns;
+    }
+}